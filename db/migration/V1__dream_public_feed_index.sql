@@ -0,0 +1 @@
+CREATE INDEX idx_dream_public_feed ON dream (is_public, is_deleted, created_at, id);
@@ -0,0 +1,10 @@
+ALTER TABLE comment ADD COLUMN reply_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE comment c
+JOIN (
+    SELECT parent_id, COUNT(*) AS cnt
+    FROM comment
+    WHERE parent_id IS NOT NULL AND is_deleted = false
+    GROUP BY parent_id
+) r ON r.parent_id = c.id
+SET c.reply_count = r.cnt;
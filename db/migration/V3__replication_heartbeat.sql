@@ -0,0 +1,6 @@
+CREATE TABLE replication_heartbeat (
+    id TINYINT NOT NULL PRIMARY KEY,
+    beat_at_ms BIGINT NOT NULL
+);
+
+INSERT INTO replication_heartbeat (id, beat_at_ms) VALUES (1, 0);
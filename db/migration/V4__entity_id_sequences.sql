@@ -0,0 +1,8 @@
+CREATE TABLE member_seq (next_val BIGINT NOT NULL);
+INSERT INTO member_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM member;
+
+CREATE TABLE dream_seq (next_val BIGINT NOT NULL);
+INSERT INTO dream_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM dream;
+
+CREATE TABLE comment_seq (next_val BIGINT NOT NULL);
+INSERT INTO comment_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM comment;
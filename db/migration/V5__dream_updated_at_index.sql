@@ -0,0 +1 @@
+CREATE INDEX idx_dream_updated_at ON dream (updated_at);
@@ -0,0 +1,80 @@
+import http from 'k6/http';
+import {check, sleep} from 'k6';
+import {Counter, Trend} from 'k6/metrics';
+import {CFG} from './config.js';
+
+const MODE = __ENV.MODE || 'platform';
+
+export const options = {
+  scenarios: {
+    concurrentUsers: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        {target: 500, duration: '30s'},
+        {target: 2000, duration: '30s'},
+        {target: 2000, duration: '2m'},
+        {target: 0, duration: '20s'},
+      ],
+      gracefulRampDown: '10s',
+    },
+  },
+  tags: {mode: MODE},
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+    [`http_req_duration{mode:${MODE}}`]: ['p(95)<800'],
+  },
+  summaryTrendStats: ['avg', 'med', 'p(90)', 'p(95)', 'p(99)', 'max'],
+};
+
+const completed = new Counter('completed_requests');
+const throttled = new Counter('throttled_429');
+const serverErrs = new Counter('server_error');
+const feedLatency = new Trend('feed_latency', true);
+const detailLatency = new Trend('detail_latency', true);
+
+export function setup() {
+  const res = http.post(`${CFG.BASE}/api/auth/tokens`,
+      JSON.stringify({email: CFG.EMAIL, password: CFG.PASSWORD}),
+      {headers: {'Content-Type': 'application/json'}},
+  );
+  check(res, {'login 200': (r) => r.status === 200});
+  const token = JSON.parse(res.body).data.accessToken;
+
+  const feed = http.get(`${CFG.BASE}/api/dreams/feed?size=20`,
+      {headers: {'Authorization': `Bearer ${token}`}});
+  const items = feed.status === 200 ? (JSON.parse(feed.body).data.content || []) : [];
+  const dreamIds = items.map((item) => item.id);
+
+  return {token, dreamIds};
+}
+
+function record(r, trend) {
+  trend.add(r.timings.duration);
+  if (r.status === 429) {
+    throttled.add(1);
+  } else if (r.status >= 500) {
+    serverErrs.add(1);
+  } else {
+    completed.add(1);
+  }
+}
+
+export default function ({token, dreamIds}) {
+  const headers = {'Authorization': `Bearer ${token}`};
+
+  const feed = http.get(`${CFG.BASE}/api/dreams/feed?size=20`,
+      {headers, tags: {endpoint: 'feed'}});
+  record(feed, feedLatency);
+  check(feed, {'feed 200': (r) => r.status === 200});
+
+  if (dreamIds.length > 0) {
+    const id = dreamIds[Math.floor(Math.random() * dreamIds.length)];
+    const detail = http.get(`${CFG.BASE}/api/dreams/${id}`,
+        {headers, tags: {endpoint: 'detail'}});
+    record(detail, detailLatency);
+    check(detail, {'detail 200': (r) => r.status === 200});
+  }
+
+  sleep(Math.random() * 0.5);
+}
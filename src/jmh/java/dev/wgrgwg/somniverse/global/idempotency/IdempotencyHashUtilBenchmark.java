@@ -0,0 +1,56 @@
+package dev.wgrgwg.somniverse.global.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.wgrgwg.somniverse.global.idempotency.util.IdempotencyHashUtil;
+import dev.wgrgwg.somniverse.global.util.HashUtil;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IdempotencyHashUtilBenchmark {
+
+    @Param({"1", "50", "500"})
+    private int contentParagraphs;
+
+    private IdempotencyHashUtil hashUtil;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper om = Jackson2ObjectMapperBuilder.json().build();
+        hashUtil = new IdempotencyHashUtil(om);
+
+        String content = "어젯밤 꿈에서 하늘을 날았다. ".repeat(contentParagraphs);
+        String json = """
+            {"title":"하늘을 나는 꿈","isPublic":true,"dreamDate":"2025-05-01",\
+            "content":"%s","tags":["flying","lucid",{"z":1,"a":[3,2,1]}]}
+            """.formatted(content).trim();
+        body = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String canonicalizeJson() {
+        return hashUtil.canonicalizeJson(body);
+    }
+
+    @Benchmark
+    public String hashBodyTree() {
+        return HashUtil.sha256(hashUtil.canonicalizeJson(body));
+    }
+
+    @Benchmark
+    public String hashBodyStreaming() {
+        return hashUtil.hashBody(body, "application/json");
+    }
+}
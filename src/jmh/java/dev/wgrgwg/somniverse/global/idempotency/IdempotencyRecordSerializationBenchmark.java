@@ -0,0 +1,64 @@
+package dev.wgrgwg.somniverse.global.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.global.idempotency.codec.IdempotencyRecordCodec;
+import dev.wgrgwg.somniverse.global.idempotency.model.IdempotencyRecord;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IdempotencyRecordSerializationBenchmark {
+
+    @Param({"256", "16384"})
+    private int responseBodyLength;
+
+    @Param({"json", "binary"})
+    private String storageFormat;
+
+    private IdempotencyRecordCodec codec;
+    private IdempotencyRecord completed;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper om = Jackson2ObjectMapperBuilder.json().build();
+        AppProperties appProperties = new AppProperties();
+        appProperties.getIdempotency().setStorageFormat(storageFormat);
+        appProperties.getIdempotency().setCompressionThresholdBytes(1024);
+        codec = new IdempotencyRecordCodec(om, appProperties);
+
+        String responseBody = "{\"success\":true,\"data\":{\"content\":\""
+            + "꿈 내용 ".repeat(responseBodyLength / 8) + "\"}}";
+        completed = IdempotencyRecord.inProgress("a".repeat(64)).toCompleted(
+            201,
+            responseBody.getBytes(StandardCharsets.UTF_8),
+            "application/json",
+            Map.of("Location", List.of("/api/dreams/1"))
+        );
+        encoded = codec.encode(completed);
+    }
+
+    @Benchmark
+    public byte[] write() {
+        return codec.encode(completed);
+    }
+
+    @Benchmark
+    public IdempotencyRecord read() {
+        return codec.decode(encoded);
+    }
+}
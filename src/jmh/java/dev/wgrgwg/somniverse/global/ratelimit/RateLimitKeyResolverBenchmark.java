@@ -0,0 +1,40 @@
+package dev.wgrgwg.somniverse.global.ratelimit;
+
+import dev.wgrgwg.somniverse.global.ratelimit.key.RateLimitKeyResolver;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateLimitKeyResolverBenchmark {
+
+    private final RateLimitKeyResolver resolver = new RateLimitKeyResolver();
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        request = new MockHttpServletRequest("GET", "/api/dreams");
+        request.addHeader(RateLimitKeyResolver.HDR_USER_AGENT,
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 "
+                + "(KHTML, like Gecko) Chrome/124.0.0.0 Safari/537.36");
+        request.addHeader(RateLimitKeyResolver.XFF, "203.0.113.7, 10.0.0.1");
+    }
+
+    @Benchmark
+    public String resolveUserAgentHash() {
+        return resolver.resolveUserAgentHash(request);
+    }
+
+    @Benchmark
+    public String resolveClientIp() {
+        return resolver.resolveClientIp(request);
+    }
+}
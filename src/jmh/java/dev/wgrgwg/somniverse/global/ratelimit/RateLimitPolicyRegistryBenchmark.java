@@ -0,0 +1,88 @@
+package dev.wgrgwg.somniverse.global.ratelimit;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.global.ratelimit.policy.MatchedPolicy;
+import dev.wgrgwg.somniverse.global.ratelimit.policy.RateLimitPolicyRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateLimitPolicyRegistryBenchmark {
+
+    @Param({"3", "30", "300"})
+    private int policyCount;
+
+    @Param({"0", "10000"})
+    private long matchCacheSize;
+
+    private RateLimitPolicyRegistry registry;
+
+    @Setup
+    public void setUp() {
+        AppProperties appProperties = new AppProperties();
+        AppProperties.RateLimit rateLimit = appProperties.getRateLimit();
+        rateLimit.setEnabled(true);
+        rateLimit.setMatchCacheSize(matchCacheSize);
+        rateLimit.setWhitelistPaths(List.of("/actuator/**", "/swagger-ui/**", "/v3/api-docs/**"));
+
+        List<AppProperties.RateLimit.Policy> policies = new ArrayList<>();
+        policies.add(policy("auth", "/api/auth/**", List.of("POST"), "ipUa"));
+        for (int i = 3; i < policyCount; i++) {
+            policies.add(policy("extra-" + i, "/api/v" + i + "/resources/{id}", List.of("GET"),
+                "user"));
+        }
+        policies.add(policy("write", "/api/**", List.of("POST", "PUT", "DELETE"), "user"));
+        policies.add(policy("read", "/api/**", List.of("GET"), "user"));
+        rateLimit.setPolicies(policies);
+
+        registry = new RateLimitPolicyRegistry(appProperties);
+    }
+
+    @Benchmark
+    public Optional<MatchedPolicy> matchFirstPolicy() {
+        return registry.match("/api/auth/login", "POST");
+    }
+
+    @Benchmark
+    public Optional<MatchedPolicy> matchLastPolicy() {
+        return registry.match("/api/dreams/42/comments", "GET");
+    }
+
+    @Benchmark
+    public Optional<MatchedPolicy> matchNone() {
+        return registry.match("/health", "GET");
+    }
+
+    @Benchmark
+    public boolean isWhitelisted() {
+        return registry.isWhitelisted("/api/dreams/42");
+    }
+
+    static AppProperties.RateLimit.Policy policy(String name, String path, List<String> methods,
+        String keyStrategy) {
+        AppProperties.RateLimit.Limit limit = new AppProperties.RateLimit.Limit();
+        limit.setCapacity(10);
+        limit.setRefill(Duration.ofMinutes(1));
+
+        AppProperties.RateLimit.Policy policy = new AppProperties.RateLimit.Policy();
+        policy.setName(name);
+        policy.setPaths(List.of(path));
+        policy.setMethods(methods);
+        policy.setKeyStrategy(keyStrategy);
+        policy.setLimits(List.of(limit));
+        return policy;
+    }
+}
@@ -0,0 +1,32 @@
+package dev.wgrgwg.somniverse.global.util;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HashUtilBenchmark {
+
+    @Param({"64", "256", "4096"})
+    private int length;
+
+    private String input;
+
+    @Setup
+    public void setUp() {
+        input = "a".repeat(length);
+    }
+
+    @Benchmark
+    public String sha256() {
+        return HashUtil.sha256(input);
+    }
+}
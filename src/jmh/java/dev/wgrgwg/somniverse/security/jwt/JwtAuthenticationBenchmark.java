@@ -0,0 +1,71 @@
+package dev.wgrgwg.somniverse.security.jwt;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.member.domain.Member;
+import dev.wgrgwg.somniverse.member.domain.Role;
+import dev.wgrgwg.somniverse.security.jwt.provider.JwtProvider;
+import dev.wgrgwg.somniverse.security.jwt.provider.VerifiedToken;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationBenchmark {
+
+    @Param({"false", "true"})
+    private boolean verifiedCacheEnabled;
+
+    private JwtProvider jwtProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        AppProperties appProperties = new AppProperties();
+        AppProperties.Jwt jwt = appProperties.getJwt();
+        jwt.setSecret("benchmark-jwt-secret-key-that-is-very-long-and-secure-enough");
+        jwt.setAccessTokenExpirationMs(900_000L);
+        jwt.setRefreshTokenExpirationMs(604_800_000L);
+        jwt.getVerifiedCache().setEnabled(verifiedCacheEnabled);
+        jwt.getVerifiedCache().setMaximumSize(10_000);
+
+        jwtProvider = new JwtProvider(appProperties);
+        accessToken = jwtProvider.generateToken(
+            Member.builder().id(1L).role(Role.USER).build()).accessToken();
+    }
+
+    @Benchmark
+    public Authentication validateThenAuthenticate() {
+        if (!jwtProvider.validateToken(accessToken)) {
+            return null;
+        }
+        return jwtProvider.getAuthentication(accessToken);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtProvider.getAuthentication(accessToken);
+    }
+
+    @Benchmark
+    public Authentication verifyOnce() {
+        return jwtProvider.verify(accessToken)
+            .map(jwtProvider::getAuthentication)
+            .orElse(null);
+    }
+
+    @Benchmark
+    public long verifyForBlacklistLookup() {
+        return jwtProvider.verify(accessToken)
+            .map(VerifiedToken::remainingExpirationMillis)
+            .orElse(0L);
+    }
+}
@@ -0,0 +1,36 @@
+package dev.wgrgwg.somniverse.comment.dto.response;
+
+import dev.wgrgwg.somniverse.comment.domain.Comment;
+import java.time.LocalDateTime;
+
+public record CommentExportResponse(
+    String type,
+    Long id,
+    Long dreamId,
+    Long parentId,
+    String content,
+    String authorUsername,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+
+    private static final String TYPE = "comment";
+
+    public static CommentExportResponse fromEntity(Comment comment) {
+        Long parentId = null;
+        if (comment.getParent() != null) {
+            parentId = comment.getParent().getId();
+        }
+
+        return new CommentExportResponse(
+            TYPE,
+            comment.getId(),
+            comment.getDream().getId(),
+            parentId,
+            comment.getContent(),
+            comment.getMember().getUsername(),
+            comment.getCreatedAt(),
+            comment.getUpdatedAt()
+        );
+    }
+}
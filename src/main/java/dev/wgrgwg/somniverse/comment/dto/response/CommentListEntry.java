@@ -0,0 +1,35 @@
+package dev.wgrgwg.somniverse.comment.dto.response;
+
+import dev.wgrgwg.somniverse.member.domain.Role;
+import dev.wgrgwg.somniverse.member.dto.response.MemberResponse;
+import java.time.LocalDateTime;
+
+public record CommentListEntry(
+    Long id,
+    String content,
+    Long authorId,
+    String authorEmail,
+    String authorUsername,
+    Role authorRole,
+    LocalDateTime authorCreatedAt,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    boolean isDeleted,
+    Long parentId,
+    long replyCount
+) {
+
+    public CommentResponse toResponse(String content, Long totalChildrenCount) {
+        return new CommentResponse(
+            id,
+            content,
+            new MemberResponse(authorId, authorEmail, authorUsername, authorRole.toString(),
+                authorCreatedAt),
+            createdAt,
+            updatedAt,
+            isDeleted,
+            parentId,
+            totalChildrenCount
+        );
+    }
+}
@@ -1,7 +1,6 @@
 package dev.wgrgwg.somniverse.comment.dto.response;
 
 import dev.wgrgwg.somniverse.comment.domain.Comment;
-import dev.wgrgwg.somniverse.comment.message.CommentMessage;
 import dev.wgrgwg.somniverse.member.dto.response.MemberResponse;
 import java.time.LocalDateTime;
 
@@ -20,11 +19,6 @@ public record CommentResponse(
         return from(comment, comment.getContent(), totalChildrenCount);
     }
 
-    public static CommentResponse fromDeletedEntity(Comment comment, Long totalChildrenCount) {
-        return from(comment, CommentMessage.DELETED_COMMENT_CONTENT.getMessage(),
-            totalChildrenCount);
-    }
-
     public static CommentResponse fromEntityWithoutChildCount(Comment comment) {
         return from(comment, comment.getContent(), null);
     }
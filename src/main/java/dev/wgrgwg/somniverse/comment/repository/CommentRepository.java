@@ -1,12 +1,15 @@
 package dev.wgrgwg.somniverse.comment.repository;
 
 import dev.wgrgwg.somniverse.comment.domain.Comment;
+import dev.wgrgwg.somniverse.comment.dto.response.CommentListEntry;
+import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,25 +18,70 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     Optional<Comment> findByIdAndIsDeletedFalse(Long id);
 
-    Page<Comment> findAllByParentId(Long parentId, Pageable pageable);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Comment c WHERE c.id = :commentId")
+    Optional<Comment> findByIdForUpdate(@Param("commentId") Long commentId);
 
-    @Query("""
-        SELECT c
+    long countByParentIdAndIsDeletedFalse(Long parentId);
+
+    @Query(value = """
+        SELECT new dev.wgrgwg.somniverse.comment.dto.response.CommentListEntry(
+            c.id, c.content, m.id, m.email, m.username, m.role, m.createdAt,
+            c.createdAt, c.updatedAt, c.isDeleted, c.parent.id, c.replyCount)
+        FROM Comment c
+        JOIN c.member m
+        WHERE c.parent.id = :parentId
+        """, countQuery = """
+        SELECT COUNT(c)
+        FROM Comment c
+        WHERE c.parent.id = :parentId
+        """)
+    Page<CommentListEntry> findAllByParentId(@Param("parentId") Long parentId,
+        Pageable pageable);
+
+    @Query(value = """
+        SELECT new dev.wgrgwg.somniverse.comment.dto.response.CommentListEntry(
+            c.id, c.content, m.id, m.email, m.username, m.role, m.createdAt,
+            c.createdAt, c.updatedAt, c.isDeleted, c.parent.id, c.replyCount)
+        FROM Comment c
+        JOIN c.member m
+        WHERE c.dream.id = :dreamId
+        AND c.parent IS NULL
+        """, countQuery = """
+        SELECT COUNT(c)
         FROM Comment c
-        JOIN FETCH c.member
         WHERE c.dream.id = :dreamId
         AND c.parent IS NULL
         """)
-    Page<Comment> findAllByDreamIdAndParentIsNull(Long dreamId, Pageable pageable);
+    Page<CommentListEntry> findAllByDreamIdAndParentIsNull(@Param("dreamId") Long dreamId,
+        Pageable pageable);
+
+    @Query("""
+        SELECT c.id, c.replyCount, COUNT(r)
+        FROM Comment c
+        LEFT JOIN Comment r ON r.parent = c AND r.isDeleted = false
+        WHERE c.parent IS NULL
+        AND c.id > :lastId
+        GROUP BY c.id, c.replyCount
+        ORDER BY c.id
+        """)
+    List<Object[]> findReplyCountsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.replyCount = c.replyCount + 1 WHERE c.id = :parentId")
+    void incrementReplyCount(@Param("parentId") Long parentId);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.replyCount = c.replyCount - 1 WHERE c.id = :parentId AND c.replyCount > 0")
+    void decrementReplyCount(@Param("parentId") Long parentId);
 
-    @Query("SELECT c.parent.id, COUNT(c) " +
-        "FROM Comment c " +
-        "WHERE c.parent.id IN :parentIds AND c.isDeleted = false " +
-        "GROUP BY c.parent.id")
-    List<Object[]> countChildrenGroupedByParentId(@Param("parentIds") List<Long> parentIds);
+    @Modifying
+    @Query("UPDATE Comment c SET c.replyCount = :replyCount WHERE c.id = :commentId")
+    void updateReplyCount(@Param("commentId") Long commentId,
+        @Param("replyCount") long replyCount);
 
     @Modifying(clearAutomatically = true)
-    @Query("UPDATE Comment c SET c.isDeleted = true, c.deletedAt = :deletedAt WHERE c.dream.id = :dreamId")
+    @Query("UPDATE Comment c SET c.isDeleted = true, c.deletedAt = :deletedAt, c.replyCount = 0 WHERE c.dream.id = :dreamId")
     void softDeleteByDream(@Param("dreamId") Long dreamId,
         @Param("deletedAt") LocalDateTime deletedAt);
 }
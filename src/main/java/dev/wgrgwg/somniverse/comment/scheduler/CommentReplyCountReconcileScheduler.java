@@ -0,0 +1,48 @@
+package dev.wgrgwg.somniverse.comment.scheduler;
+
+import dev.wgrgwg.somniverse.comment.service.CommentService;
+import dev.wgrgwg.somniverse.comment.service.ReplyCountScanResult;
+import dev.wgrgwg.somniverse.config.AppProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentReplyCountReconcileScheduler {
+
+    private final CommentService commentService;
+    private final AppProperties appProperties;
+
+    @Scheduled(cron = "${app.reply-count-reconcile.cron}")
+    public void reconcile() {
+        int batchSize = appProperties.getReplyCountReconcile().getBatchSize();
+
+        long lastId = 0L;
+        long scanned = 0;
+        long corrected = 0;
+
+        try {
+            ReplyCountScanResult result;
+            do {
+                result = commentService.scanReplyCounts(lastId, batchSize);
+                scanned += result.scanned();
+                for (Long commentId : result.driftedIds()) {
+                    if (commentService.recountReplyCount(commentId)) {
+                        corrected++;
+                    }
+                }
+                if (result.lastId() != null) {
+                    lastId = result.lastId();
+                }
+            } while (result.hasMore(batchSize));
+        } catch (RuntimeException e) {
+            log.warn("[REPLY-COUNT] reconcile aborted lastId={} err={}", lastId, e.toString());
+            return;
+        }
+
+        log.info("[REPLY-COUNT] reconcile finished scanned={} corrected={}", scanned, corrected);
+    }
+}
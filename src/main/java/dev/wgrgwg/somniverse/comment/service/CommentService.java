@@ -3,21 +3,22 @@ package dev.wgrgwg.somniverse.comment.service;
 import dev.wgrgwg.somniverse.comment.domain.Comment;
 import dev.wgrgwg.somniverse.comment.dto.request.CommentCreateRequest;
 import dev.wgrgwg.somniverse.comment.dto.request.CommentUpdateRequest;
+import dev.wgrgwg.somniverse.comment.dto.response.CommentListEntry;
 import dev.wgrgwg.somniverse.comment.dto.response.CommentResponse;
 import dev.wgrgwg.somniverse.comment.exception.CommentErrorCode;
+import dev.wgrgwg.somniverse.comment.message.CommentMessage;
 import dev.wgrgwg.somniverse.comment.repository.CommentRepository;
 import dev.wgrgwg.somniverse.dream.domain.Dream;
 import dev.wgrgwg.somniverse.dream.service.DreamService;
 import dev.wgrgwg.somniverse.global.exception.CustomException;
 import dev.wgrgwg.somniverse.member.domain.Member;
 import dev.wgrgwg.somniverse.member.service.MemberService;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -52,6 +53,10 @@ public class CommentService {
 
         Comment savedComment = commentRepository.save(comment);
 
+        if (parent != null) {
+            commentRepository.incrementReplyCount(parent.getId());
+        }
+
         return CommentResponse.fromEntity(savedComment, 0L);
     }
 
@@ -60,22 +65,18 @@ public class CommentService {
         Pageable pageable) {
         dreamService.getDreamOrThrow(dreamId);
 
-        Page<Comment> commentsPage = commentRepository.findAllByDreamIdAndParentIsNull(dreamId,
-            pageable);
-        List<Long> parentIds = commentsPage.getContent().stream()
-            .map(Comment::getId)
-            .toList();
-
-        Map<Long, Long> childCountMap = getChildCountMap(parentIds);
+        Page<CommentListEntry> commentsPage = commentRepository.findAllByDreamIdAndParentIsNull(
+            dreamId, pageable);
 
         return commentsPage.map(comment -> convertToDtoWithAccessControl(comment, isAdmin,
-            childCountMap.getOrDefault(comment.getId(), 0L)));
+            comment.replyCount()));
     }
 
     @Transactional(readOnly = true)
     public Page<CommentResponse> getPagedChildrenCommentsByParent(Long parentId, boolean isAdmin,
         Pageable pageable) {
-        Page<Comment> commentsPage = commentRepository.findAllByParentId(parentId, pageable);
+        Page<CommentListEntry> commentsPage = commentRepository.findAllByParentId(parentId,
+            pageable);
 
         return commentsPage.map(comment -> convertToDtoWithAccessControl(comment, isAdmin, 0L));
     }
@@ -97,14 +98,49 @@ public class CommentService {
         Comment comment = getCommentOrThrow(commentId);
         validateOwner(comment, memberId);
 
-        comment.softDelete();
+        softDeleteComment(comment);
     }
 
     @Transactional
     public void deleteCommentByAdmin(Long commentId) {
         Comment comment = getCommentOrThrow(commentId);
 
-        comment.softDelete();
+        softDeleteComment(comment);
+    }
+
+    @Transactional(readOnly = true)
+    public ReplyCountScanResult scanReplyCounts(Long lastId, int batchSize) {
+        List<Object[]> rows = commentRepository.findReplyCountsAfter(lastId,
+            PageRequest.ofSize(batchSize));
+
+        List<Long> driftedIds = new ArrayList<>();
+        for (Object[] row : rows) {
+            long storedCount = (Long) row[1];
+            long actualCount = (Long) row[2];
+
+            if (storedCount != actualCount) {
+                driftedIds.add((Long) row[0]);
+            }
+        }
+
+        Long nextLastId = rows.isEmpty() ? null : (Long) rows.getLast()[0];
+        return new ReplyCountScanResult(nextLastId, rows.size(), driftedIds);
+    }
+
+    @Transactional
+    public boolean recountReplyCount(Long commentId) {
+        Comment comment = commentRepository.findByIdForUpdate(commentId).orElse(null);
+        if (comment == null) {
+            return false;
+        }
+
+        long actualCount = commentRepository.countByParentIdAndIsDeletedFalse(commentId);
+        if (comment.getReplyCount() == actualCount) {
+            return false;
+        }
+
+        commentRepository.updateReplyCount(commentId, actualCount);
+        return true;
     }
 
     private Comment resolveParentComment(Long parentId, Long dreamId) {
@@ -117,26 +153,22 @@ public class CommentService {
         return parent;
     }
 
-    private Map<Long, Long> getChildCountMap(List<Long> parentIds) {
-        if (parentIds.isEmpty()) {
-            return Collections.emptyMap();
-        }
+    private void softDeleteComment(Comment comment) {
+        comment.softDelete();
 
-        List<Object[]> result = commentRepository.countChildrenGroupedByParentId(parentIds);
-        return result.stream()
-            .collect(Collectors.toMap(
-                row -> (Long) row[0],
-                row -> (Long) row[1]
-            ));
+        if (comment.getParent() != null) {
+            commentRepository.decrementReplyCount(comment.getParent().getId());
+        }
     }
 
-    private CommentResponse convertToDtoWithAccessControl(Comment comment, boolean isAdmin,
-        Long totalChildCount) {
+    private CommentResponse convertToDtoWithAccessControl(CommentListEntry comment,
+        boolean isAdmin, Long totalChildCount) {
         if (!isAdmin && comment.isDeleted()) {
-            return CommentResponse.fromDeletedEntity(comment, totalChildCount);
+            return comment.toResponse(CommentMessage.DELETED_COMMENT_CONTENT.getMessage(),
+                totalChildCount);
         }
 
-        return CommentResponse.fromEntity(comment, totalChildCount);
+        return comment.toResponse(comment.content(), totalChildCount);
     }
 
     private Comment getCommentOrThrow(Long commentId) {
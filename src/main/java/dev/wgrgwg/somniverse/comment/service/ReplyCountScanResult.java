@@ -0,0 +1,14 @@
+package dev.wgrgwg.somniverse.comment.service;
+
+import java.util.List;
+
+public record ReplyCountScanResult(
+    Long lastId,
+    int scanned,
+    List<Long> driftedIds
+) {
+
+    public boolean hasMore(int batchSize) {
+        return scanned == batchSize;
+    }
+}
@@ -1,11 +1,17 @@
 package dev.wgrgwg.somniverse.config;
 
+import dev.wgrgwg.somniverse.global.pagecount.CountStrategy;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
@@ -35,6 +41,39 @@ public class AppProperties {
     @Valid
     private final RateLimit rateLimit = new RateLimit();
 
+    @Valid
+    private final ReplyCountReconcile replyCountReconcile = new ReplyCountReconcile();
+
+    @Valid
+    private final VirtualThreads virtualThreads = new VirtualThreads();
+
+    @Valid
+    private final PasswordHashing passwordHashing = new PasswordHashing();
+
+    @Valid
+    private final ReadReplica readReplica = new ReadReplica();
+
+    @Valid
+    private final Export export = new Export();
+
+    @Valid
+    private final DreamImport dreamImport = new DreamImport();
+
+    @Valid
+    private final Search search = new Search();
+
+    @Valid
+    private final DreamTimeline dreamTimeline = new DreamTimeline();
+
+    @Valid
+    private final DreamCache dreamCache = new DreamCache();
+
+    @Valid
+    private final MemberCache memberCache = new MemberCache();
+
+    @Valid
+    private final PageCount pageCount = new PageCount();
+
     @Getter
     @Setter
     public static class Jwt {
@@ -49,6 +88,61 @@ public class AppProperties {
         @NotNull
         @Positive
         private Long refreshTokenExpirationMs;
+
+        @Valid
+        private final BlacklistCache blacklistCache = new BlacklistCache();
+
+        @Valid
+        private final BlacklistBloom blacklistBloom = new BlacklistBloom();
+
+        @Valid
+        private final VerifiedCache verifiedCache = new VerifiedCache();
+
+        @Getter
+        @Setter
+        public static class BlacklistCache {
+
+            private boolean enabled;
+
+            @Positive
+            private long maximumSize;
+
+            @NotNull
+            private Duration negativeTtl;
+        }
+
+        @Getter
+        @Setter
+        public static class BlacklistBloom {
+
+            private boolean enabled;
+
+            @Positive
+            private long expectedInsertions;
+
+            @Positive
+            @DecimalMax("0.5")
+            private double falsePositiveRate;
+
+            @NotNull
+            private Duration resyncInterval;
+
+            @NotNull
+            private Duration versionCheckInterval;
+
+            @NotNull
+            private Duration gapGracePeriod;
+        }
+
+        @Getter
+        @Setter
+        public static class VerifiedCache {
+
+            private boolean enabled;
+
+            @Positive
+            private long maximumSize;
+        }
     }
 
     @Getter
@@ -82,6 +176,30 @@ public class AppProperties {
 
         @NotEmpty
         private List<String> includePaths;
+
+        private String storageFormat;
+
+        @PositiveOrZero
+        private int compressionThresholdBytes;
+
+        @Positive
+        private int maxBodyBytes;
+
+        @Valid
+        private final Wait wait = new Wait();
+
+        @Getter
+        @Setter
+        public static class Wait {
+
+            private boolean enabled;
+
+            @NotNull
+            private Duration timeout;
+
+            @Positive
+            private int maxWaiters;
+        }
     }
 
     @Getter
@@ -91,6 +209,18 @@ public class AppProperties {
         private boolean enabled;
         private boolean addHeaders;
 
+        @PositiveOrZero
+        private long matchCacheSize;
+
+        @Positive
+        private long localBucketMaximumSize;
+
+        @NotNull
+        private Duration redisTimeout;
+
+        @PositiveOrZero
+        private int maxRetries;
+
         @NotEmpty
         private List<String> whitelistPaths;
 
@@ -117,6 +247,20 @@ public class AppProperties {
             @NotEmpty
             @Valid
             private List<Limit> limits;
+
+            private String mode;
+
+            @PositiveOrZero
+            private int batchSize;
+
+            private Duration syncInterval;
+
+            private String failureMode;
+
+            private Duration timeout;
+
+            @PositiveOrZero
+            private Integer maxRetries;
         }
 
         @Getter
@@ -130,4 +274,231 @@ public class AppProperties {
             private Duration refill;
         }
     }
+
+    @Getter
+    @Setter
+    public static class ReplyCountReconcile {
+
+        @NotBlank
+        private String cron;
+
+        @Positive
+        private int batchSize;
+    }
+
+    @Getter
+    @Setter
+    public static class VirtualThreads {
+
+        @Valid
+        private final PinningMonitor pinningMonitor = new PinningMonitor();
+
+        @Getter
+        @Setter
+        public static class PinningMonitor {
+
+            private boolean enabled;
+
+            @NotNull
+            private Duration threshold;
+
+            @Positive
+            private int stackDepth;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class PasswordHashing {
+
+        @Min(4)
+        @Max(31)
+        private int strength;
+
+        @Positive
+        private int poolSize;
+
+        @PositiveOrZero
+        private int queueCapacity;
+
+        @NotNull
+        private Duration timeout;
+
+        @Positive
+        private int retryAfterSeconds;
+    }
+
+    @Getter
+    @Setter
+    public static class ReadReplica {
+
+        private boolean enabled;
+
+        @NotNull
+        private Duration maxLag;
+
+        @NotNull
+        private Duration checkInterval;
+
+        @NotNull
+        private Duration connectionTimeout;
+
+        @NotNull
+        private Duration readYourWritesWindow;
+
+        @Valid
+        private List<Replica> replicas = new ArrayList<>();
+
+        @Getter
+        @Setter
+        public static class Replica {
+
+            @NotBlank
+            private String name;
+
+            @NotBlank
+            private String url;
+
+            private String username;
+
+            private String password;
+
+            @Positive
+            private int maximumPoolSize;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Export {
+
+        @NotNull
+        private Integer fetchSize;
+
+        @Positive
+        private int clearInterval;
+    }
+
+    @Getter
+    @Setter
+    public static class DreamImport {
+
+        @Positive
+        private int chunkSize;
+
+        @Positive
+        private int batchSize;
+
+        @Positive
+        private long maxBytes;
+
+        @PositiveOrZero
+        private int maxReportedRejections;
+
+        @Positive
+        private int poolSize;
+
+        @PositiveOrZero
+        private int queueCapacity;
+
+        @NotNull
+        private Duration retention;
+
+        @Positive
+        private int retryAfterSeconds;
+    }
+
+    @Getter
+    @Setter
+    public static class Search {
+
+        private String indexPath;
+
+        @NotNull
+        private Duration refreshInterval;
+
+        @NotNull
+        private Duration commitInterval;
+
+        @Positive
+        private int maxResultWindow;
+
+        private boolean rebuildOnStartup;
+
+        @NotNull
+        private Integer rebuildFetchSize;
+
+        @Positive
+        private int rebuildClearInterval;
+
+        @NotNull
+        private Duration catchUpInterval;
+
+        @NotNull
+        private Duration catchUpOverlap;
+    }
+
+    @Getter
+    @Setter
+    public static class DreamTimeline {
+
+        @NotNull
+        private Duration ttl;
+
+        @NotNull
+        private Duration summaryTtl;
+    }
+
+    @Getter
+    @Setter
+    public static class DreamCache {
+
+        private boolean enabled;
+
+        @Positive
+        private long localMaximumSize;
+
+        @NotNull
+        private Duration localTtl;
+
+        @NotNull
+        private Duration ttl;
+
+        @NotNull
+        private Duration tombstoneTtl;
+    }
+
+    @Getter
+    @Setter
+    public static class MemberCache {
+
+        @Positive
+        private long maximumSize;
+
+        @NotNull
+        private Duration ttl;
+
+        @Positive
+        private long lookupMaximumSize;
+
+        @NotNull
+        private Duration lookupTtl;
+    }
+
+    @Getter
+    @Setter
+    public static class PageCount {
+
+        @NotNull
+        private CountStrategy publicDreams;
+
+        @NotNull
+        private CountStrategy adminDreams;
+
+        @NotNull
+        private CountStrategy adminMembers;
+
+        @NotBlank
+        private String reconcileCron;
+    }
 }
@@ -0,0 +1,68 @@
+package dev.wgrgwg.somniverse.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.wgrgwg.somniverse.global.datasource.ReplicaHealthMonitor;
+import dev.wgrgwg.somniverse.global.datasource.ReplicaPools;
+import dev.wgrgwg.somniverse.global.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+@Configuration
+public class DataSourceConfig {
+
+    private static final int PROBE_QUERY_TIMEOUT_SECONDS = 1;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class).build();
+        if (!StringUtils.hasText(dataSource.getPoolName())) {
+            dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        }
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaPools replicaPools(AppProperties appProperties, MeterRegistry meterRegistry) {
+        return ReplicaPools.create(appProperties.getReadReplica(), meterRegistry);
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(HikariDataSource primaryDataSource,
+        ReplicaPools replicaPools, AppProperties appProperties, MeterRegistry meterRegistry) {
+        Map<String, JdbcTemplate> replicas = new LinkedHashMap<>();
+        replicaPools.dataSources().forEach((name, dataSource) -> {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.setQueryTimeout(PROBE_QUERY_TIMEOUT_SECONDS);
+            replicas.put(name, jdbcTemplate);
+        });
+
+        return new ReplicaHealthMonitor(new JdbcTemplate(primaryDataSource), replicas,
+            appProperties.getReadReplica().getMaxLag(), meterRegistry,
+            System::currentTimeMillis);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPools replicaPools,
+        ReplicaHealthMonitor replicaHealthMonitor, AppProperties appProperties,
+        MeterRegistry meterRegistry) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+            primaryDataSource, replicaPools.dataSources(), replicaHealthMonitor,
+            appProperties.getReadReplica().getReadYourWritesWindow(), meterRegistry);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
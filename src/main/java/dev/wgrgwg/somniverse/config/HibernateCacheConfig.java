@@ -0,0 +1,65 @@
+package dev.wgrgwg.somniverse.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String MEMBER_REGION = "member";
+    public static final String MEMBER_LOOKUP_REGION = "member-lookup";
+
+    private static final long DEFAULT_QUERY_RESULTS_MAXIMUM_SIZE = 1000;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(AppProperties appProperties) {
+        AppProperties.MemberCache memberCache = appProperties.getMemberCache();
+        CacheManager cacheManager = Caching.getCachingProvider(
+                CaffeineCachingProvider.class.getName())
+            .getCacheManager(URI.create("urn:hibernate-cache:" + UUID.randomUUID()),
+                HibernateCacheConfig.class.getClassLoader());
+
+        cacheManager.createCache(MEMBER_REGION,
+            bounded(memberCache.getMaximumSize(), memberCache.getTtl()));
+        cacheManager.createCache(MEMBER_LOOKUP_REGION,
+            bounded(memberCache.getLookupMaximumSize(), memberCache.getLookupTtl()));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+            bounded(DEFAULT_QUERY_RESULTS_MAXIMUM_SIZE, memberCache.getLookupTtl()));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+            new CaffeineConfiguration<>());
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(
+        CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> bounded(long maximumSize,
+        Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        return configuration;
+    }
+}
@@ -1,11 +1,21 @@
 package dev.wgrgwg.somniverse.config;
 
+import dev.wgrgwg.somniverse.dream.cache.DreamResponseCacheEventListener;
+import dev.wgrgwg.somniverse.dream.search.DreamSearchEventListener;
+import dev.wgrgwg.somniverse.global.idempotency.util.IdempotencyKeys;
+import dev.wgrgwg.somniverse.global.idempotency.wait.IdempotencyWaiterRegistry;
+import dev.wgrgwg.somniverse.member.cache.AccessTokenBlackListEventListener;
+import dev.wgrgwg.somniverse.member.cache.MemberEntityCacheEventListener;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -17,6 +27,9 @@ public class RedisConfig {
     @Value("${spring.data.redis.port}")
     private int port;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         return new LettuceConnectionFactory(host, port);
@@ -37,4 +50,45 @@ public class RedisConfig {
 
         return redisTemplate;
     }
+
+    @Bean
+    public RedisTemplate<String, byte[]> idempotencyRedisTemplate() {
+        RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory());
+
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+
+        return redisTemplate;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+        AccessTokenBlackListEventListener accessTokenBlackListEventListener,
+        IdempotencyWaiterRegistry idempotencyWaiterRegistry,
+        DreamResponseCacheEventListener dreamResponseCacheEventListener,
+        DreamSearchEventListener dreamSearchEventListener,
+        MemberEntityCacheEventListener memberEntityCacheEventListener) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+
+        if (virtualThreadsEnabled) {
+            SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("redis-listener-");
+            taskExecutor.setVirtualThreads(true);
+            container.setTaskExecutor(taskExecutor);
+        }
+
+        container.addMessageListener(accessTokenBlackListEventListener,
+            new ChannelTopic(AccessTokenBlackListEventListener.CHANNEL));
+        container.addMessageListener(idempotencyWaiterRegistry,
+            new ChannelTopic(IdempotencyKeys.EVENTS_CHANNEL));
+        container.addMessageListener(dreamResponseCacheEventListener,
+            new ChannelTopic(DreamResponseCacheEventListener.CHANNEL));
+        container.addMessageListener(dreamSearchEventListener,
+            new ChannelTopic(DreamSearchEventListener.CHANNEL));
+        container.addMessageListener(memberEntityCacheEventListener,
+            new ChannelTopic(MemberEntityCacheEventListener.CHANNEL));
+
+        return container;
+    }
 }
@@ -0,0 +1,254 @@
+package dev.wgrgwg.somniverse.dream.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.dream.dto.response.DreamResponse;
+import dev.wgrgwg.somniverse.dream.event.DreamChangedEvent;
+import dev.wgrgwg.somniverse.member.event.MemberUsernameChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+public class DreamResponseCache {
+
+    private static final String KEY_PREFIX = "dream:response:";
+    private static final String AUTHOR_KEY_PREFIX = "dream:response:author:";
+    private static final String TOMBSTONE_SUFFIX = ":invalidated";
+
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[2], KEYS[4]) > 0 then
+          return 0
+        end
+        redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+        redis.call('SADD', KEYS[3], ARGV[3])
+        redis.call('PEXPIRE', KEYS[3], ARGV[2])
+        return 1
+        """, Long.class);
+
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
+        redis.call('DEL', KEYS[1])
+        redis.call('SET', KEYS[2], '1', 'PX', ARGV[1])
+        redis.call('PUBLISH', ARGV[2], ARGV[3])
+        return 1
+        """, Long.class);
+
+    private static final RedisScript<Long> INVALIDATE_AUTHOR_SCRIPT = new DefaultRedisScript<>("""
+        local ids = redis.call('SMEMBERS', KEYS[1])
+        for _, id in ipairs(ids) do
+          redis.call('DEL', ARGV[1] .. id)
+        end
+        redis.call('DEL', KEYS[1])
+        redis.call('SET', KEYS[2], '1', 'PX', ARGV[2])
+        redis.call('PUBLISH', ARGV[3], ARGV[4])
+        return #ids
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final AppProperties.DreamCache properties;
+    private final Cache<Long, DreamResponse> localCache;
+    private final ConcurrentMap<Long, InFlightLoad> inFlightLoads = new ConcurrentHashMap<>();
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+
+    public DreamResponseCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+        AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = appProperties.getDreamCache();
+        this.localCache = Caffeine.newBuilder()
+            .maximumSize(properties.getLocalMaximumSize())
+            .expireAfterWrite(properties.getLocalTtl())
+            .build();
+        this.localHitCounter = Counter.builder("dream.response.cache")
+            .tag("result", "local-hit")
+            .register(meterRegistry);
+        this.redisHitCounter = Counter.builder("dream.response.cache")
+            .tag("result", "redis-hit")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder("dream.response.cache")
+            .tag("result", "miss")
+            .register(meterRegistry);
+    }
+
+    public DreamResponse get(Long dreamId, Supplier<DreamResponse> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+
+        DreamResponse cached = localCache.getIfPresent(dreamId);
+        if (cached != null) {
+            localHitCounter.increment();
+            return cached;
+        }
+
+        InFlightLoad load = new InFlightLoad();
+        InFlightLoad leader = inFlightLoads.putIfAbsent(dreamId, load);
+        if (leader != null) {
+            return leader.await();
+        }
+
+        try {
+            DreamResponse response = loadThrough(dreamId, loader, load);
+            load.future.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            load.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(dreamId, load);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDreamChanged(DreamChangedEvent event) {
+        invalidate(event.dreamId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMemberUsernameChanged(MemberUsernameChangedEvent event) {
+        invalidateByAuthor(event.memberId());
+    }
+
+    public void invalidate(Long dreamId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        evictLocal(dreamId);
+        String key = valueKey(dreamId);
+        try {
+            redisTemplate.execute(INVALIDATE_SCRIPT, List.of(key, key + TOMBSTONE_SUFFIX),
+                tombstoneTtlMillis(), DreamResponseCacheEventListener.CHANNEL,
+                DreamResponseCacheEventListener.dreamPayload(dreamId));
+        } catch (DataAccessException e) {
+            log.warn("[DREAM_CACHE] invalidation failed. dreamId={}, reason={}", dreamId,
+                e.getMessage());
+        }
+    }
+
+    public void invalidateByAuthor(Long memberId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        evictLocalByAuthor(memberId);
+        String authorKey = AUTHOR_KEY_PREFIX + memberId;
+        try {
+            redisTemplate.execute(INVALIDATE_AUTHOR_SCRIPT,
+                List.of(authorKey, authorKey + TOMBSTONE_SUFFIX), KEY_PREFIX, tombstoneTtlMillis(),
+                DreamResponseCacheEventListener.CHANNEL,
+                DreamResponseCacheEventListener.authorPayload(memberId));
+        } catch (DataAccessException e) {
+            log.warn("[DREAM_CACHE] author invalidation failed. memberId={}, reason={}", memberId,
+                e.getMessage());
+        }
+    }
+
+    public void evictLocal(Long dreamId) {
+        InFlightLoad load = inFlightLoads.get(dreamId);
+        if (load != null) {
+            load.invalidated = true;
+        }
+        localCache.invalidate(dreamId);
+    }
+
+    public void evictLocalByAuthor(Long memberId) {
+        inFlightLoads.values().forEach(load -> load.invalidated = true);
+        localCache.asMap().values()
+            .removeIf(response -> memberId.equals(response.author().id()));
+    }
+
+    private DreamResponse loadThrough(Long dreamId, Supplier<DreamResponse> loader,
+        InFlightLoad load) {
+        DreamResponse response = readRemote(dreamId);
+        if (response != null) {
+            redisHitCounter.increment();
+            putLocal(dreamId, response, load);
+            return response;
+        }
+
+        missCounter.increment();
+        response = loader.get();
+        if (writeRemote(response)) {
+            putLocal(dreamId, response, load);
+        }
+        return response;
+    }
+
+    private void putLocal(Long dreamId, DreamResponse response, InFlightLoad load) {
+        localCache.asMap().compute(dreamId,
+            (id, current) -> load.invalidated ? current : response);
+    }
+
+    private DreamResponse readRemote(Long dreamId) {
+        try {
+            String json = redisTemplate.opsForValue().get(valueKey(dreamId));
+            return json == null ? null : objectMapper.readValue(json, DreamResponse.class);
+        } catch (DataAccessException | IOException e) {
+            log.warn("[DREAM_CACHE] read failed, loading from database. dreamId={}, reason={}",
+                dreamId, e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean writeRemote(DreamResponse response) {
+        String key = valueKey(response.id());
+        String authorKey = AUTHOR_KEY_PREFIX + response.author().id();
+        try {
+            Long stored = redisTemplate.execute(PUT_SCRIPT,
+                List.of(key, key + TOMBSTONE_SUFFIX, authorKey, authorKey + TOMBSTONE_SUFFIX),
+                objectMapper.writeValueAsString(response),
+                String.valueOf(properties.getTtl().toMillis()), response.id().toString());
+            return Long.valueOf(1L).equals(stored);
+        } catch (DataAccessException | IOException e) {
+            log.warn("[DREAM_CACHE] write failed. dreamId={}, reason={}", response.id(),
+                e.getMessage());
+            return false;
+        }
+    }
+
+    private String tombstoneTtlMillis() {
+        return String.valueOf(properties.getTombstoneTtl().toMillis());
+    }
+
+    private static String valueKey(Long dreamId) {
+        return KEY_PREFIX + dreamId;
+    }
+
+    private static final class InFlightLoad {
+
+        private final CompletableFuture<DreamResponse> future = new CompletableFuture<>();
+        private volatile boolean invalidated;
+
+        private DreamResponse await() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
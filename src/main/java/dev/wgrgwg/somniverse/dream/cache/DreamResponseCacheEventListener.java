@@ -0,0 +1,47 @@
+package dev.wgrgwg.somniverse.dream.cache;
+
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DreamResponseCacheEventListener implements MessageListener {
+
+    public static final String CHANNEL = "DREAM_CACHE:EVENTS";
+    private static final String DREAM_PREFIX = "dream:";
+    private static final String AUTHOR_PREFIX = "author:";
+
+    private final DreamResponseCache dreamResponseCache;
+
+    public static String dreamPayload(Long dreamId) {
+        return DREAM_PREFIX + dreamId;
+    }
+
+    public static String authorPayload(Long memberId) {
+        return AUTHOR_PREFIX + memberId;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            if (payload.startsWith(DREAM_PREFIX)) {
+                dreamResponseCache.evictLocal(
+                    Long.valueOf(payload.substring(DREAM_PREFIX.length())));
+            } else if (payload.startsWith(AUTHOR_PREFIX)) {
+                dreamResponseCache.evictLocalByAuthor(
+                    Long.valueOf(payload.substring(AUTHOR_PREFIX.length())));
+            } else {
+                log.warn("[DREAM_CACHE] unknown cache event payload={}", payload);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[DREAM_CACHE] invalid cache event payload={} err={}", payload, e.toString());
+        }
+    }
+}
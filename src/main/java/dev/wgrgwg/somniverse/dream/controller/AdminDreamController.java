@@ -1,19 +1,23 @@
 package dev.wgrgwg.somniverse.dream.controller;
 
+import dev.wgrgwg.somniverse.config.AppProperties;
 import dev.wgrgwg.somniverse.dream.dto.response.DreamResponse;
 import dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse;
+import dev.wgrgwg.somniverse.dream.service.DreamSearchService;
 import dev.wgrgwg.somniverse.dream.service.DreamService;
 import dev.wgrgwg.somniverse.global.dto.ApiResponseDto;
+import dev.wgrgwg.somniverse.global.pagecount.CountStrategy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -25,14 +29,19 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdminDreamController {
 
     private final DreamService dreamService;
+    private final DreamSearchService dreamSearchService;
+    private final AppProperties appProperties;
 
     @PreAuthorize("hasAnyAuthority('ADMIN', 'MANAGER')")
     @GetMapping
-    public ResponseEntity<ApiResponseDto<Page<DreamSimpleResponse>>> getDreamsForAdmin(
-        Pageable pageable, @RequestParam(defaultValue = "false") Boolean includeDeleted) {
+    public ResponseEntity<ApiResponseDto<Slice<DreamSimpleResponse>>> getDreamsForAdmin(
+        Pageable pageable, @RequestParam(defaultValue = "false") Boolean includeDeleted,
+        @RequestParam(defaultValue = "false") boolean exactCount) {
 
-        Page<DreamSimpleResponse> response = dreamService.getAllDreamsForAdmin(pageable,
-            includeDeleted);
+        CountStrategy countStrategy = exactCount ? CountStrategy.EXACT
+            : appProperties.getPageCount().getAdminDreams();
+        Slice<DreamSimpleResponse> response = dreamService.getAllDreamsForAdmin(pageable,
+            includeDeleted, countStrategy);
 
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDto.success(response));
     }
@@ -53,4 +62,12 @@ public class AdminDreamController {
 
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
+
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'MANAGER')")
+    @PostMapping("/search/rebuild")
+    public ResponseEntity<ApiResponseDto<Void>> rebuildSearchIndex() {
+        dreamSearchService.rebuildIndex();
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+    }
 }
@@ -1,18 +1,32 @@
 package dev.wgrgwg.somniverse.dream.controller;
 
+import dev.wgrgwg.somniverse.config.AppProperties;
 import dev.wgrgwg.somniverse.dream.dto.request.DreamCreateRequest;
 import dev.wgrgwg.somniverse.dream.dto.request.DreamUpdateRequest;
+import dev.wgrgwg.somniverse.dream.dto.response.DreamImportJobResponse;
 import dev.wgrgwg.somniverse.dream.dto.response.DreamResponse;
 import dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse;
+import dev.wgrgwg.somniverse.dream.importer.DreamImportFormat;
+import dev.wgrgwg.somniverse.dream.service.DreamExportService;
+import dev.wgrgwg.somniverse.dream.service.DreamImportService;
+import dev.wgrgwg.somniverse.dream.service.DreamSearchService;
 import dev.wgrgwg.somniverse.dream.service.DreamService;
 import dev.wgrgwg.somniverse.global.dto.ApiResponseDto;
+import dev.wgrgwg.somniverse.global.dto.CursorSliceResponse;
 import dev.wgrgwg.somniverse.security.userdetails.CustomUserDetails;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -21,8 +35,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/dreams")
@@ -30,7 +47,13 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 public class DreamController {
 
+    private static final String EXPORT_FILENAME = "dream-journal.ndjson";
+
     private final DreamService dreamService;
+    private final DreamExportService dreamExportService;
+    private final DreamImportService dreamImportService;
+    private final DreamSearchService dreamSearchService;
+    private final AppProperties appProperties;
 
     @PostMapping
     public ResponseEntity<ApiResponseDto<DreamResponse>> createDream(
@@ -43,6 +66,31 @@ public class DreamController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponseDto.success(response));
     }
 
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponseDto<DreamImportJobResponse>> importDreams(
+        @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+        InputStream body, @AuthenticationPrincipal CustomUserDetails userDetails)
+        throws IOException {
+        Long memberId = userDetails.getMember().getId();
+
+        DreamImportJobResponse response = dreamImportService.startImport(memberId,
+            DreamImportFormat.from(contentType), body);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .location(URI.create("/api/dreams/import/" + response.jobId()))
+            .body(ApiResponseDto.success(response));
+    }
+
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ApiResponseDto<DreamImportJobResponse>> getImportJob(
+        @PathVariable String jobId, @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Long memberId = userDetails.getMember().getId();
+
+        DreamImportJobResponse response = dreamImportService.getImportJob(jobId, memberId);
+
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDto.success(response));
+    }
+
     @GetMapping("/{dreamId}")
     public ResponseEntity<ApiResponseDto<DreamResponse>> getDream(@PathVariable Long dreamId,
         @AuthenticationPrincipal CustomUserDetails userDetails) {
@@ -85,6 +133,20 @@ public class DreamController {
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDto.success(response));
     }
 
+    @GetMapping(value = "/me/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportMyDreams(
+        @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Long memberId = userDetails.getMember().getId();
+
+        StreamingResponseBody body = out -> dreamExportService.exportJournal(memberId, out);
+
+        return ResponseEntity.status(HttpStatus.OK)
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(EXPORT_FILENAME).build().toString())
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
     @GetMapping("/member/{memberId}")
     public ResponseEntity<ApiResponseDto<Page<DreamSimpleResponse>>> getDreamsByMember(
         @PathVariable Long memberId, Pageable pageable) {
@@ -94,9 +156,29 @@ public class DreamController {
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDto.success(response));
     }
 
+    @GetMapping("/feed")
+    public ResponseEntity<ApiResponseDto<CursorSliceResponse<DreamSimpleResponse>>> getDreamFeed(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size) {
+        CursorSliceResponse<DreamSimpleResponse> response = dreamService.getPublicDreamFeed(cursor,
+            size);
+
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDto.success(response));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponseDto<Slice<DreamSimpleResponse>>> searchDreams(
+        @RequestParam String q, Pageable pageable) {
+        Slice<DreamSimpleResponse> response = dreamSearchService.searchPublicDreams(q, pageable);
+
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDto.success(response));
+    }
+
     @GetMapping
-    public ResponseEntity<ApiResponseDto<Page<DreamSimpleResponse>>> getDreams(Pageable pageable) {
-        Page<DreamSimpleResponse> response = dreamService.getPublicDreams(pageable);
+    public ResponseEntity<ApiResponseDto<Slice<DreamSimpleResponse>>> getDreams(
+        Pageable pageable) {
+        Slice<DreamSimpleResponse> response = dreamService.getPublicDreams(pageable,
+            appProperties.getPageCount().getPublicDreams());
 
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDto.success(response));
     }
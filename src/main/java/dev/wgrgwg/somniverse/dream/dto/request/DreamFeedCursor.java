@@ -0,0 +1,41 @@
+package dev.wgrgwg.somniverse.dream.dto.request;
+
+import dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse;
+import dev.wgrgwg.somniverse.dream.exception.DreamErrorCode;
+import dev.wgrgwg.somniverse.global.exception.CustomException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+public record DreamFeedCursor(
+    LocalDateTime createdAt,
+    Long id
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static DreamFeedCursor from(DreamSimpleResponse dream) {
+        return new DreamFeedCursor(dream.createdAt(), dream.id());
+    }
+
+    public static DreamFeedCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor),
+                StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+
+            LocalDateTime createdAt = LocalDateTime.parse(decoded.substring(0, delimiterIndex));
+            Long id = Long.valueOf(decoded.substring(delimiterIndex + 1));
+
+            return new DreamFeedCursor(createdAt, id);
+        } catch (RuntimeException e) {
+            throw new CustomException(DreamErrorCode.INVALID_FEED_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,32 @@
+package dev.wgrgwg.somniverse.dream.dto.response;
+
+import dev.wgrgwg.somniverse.dream.domain.Dream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record DreamExportResponse(
+    String type,
+    Long id,
+    String title,
+    String content,
+    LocalDate dreamDate,
+    boolean isPublic,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+
+    private static final String TYPE = "dream";
+
+    public static DreamExportResponse fromEntity(Dream dream) {
+        return new DreamExportResponse(
+            TYPE,
+            dream.getId(),
+            dream.getTitle(),
+            dream.getContent(),
+            dream.getDreamDate(),
+            dream.isPublic(),
+            dream.getCreatedAt(),
+            dream.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,39 @@
+package dev.wgrgwg.somniverse.dream.dto.response;
+
+import dev.wgrgwg.somniverse.dream.importer.DreamImportJob;
+import dev.wgrgwg.somniverse.dream.importer.DreamImportRejection;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record DreamImportJobResponse(
+    String jobId,
+    String format,
+    String status,
+    long processed,
+    long imported,
+    long rejected,
+    List<DreamImportRejection> rejections,
+    boolean rejectionsTruncated,
+    String failureReason,
+    LocalDateTime createdAt,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt
+) {
+
+    public static DreamImportJobResponse fromJob(DreamImportJob job) {
+        return new DreamImportJobResponse(
+            job.getId(),
+            job.getFormat().name(),
+            job.getStatus().name(),
+            job.getProcessed().get(),
+            job.getImported().get(),
+            job.getRejected().get(),
+            List.copyOf(job.getRejections()),
+            job.isRejectionsTruncated(),
+            job.getFailureReason(),
+            job.getCreatedAt(),
+            job.getStartedAt(),
+            job.getFinishedAt()
+        );
+    }
+}
@@ -0,0 +1,31 @@
+package dev.wgrgwg.somniverse.dream.event;
+
+import dev.wgrgwg.somniverse.dream.domain.Dream;
+import java.time.LocalDateTime;
+
+public record DreamChangedEvent(
+    Long dreamId,
+    Long memberId,
+    String title,
+    String content,
+    LocalDateTime createdAt,
+    boolean isPublic,
+    boolean isDeleted
+) {
+
+    public static DreamChangedEvent from(Dream dream) {
+        return new DreamChangedEvent(
+            dream.getId(),
+            dream.getMember().getId(),
+            dream.getTitle(),
+            dream.getContent(),
+            dream.getCreatedAt(),
+            dream.isPublic(),
+            dream.isDeleted()
+        );
+    }
+
+    public boolean searchable() {
+        return isPublic && !isDeleted;
+    }
+}
@@ -0,0 +1,10 @@
+package dev.wgrgwg.somniverse.dream.event;
+
+import java.util.List;
+
+public record DreamsImportedEvent(
+    Long memberId,
+    List<DreamChangedEvent> dreams
+) {
+
+}
@@ -7,7 +7,18 @@ import org.springframework.http.HttpStatus;
 @Getter
 public enum DreamErrorCode implements ErrorCode {
     DREAM_NOT_FOUND("DREAM_001", "해당 꿈일기를 찾을 수 없습니다", HttpStatus.NOT_FOUND),
-    DREAM_FORBIDDEN("DREAM_002", "해당 꿈일기에 대한 권한이 없습니다", HttpStatus.FORBIDDEN);
+    DREAM_FORBIDDEN("DREAM_002", "해당 꿈일기에 대한 권한이 없습니다", HttpStatus.FORBIDDEN),
+    INVALID_FEED_CURSOR("DREAM_003", "유효하지 않은 커서입니다", HttpStatus.BAD_REQUEST),
+    IMPORT_UNSUPPORTED_FORMAT("DREAM_004", "지원하지 않는 가져오기 형식입니다",
+        HttpStatus.UNSUPPORTED_MEDIA_TYPE),
+    IMPORT_PAYLOAD_TOO_LARGE("DREAM_005", "가져오기 파일 크기가 허용 범위를 초과했습니다",
+        HttpStatus.PAYLOAD_TOO_LARGE),
+    IMPORT_JOB_NOT_FOUND("DREAM_006", "가져오기 작업을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
+    INVALID_SEARCH_QUERY("DREAM_007", "검색어는 1자 이상 100자 이하로 입력해야 합니다",
+        HttpStatus.BAD_REQUEST),
+    SEARCH_WINDOW_EXCEEDED("DREAM_008", "조회 가능한 검색 결과 범위를 초과했습니다",
+        HttpStatus.BAD_REQUEST),
+    SEARCH_REBUILD_IN_PROGRESS("DREAM_009", "검색 색인을 재구축하는 중입니다", HttpStatus.CONFLICT);
 
     private final String code;
     private final String message;
@@ -0,0 +1,175 @@
+package dev.wgrgwg.somniverse.dream.importer;
+
+import dev.wgrgwg.somniverse.dream.dto.request.DreamCreateRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class CsvDreamImportReader implements DreamImportReader {
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final int EOF = -1;
+
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final String DREAM_DATE = "dreamdate";
+    private static final String IS_PUBLIC = "ispublic";
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private final StringBuilder field = new StringBuilder();
+    private int headerSize;
+    private long line = 1;
+    private long recordLine;
+    private int pending = EOF;
+
+    public CsvDreamImportReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        readHeader();
+    }
+
+    @Override
+    public DreamImportRow next() throws IOException {
+        List<String> record;
+        do {
+            record = readRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && record.getFirst().isEmpty());
+
+        if (record.size() != headerSize) {
+            return DreamImportRow.rejected(recordLine, DreamImportMessage.COLUMN_COUNT_MISMATCH);
+        }
+
+        LocalDate dreamDate;
+        try {
+            String value = column(record, DREAM_DATE);
+            dreamDate = value == null || value.isBlank() ? null : LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            return DreamImportRow.rejected(recordLine, DreamImportMessage.INVALID_DREAM_DATE);
+        }
+
+        String isPublic = column(record, IS_PUBLIC);
+        boolean publicDream = false;
+        if (isPublic != null && !isPublic.isBlank()) {
+            String value = isPublic.trim();
+            if (!value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false")) {
+                return DreamImportRow.rejected(recordLine, DreamImportMessage.INVALID_IS_PUBLIC);
+            }
+            publicDream = Boolean.parseBoolean(value);
+        }
+
+        return DreamImportRow.parsed(recordLine,
+            new DreamCreateRequest(column(record, TITLE), column(record, CONTENT), dreamDate,
+                publicDream));
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        int first = reader.read();
+        if (first != BYTE_ORDER_MARK) {
+            pending = first;
+        }
+
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException(DreamImportMessage.MISSING_CSV_HEADER.getMessage());
+        }
+
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(normalize(header.get(i)), i);
+        }
+        if (!columns.containsKey(TITLE)) {
+            throw new IllegalArgumentException(
+                DreamImportMessage.MISSING_TITLE_COLUMN.getMessage());
+        }
+        headerSize = header.size();
+    }
+
+    private String column(List<String> record, String name) {
+        Integer index = columns.get(name);
+        return index == null ? null : record.get(index);
+    }
+
+    private List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == EOF) {
+            return null;
+        }
+
+        recordLine = line;
+        List<String> record = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == EOF) {
+                    record.add(field.toString());
+                    return record;
+                }
+                if (c == QUOTE) {
+                    int next = read();
+                    if (next == QUOTE) {
+                        field.append(QUOTE);
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == QUOTE && field.isEmpty()) {
+                quoted = true;
+            } else if (c == SEPARATOR) {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == EOF) {
+                record.add(field.toString());
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pending = next;
+                    }
+                }
+                if (c != EOF) {
+                    line++;
+                }
+                return record;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != EOF) {
+            int c = pending;
+            pending = EOF;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private static String normalize(String name) {
+        return name.trim().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,39 @@
+package dev.wgrgwg.somniverse.dream.importer;
+
+import dev.wgrgwg.somniverse.dream.exception.DreamErrorCode;
+import dev.wgrgwg.somniverse.global.exception.CustomException;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+public enum DreamImportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON),
+    CSV(MediaType.parseMediaType(DreamImportFormat.TEXT_CSV_VALUE));
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+
+    DreamImportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public static DreamImportFormat from(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            throw new CustomException(DreamErrorCode.IMPORT_UNSUPPORTED_FORMAT);
+        }
+
+        MediaType requested;
+        try {
+            requested = MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException e) {
+            throw new CustomException(DreamErrorCode.IMPORT_UNSUPPORTED_FORMAT);
+        }
+
+        for (DreamImportFormat format : values()) {
+            if (format.mediaType.equalsTypeAndSubtype(requested)) {
+                return format;
+            }
+        }
+        throw new CustomException(DreamErrorCode.IMPORT_UNSUPPORTED_FORMAT);
+    }
+}
@@ -0,0 +1,68 @@
+package dev.wgrgwg.somniverse.dream.importer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+
+@Getter
+public class DreamImportJob {
+
+    private final String id = UUID.randomUUID().toString();
+    private final Long memberId;
+    private final DreamImportFormat format;
+    private final int maxReportedRejections;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final List<DreamImportRejection> rejections = new CopyOnWriteArrayList<>();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private volatile DreamImportStatus status = DreamImportStatus.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String failureReason;
+
+    public DreamImportJob(Long memberId, DreamImportFormat format, int maxReportedRejections) {
+        this.memberId = memberId;
+        this.format = format;
+        this.maxReportedRejections = maxReportedRejections;
+    }
+
+    public void start() {
+        startedAt = LocalDateTime.now();
+        status = DreamImportStatus.RUNNING;
+    }
+
+    public void complete() {
+        finishedAt = LocalDateTime.now();
+        status = DreamImportStatus.COMPLETED;
+    }
+
+    public void fail(String reason) {
+        failureReason = reason;
+        finishedAt = LocalDateTime.now();
+        status = DreamImportStatus.FAILED;
+    }
+
+    public void recordProcessed() {
+        processed.incrementAndGet();
+    }
+
+    public void recordImported(int count) {
+        imported.addAndGet(count);
+    }
+
+    public void recordRejected(long line, String reason) {
+        rejected.incrementAndGet();
+        if (rejections.size() < maxReportedRejections) {
+            rejections.add(new DreamImportRejection(line, reason));
+        }
+    }
+
+    public boolean isRejectionsTruncated() {
+        return rejected.get() > rejections.size();
+    }
+}
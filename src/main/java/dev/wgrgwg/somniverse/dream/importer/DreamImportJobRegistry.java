@@ -0,0 +1,64 @@
+package dev.wgrgwg.somniverse.dream.importer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import dev.wgrgwg.somniverse.config.AppProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DreamImportJobRegistry {
+
+    private final Cache<String, DreamImportJob> jobs;
+
+    public DreamImportJobRegistry(AppProperties appProperties, MeterRegistry meterRegistry) {
+        long retentionNanos = appProperties.getDreamImport().getRetention().toNanos();
+        this.jobs = Caffeine.newBuilder()
+            .expireAfter(new FinishedJobExpiry(retentionNanos))
+            .build();
+
+        meterRegistry.gauge("dream.import.jobs.running", jobs,
+            cache -> cache.asMap().values().stream()
+                .filter(job -> !job.getStatus().isFinished())
+                .count());
+    }
+
+    public void register(DreamImportJob job) {
+        jobs.put(job.getId(), job);
+    }
+
+    public void finish(DreamImportJob job) {
+        jobs.put(job.getId(), job);
+    }
+
+    public Optional<DreamImportJob> find(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId));
+    }
+
+    private record FinishedJobExpiry(long retentionNanos) implements
+        Expiry<String, DreamImportJob> {
+
+        @Override
+        public long expireAfterCreate(String key, DreamImportJob job, long currentTime) {
+            return expiry(job);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, DreamImportJob job, long currentTime,
+            long currentDuration) {
+            return expiry(job);
+        }
+
+        @Override
+        public long expireAfterRead(String key, DreamImportJob job, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+
+        private long expiry(DreamImportJob job) {
+            return job.getStatus().isFinished() ? retentionNanos : Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package dev.wgrgwg.somniverse.dream.importer;
+
+import lombok.Getter;
+
+@Getter
+public enum DreamImportMessage {
+    MALFORMED_JSON("JSON 형식이 올바르지 않습니다."),
+    COLUMN_COUNT_MISMATCH("컬럼 수가 헤더와 일치하지 않습니다."),
+    INVALID_DREAM_DATE("꿈을 꾼 날짜 형식이 올바르지 않습니다. (yyyy-MM-dd)"),
+    INVALID_IS_PUBLIC("공개 여부는 true 또는 false여야 합니다."),
+    MISSING_CSV_HEADER("CSV 헤더가 없습니다."),
+    MISSING_TITLE_COLUMN("CSV 헤더에 title 컬럼이 없습니다."),
+    SAVE_FAILED("저장에 실패했습니다.");
+
+    private final String message;
+
+    DreamImportMessage(String message) {
+        this.message = message;
+    }
+}
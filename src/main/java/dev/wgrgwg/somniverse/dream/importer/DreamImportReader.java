@@ -0,0 +1,9 @@
+package dev.wgrgwg.somniverse.dream.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface DreamImportReader extends Closeable {
+
+    DreamImportRow next() throws IOException;
+}
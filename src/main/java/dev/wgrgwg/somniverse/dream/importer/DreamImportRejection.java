@@ -0,0 +1,8 @@
+package dev.wgrgwg.somniverse.dream.importer;
+
+public record DreamImportRejection(
+    long line,
+    String reason
+) {
+
+}
@@ -0,0 +1,22 @@
+package dev.wgrgwg.somniverse.dream.importer;
+
+import dev.wgrgwg.somniverse.dream.dto.request.DreamCreateRequest;
+
+public record DreamImportRow(
+    long line,
+    DreamCreateRequest request,
+    String error
+) {
+
+    public static DreamImportRow parsed(long line, DreamCreateRequest request) {
+        return new DreamImportRow(line, request, null);
+    }
+
+    public static DreamImportRow rejected(long line, DreamImportMessage message) {
+        return new DreamImportRow(line, null, message.getMessage());
+    }
+
+    public boolean isRejected() {
+        return error != null;
+    }
+}
@@ -0,0 +1,9 @@
+package dev.wgrgwg.somniverse.dream.importer;
+
+public enum DreamImportStatus {
+    QUEUED, RUNNING, COMPLETED, FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
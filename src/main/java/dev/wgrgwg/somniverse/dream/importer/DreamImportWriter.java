@@ -0,0 +1,50 @@
+package dev.wgrgwg.somniverse.dream.importer;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.dream.domain.Dream;
+import dev.wgrgwg.somniverse.dream.dto.request.DreamCreateRequest;
+import dev.wgrgwg.somniverse.dream.event.DreamChangedEvent;
+import dev.wgrgwg.somniverse.dream.event.DreamsImportedEvent;
+import dev.wgrgwg.somniverse.global.pagecount.PageCountChangedEvent;
+import dev.wgrgwg.somniverse.member.domain.Member;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class DreamImportWriter {
+
+    private final EntityManager em;
+    private final AppProperties appProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void write(Long memberId, List<DreamImportRow> rows) {
+        em.unwrap(Session.class).setJdbcBatchSize(appProperties.getDreamImport().getBatchSize());
+        Member member = em.getReference(Member.class, memberId);
+
+        List<DreamChangedEvent> imported = new ArrayList<>(rows.size());
+        for (DreamImportRow row : rows) {
+            DreamCreateRequest request = row.request();
+            Dream dream = Dream.builder().title(request.title())
+                .content(request.content()).dreamDate(request.dreamDate())
+                .isPublic(request.isPublic()).member(member).build();
+            em.persist(dream);
+            imported.add(DreamChangedEvent.from(dream));
+        }
+
+        em.flush();
+        em.clear();
+        eventPublisher.publishEvent(new DreamsImportedEvent(memberId, imported));
+
+        long published = imported.stream().filter(DreamChangedEvent::isPublic).count();
+        eventPublisher.publishEvent(
+            PageCountChangedEvent.ofDreams(imported.size(), imported.size(), published));
+    }
+}
@@ -0,0 +1,42 @@
+package dev.wgrgwg.somniverse.dream.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import dev.wgrgwg.somniverse.dream.dto.request.DreamCreateRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+
+public class NdjsonDreamImportReader implements DreamImportReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private long line;
+
+    public NdjsonDreamImportReader(BufferedReader reader, ObjectReader objectReader) {
+        this.reader = reader;
+        this.objectReader = objectReader.forType(DreamCreateRequest.class);
+    }
+
+    @Override
+    public DreamImportRow next() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+
+        try {
+            return DreamImportRow.parsed(line, objectReader.readValue(text));
+        } catch (JsonProcessingException e) {
+            return DreamImportRow.rejected(line, DreamImportMessage.MALFORMED_JSON);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
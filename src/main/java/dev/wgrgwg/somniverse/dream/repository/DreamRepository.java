@@ -1,41 +1,184 @@
 package dev.wgrgwg.somniverse.dream.repository;
 
 import dev.wgrgwg.somniverse.dream.domain.Dream;
+import dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse;
+import dev.wgrgwg.somniverse.dream.timeline.DreamTimelineEntry;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface DreamRepository extends JpaRepository<Dream, Long> {
 
+    @Query(value = """
+        SELECT new dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse(
+            d.id, d.title, d.dreamDate, d.createdAt, m.username)
+        FROM Dream d
+        JOIN d.member m
+        """, countQuery = """
+        SELECT COUNT(d)
+        FROM Dream d
+        """)
+    Page<DreamSimpleResponse> findAllForAdmin(Pageable pageable);
+
     @Query("""
-        SELECT d
+        SELECT new dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse(
+            d.id, d.title, d.dreamDate, d.createdAt, m.username)
         FROM Dream d
-        JOIN FETCH d.member
+        JOIN d.member m
         """)
-    Page<Dream> findAllForAdmin(Pageable pageable);
+    Slice<DreamSimpleResponse> findSliceForAdmin(Pageable pageable);
 
-    Page<Dream> findAllByMemberIdAndIsDeletedFalse(Long memberId, Pageable pageable);
+    @Query(value = """
+        SELECT new dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse(
+            d.id, d.title, d.dreamDate, d.createdAt, m.username)
+        FROM Dream d
+        JOIN d.member m
+        WHERE d.member.id = :memberId
+        AND d.isDeleted=false
+        """, countQuery = """
+        SELECT COUNT(d)
+        FROM Dream d
+        WHERE d.member.id = :memberId
+        AND d.isDeleted=false
+        """)
+    Page<DreamSimpleResponse> findAllByMemberIdAndIsDeletedFalse(
+        @Param("memberId") Long memberId, Pageable pageable);
 
-    Page<Dream> findAllByMemberIdAndIsDeletedFalseAndIsPublicTrue(Long memberId, Pageable pageable);
+    @Query(value = """
+        SELECT new dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse(
+            d.id, d.title, d.dreamDate, d.createdAt, m.username)
+        FROM Dream d
+        JOIN d.member m
+        WHERE d.member.id = :memberId
+        AND d.isPublic=true
+        AND d.isDeleted=false
+        """, countQuery = """
+        SELECT COUNT(d)
+        FROM Dream d
+        WHERE d.member.id = :memberId
+        AND d.isPublic=true
+        AND d.isDeleted=false
+        """)
+    Page<DreamSimpleResponse> findAllByMemberIdAndIsDeletedFalseAndIsPublicTrue(
+        @Param("memberId") Long memberId, Pageable pageable);
 
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     @Query("""
-        SELECT d
+        SELECT new dev.wgrgwg.somniverse.dream.timeline.DreamTimelineEntry(
+            d.id, d.title, d.dreamDate, d.createdAt, d.isPublic)
+        FROM Dream d
+        WHERE d.member.id = :memberId
+        AND d.isDeleted=false
+        ORDER BY d.createdAt DESC, d.id DESC
+        """)
+    List<DreamTimelineEntry> findTimelineEntriesByMemberId(@Param("memberId") Long memberId);
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("""
+        SELECT new dev.wgrgwg.somniverse.dream.timeline.DreamTimelineEntry(
+            d.id, d.title, d.dreamDate, d.createdAt, d.isPublic)
+        FROM Dream d
+        WHERE d.member.id = :memberId
+        AND d.id IN :ids
+        AND d.isDeleted=false
+        """)
+    List<DreamTimelineEntry> findTimelineEntriesByMemberIdAndIdIn(
+        @Param("memberId") Long memberId, @Param("ids") Collection<Long> ids);
+
+    @Query(value = """
+        SELECT new dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse(
+            d.id, d.title, d.dreamDate, d.createdAt, m.username)
+        FROM Dream d
+        JOIN d.member m
+        WHERE d.isPublic=true
+        AND d.isDeleted=false
+        """, countQuery = """
+        SELECT COUNT(d)
         FROM Dream d
-        JOIN FETCH d.member
         WHERE d.isPublic=true
         AND d.isDeleted=false
         """)
-    Page<Dream> findAllByIsPublicTrueAndIsDeletedFalse(Pageable pageable);
+    Page<DreamSimpleResponse> findAllByIsPublicTrueAndIsDeletedFalse(Pageable pageable);
 
     @Query("""
-        SELECT d
+        SELECT new dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse(
+            d.id, d.title, d.dreamDate, d.createdAt, m.username)
         FROM Dream d
-        JOIN FETCH d.member
+        JOIN d.member m
+        WHERE d.isPublic=true
+        AND d.isDeleted=false
+        """)
+    Slice<DreamSimpleResponse> findPublicSlice(Pageable pageable);
+
+    @Query("""
+        SELECT new dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse(
+            d.id, d.title, d.dreamDate, d.createdAt, m.username)
+        FROM Dream d
+        JOIN d.member m
+        WHERE d.isPublic=true
+        AND d.isDeleted=false
+        ORDER BY d.createdAt DESC, d.id DESC
+        """)
+    List<DreamSimpleResponse> findPublicFeed(Pageable pageable);
+
+    @Query("""
+        SELECT new dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse(
+            d.id, d.title, d.dreamDate, d.createdAt, m.username)
+        FROM Dream d
+        JOIN d.member m
+        WHERE d.isPublic=true
+        AND d.isDeleted=false
+        AND (d.createdAt < :createdAt OR (d.createdAt = :createdAt AND d.id < :id))
+        ORDER BY d.createdAt DESC, d.id DESC
+        """)
+    List<DreamSimpleResponse> findPublicFeedAfter(@Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id, Pageable pageable);
+
+    @Query(value = """
+        SELECT new dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse(
+            d.id, d.title, d.dreamDate, d.createdAt, m.username)
+        FROM Dream d
+        JOIN d.member m
+        WHERE d.isDeleted=false
+        """, countQuery = """
+        SELECT COUNT(d)
+        FROM Dream d
+        WHERE d.isDeleted=false
+        """)
+    Page<DreamSimpleResponse> findAllByIsDeletedFalse(Pageable pageable);
+
+    @Query("""
+        SELECT new dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse(
+            d.id, d.title, d.dreamDate, d.createdAt, m.username)
+        FROM Dream d
+        JOIN d.member m
         WHERE d.isDeleted=false
         """)
-    Page<Dream> findAllByIsDeletedFalse(Pageable pageable);
+    Slice<DreamSimpleResponse> findActiveSlice(Pageable pageable);
+
+    @Query("""
+        SELECT new dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse(
+            d.id, d.title, d.dreamDate, d.createdAt, m.username)
+        FROM Dream d
+        JOIN d.member m
+        WHERE d.id IN :ids
+        AND d.isPublic=true
+        AND d.isDeleted=false
+        """)
+    List<DreamSimpleResponse> findPublicByIdIn(@Param("ids") Collection<Long> ids);
 
     Optional<Dream> findByIdAndIsDeletedFalse(Long id);
+
+    long countByIsPublicTrueAndIsDeletedFalse();
+
+    long countByIsDeletedFalse();
 }
@@ -0,0 +1,55 @@
+package dev.wgrgwg.somniverse.dream.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DreamSearchEventListener implements MessageListener {
+
+    public static final String CHANNEL = "DREAM_SEARCH:EVENTS";
+    private static final String ORIGIN_SEPARATOR = "|";
+    private static final String ID_SEPARATOR = ",";
+
+    private final DreamSearchIndexer dreamSearchIndexer;
+
+    public static String payload(String origin, List<Long> dreamIds) {
+        return origin + ORIGIN_SEPARATOR + dreamIds.stream()
+            .map(String::valueOf)
+            .collect(Collectors.joining(ID_SEPARATOR));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = payload.indexOf(ORIGIN_SEPARATOR);
+        if (separator < 0) {
+            log.warn("[SEARCH] unknown search event payload={}", payload);
+            return;
+        }
+
+        String origin = payload.substring(0, separator);
+        if (origin.equals(dreamSearchIndexer.instanceId())) {
+            return;
+        }
+
+        try {
+            List<Long> dreamIds = Arrays.stream(
+                    payload.substring(separator + 1).split(ID_SEPARATOR))
+                .map(Long::valueOf)
+                .toList();
+            dreamSearchIndexer.reindex(dreamIds);
+        } catch (RuntimeException e) {
+            log.warn("[SEARCH] search event not applied. payload={}, err={}", payload,
+                e.toString());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package dev.wgrgwg.somniverse.dream.search;
+
+import java.util.List;
+
+public record DreamSearchHits(
+    List<Long> dreamIds,
+    boolean hasNext
+) {
+
+}
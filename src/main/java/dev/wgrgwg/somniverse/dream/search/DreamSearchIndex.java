@@ -0,0 +1,254 @@
+package dev.wgrgwg.somniverse.dream.search;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class DreamSearchIndex {
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final String GENERATION = "generation";
+    private static final String SYNCED_AT = "synced-at";
+    private static final float TITLE_BOOST = 2.0f;
+    private static final int MAX_QUERY_TERMS = 32;
+
+    private final Directory directory;
+    private final Analyzer queryAnalyzer = new DreamSearchAnalyzer(false);
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final AtomicLong generation = new AtomicLong(System.currentTimeMillis());
+    private final Timer queryTimer;
+    private volatile long syncedAt;
+
+    public DreamSearchIndex(AppProperties appProperties, MeterRegistry meterRegistry)
+        throws IOException {
+        String indexPath = appProperties.getSearch().getIndexPath();
+        this.directory = indexPath == null || indexPath.isBlank() ? new ByteBuffersDirectory()
+            : FSDirectory.open(Path.of(indexPath));
+        this.writer = new IndexWriter(directory,
+            new IndexWriterConfig(new DreamSearchAnalyzer(true))
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+        this.syncedAt = readSyncedAt(writer);
+
+        this.queryTimer = Timer.builder("dream.search.query").register(meterRegistry);
+        meterRegistry.gauge("dream.search.index.documents", writer,
+            w -> w.getDocStats().numDocs);
+    }
+
+    public void upsert(Long dreamId, String title, String content) {
+        Document document = new Document();
+        document.add(new StringField(ID, dreamId.toString(), Field.Store.YES));
+        document.add(new TextField(TITLE, nullToEmpty(title), Field.Store.NO));
+        document.add(new TextField(CONTENT, nullToEmpty(content), Field.Store.NO));
+        document.add(new LongPoint(GENERATION, generation.get()));
+
+        try {
+            writer.updateDocument(new Term(ID, dreamId.toString()), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(Long dreamId) {
+        try {
+            writer.deleteDocuments(new Term(ID, dreamId.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean isEmpty() {
+        return writer.getDocStats().numDocs == 0;
+    }
+
+    public long syncedAt() {
+        return syncedAt;
+    }
+
+    public void markSynced(long syncedAtMillis) {
+        syncedAt = syncedAtMillis;
+        writer.setLiveCommitData(Map.of(SYNCED_AT, Long.toString(syncedAtMillis)).entrySet());
+    }
+
+    public long beginRebuild() {
+        return generation.updateAndGet(current -> Math.max(current + 1,
+            System.currentTimeMillis()));
+    }
+
+    public void finishRebuild(long rebuildGeneration) {
+        Query stale = new BooleanQuery.Builder()
+            .add(new MatchAllDocsQuery(), Occur.MUST)
+            .add(LongPoint.newExactQuery(GENERATION, rebuildGeneration), Occur.MUST_NOT)
+            .build();
+
+        try {
+            writer.deleteDocuments(stale);
+            writer.commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public DreamSearchHits search(String queryText, int offset, int limit) {
+        Query query = buildQuery(queryText);
+        if (query == null) {
+            return new DreamSearchHits(List.of(), false);
+        }
+
+        return queryTimer.record(() -> {
+            IndexSearcher searcher = null;
+            try {
+                searcher = searcherManager.acquire();
+                TopDocs topDocs = searcher.search(query, offset + limit + 1);
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                StoredFields storedFields = searcher.storedFields();
+                Set<String> idField = Set.of(ID);
+
+                List<Long> dreamIds = new ArrayList<>(limit);
+                int end = Math.min(scoreDocs.length, offset + limit);
+                for (int i = offset; i < end; i++) {
+                    String id = storedFields.document(scoreDocs[i].doc, idField).get(ID);
+                    dreamIds.add(Long.valueOf(id));
+                }
+
+                return new DreamSearchHits(dreamIds, scoreDocs.length > offset + limit);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                release(searcher);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.refresh-interval}")
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.warn("[SEARCH] searcher refresh failed. reason={}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.commit-interval}")
+    public void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            log.warn("[SEARCH] index commit failed. reason={}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private Query buildQuery(String queryText) {
+        Set<String> terms = analyze(queryText);
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (String term : terms) {
+            builder.add(new BooleanQuery.Builder()
+                .add(new BoostQuery(new TermQuery(new Term(TITLE, term)), TITLE_BOOST),
+                    Occur.SHOULD)
+                .add(new TermQuery(new Term(CONTENT, term)), Occur.SHOULD)
+                .build(), Occur.MUST);
+        }
+        return builder.build();
+    }
+
+    private Set<String> analyze(String queryText) {
+        Set<String> terms = new LinkedHashSet<>();
+        try (TokenStream stream = queryAnalyzer.tokenStream(CONTENT, queryText)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken() && terms.size() < MAX_QUERY_TERMS) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private void release(IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("[SEARCH] searcher release failed. reason={}", e.getMessage());
+        }
+    }
+
+    private static long readSyncedAt(IndexWriter writer) {
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData == null) {
+            return 0;
+        }
+
+        for (Map.Entry<String, String> entry : commitData) {
+            if (SYNCED_AT.equals(entry.getKey())) {
+                return Long.parseLong(entry.getValue());
+            }
+        }
+        return 0;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
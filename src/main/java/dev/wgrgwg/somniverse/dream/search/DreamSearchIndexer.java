@@ -0,0 +1,191 @@
+package dev.wgrgwg.somniverse.dream.search;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.dream.domain.Dream;
+import dev.wgrgwg.somniverse.dream.event.DreamChangedEvent;
+import dev.wgrgwg.somniverse.dream.event.DreamsImportedEvent;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DreamSearchIndexer {
+
+    private static final String SEARCHABLE_DREAMS_QUERY = """
+        SELECT d
+        FROM Dream d
+        WHERE d.isPublic = true
+        AND d.isDeleted = false
+        ORDER BY d.id
+        """;
+
+    private static final String DREAMS_BY_ID_QUERY = """
+        SELECT d
+        FROM Dream d
+        WHERE d.id IN :ids
+        """;
+
+    private static final String DREAMS_UPDATED_SINCE_QUERY = """
+        SELECT d
+        FROM Dream d
+        WHERE d.updatedAt >= :since
+        ORDER BY d.id
+        """;
+
+    private static final int PUBLISH_BATCH_SIZE = 500;
+
+    private final DreamSearchIndex dreamSearchIndex;
+    private final EntityManager em;
+    private final AppProperties appProperties;
+    private final StringRedisTemplate redisTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDreamChanged(DreamChangedEvent event) {
+        apply(event);
+        publish(List.of(event.dreamId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDreamsImported(DreamsImportedEvent event) {
+        event.dreams().forEach(this::apply);
+        publish(event.dreams().stream().map(DreamChangedEvent::dreamId).toList());
+    }
+
+    public String instanceId() {
+        return instanceId;
+    }
+
+    @Transactional
+    public void reindex(List<Long> dreamIds) {
+        Set<Long> missing = new HashSet<>(dreamIds);
+        em.unwrap(Session.class)
+            .createSelectionQuery(DREAMS_BY_ID_QUERY, Dream.class)
+            .setParameter("ids", dreamIds)
+            .setReadOnly(true)
+            .setCacheMode(CacheMode.IGNORE)
+            .getResultList()
+            .forEach(dream -> {
+                missing.remove(dream.getId());
+                index(dream);
+            });
+        missing.forEach(dreamSearchIndex::delete);
+    }
+
+    @Transactional
+    public long catchUp() {
+        AppProperties.Search search = appProperties.getSearch();
+        int clearInterval = search.getRebuildClearInterval();
+        Session session = em.unwrap(Session.class);
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime since = LocalDateTime.ofInstant(Instant.ofEpochMilli(
+            dreamSearchIndex.syncedAt() - search.getCatchUpOverlap().toMillis()),
+            ZoneId.systemDefault());
+
+        long rows = 0;
+        try (ScrollableResults<Dream> results = session
+            .createSelectionQuery(DREAMS_UPDATED_SINCE_QUERY, Dream.class)
+            .setParameter("since", since)
+            .setReadOnly(true)
+            .setCacheMode(CacheMode.IGNORE)
+            .setFetchSize(search.getRebuildFetchSize())
+            .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                index(results.get());
+
+                if (++rows % clearInterval == 0) {
+                    session.clear();
+                }
+            }
+        }
+        session.clear();
+
+        dreamSearchIndex.markSynced(startedAt);
+        return rows;
+    }
+
+    @Transactional
+    public long reindexAll() {
+        AppProperties.Search search = appProperties.getSearch();
+        int clearInterval = search.getRebuildClearInterval();
+        Session session = em.unwrap(Session.class);
+        long startedAt = System.currentTimeMillis();
+        long rebuildGeneration = dreamSearchIndex.beginRebuild();
+
+        long rows = 0;
+        try (ScrollableResults<Dream> results = session
+            .createSelectionQuery(SEARCHABLE_DREAMS_QUERY, Dream.class)
+            .setReadOnly(true)
+            .setCacheMode(CacheMode.IGNORE)
+            .setFetchSize(search.getRebuildFetchSize())
+            .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                Dream dream = results.get();
+                dreamSearchIndex.upsert(dream.getId(), dream.getTitle(), dream.getContent());
+
+                if (++rows % clearInterval == 0) {
+                    session.clear();
+                }
+            }
+        }
+        session.clear();
+
+        dreamSearchIndex.markSynced(startedAt);
+        dreamSearchIndex.finishRebuild(rebuildGeneration);
+        return rows;
+    }
+
+    private void index(Dream dream) {
+        if (dream.isPublic() && !dream.isDeleted()) {
+            dreamSearchIndex.upsert(dream.getId(), dream.getTitle(), dream.getContent());
+        } else {
+            dreamSearchIndex.delete(dream.getId());
+        }
+    }
+
+    private void publish(List<Long> dreamIds) {
+        try {
+            for (int from = 0; from < dreamIds.size(); from += PUBLISH_BATCH_SIZE) {
+                List<Long> batch = dreamIds.subList(from,
+                    Math.min(from + PUBLISH_BATCH_SIZE, dreamIds.size()));
+                redisTemplate.convertAndSend(DreamSearchEventListener.CHANNEL,
+                    DreamSearchEventListener.payload(instanceId, batch));
+            }
+        } catch (DataAccessException e) {
+            log.warn("[SEARCH] search event publish failed. dreams={}, reason={}",
+                dreamIds.size(), e.getMessage());
+        }
+    }
+
+    private void apply(DreamChangedEvent event) {
+        try {
+            if (event.searchable()) {
+                dreamSearchIndex.upsert(event.dreamId(), event.title(), event.content());
+            } else {
+                dreamSearchIndex.delete(event.dreamId());
+            }
+        } catch (RuntimeException e) {
+            log.warn("[SEARCH] index update failed. dreamId={}, reason={}", event.dreamId(),
+                e.getMessage());
+        }
+    }
+}
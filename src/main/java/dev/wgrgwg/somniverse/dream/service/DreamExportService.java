@@ -0,0 +1,93 @@
+package dev.wgrgwg.somniverse.dream.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.wgrgwg.somniverse.comment.domain.Comment;
+import dev.wgrgwg.somniverse.comment.dto.response.CommentExportResponse;
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.dream.domain.Dream;
+import dev.wgrgwg.somniverse.dream.dto.response.DreamExportResponse;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.query.SelectionQuery;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DreamExportService {
+
+    private static final int NEWLINE = '\n';
+
+    private static final String DREAMS_QUERY = """
+        SELECT d
+        FROM Dream d
+        WHERE d.member.id = :memberId
+        AND d.isDeleted = false
+        ORDER BY d.id
+        """;
+
+    private static final String COMMENTS_QUERY = """
+        SELECT c
+        FROM Comment c
+        JOIN c.dream d
+        JOIN FETCH c.member m
+        WHERE m.id = :memberId
+        AND d.isDeleted = false
+        AND c.isDeleted = false
+        ORDER BY d.id, c.id
+        """;
+
+    private final EntityManager em;
+    private final ObjectMapper objectMapper;
+    private final AppProperties appProperties;
+
+    @Transactional(readOnly = true)
+    public void exportJournal(Long memberId, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        Session session = em.unwrap(Session.class);
+
+        long dreams = stream(session.createSelectionQuery(DREAMS_QUERY, Dream.class), memberId,
+            DreamExportResponse::fromEntity, session, out);
+        long comments = stream(session.createSelectionQuery(COMMENTS_QUERY, Comment.class),
+            memberId, CommentExportResponse::fromEntity, session, out);
+        out.flush();
+
+        log.info("[EXPORT] journal exported. memberId={}, dreams={}, comments={}, elapsedMs={}",
+            memberId, dreams, comments, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private <T> long stream(SelectionQuery<T> query, Long memberId, Function<T, ?> mapper,
+        Session session, OutputStream out) throws IOException {
+        AppProperties.Export export = appProperties.getExport();
+        int clearInterval = export.getClearInterval();
+
+        query.setParameter("memberId", memberId)
+            .setReadOnly(true)
+            .setCacheMode(CacheMode.IGNORE)
+            .setFetchSize(export.getFetchSize());
+
+        long rows = 0;
+        try (ScrollableResults<T> results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                out.write(objectMapper.writeValueAsBytes(mapper.apply(results.get())));
+                out.write(NEWLINE);
+
+                if (++rows % clearInterval == 0) {
+                    session.clear();
+                    out.flush();
+                }
+            }
+        }
+        session.clear();
+        return rows;
+    }
+}
@@ -0,0 +1,272 @@
+package dev.wgrgwg.somniverse.dream.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.dream.dto.request.DreamCreateRequest;
+import dev.wgrgwg.somniverse.dream.dto.response.DreamImportJobResponse;
+import dev.wgrgwg.somniverse.dream.exception.DreamErrorCode;
+import dev.wgrgwg.somniverse.dream.importer.CsvDreamImportReader;
+import dev.wgrgwg.somniverse.dream.importer.DreamImportFormat;
+import dev.wgrgwg.somniverse.dream.importer.DreamImportJob;
+import dev.wgrgwg.somniverse.dream.importer.DreamImportJobRegistry;
+import dev.wgrgwg.somniverse.dream.importer.DreamImportMessage;
+import dev.wgrgwg.somniverse.dream.importer.DreamImportReader;
+import dev.wgrgwg.somniverse.dream.importer.DreamImportRow;
+import dev.wgrgwg.somniverse.dream.importer.DreamImportWriter;
+import dev.wgrgwg.somniverse.dream.importer.NdjsonDreamImportReader;
+import dev.wgrgwg.somniverse.global.errorcode.CommonErrorCode;
+import dev.wgrgwg.somniverse.global.exception.CustomException;
+import dev.wgrgwg.somniverse.global.exception.ServiceOverloadedException;
+import dev.wgrgwg.somniverse.member.service.MemberService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class DreamImportService {
+
+    private static final String TEMP_FILE_PREFIX = "dream-import-";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int COPY_BUFFER_SIZE = 8192;
+
+    private final DreamImportWriter dreamImportWriter;
+    private final DreamImportJobRegistry jobRegistry;
+    private final MemberService memberService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final AppProperties.DreamImport config;
+    private final ThreadPoolExecutor executor;
+    private final Counter importedRows;
+    private final Counter rejectedRows;
+    private final Timer chunkWrite;
+
+    public DreamImportService(DreamImportWriter dreamImportWriter,
+        DreamImportJobRegistry jobRegistry, MemberService memberService, Validator validator,
+        ObjectMapper objectMapper, AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.dreamImportWriter = dreamImportWriter;
+        this.jobRegistry = jobRegistry;
+        this.memberService = memberService;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.config = appProperties.getDreamImport();
+        this.executor = new ThreadPoolExecutor(config.getPoolSize(), config.getPoolSize(), 0L,
+            TimeUnit.MILLISECONDS, newQueue(config.getQueueCapacity()), newThreadFactory(),
+            new ThreadPoolExecutor.AbortPolicy());
+
+        this.importedRows = Counter.builder("dream.import.rows").tag("result", "imported")
+            .register(meterRegistry);
+        this.rejectedRows = Counter.builder("dream.import.rows").tag("result", "rejected")
+            .register(meterRegistry);
+        this.chunkWrite = Timer.builder("dream.import.chunk.write").register(meterRegistry);
+        meterRegistry.gauge("dream.import.queue.depth", executor, e -> e.getQueue().size());
+    }
+
+    public DreamImportJobResponse startImport(Long memberId, DreamImportFormat format,
+        InputStream body) throws IOException {
+        memberService.getMemberOrThrow(memberId);
+
+        Path file = spool(body);
+        DreamImportJob job = new DreamImportJob(memberId, format,
+            config.getMaxReportedRejections());
+
+        try {
+            executor.execute(() -> run(job, file));
+        } catch (RejectedExecutionException e) {
+            deleteQuietly(file);
+            log.warn("[IMPORT] job rejected: queue full. memberId={}, format={}", memberId,
+                format);
+            throw new ServiceOverloadedException(CommonErrorCode.SERVICE_OVERLOADED,
+                config.getRetryAfterSeconds());
+        }
+        jobRegistry.register(job);
+
+        return DreamImportJobResponse.fromJob(job);
+    }
+
+    public DreamImportJobResponse getImportJob(String jobId, Long memberId) {
+        return jobRegistry.find(jobId)
+            .filter(job -> job.getMemberId().equals(memberId))
+            .map(DreamImportJobResponse::fromJob)
+            .orElseThrow(() -> new CustomException(DreamErrorCode.IMPORT_JOB_NOT_FOUND));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void run(DreamImportJob job, Path file) {
+        job.start();
+        log.info("[IMPORT] job started. jobId={}, memberId={}, format={}", job.getId(),
+            job.getMemberId(), job.getFormat());
+
+        List<DreamImportRow> chunk = new ArrayList<>(config.getChunkSize());
+        try (DreamImportReader reader = openReader(job.getFormat(), file)) {
+            DreamImportRow row;
+            while ((row = reader.next()) != null) {
+                job.recordProcessed();
+
+                String violation = row.isRejected() ? row.error() : validate(row.request());
+                if (violation != null) {
+                    reject(job, row.line(), violation);
+                    continue;
+                }
+
+                chunk.add(row);
+                if (chunk.size() >= config.getChunkSize()) {
+                    writeChunk(job, chunk);
+                }
+            }
+            writeChunk(job, chunk);
+
+            job.complete();
+            log.info("[IMPORT] job completed. jobId={}, processed={}, imported={}, rejected={}",
+                job.getId(), job.getProcessed().get(), job.getImported().get(),
+                job.getRejected().get());
+        } catch (IllegalArgumentException e) {
+            job.fail(e.getMessage());
+            log.warn("[IMPORT] job failed. jobId={}, reason={}", job.getId(), e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            job.fail(CommonErrorCode.INTERNAL_SERVER_ERROR.getMessage());
+            log.error("[IMPORT] job failed. jobId={}", job.getId(), e);
+        } finally {
+            deleteQuietly(file);
+            jobRegistry.finish(job);
+        }
+    }
+
+    private void writeChunk(DreamImportJob job, List<DreamImportRow> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        try {
+            chunkWrite.record(() -> dreamImportWriter.write(job.getMemberId(), chunk));
+            job.recordImported(chunk.size());
+            importedRows.increment(chunk.size());
+        } catch (RuntimeException e) {
+            log.warn("[IMPORT] chunk write failed, retrying row by row. jobId={}, rows={}, "
+                + "reason={}", job.getId(), chunk.size(), e.getMessage());
+            writeRowByRow(job, chunk);
+        }
+        chunk.clear();
+    }
+
+    private void writeRowByRow(DreamImportJob job, List<DreamImportRow> chunk) {
+        for (DreamImportRow row : chunk) {
+            try {
+                dreamImportWriter.write(job.getMemberId(), List.of(row));
+                job.recordImported(1);
+                importedRows.increment();
+            } catch (RuntimeException e) {
+                reject(job, row.line(), DreamImportMessage.SAVE_FAILED.getMessage());
+            }
+        }
+    }
+
+    private void reject(DreamImportJob job, long line, String reason) {
+        job.recordRejected(line, reason);
+        rejectedRows.increment();
+    }
+
+    private String validate(DreamCreateRequest request) {
+        Set<ConstraintViolation<DreamCreateRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+
+        return violations.stream()
+            .map(ConstraintViolation::getMessage)
+            .sorted()
+            .collect(Collectors.joining(" "));
+    }
+
+    private DreamImportReader openReader(DreamImportFormat format, Path file)
+        throws IOException {
+        BufferedReader in = new BufferedReader(
+            new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8));
+
+        try {
+            return switch (format) {
+                case NDJSON -> new NdjsonDreamImportReader(in, objectMapper.reader());
+                case CSV -> new CsvDreamImportReader(in);
+            };
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    private Path spool(InputStream body) throws IOException {
+        Path file = Files.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX);
+
+        try (OutputStream out = Files.newOutputStream(file)) {
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            long total = 0;
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                total += read;
+                if (total > config.getMaxBytes()) {
+                    throw new CustomException(DreamErrorCode.IMPORT_PAYLOAD_TOO_LARGE);
+                }
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+
+        return file;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("[IMPORT] temp file cleanup failed. file={}, reason={}", file,
+                e.getMessage());
+        }
+    }
+
+    private static BlockingQueue<Runnable> newQueue(int capacity) {
+        if (capacity == 0) {
+            return new SynchronousQueue<>();
+        }
+        return new ArrayBlockingQueue<>(capacity);
+    }
+
+    private static ThreadFactory newThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "dream-import-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
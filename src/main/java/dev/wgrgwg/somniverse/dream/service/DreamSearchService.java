@@ -0,0 +1,124 @@
+package dev.wgrgwg.somniverse.dream.service;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse;
+import dev.wgrgwg.somniverse.dream.exception.DreamErrorCode;
+import dev.wgrgwg.somniverse.dream.repository.DreamRepository;
+import dev.wgrgwg.somniverse.dream.search.DreamSearchHits;
+import dev.wgrgwg.somniverse.dream.search.DreamSearchIndex;
+import dev.wgrgwg.somniverse.dream.search.DreamSearchIndexer;
+import dev.wgrgwg.somniverse.global.exception.CustomException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DreamSearchService {
+
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final int MAX_SEARCH_SIZE = 50;
+
+    private final DreamSearchIndex dreamSearchIndex;
+    private final DreamSearchIndexer dreamSearchIndexer;
+    private final DreamRepository dreamRepository;
+    private final AppProperties appProperties;
+    private final AtomicBoolean indexing = new AtomicBoolean();
+
+    @Transactional(readOnly = true)
+    public Slice<DreamSimpleResponse> searchPublicDreams(String query, Pageable pageable) {
+        String queryText = query == null ? "" : query.strip();
+        if (queryText.isEmpty() || queryText.length() > MAX_QUERY_LENGTH) {
+            throw new CustomException(DreamErrorCode.INVALID_SEARCH_QUERY);
+        }
+
+        int size = Math.clamp(pageable.getPageSize(), 1, MAX_SEARCH_SIZE);
+        long offset = (long) pageable.getPageNumber() * size;
+        if (offset + size > appProperties.getSearch().getMaxResultWindow()) {
+            throw new CustomException(DreamErrorCode.SEARCH_WINDOW_EXCEEDED);
+        }
+        Pageable page = PageRequest.of(pageable.getPageNumber(), size);
+
+        DreamSearchHits hits = dreamSearchIndex.search(queryText, (int) offset, size);
+        if (hits.dreamIds().isEmpty()) {
+            return new SliceImpl<>(List.of(), page, false);
+        }
+
+        Map<Long, DreamSimpleResponse> dreams = dreamRepository.findPublicByIdIn(hits.dreamIds())
+            .stream()
+            .collect(Collectors.toMap(DreamSimpleResponse::id, Function.identity()));
+        List<DreamSimpleResponse> content = hits.dreamIds().stream()
+            .map(dreams::get)
+            .filter(Objects::nonNull)
+            .toList();
+
+        return new SliceImpl<>(content, page, hits.hasNext());
+    }
+
+    public void rebuildIndex() {
+        if (!indexing.compareAndSet(false, true)) {
+            throw new CustomException(DreamErrorCode.SEARCH_REBUILD_IN_PROGRESS);
+        }
+
+        Thread.ofPlatform().name("dream-search-rebuild").daemon(true).start(() -> {
+            long start = System.nanoTime();
+            try {
+                long indexed = dreamSearchIndexer.reindexAll();
+                log.info("[SEARCH] index rebuilt. documents={}, elapsedMs={}", indexed,
+                    (System.nanoTime() - start) / 1_000_000);
+            } catch (RuntimeException e) {
+                log.error("[SEARCH] index rebuild failed.", e);
+            } finally {
+                indexing.set(false);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.catch-up-interval}",
+        initialDelayString = "${app.search.catch-up-interval}")
+    public void catchUpIndex() {
+        if (!indexing.compareAndSet(false, true)) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            long reindexed = dreamSearchIndexer.catchUp();
+            log.debug("[SEARCH] index caught up. dreams={}, elapsedMs={}", reindexed,
+                (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("[SEARCH] index catch-up failed. reason={}", e.getMessage());
+        } finally {
+            indexing.set(false);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void syncIndexOnStartup() {
+        if (!appProperties.getSearch().isRebuildOnStartup()) {
+            return;
+        }
+
+        if (dreamSearchIndex.isEmpty()) {
+            rebuildIndex();
+        } else {
+            Thread.ofPlatform().name("dream-search-catch-up").daemon(true)
+                .start(this::catchUpIndex);
+        }
+    }
+}
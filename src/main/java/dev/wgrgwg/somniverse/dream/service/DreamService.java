@@ -1,20 +1,33 @@
 package dev.wgrgwg.somniverse.dream.service;
 
 import dev.wgrgwg.somniverse.comment.repository.CommentRepository;
+import dev.wgrgwg.somniverse.dream.cache.DreamResponseCache;
 import dev.wgrgwg.somniverse.dream.domain.Dream;
 import dev.wgrgwg.somniverse.dream.dto.request.DreamCreateRequest;
+import dev.wgrgwg.somniverse.dream.dto.request.DreamFeedCursor;
 import dev.wgrgwg.somniverse.dream.dto.request.DreamUpdateRequest;
 import dev.wgrgwg.somniverse.dream.dto.response.DreamResponse;
 import dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse;
+import dev.wgrgwg.somniverse.dream.event.DreamChangedEvent;
 import dev.wgrgwg.somniverse.dream.exception.DreamErrorCode;
 import dev.wgrgwg.somniverse.dream.repository.DreamRepository;
+import dev.wgrgwg.somniverse.dream.timeline.DreamTimelineScope;
+import dev.wgrgwg.somniverse.global.dto.CursorSliceResponse;
 import dev.wgrgwg.somniverse.global.exception.CustomException;
+import dev.wgrgwg.somniverse.global.pagecount.CountStrategy;
+import dev.wgrgwg.somniverse.global.pagecount.CountedTotal;
+import dev.wgrgwg.somniverse.global.pagecount.PageCountChangedEvent;
+import dev.wgrgwg.somniverse.global.pagecount.PageCountService;
 import dev.wgrgwg.somniverse.member.domain.Member;
 import dev.wgrgwg.somniverse.member.service.MemberService;
+import java.util.List;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,9 +35,15 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class DreamService {
 
+    private static final int MAX_FEED_SIZE = 100;
+
     private final DreamRepository dreamRepository;
     private final MemberService memberService;
     private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DreamTimelineService dreamTimelineService;
+    private final DreamResponseCache dreamResponseCache;
+    private final PageCountService pageCountService;
 
     @Transactional
     public DreamResponse createDream(DreamCreateRequest request, Long memberId) {
@@ -35,6 +54,9 @@ public class DreamService {
             .isPublic(request.isPublic()).member(currentMember).build();
 
         Dream savedDream = dreamRepository.save(dream);
+        eventPublisher.publishEvent(DreamChangedEvent.from(savedDream));
+        eventPublisher.publishEvent(
+            PageCountChangedEvent.ofDreams(1, 1, savedDream.isPublic() ? 1 : 0));
 
         return DreamResponse.fromEntity(savedDream);
     }
@@ -50,14 +72,15 @@ public class DreamService {
     @Transactional(readOnly = true)
     public DreamResponse getDreamWithAccessControl(Long dreamId, Long requesterId,
         boolean isAdmin) {
-        Dream dream = getDreamOrThrow(dreamId);
+        DreamResponse response = dreamResponseCache.get(dreamId,
+            () -> DreamResponse.fromEntity(getDreamOrThrow(dreamId)));
 
-        boolean isOwner = dream.getMember().getId().equals(requesterId);
-        if (!dream.isPublic() && !isOwner && !isAdmin) {
+        boolean isOwner = response.author().id().equals(requesterId);
+        if (!response.isPublic() && !isOwner && !isAdmin) {
             throw new CustomException(DreamErrorCode.DREAM_FORBIDDEN);
         }
 
-        return DreamResponse.fromEntity(dream);
+        return response;
     }
 
     @Transactional(readOnly = true)
@@ -74,20 +97,49 @@ public class DreamService {
 
     @Transactional(readOnly = true)
     public Page<DreamSimpleResponse> getMyDreams(Long memberId, Pageable pageable) {
-        return dreamRepository.findAllByMemberIdAndIsDeletedFalse(memberId, pageable)
-            .map(DreamSimpleResponse::fromEntity);
+        return dreamTimelineService.findPage(memberId, DreamTimelineScope.ALL, pageable)
+            .orElseGet(
+                () -> dreamRepository.findAllByMemberIdAndIsDeletedFalse(memberId, pageable));
     }
 
     @Transactional(readOnly = true)
     public Page<DreamSimpleResponse> getPublicDreams(Pageable pageable) {
-        return dreamRepository.findAllByIsPublicTrueAndIsDeletedFalse(pageable)
-            .map(DreamSimpleResponse::fromEntity);
+        return dreamRepository.findAllByIsPublicTrueAndIsDeletedFalse(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<DreamSimpleResponse> getPublicDreams(Pageable pageable,
+        CountStrategy countStrategy) {
+        return pageCountService.find(countStrategy, CountedTotal.PUBLIC_DREAMS, pageable,
+            this::getPublicDreams, dreamRepository::findPublicSlice);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorSliceResponse<DreamSimpleResponse> getPublicDreamFeed(String cursor, int size) {
+        int feedSize = Math.clamp(size, 1, MAX_FEED_SIZE);
+        Pageable limit = PageRequest.ofSize(feedSize + 1);
+
+        List<DreamSimpleResponse> dreams;
+        if (cursor == null || cursor.isBlank()) {
+            dreams = dreamRepository.findPublicFeed(limit);
+        } else {
+            DreamFeedCursor feedCursor = DreamFeedCursor.decode(cursor);
+            dreams = dreamRepository.findPublicFeedAfter(feedCursor.createdAt(), feedCursor.id(),
+                limit);
+        }
+
+        boolean hasNext = dreams.size() > feedSize;
+        List<DreamSimpleResponse> content = hasNext ? dreams.subList(0, feedSize) : dreams;
+        String nextCursor = hasNext ? DreamFeedCursor.from(content.getLast()).encode() : null;
+
+        return new CursorSliceResponse<>(content, nextCursor, hasNext);
     }
 
     @Transactional(readOnly = true)
     public Page<DreamSimpleResponse> getPublicDreamsByMember(Long memberId, Pageable pageable) {
-        return dreamRepository.findAllByMemberIdAndIsDeletedFalseAndIsPublicTrue(memberId, pageable)
-            .map(DreamSimpleResponse::fromEntity);
+        return dreamTimelineService.findPage(memberId, DreamTimelineScope.PUBLIC, pageable)
+            .orElseGet(() -> dreamRepository
+                .findAllByMemberIdAndIsDeletedFalseAndIsPublicTrue(memberId, pageable));
     }
 
     @Transactional(readOnly = true)
@@ -95,11 +147,22 @@ public class DreamService {
         boolean includeDeleted) {
 
         if (includeDeleted) {
-            return dreamRepository.findAllForAdmin(pageable).map(DreamSimpleResponse::fromEntity);
+            return dreamRepository.findAllForAdmin(pageable);
+        }
+
+        return dreamRepository.findAllByIsDeletedFalse(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<DreamSimpleResponse> getAllDreamsForAdmin(Pageable pageable,
+        boolean includeDeleted, CountStrategy countStrategy) {
+        if (includeDeleted) {
+            return pageCountService.find(countStrategy, CountedTotal.ALL_DREAMS, pageable,
+                p -> getAllDreamsForAdmin(p, true), dreamRepository::findSliceForAdmin);
         }
 
-        return dreamRepository.findAllByIsDeletedFalse(pageable)
-            .map(DreamSimpleResponse::fromEntity);
+        return pageCountService.find(countStrategy, CountedTotal.ACTIVE_DREAMS, pageable,
+            p -> getAllDreamsForAdmin(p, false), dreamRepository::findActiveSlice);
     }
 
     @Transactional
@@ -107,7 +170,13 @@ public class DreamService {
         Dream dream = getDreamOrThrow(dreamId);
         validateOwner(dream, memberId);
 
+        boolean wasPublic = dream.isPublic();
         dream.update(request.title(), request.content(), request.dreamDate(), request.isPublic());
+        eventPublisher.publishEvent(DreamChangedEvent.from(dream));
+        if (wasPublic != dream.isPublic()) {
+            eventPublisher.publishEvent(
+                PageCountChangedEvent.ofDreams(0, 0, dream.isPublic() ? 1 : -1));
+        }
 
         return DreamResponse.fromEntity(dream);
     }
@@ -121,6 +190,8 @@ public class DreamService {
         dream.softDelete();
 
         commentRepository.softDeleteByDream(dreamId, dream.getDeletedAt());
+        eventPublisher.publishEvent(DreamChangedEvent.from(dream));
+        publishDeletedCount(dream);
     }
 
     @Transactional
@@ -128,6 +199,8 @@ public class DreamService {
         Dream dream = getDreamOrThrow(dreamId);
 
         dream.softDelete();
+        eventPublisher.publishEvent(DreamChangedEvent.from(dream));
+        publishDeletedCount(dream);
     }
 
     public Dream getDreamOrThrow(Long dreamId) {
@@ -135,6 +208,11 @@ public class DreamService {
             .orElseThrow(() -> new CustomException(DreamErrorCode.DREAM_NOT_FOUND));
     }
 
+    private void publishDeletedCount(Dream dream) {
+        eventPublisher.publishEvent(
+            PageCountChangedEvent.ofDreams(0, -1, dream.isPublic() ? -1 : 0));
+    }
+
     private void validateOwner(Dream dream, Long memberId) {
         if (!Objects.equals(dream.getMember().getId(), memberId)) {
             throw new CustomException(DreamErrorCode.DREAM_FORBIDDEN);
@@ -0,0 +1,153 @@
+package dev.wgrgwg.somniverse.dream.service;
+
+import dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse;
+import dev.wgrgwg.somniverse.dream.event.DreamChangedEvent;
+import dev.wgrgwg.somniverse.dream.event.DreamsImportedEvent;
+import dev.wgrgwg.somniverse.dream.repository.DreamRepository;
+import dev.wgrgwg.somniverse.dream.timeline.DreamTimelineEntry;
+import dev.wgrgwg.somniverse.dream.timeline.DreamTimelineScope;
+import dev.wgrgwg.somniverse.dream.timeline.DreamTimelineSlice;
+import dev.wgrgwg.somniverse.dream.timeline.DreamTimelineStore;
+import dev.wgrgwg.somniverse.dream.timeline.DreamTimelineUnavailableException;
+import dev.wgrgwg.somniverse.member.event.MemberUsernameChangedEvent;
+import dev.wgrgwg.somniverse.member.service.MemberService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DreamTimelineService {
+
+    private static final Sort TIMELINE_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    private final DreamTimelineStore dreamTimelineStore;
+    private final DreamRepository dreamRepository;
+    private final MemberService memberService;
+
+    @Transactional(readOnly = true)
+    public Optional<Page<DreamSimpleResponse>> findPage(Long memberId, DreamTimelineScope scope,
+        Pageable pageable) {
+        if (!supports(pageable)) {
+            return Optional.empty();
+        }
+
+        try {
+            long start = pageable.getOffset();
+            long stop = start + pageable.getPageSize() - 1;
+            Page<DreamSimpleResponse> page = dreamTimelineStore.read(memberId, scope, start, stop)
+                .map(slice -> hydrate(memberId, scope, slice, pageable))
+                .orElseGet(() -> rebuild(memberId, scope, pageable));
+            return Optional.of(page);
+        } catch (DreamTimelineUnavailableException e) {
+            log.warn("[TIMELINE] store unavailable, falling back to database. memberId={}, "
+                + "reason={}", memberId, e.getCause().getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDreamChanged(DreamChangedEvent event) {
+        try {
+            dreamTimelineStore.apply(event.memberId(), event.dreamId(), event.createdAt(),
+                !event.isDeleted(), event.isPublic());
+        } catch (DreamTimelineUnavailableException e) {
+            log.warn("[TIMELINE] update failed. memberId={}, dreamId={}", event.memberId(),
+                event.dreamId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDreamsImported(DreamsImportedEvent event) {
+        invalidate(event.memberId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMemberUsernameChanged(MemberUsernameChangedEvent event) {
+        invalidate(event.memberId());
+    }
+
+    private Page<DreamSimpleResponse> hydrate(Long memberId, DreamTimelineScope scope,
+        DreamTimelineSlice slice, Pageable pageable) {
+        Map<Long, DreamTimelineEntry> entries = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (int i = 0; i < slice.dreamIds().size(); i++) {
+            DreamTimelineEntry cached = slice.cachedEntries().get(i);
+            if (cached == null) {
+                missingIds.add(slice.dreamIds().get(i));
+            } else {
+                entries.put(cached.dreamId(), cached);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            List<DreamTimelineEntry> loaded = dreamRepository
+                .findTimelineEntriesByMemberIdAndIdIn(memberId, missingIds);
+            loaded.forEach(entry -> entries.put(entry.dreamId(), entry));
+            if (!dreamTimelineStore.cacheSummaries(memberId, slice.version(), loaded)) {
+                log.debug("[TIMELINE] summary cache skipped: concurrent change. memberId={}",
+                    memberId);
+            }
+        }
+
+        List<DreamSimpleResponse> content = slice.dreamIds().stream()
+            .map(entries::get)
+            .filter(Objects::nonNull)
+            .filter(scope::includes)
+            .map(entry -> entry.toResponse(slice.authorUsername()))
+            .toList();
+
+        return new PageImpl<>(content, pageable, slice.total());
+    }
+
+    private Page<DreamSimpleResponse> rebuild(Long memberId, DreamTimelineScope scope,
+        Pageable pageable) {
+        String version = dreamTimelineStore.currentVersion(memberId);
+        List<DreamTimelineEntry> entries = dreamRepository.findTimelineEntriesByMemberId(memberId);
+        if (entries.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+        String authorUsername = memberService.getUsernameOrThrow(memberId);
+
+        if (!dreamTimelineStore.replace(memberId, version, authorUsername, entries)) {
+            log.debug("[TIMELINE] rebuild skipped: concurrent change. memberId={}", memberId);
+        }
+
+        List<DreamTimelineEntry> visible = entries.stream().filter(scope::includes).toList();
+        int from = (int) Math.min(pageable.getOffset(), visible.size());
+        int to = Math.min(from + pageable.getPageSize(), visible.size());
+        List<DreamTimelineEntry> pageEntries = visible.subList(from, to);
+        dreamTimelineStore.cacheSummaries(memberId, version, pageEntries);
+
+        return new PageImpl<>(
+            pageEntries.stream().map(entry -> entry.toResponse(authorUsername)).toList(),
+            pageable, visible.size());
+    }
+
+    private void invalidate(Long memberId) {
+        try {
+            dreamTimelineStore.invalidate(memberId);
+        } catch (DreamTimelineUnavailableException e) {
+            log.warn("[TIMELINE] invalidation failed. memberId={}", memberId);
+        }
+    }
+
+    private static boolean supports(Pageable pageable) {
+        return pageable.isPaged()
+            && (pageable.getSort().isUnsorted() || pageable.getSort().equals(TIMELINE_SORT));
+    }
+}
@@ -0,0 +1,18 @@
+package dev.wgrgwg.somniverse.dream.timeline;
+
+import dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record DreamTimelineEntry(
+    Long dreamId,
+    String title,
+    LocalDate dreamDate,
+    LocalDateTime createdAt,
+    boolean isPublic
+) {
+
+    public DreamSimpleResponse toResponse(String authorUsername) {
+        return new DreamSimpleResponse(dreamId, title, dreamDate, createdAt, authorUsername);
+    }
+}
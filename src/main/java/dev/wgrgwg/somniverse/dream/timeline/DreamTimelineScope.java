@@ -0,0 +1,17 @@
+package dev.wgrgwg.somniverse.dream.timeline;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum DreamTimelineScope {
+    ALL("all"),
+    PUBLIC("public");
+
+    private final String key;
+
+    public boolean includes(DreamTimelineEntry entry) {
+        return this == ALL || entry.isPublic();
+    }
+}
@@ -0,0 +1,13 @@
+package dev.wgrgwg.somniverse.dream.timeline;
+
+import java.util.List;
+
+public record DreamTimelineSlice(
+    String authorUsername,
+    long total,
+    List<Long> dreamIds,
+    List<DreamTimelineEntry> cachedEntries,
+    String version
+) {
+
+}
@@ -0,0 +1,252 @@
+package dev.wgrgwg.somniverse.dream.timeline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.wgrgwg.somniverse.config.AppProperties;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DreamTimelineStore {
+
+    private static final String TIMELINE_PREFIX = "dream:timeline:{";
+    private static final String PUBLIC_FLAG = "1";
+    private static final String PRIVATE_FLAG = "0";
+    private static final String INITIAL_VERSION = "0";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>("""
+        local author = redis.call('GET', KEYS[2])
+        if not author then
+          return {}
+        end
+        local version = redis.call('GET', KEYS[3]) or ARGV[4]
+        local ids = redis.call('ZREVRANGE', KEYS[1], ARGV[1], ARGV[2])
+        local summaries = {}
+        if #ids > 0 then
+          local summaryKeys = {}
+          for i, id in ipairs(ids) do
+            summaryKeys[i] = ARGV[3] .. id
+          end
+          summaries = redis.call('MGET', unpack(summaryKeys))
+        end
+        return {author, redis.call('ZCARD', KEYS[1]), ids, summaries, version}
+        """, List.class);
+
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+        if (redis.call('GET', KEYS[4]) or '0') ~= ARGV[1] then
+          return 0
+        end
+        redis.call('DEL', KEYS[1], KEYS[2])
+        for i = 4, #ARGV, 3 do
+          redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i])
+          if ARGV[i + 2] == '1' then
+            redis.call('ZADD', KEYS[2], ARGV[i + 1], ARGV[i])
+          end
+        end
+        redis.call('PEXPIRE', KEYS[1], ARGV[2])
+        redis.call('PEXPIRE', KEYS[2], ARGV[2])
+        redis.call('SET', KEYS[3], ARGV[3], 'PX', ARGV[2])
+        return 1
+        """, Long.class);
+
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>("""
+        redis.call('INCR', KEYS[4])
+        redis.call('PEXPIRE', KEYS[4], ARGV[5])
+        redis.call('DEL', KEYS[5])
+        local ttl = redis.call('PTTL', KEYS[3])
+        if ttl <= 0 then
+          return 0
+        end
+        for i = 1, 2 do
+          if ARGV[i + 2] == '1' then
+            redis.call('ZADD', KEYS[i], ARGV[2], ARGV[1])
+            redis.call('PEXPIRE', KEYS[i], ttl)
+          else
+            redis.call('ZREM', KEYS[i], ARGV[1])
+          end
+        end
+        return 1
+        """, Long.class);
+
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
+        redis.call('INCR', KEYS[4])
+        redis.call('PEXPIRE', KEYS[4], ARGV[1])
+        redis.call('DEL', KEYS[1], KEYS[2], KEYS[3])
+        return 1
+        """, Long.class);
+
+    private static final RedisScript<Long> CACHE_SUMMARIES_SCRIPT = new DefaultRedisScript<>("""
+        if (redis.call('GET', KEYS[1]) or '0') ~= ARGV[1] then
+          return 0
+        end
+        for i = 2, #KEYS do
+          redis.call('SET', KEYS[i], ARGV[i + 1], 'PX', ARGV[2])
+        end
+        return #KEYS - 1
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final AppProperties appProperties;
+
+    public Optional<DreamTimelineSlice> read(Long memberId, DreamTimelineScope scope, long start,
+        long stop) {
+        List<?> result = execute(() -> redisTemplate.execute(READ_SCRIPT,
+            List.of(timelineKey(memberId, scope), authorKey(memberId), versionKey(memberId)),
+            String.valueOf(start), String.valueOf(stop), summaryPrefix(memberId),
+            INITIAL_VERSION));
+
+        if (result == null || result.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<?> ids = (List<?>) result.get(2);
+        List<?> summaries = (List<?>) result.get(3);
+        List<Long> dreamIds = new ArrayList<>(ids.size());
+        List<DreamTimelineEntry> cachedEntries = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            dreamIds.add(Long.valueOf((String) ids.get(i)));
+            cachedEntries.add(i < summaries.size() ? decode((String) summaries.get(i)) : null);
+        }
+
+        return Optional.of(new DreamTimelineSlice((String) result.get(0), (Long) result.get(1),
+            dreamIds, cachedEntries, (String) result.get(4)));
+    }
+
+    public String currentVersion(Long memberId) {
+        String version = execute(() -> redisTemplate.opsForValue().get(versionKey(memberId)));
+        return version == null ? INITIAL_VERSION : version;
+    }
+
+    public boolean replace(Long memberId, String expectedVersion, String authorUsername,
+        List<DreamTimelineEntry> entries) {
+        List<String> args = new ArrayList<>(3 + entries.size() * 3);
+        args.add(expectedVersion);
+        args.add(String.valueOf(ttlMillis()));
+        args.add(authorUsername);
+        for (DreamTimelineEntry entry : entries) {
+            args.add(entry.dreamId().toString());
+            args.add(String.valueOf(score(entry.createdAt())));
+            args.add(entry.isPublic() ? PUBLIC_FLAG : PRIVATE_FLAG);
+        }
+
+        Long replaced = execute(() -> redisTemplate.execute(REPLACE_SCRIPT,
+            timelineKeys(memberId), args.toArray()));
+        return Long.valueOf(1L).equals(replaced);
+    }
+
+    public void apply(Long memberId, Long dreamId, LocalDateTime createdAt, boolean visible,
+        boolean isPublic) {
+        List<String> keys = new ArrayList<>(timelineKeys(memberId));
+        keys.add(summaryKey(memberId, dreamId));
+
+        execute(() -> redisTemplate.execute(APPLY_SCRIPT, keys, dreamId.toString(),
+            String.valueOf(score(createdAt)), visible ? PUBLIC_FLAG : PRIVATE_FLAG,
+            visible && isPublic ? PUBLIC_FLAG : PRIVATE_FLAG, String.valueOf(ttlMillis())));
+    }
+
+    public void invalidate(Long memberId) {
+        execute(() -> redisTemplate.execute(INVALIDATE_SCRIPT, timelineKeys(memberId),
+            String.valueOf(ttlMillis())));
+    }
+
+    public boolean cacheSummaries(Long memberId, String expectedVersion,
+        List<DreamTimelineEntry> entries) {
+        if (entries.isEmpty()) {
+            return true;
+        }
+
+        List<String> keys = new ArrayList<>(entries.size() + 1);
+        List<String> args = new ArrayList<>(entries.size() + 2);
+        keys.add(versionKey(memberId));
+        args.add(expectedVersion);
+        args.add(String.valueOf(appProperties.getDreamTimeline().getSummaryTtl().toMillis()));
+        for (DreamTimelineEntry entry : entries) {
+            keys.add(summaryKey(memberId, entry.dreamId()));
+            args.add(encode(entry));
+        }
+
+        Long cached = execute(() -> redisTemplate.execute(CACHE_SUMMARIES_SCRIPT, keys,
+            args.toArray()));
+        return cached != null && cached > 0;
+    }
+
+    private <T> T execute(Supplier<T> call) {
+        try {
+            return call.get();
+        } catch (DataAccessException e) {
+            throw new DreamTimelineUnavailableException("dream timeline store unavailable", e);
+        }
+    }
+
+    private String encode(DreamTimelineEntry entry) {
+        try {
+            return objectMapper.writeValueAsString(entry);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private DreamTimelineEntry decode(String json) {
+        if (json == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(json, DreamTimelineEntry.class);
+        } catch (IOException e) {
+            log.warn("[TIMELINE] cached summary unreadable, treating as miss. reason={}",
+                e.getMessage());
+            return null;
+        }
+    }
+
+    private long ttlMillis() {
+        return appProperties.getDreamTimeline().getTtl().toMillis();
+    }
+
+    private static long score(LocalDateTime createdAt) {
+        return createdAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static List<String> timelineKeys(Long memberId) {
+        return List.of(timelineKey(memberId, DreamTimelineScope.ALL),
+            timelineKey(memberId, DreamTimelineScope.PUBLIC), authorKey(memberId),
+            versionKey(memberId));
+    }
+
+    private static String timelineKey(Long memberId, DreamTimelineScope scope) {
+        return TIMELINE_PREFIX + memberId + "}:" + scope.getKey();
+    }
+
+    private static String authorKey(Long memberId) {
+        return TIMELINE_PREFIX + memberId + "}:author";
+    }
+
+    private static String versionKey(Long memberId) {
+        return TIMELINE_PREFIX + memberId + "}:version";
+    }
+
+    private static String summaryPrefix(Long memberId) {
+        return TIMELINE_PREFIX + memberId + "}:summary:";
+    }
+
+    private static String summaryKey(Long memberId, Long dreamId) {
+        return summaryPrefix(memberId) + dreamId;
+    }
+}
@@ -0,0 +1,8 @@
+package dev.wgrgwg.somniverse.dream.timeline;
+
+public class DreamTimelineUnavailableException extends RuntimeException {
+
+    public DreamTimelineUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
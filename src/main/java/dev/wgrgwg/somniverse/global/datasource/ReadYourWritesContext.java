@@ -0,0 +1,37 @@
+package dev.wgrgwg.somniverse.global.datasource;
+
+import java.time.Duration;
+import lombok.experimental.UtilityClass;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+@UtilityClass
+public final class ReadYourWritesContext {
+
+    private static final String PINNED_UNTIL_ATTRIBUTE =
+        ReadYourWritesContext.class.getName() + ".PINNED_UNTIL";
+
+    public static void markWrite(Duration window) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null || window.isZero() || window.isNegative()) {
+            return;
+        }
+
+        attributes.setAttribute(PINNED_UNTIL_ATTRIBUTE, System.nanoTime() + window.toNanos(),
+            RequestAttributes.SCOPE_REQUEST);
+    }
+
+    public static boolean isPinnedToPrimary() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return false;
+        }
+
+        Object pinnedUntil = attributes.getAttribute(PINNED_UNTIL_ATTRIBUTE,
+            RequestAttributes.SCOPE_REQUEST);
+        if (pinnedUntil instanceof Long until) {
+            return System.nanoTime() - until < 0;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,128 @@
+package dev.wgrgwg.somniverse.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Slf4j
+public class ReplicaHealthMonitor {
+
+    static final long UNKNOWN_LAG = -1L;
+
+    private static final String UPDATE_HEARTBEAT =
+        "UPDATE replication_heartbeat SET beat_at_ms = ? WHERE id = 1";
+    private static final String INSERT_HEARTBEAT =
+        "INSERT INTO replication_heartbeat (id, beat_at_ms) VALUES (1, ?)";
+    private static final String SELECT_HEARTBEAT =
+        "SELECT beat_at_ms FROM replication_heartbeat WHERE id = 1";
+
+    private final JdbcTemplate primary;
+    private final Map<String, JdbcTemplate> replicas;
+    private final long maxLagMillis;
+    private final LongSupplier clock;
+    private final Map<String, AtomicLong> lagMillis = new ConcurrentHashMap<>();
+
+    private volatile List<String> healthyReplicas = List.of();
+    private long lastBeatMillis = UNKNOWN_LAG;
+
+    public ReplicaHealthMonitor(JdbcTemplate primary, Map<String, JdbcTemplate> replicas,
+        Duration maxLag, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.maxLagMillis = maxLag.toMillis();
+        this.clock = clock;
+
+        replicas.keySet().forEach(name -> {
+            AtomicLong lag = new AtomicLong(UNKNOWN_LAG);
+            lagMillis.put(name, lag);
+            Gauge.builder("datasource.replica.lag", lag, AtomicLong::get)
+                .tag("replica", name)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        });
+        Gauge.builder("datasource.replica.healthy", this, m -> m.healthyReplicas.size())
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.read-replica.check-interval}")
+    public void check() {
+        if (replicas.isEmpty()) {
+            return;
+        }
+
+        long now = clock.getAsLong();
+        List<String> healthy = new ArrayList<>();
+        replicas.forEach((name, replica) -> {
+            long lag = probe(name, replica, now);
+            lagMillis.get(name).set(lag);
+            if (lag != UNKNOWN_LAG && lag <= maxLagMillis) {
+                healthy.add(name);
+            }
+        });
+
+        updateHealthyReplicas(List.copyOf(healthy));
+        writeHeartbeat(now);
+    }
+
+    public List<String> healthyReplicas() {
+        return healthyReplicas;
+    }
+
+    public void markUnhealthy(String name) {
+        List<String> current = healthyReplicas;
+        if (!current.contains(name)) {
+            return;
+        }
+
+        updateHealthyReplicas(current.stream().filter(replica -> !replica.equals(name)).toList());
+    }
+
+    private long probe(String name, JdbcTemplate replica, long now) {
+        if (lastBeatMillis == UNKNOWN_LAG) {
+            return UNKNOWN_LAG;
+        }
+
+        try {
+            Long beat = replica.query(SELECT_HEARTBEAT, rs -> rs.next() ? rs.getLong(1) : null);
+            if (beat == null) {
+                return UNKNOWN_LAG;
+            }
+            if (beat >= lastBeatMillis) {
+                return 0L;
+            }
+            return now - beat;
+        } catch (DataAccessException e) {
+            log.warn("[DS] replica probe failed. replica={}, reason={}", name, e.getMessage());
+            return UNKNOWN_LAG;
+        }
+    }
+
+    private void writeHeartbeat(long now) {
+        try {
+            if (primary.update(UPDATE_HEARTBEAT, now) == 0) {
+                primary.update(INSERT_HEARTBEAT, now);
+            }
+            lastBeatMillis = now;
+        } catch (DataAccessException e) {
+            log.warn("[DS] heartbeat write failed. reason={}", e.getMessage());
+        }
+    }
+
+    private void updateHealthyReplicas(List<String> healthy) {
+        List<String> previous = healthyReplicas;
+        healthyReplicas = healthy;
+        if (!previous.equals(healthy)) {
+            log.info("[DS] healthy replicas changed. before={}, after={}", previous, healthy);
+        }
+    }
+}
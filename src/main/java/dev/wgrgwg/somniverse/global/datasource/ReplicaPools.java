@@ -0,0 +1,52 @@
+package dev.wgrgwg.somniverse.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import dev.wgrgwg.somniverse.config.AppProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+
+public class ReplicaPools implements AutoCloseable {
+
+    private final Map<String, HikariDataSource> pools;
+
+    private ReplicaPools(Map<String, HikariDataSource> pools) {
+        this.pools = pools;
+    }
+
+    public static ReplicaPools create(AppProperties.ReadReplica config,
+        MeterRegistry meterRegistry) {
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        if (!config.isEnabled()) {
+            return new ReplicaPools(pools);
+        }
+
+        MicrometerMetricsTrackerFactory metricsTrackerFactory = new MicrometerMetricsTrackerFactory(
+            meterRegistry);
+        for (AppProperties.ReadReplica.Replica replica : config.getReplicas()) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(replica.getName());
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername());
+            dataSource.setPassword(replica.getPassword());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setConnectionTimeout(config.getConnectionTimeout().toMillis());
+            dataSource.setReadOnly(true);
+            dataSource.setMetricsTrackerFactory(metricsTrackerFactory);
+            pools.put(replica.getName(), dataSource);
+        }
+        return new ReplicaPools(pools);
+    }
+
+    public Map<String, DataSource> dataSources() {
+        return Collections.unmodifiableMap(pools);
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
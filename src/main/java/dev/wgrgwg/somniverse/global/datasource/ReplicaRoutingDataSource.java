@@ -0,0 +1,137 @@
+package dev.wgrgwg.somniverse.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final ReplicaHealthMonitor healthMonitor;
+    private final Duration readYourWritesWindow;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final Map<String, Counter> routeCounters = new ConcurrentHashMap<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+        ReplicaHealthMonitor healthMonitor, Duration readYourWritesWindow,
+        MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.healthMonitor = healthMonitor;
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.meterRegistry = meterRegistry;
+
+        Map<Object, Object> targets = new LinkedHashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Route route = resolveRoute();
+        try {
+            return target(route).getConnection();
+        } catch (SQLException e) {
+            return fallbackToPrimary(route, e, () -> primary.getConnection());
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Route route = resolveRoute();
+        try {
+            return target(route).getConnection(username, password);
+        } catch (SQLException e) {
+            return fallbackToPrimary(route, e, () -> primary.getConnection(username, password));
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return resolveRoute().target();
+    }
+
+    private Route resolveRoute() {
+        Route route = route();
+        count(route);
+        return route;
+    }
+
+    private Route route() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return new Route(PRIMARY, "no_transaction");
+        }
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            ReadYourWritesContext.markWrite(readYourWritesWindow);
+            return new Route(PRIMARY, "write");
+        }
+
+        if (ReadYourWritesContext.isPinnedToPrimary()) {
+            return new Route(PRIMARY, "read_your_writes");
+        }
+
+        List<String> healthy = healthMonitor.healthyReplicas();
+        if (healthy.isEmpty()) {
+            return new Route(PRIMARY, "replica_unavailable");
+        }
+
+        String replica = healthy.get(Math.floorMod(cursor.getAndIncrement(), healthy.size()));
+        return new Route(replica, "read");
+    }
+
+    private DataSource target(Route route) {
+        DataSource dataSource = getResolvedDataSources().get(route.target());
+        if (dataSource == null) {
+            return primary;
+        }
+        return dataSource;
+    }
+
+    private Connection fallbackToPrimary(Route route, SQLException cause,
+        ConnectionSupplier primaryConnection) throws SQLException {
+        if (PRIMARY.equals(route.target())) {
+            throw cause;
+        }
+
+        log.warn("[DS] replica connection failed, falling back to primary. replica={}, reason={}",
+            route.target(), cause.getMessage());
+        healthMonitor.markUnhealthy(route.target());
+        count(new Route(PRIMARY, "replica_error"));
+        return primaryConnection.get();
+    }
+
+    private void count(Route route) {
+        routeCounters.computeIfAbsent(route.target() + ":" + route.reason(),
+            key -> Counter.builder("datasource.routing")
+                .tag("target", route.target())
+                .tag("reason", route.reason())
+                .register(meterRegistry)).increment();
+    }
+
+    private record Route(String target, String reason) {
+
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+
+        Connection get() throws SQLException;
+    }
+}
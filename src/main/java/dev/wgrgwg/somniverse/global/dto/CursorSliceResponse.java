@@ -0,0 +1,11 @@
+package dev.wgrgwg.somniverse.global.dto;
+
+import java.util.List;
+
+public record CursorSliceResponse<T>(
+    List<T> content,
+    String nextCursor,
+    boolean hasNext
+) {
+
+}
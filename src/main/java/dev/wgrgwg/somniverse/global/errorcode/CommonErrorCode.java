@@ -9,7 +9,9 @@ public enum CommonErrorCode implements ErrorCode {
     INVALID_INPUT("COMMON_001", "입력 값이 유효하지 않습니다", HttpStatus.BAD_REQUEST),
     INTERNAL_SERVER_ERROR("COMMON_002", "서버 오류가 발생하였습니다", HttpStatus.INTERNAL_SERVER_ERROR),
     UNAUTHORIZED("COMMON_003", "권한이 없습니다", HttpStatus.UNAUTHORIZED),
-    MISSING_COOKIE("COMMON_004", "필수 쿠키가 존재하지 않습니다", HttpStatus.BAD_REQUEST);
+    MISSING_COOKIE("COMMON_004", "필수 쿠키가 존재하지 않습니다", HttpStatus.BAD_REQUEST),
+    SERVICE_OVERLOADED("COMMON_005", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도하세요",
+        HttpStatus.SERVICE_UNAVAILABLE);
 
     private final String code;
     private final String message;
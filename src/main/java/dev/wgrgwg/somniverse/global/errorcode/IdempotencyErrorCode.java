@@ -8,7 +8,9 @@ public enum IdempotencyErrorCode implements ErrorCode {
     IDEMPOTENCY_CONFLICT("IDEM_001", "중복 키이지만 페이로드가 다릅니다.",
         HttpStatus.CONFLICT),
     IDEMPOTENCY_IN_PROGRESS("IDEM_002", "요청이 처리 중입니다. 잠시 후 다시 시도하세요.",
-        HttpStatus.ACCEPTED);
+        HttpStatus.ACCEPTED),
+    IDEMPOTENCY_PAYLOAD_TOO_LARGE("IDEM_003", "멱등 요청 본문이 허용 크기를 초과했습니다.",
+        HttpStatus.CONTENT_TOO_LARGE);
 
     private final String code;
     private final String message;
@@ -7,7 +7,9 @@ import org.springframework.http.HttpStatus;
 public enum RateLimitErrorCode implements ErrorCode {
 
     TOO_MANY_REQUESTS("RATE_LIMIT_001", "요청이 너무 많습니다. 잠시 후 다시 시도하세요.",
-        HttpStatus.TOO_MANY_REQUESTS);
+        HttpStatus.TOO_MANY_REQUESTS),
+    RATE_LIMIT_UNAVAILABLE("RATE_LIMIT_002", "요청 제한 저장소를 사용할 수 없습니다. 잠시 후 다시 시도하세요.",
+        HttpStatus.SERVICE_UNAVAILABLE);
 
     private final String code;
     private final String message;
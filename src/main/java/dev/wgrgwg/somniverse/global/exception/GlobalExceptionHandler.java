@@ -7,6 +7,7 @@ import dev.wgrgwg.somniverse.global.errorcode.ErrorCode;
 import dev.wgrgwg.somniverse.member.exception.MemberErrorCode;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -41,6 +42,17 @@ public class GlobalExceptionHandler {
             .body(ApiResponseDto.error(errorCode.getMessage(), errorCode.getCode()));
     }
 
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ApiResponseDto<Object>> handleServiceOverloadedException(
+        ServiceOverloadedException ex) {
+        ErrorCode errorCode = ex.getErrorCode();
+        log.warn("과부하로 요청 거절: {}", ex.getMessage());
+
+        return ResponseEntity.status(errorCode.getHttpStatus())
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(ApiResponseDto.error(errorCode.getMessage(), errorCode.getCode()));
+    }
+
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<ApiResponseDto<Object>> handleBadCredentialsException(Exception ex) {
         log.error("예외 발생: {}", ex.getMessage());
@@ -0,0 +1,15 @@
+package dev.wgrgwg.somniverse.global.exception;
+
+import dev.wgrgwg.somniverse.global.errorcode.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public class ServiceOverloadedException extends CustomException {
+
+    private final int retryAfterSeconds;
+
+    public ServiceOverloadedException(ErrorCode errorCode, int retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
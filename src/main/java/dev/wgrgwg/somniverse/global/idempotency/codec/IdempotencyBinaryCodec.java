@@ -0,0 +1,253 @@
+package dev.wgrgwg.somniverse.global.idempotency.codec;
+
+import dev.wgrgwg.somniverse.global.idempotency.model.IdempotencyRecord;
+import dev.wgrgwg.somniverse.global.idempotency.model.IdempotencyState;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+public class IdempotencyBinaryCodec {
+
+    static final byte MAGIC_0 = (byte) 0xB1;
+    static final byte MAGIC_1 = (byte) 0xDE;
+    static final byte VERSION = 1;
+
+    private static final int HEADER_LENGTH = 4;
+    private static final byte FLAG_DEFLATE = 0x01;
+    private static final int NULL_LENGTH = -1;
+
+    private final int compressionThresholdBytes;
+
+    public IdempotencyBinaryCodec(int compressionThresholdBytes) {
+        this.compressionThresholdBytes = compressionThresholdBytes;
+    }
+
+    public static boolean isBinary(byte[] bytes) {
+        return bytes != null && bytes.length >= HEADER_LENGTH && bytes[0] == MAGIC_0
+            && bytes[1] == MAGIC_1;
+    }
+
+    public byte[] encode(IdempotencyRecord rec) {
+        byte[] payload = writePayload(rec);
+
+        boolean compress = compressionThresholdBytes > 0
+            && payload.length >= compressionThresholdBytes;
+        byte[] body = payload;
+        byte flags = 0;
+        if (compress) {
+            byte[] deflated = deflate(payload);
+            if (deflated.length < payload.length) {
+                body = deflated;
+                flags = FLAG_DEFLATE;
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(HEADER_LENGTH + 4 + body.length);
+        out.write(MAGIC_0);
+        out.write(MAGIC_1);
+        out.write(VERSION);
+        out.write(flags);
+        if (flags == FLAG_DEFLATE) {
+            writeInt(out, payload.length);
+        }
+        out.writeBytes(body);
+        return out.toByteArray();
+    }
+
+    public IdempotencyRecord decode(byte[] bytes) {
+        if (!isBinary(bytes)) {
+            throw new IllegalArgumentException("not a binary idempotency snapshot");
+        }
+        if (bytes[2] != VERSION) {
+            throw new IllegalArgumentException("unsupported snapshot version=" + bytes[2]);
+        }
+
+        byte flags = bytes[3];
+        byte[] payload;
+        if ((flags & FLAG_DEFLATE) != 0) {
+            int length = readInt(bytes, HEADER_LENGTH);
+            payload = inflate(bytes, HEADER_LENGTH + 4, length);
+        } else {
+            payload = new byte[bytes.length - HEADER_LENGTH];
+            System.arraycopy(bytes, HEADER_LENGTH, payload, 0, payload.length);
+        }
+
+        return readPayload(payload);
+    }
+
+    private byte[] writePayload(IdempotencyRecord rec) {
+        int bodyLength = 0;
+        if (rec.responseBody() != null) {
+            bodyLength = rec.responseBody().length;
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(256 + bodyLength);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(rec.state().code());
+            writeString(out, rec.requestHash());
+            out.writeInt(rec.responseStatus() == null ? NULL_LENGTH : rec.responseStatus());
+            writeString(out, rec.responseContentType());
+            writeHeaders(out, rec.responseHeaders());
+            writeBytes(out, rec.responseBody());
+            out.writeLong(rec.createdAt());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private IdempotencyRecord readPayload(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            IdempotencyState state = IdempotencyState.fromCode(in.readUnsignedByte());
+            String requestHash = readString(in);
+            int status = in.readInt();
+            String contentType = readString(in);
+            Map<String, List<String>> headers = readHeaders(in);
+            byte[] body = readBytes(in);
+            long createdAt = in.readLong();
+
+            return new IdempotencyRecord(state, requestHash,
+                status == NULL_LENGTH ? null : status, body, contentType, headers, createdAt);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("corrupted binary idempotency snapshot", e);
+        }
+    }
+
+    private void writeHeaders(DataOutputStream out, Map<String, List<String>> headers)
+        throws IOException {
+        if (headers == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+
+        out.writeInt(headers.size());
+        for (Map.Entry<String, List<String>> e : headers.entrySet()) {
+            writeString(out, e.getKey());
+            out.writeInt(e.getValue().size());
+            for (String value : e.getValue()) {
+                writeString(out, value);
+            }
+        }
+    }
+
+    private Map<String, List<String>> readHeaders(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            String name = readString(in);
+            int valueCount = in.readInt();
+            List<String> values = new ArrayList<>(valueCount);
+            for (int j = 0; j < valueCount; j++) {
+                values.add(readString(in));
+            }
+            headers.put(name, List.copyOf(values));
+        }
+        return headers;
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeBytes(out, null);
+            return;
+        }
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        byte[] bytes = readBytes(in);
+        if (bytes == null) {
+            return null;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    private byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        if (length < 0 || length > in.available()) {
+            throw new IOException("invalid length=" + length);
+        }
+        return in.readNBytes(length);
+    }
+
+    private byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2);
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(chunk);
+                out.write(chunk, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] inflate(byte[] input, int offset, int length) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input, offset, input.length - offset);
+
+            byte[] out = new byte[length];
+            int n = 0;
+            while (n < length && !inflater.finished()) {
+                int read = inflater.inflate(out, n, length - n);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                n += read;
+            }
+            if (n != length) {
+                throw new IllegalArgumentException("truncated binary idempotency snapshot");
+            }
+            return out;
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("corrupted binary idempotency snapshot", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value) {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xFF) << 24) | ((bytes[offset + 1] & 0xFF) << 16)
+            | ((bytes[offset + 2] & 0xFF) << 8) | (bytes[offset + 3] & 0xFF);
+    }
+}
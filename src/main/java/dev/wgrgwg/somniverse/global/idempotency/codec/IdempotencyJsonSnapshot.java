@@ -0,0 +1,76 @@
+package dev.wgrgwg.somniverse.global.idempotency.codec;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import dev.wgrgwg.somniverse.global.idempotency.model.IdempotencyRecord;
+import dev.wgrgwg.somniverse.global.idempotency.model.IdempotencyState;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record IdempotencyJsonSnapshot(
+    IdempotencyState state,
+    String requestHash,
+    Integer responseStatus,
+    String responseBody,
+    String responseContentType,
+    Map<String, List<String>> responseHeaders,
+    long createdAt
+) {
+
+    public static IdempotencyJsonSnapshot from(IdempotencyRecord rec) {
+        String body = null;
+        if (rec.responseBody() != null) {
+            body = new String(rec.responseBody(), charsetOf(rec.responseContentType()));
+        }
+
+        return new IdempotencyJsonSnapshot(
+            rec.state(),
+            rec.requestHash(),
+            rec.responseStatus(),
+            body,
+            rec.responseContentType(),
+            rec.responseHeaders(),
+            rec.createdAt()
+        );
+    }
+
+    public IdempotencyRecord toRecord() {
+        byte[] body = null;
+        if (responseBody != null) {
+            body = responseBody.getBytes(charsetOf(responseContentType));
+        }
+
+        return new IdempotencyRecord(
+            state,
+            requestHash,
+            responseStatus,
+            body,
+            responseContentType,
+            responseHeaders,
+            createdAt
+        );
+    }
+
+    private static Charset charsetOf(String contentType) {
+        if (contentType == null) {
+            return StandardCharsets.UTF_8;
+        }
+
+        try {
+            MimeType mimeType = MimeTypeUtils.parseMimeType(contentType);
+            if (mimeType.getCharset() != null) {
+                return mimeType.getCharset();
+            }
+        } catch (InvalidMimeTypeException | IllegalArgumentException e) {
+            return StandardCharsets.UTF_8;
+        }
+        return StandardCharsets.UTF_8;
+    }
+}
@@ -0,0 +1,56 @@
+package dev.wgrgwg.somniverse.global.idempotency.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.global.idempotency.model.IdempotencyRecord;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.springframework.stereotype.Component;
+
+@Component
+public class IdempotencyRecordCodec {
+
+    private static final byte JSON_OBJECT_START = '{';
+
+    private final ObjectMapper om;
+    private final IdempotencyStorageFormat writeFormat;
+    private final IdempotencyBinaryCodec binaryCodec;
+
+    public IdempotencyRecordCodec(ObjectMapper om, AppProperties appProperties) {
+        AppProperties.Idempotency idempotency = appProperties.getIdempotency();
+
+        this.om = om;
+        this.writeFormat = IdempotencyStorageFormat.from(idempotency.getStorageFormat());
+        this.binaryCodec = new IdempotencyBinaryCodec(idempotency.getCompressionThresholdBytes());
+    }
+
+    public byte[] encode(IdempotencyRecord rec) {
+        if (writeFormat == IdempotencyStorageFormat.JSON) {
+            return writeJson(rec);
+        }
+        return binaryCodec.encode(rec);
+    }
+
+    public IdempotencyRecord decode(byte[] bytes) {
+        if (bytes.length > 0 && bytes[0] == JSON_OBJECT_START) {
+            return readJson(bytes);
+        }
+        return binaryCodec.decode(bytes);
+    }
+
+    private byte[] writeJson(IdempotencyRecord rec) {
+        try {
+            return om.writeValueAsBytes(IdempotencyJsonSnapshot.from(rec));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private IdempotencyRecord readJson(byte[] bytes) {
+        try {
+            return om.readValue(bytes, IdempotencyJsonSnapshot.class).toRecord();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package dev.wgrgwg.somniverse.global.idempotency.codec;
+
+public enum IdempotencyStorageFormat {
+    BINARY, JSON;
+
+    public static IdempotencyStorageFormat from(String v) {
+        if (v == null) {
+            return BINARY;
+        }
+
+        String s = v.trim().toLowerCase();
+        if (s.equals("json")) {
+            return JSON;
+        }
+
+        return BINARY;
+    }
+}
@@ -5,17 +5,19 @@ import dev.wgrgwg.somniverse.global.errorcode.IdempotencyErrorCode;
 import dev.wgrgwg.somniverse.global.exception.CustomException;
 import dev.wgrgwg.somniverse.global.idempotency.model.IdempotencyRecord;
 import dev.wgrgwg.somniverse.global.idempotency.model.IdempotencyState;
+import dev.wgrgwg.somniverse.global.idempotency.store.AcquireResult;
 import dev.wgrgwg.somniverse.global.idempotency.store.IdempotencyRepository;
 import dev.wgrgwg.somniverse.global.idempotency.util.IdempotencyHashUtil;
 import dev.wgrgwg.somniverse.global.idempotency.util.IdempotencyKeys;
+import dev.wgrgwg.somniverse.global.idempotency.wait.IdempotencyWaiterRegistry;
 import dev.wgrgwg.somniverse.member.exception.MemberErrorCode;
 import dev.wgrgwg.somniverse.security.userdetails.CustomUserDetails;
+import jakarta.servlet.AsyncContext;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -24,6 +26,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
@@ -43,11 +47,13 @@ public class IdempotencyFilter extends OncePerRequestFilter {
 
     private static final Set<String> HEADER_WHITELIST = Set.of("Location", "Content-Location",
         "ETag", "Cache-Control", "Vary", "Last-Modified");
+    private static final Duration ASYNC_TIMEOUT_MARGIN = Duration.ofSeconds(1);
 
     private final IdempotencyRepository idempotencyRepository;
     private final IdempotencyHashUtil hashUtil;
     private final AppProperties appProperties;
     private final HandlerExceptionResolver handlerExceptionResolver;
+    private final IdempotencyWaiterRegistry waiterRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -69,7 +75,14 @@ public class IdempotencyFilter extends OncePerRequestFilter {
             return;
         }
 
-        ReusableRequestWrapper wrappedRequest = new ReusableRequestWrapper(request);
+        ReusableRequestWrapper wrappedRequest;
+        try {
+            wrappedRequest = new ReusableRequestWrapper(request,
+                appProperties.getIdempotency().getMaxBodyBytes());
+        } catch (CustomException e) {
+            resolveException(request, response, e);
+            return;
+        }
         ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(response);
 
         String requestHash = hashUtil.hashBody(wrappedRequest.getCachedBody(),
@@ -89,10 +102,12 @@ public class IdempotencyFilter extends OncePerRequestFilter {
         Duration completedTtl = Duration.ofSeconds(appProperties.getIdempotency().getTtlSeconds());
 
         IdempotencyRecord rec = IdempotencyRecord.inProgress(requestHash);
+        String ownerToken = UUID.randomUUID().toString();
 
-        boolean acquired;
+        AcquireResult acquireResult;
         try {
-            acquired = idempotencyRepository.setIfAbsent(redisKey, rec, inProgressTtl);
+            acquireResult = idempotencyRepository.acquire(redisKey, rec, ownerToken,
+                inProgressTtl);
         } catch (RuntimeException e) {
             log.warn("[IDEM] repository error: {}", e.getMessage());
             chain.doFilter(wrappedRequest, wrappedResponse);
@@ -100,17 +115,15 @@ public class IdempotencyFilter extends OncePerRequestFilter {
             return;
         }
 
-        if (acquired) {
+        if (acquireResult.acquired()) {
             try {
                 chain.doFilter(wrappedRequest, wrappedResponse);
 
                 int status = wrappedResponse.getStatus();
-                String charset = Optional.ofNullable(wrappedResponse.getCharacterEncoding())
-                    .orElse(StandardCharsets.UTF_8.name());
 
-                String body = null;
+                byte[] body = null;
                 if (status != HttpStatus.NO_CONTENT.value()) {
-                    body = new String(wrappedResponse.getContentAsByteArray(), charset);
+                    body = wrappedResponse.getContentAsByteArray();
                 }
 
                 String contentType = null;
@@ -120,10 +133,10 @@ public class IdempotencyFilter extends OncePerRequestFilter {
 
                 Map<String, List<String>> headers = extractReplayHeaders(wrappedResponse);
 
-                persistSnapshotWithFailOpen(redisKey, rec, status, body, contentType, headers,
-                    completedTtl);
+                persistSnapshotWithFailOpen(redisKey, ownerToken, rec, status, body, contentType,
+                    headers, completedTtl);
             } catch (Throwable t) {
-                saveFailedSnapshotBestEffort(redisKey, rec);
+                saveFailedSnapshotBestEffort(redisKey, ownerToken, rec);
                 throw t;
             } finally {
                 wrappedResponse.copyBodyToResponse();
@@ -131,78 +144,129 @@ public class IdempotencyFilter extends OncePerRequestFilter {
             return;
         }
 
-        Optional<IdempotencyRecord> existingOpt;
+        IdempotencyRecord existing = acquireResult.existing();
 
-        try {
-            existingOpt = idempotencyRepository.get(redisKey);
-        } catch (RuntimeException e) {
-            log.warn("[IDEM] fail-open: get skipped: {}", e.getMessage());
-            chain.doFilter(wrappedRequest, wrappedResponse);
+        boolean same = existing.matchesHash(requestHash);
+        if (!same) {
+            resolveException(wrappedRequest, wrappedResponse,
+                new CustomException(IdempotencyErrorCode.IDEMPOTENCY_CONFLICT));
             wrappedResponse.copyBodyToResponse();
             return;
         }
 
-        if (existingOpt.isEmpty()) {
-            chain.doFilter(wrappedRequest, wrappedResponse);
+        boolean isCompleted = IdempotencyState.COMPLETED.equals(existing.state());
+        if (isCompleted) {
+            writeReplay(existing, wrappedResponse);
             wrappedResponse.copyBodyToResponse();
             return;
         }
 
-        IdempotencyRecord existing = existingOpt.get();
-
-        boolean same = existing.matchesHash(requestHash);
-        if (!same) {
-            resolveException(wrappedRequest, wrappedResponse,
-                new CustomException(IdempotencyErrorCode.IDEMPOTENCY_CONFLICT));
-            wrappedResponse.copyBodyToResponse();
+        if (isWaitable(request, existing) && awaitCompletion(request, response, redisKey,
+            requestHash)) {
             return;
         }
 
-        boolean isCompleted = IdempotencyState.COMPLETED.equals(existing.state());
-        if (isCompleted) {
-            Integer existingStatus = existing.responseStatus();
-            int replayStatus = Optional.ofNullable(existingStatus).orElse(HttpStatus.OK.value());
-            wrappedResponse.setStatus(replayStatus);
-
-            Map<String, List<String>> stored = existing.responseHeaders();
-            if (stored != null) {
-                stored.forEach((name, values) -> {
-                    if (values != null) {
-                        for (String v : values) {
-                            wrappedResponse.addHeader(name, v);
-                        }
-                    }
-                });
+        respondInProgress(wrappedRequest, wrappedResponse);
+        wrappedResponse.copyBodyToResponse();
+    }
+
+    private boolean isWaitable(HttpServletRequest request, IdempotencyRecord existing) {
+        return appProperties.getIdempotency().getWait().isEnabled()
+            && IdempotencyState.IN_PROGRESS.equals(existing.state())
+            && request.isAsyncSupported();
+    }
+
+    private boolean awaitCompletion(HttpServletRequest request, HttpServletResponse response,
+        String redisKey, String requestHash) {
+        Duration timeout = appProperties.getIdempotency().getWait().getTimeout();
+
+        Optional<CompletableFuture<IdempotencyRecord>> waiter;
+        try {
+            waiter = waiterRegistry.await(redisKey, timeout);
+        } catch (RuntimeException e) {
+            log.warn("[IDEM] wait registration failed. key={}, reason={}", redisKey,
+                e.getMessage());
+            waiter = Optional.empty();
+        }
+
+        if (waiter.isEmpty()) {
+            return false;
+        }
+
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(timeout.plus(ASYNC_TIMEOUT_MARGIN).toMillis());
+
+        waiter.get().whenComplete((rec, ex) -> asyncContext.start(() -> {
+            try {
+                respondAfterWait(asyncContext, redisKey, requestHash, rec, ex);
+            } catch (IOException | RuntimeException e) {
+                log.warn("[IDEM] waiter response failed. key={}, reason={}", redisKey,
+                    e.getMessage());
+            } finally {
+                asyncContext.complete();
             }
+        }));
+        return true;
+    }
 
-            if (replayStatus != HttpStatus.NO_CONTENT.value()) {
-                String ct = existing.responseContentType();
-                if (ct != null) {
-                    wrappedResponse.setContentType(ct);
-                }
-                String rb = existing.responseBody();
-                if (rb != null) {
-                    try {
-                        wrappedResponse.getWriter().write(rb);
-                    } catch (IllegalStateException ise) {
-                        wrappedResponse.getOutputStream()
-                            .write(rb.getBytes(StandardCharsets.UTF_8));
+    private void respondAfterWait(AsyncContext asyncContext, String redisKey, String requestHash,
+        IdempotencyRecord rec, Throwable ex) throws IOException {
+        HttpServletRequest request = (HttpServletRequest) asyncContext.getRequest();
+        ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(
+            (HttpServletResponse) asyncContext.getResponse());
+
+        if (ex != null) {
+            log.debug("[IDEM] wait ended without completion. key={}, reason={}", redisKey,
+                ex.toString());
+            respondInProgress(request, wrappedResponse);
+        } else if (rec != null && !rec.matchesHash(requestHash)) {
+            resolveException(request, wrappedResponse,
+                new CustomException(IdempotencyErrorCode.IDEMPOTENCY_CONFLICT));
+        } else if (rec != null && IdempotencyState.COMPLETED.equals(rec.state())) {
+            writeReplay(rec, wrappedResponse);
+        } else {
+            respondInProgress(request, wrappedResponse);
+        }
+
+        wrappedResponse.copyBodyToResponse();
+    }
+
+    private void writeReplay(IdempotencyRecord existing, HttpServletResponse response)
+        throws IOException {
+        Integer existingStatus = existing.responseStatus();
+        int replayStatus = Optional.ofNullable(existingStatus).orElse(HttpStatus.OK.value());
+        response.setStatus(replayStatus);
+
+        Map<String, List<String>> stored = existing.responseHeaders();
+        if (stored != null) {
+            stored.forEach((name, values) -> {
+                if (values != null) {
+                    for (String v : values) {
+                        response.addHeader(name, v);
                     }
                 }
-            }
+            });
+        }
 
-            wrappedResponse.copyBodyToResponse();
-            return;
+        if (replayStatus != HttpStatus.NO_CONTENT.value()) {
+            String ct = existing.responseContentType();
+            if (ct != null) {
+                response.setContentType(ct);
+            }
+            byte[] rb = existing.responseBody();
+            if (rb != null) {
+                response.getOutputStream().write(rb);
+            }
         }
+    }
 
-        wrappedResponse.setHeader(HttpHeaders.RETRY_AFTER,
+    private void respondInProgress(HttpServletRequest request, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.RETRY_AFTER,
             String.valueOf(appProperties.getIdempotency().getRetryAfterSeconds()));
-        resolveException(wrappedRequest, wrappedResponse,
+        resolveException(request, response,
             new CustomException(IdempotencyErrorCode.IDEMPOTENCY_IN_PROGRESS));
-        wrappedResponse.copyBodyToResponse();
     }
 
-
     private boolean isIncludedPath(HttpServletRequest request) {
         List<String> includePaths = appProperties.getIdempotency().getIncludePaths();
 
@@ -288,34 +352,41 @@ public class IdempotencyFilter extends OncePerRequestFilter {
         return out;
     }
 
-    private void setWithFailOpen(String redisKey, IdempotencyRecord rec, Duration ttl) {
+    private void finalizeWithFailOpen(String redisKey, String ownerToken, IdempotencyRecord rec,
+        Duration ttl) {
         try {
-            idempotencyRepository.set(redisKey, rec, ttl);
+            boolean updated = idempotencyRepository.finalizeIfOwner(redisKey, ownerToken, rec,
+                ttl);
+            if (!updated) {
+                log.warn("[IDEM] finalize skipped: ownership lost. key={}, state={}", redisKey,
+                    rec.state());
+            }
         } catch (RuntimeException e) {
             log.warn("[IDEM] fail-open: set skipped. key={}, state={}, reason={}", redisKey,
                 rec.state(), e.getMessage());
         }
     }
 
-    private void persistSnapshotWithFailOpen(String redisKey, IdempotencyRecord base, int status,
-        String body, String contentType, Map<String, List<String>> headers, Duration completedTtl) {
+    private void persistSnapshotWithFailOpen(String redisKey, String ownerToken,
+        IdempotencyRecord base, int status, byte[] body, String contentType,
+        Map<String, List<String>> headers, Duration completedTtl) {
 
         if (status < 500) {
             IdempotencyRecord completed = base.toCompleted(status, body, contentType, headers);
-            setWithFailOpen(redisKey, completed, completedTtl);
+            finalizeWithFailOpen(redisKey, ownerToken, completed, completedTtl);
         }
 
         if (status >= 500) {
             IdempotencyRecord failed = base.toFailed();
-            setWithFailOpen(redisKey, failed, Duration.ofSeconds(5));
+            finalizeWithFailOpen(redisKey, ownerToken, failed, Duration.ofSeconds(5));
         }
     }
 
-    private void saveFailedSnapshotBestEffort(String redisKey,
+    private void saveFailedSnapshotBestEffort(String redisKey, String ownerToken,
         IdempotencyRecord idempotencyRecord) {
         try {
-            idempotencyRepository.set(redisKey, idempotencyRecord.toFailed(),
-                Duration.ofSeconds(5));
+            idempotencyRepository.finalizeIfOwner(redisKey, ownerToken,
+                idempotencyRecord.toFailed(), Duration.ofSeconds(5));
         } catch (RuntimeException e) {
             log.warn("[IDEM] mark FAILED skipped (fail-open). key={}, reason={}", redisKey,
                 e.getMessage());
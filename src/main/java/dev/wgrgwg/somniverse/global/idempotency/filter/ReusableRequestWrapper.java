@@ -1,5 +1,7 @@
 package dev.wgrgwg.somniverse.global.idempotency.filter;
 
+import dev.wgrgwg.somniverse.global.errorcode.IdempotencyErrorCode;
+import dev.wgrgwg.somniverse.global.exception.CustomException;
 import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,9 +18,17 @@ public class ReusableRequestWrapper extends HttpServletRequestWrapper {
     private final byte[] body;
     private final Charset charset;
 
-    public ReusableRequestWrapper(HttpServletRequest request) throws IOException {
+    public ReusableRequestWrapper(HttpServletRequest request, int maxBodyBytes)
+        throws IOException {
         super(request);
-        this.body = request.getInputStream().readAllBytes();
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            throw new CustomException(IdempotencyErrorCode.IDEMPOTENCY_PAYLOAD_TOO_LARGE);
+        }
+
+        this.body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        if (body.length > maxBodyBytes) {
+            throw new CustomException(IdempotencyErrorCode.IDEMPOTENCY_PAYLOAD_TOO_LARGE);
+        }
 
         Charset cs = StandardCharsets.UTF_8;
         String enc = request.getCharacterEncoding();
@@ -1,19 +1,16 @@
 package dev.wgrgwg.somniverse.global.idempotency.model;
 
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
-@JsonIgnoreProperties(ignoreUnknown = true)
-@JsonInclude(JsonInclude.Include.NON_NULL)
 public record IdempotencyRecord(
     IdempotencyState state,
     String requestHash,
     Integer responseStatus,
-    String responseBody,
+    byte[] responseBody,
     String responseContentType,
     Map<String, List<String>> responseHeaders,
     long createdAt
@@ -32,7 +29,7 @@ public record IdempotencyRecord(
     }
 
     public IdempotencyRecord toCompleted(int status,
-        String body,
+        byte[] body,
         String contentType,
         Map<String, List<String>> headers) {
         return new IdempotencyRecord(
@@ -62,6 +59,42 @@ public record IdempotencyRecord(
         return Objects.equals(this.requestHash, otherHash);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IdempotencyRecord other)) {
+            return false;
+        }
+        return createdAt == other.createdAt
+            && state == other.state
+            && Objects.equals(requestHash, other.requestHash)
+            && Objects.equals(responseStatus, other.responseStatus)
+            && Arrays.equals(responseBody, other.responseBody)
+            && Objects.equals(responseContentType, other.responseContentType)
+            && Objects.equals(responseHeaders, other.responseHeaders);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(state, requestHash, responseStatus, responseContentType,
+            responseHeaders, createdAt);
+        return 31 * result + Arrays.hashCode(responseBody);
+    }
+
+    @Override
+    public String toString() {
+        return "IdempotencyRecord[state=" + state
+            + ", requestHash=" + requestHash
+            + ", responseStatus=" + responseStatus
+            + ", responseBody=" + (responseBody == null ? null
+            : "byte[" + responseBody.length + "]")
+            + ", responseContentType=" + responseContentType
+            + ", responseHeaders=" + responseHeaders
+            + ", createdAt=" + createdAt + "]";
+    }
+
     private static Map<String, List<String>> normalizeHeaders(Map<String, List<String>> headers) {
         if (headers == null) {
             return null;
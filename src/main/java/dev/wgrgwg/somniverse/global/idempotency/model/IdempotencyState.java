@@ -1,5 +1,27 @@
 package dev.wgrgwg.somniverse.global.idempotency.model;
 
 public enum IdempotencyState {
-    IN_PROGRESS, COMPLETED, FAILED
+    IN_PROGRESS(0),
+    COMPLETED(1),
+    FAILED(2);
+
+    private final int code;
+
+    IdempotencyState(int code) {
+        this.code = code;
+    }
+
+    public int code() {
+        return code;
+    }
+
+    public static IdempotencyState fromCode(int code) {
+        for (IdempotencyState state : values()) {
+            if (state.code == code) {
+                return state;
+            }
+        }
+
+        throw new IllegalArgumentException("unknown idempotency state code=" + code);
+    }
 }
@@ -0,0 +1,17 @@
+package dev.wgrgwg.somniverse.global.idempotency.store;
+
+import dev.wgrgwg.somniverse.global.idempotency.model.IdempotencyRecord;
+
+public record AcquireResult(
+    boolean acquired,
+    IdempotencyRecord existing
+) {
+
+    public static AcquireResult acquired() {
+        return new AcquireResult(true, null);
+    }
+
+    public static AcquireResult existing(IdempotencyRecord existing) {
+        return new AcquireResult(false, existing);
+    }
+}
@@ -1,53 +1,89 @@
 package dev.wgrgwg.somniverse.global.idempotency.store;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.wgrgwg.somniverse.global.idempotency.codec.IdempotencyRecordCodec;
 import dev.wgrgwg.somniverse.global.idempotency.model.IdempotencyRecord;
+import dev.wgrgwg.somniverse.global.idempotency.util.IdempotencyKeys;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 public class IdempotencyRepository {
 
-    private final StringRedisTemplate redisTemplate;
-    private final ObjectMapper om;
+    private static final RedisScript<byte[]> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+        local existing = redis.call('GET', KEYS[1])
+        if existing then
+          return existing
+        end
+        redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+        redis.call('SET', KEYS[2], ARGV[3], 'PX', ARGV[2])
+        return false
+        """, byte[].class);
 
-    public boolean setIfAbsent(String key, IdempotencyRecord rec, Duration ttl) {
-        String json = write(rec);
+    private static final RedisScript<Long> FINALIZE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[2]) ~= ARGV[2] then
+          return 0
+        end
+        redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+        redis.call('DEL', KEYS[2])
+        redis.call('PUBLISH', ARGV[4], KEYS[1])
+        return 1
+        """, Long.class);
 
-        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, json, ttl));
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final IdempotencyRecordCodec codec;
+
+    public IdempotencyRepository(
+        @Qualifier("idempotencyRedisTemplate") RedisTemplate<String, byte[]> redisTemplate,
+        IdempotencyRecordCodec codec) {
+        this.redisTemplate = redisTemplate;
+        this.codec = codec;
     }
 
-    public Optional<IdempotencyRecord> get(String key) {
-        String json = redisTemplate.opsForValue().get(key);
+    public AcquireResult acquire(String key, IdempotencyRecord inProgress, String ownerToken,
+        Duration ttl) {
+        byte[] existing = redisTemplate.execute(ACQUIRE_SCRIPT,
+            List.of(key, IdempotencyKeys.owner(key)),
+            codec.encode(inProgress), toBytes(ttl.toMillis()), toBytes(ownerToken));
 
-        if (json == null) {
-            return Optional.empty();
+        if (existing == null) {
+            return AcquireResult.acquired();
         }
 
-        return Optional.of(read(json));
+        return AcquireResult.existing(codec.decode(existing));
     }
 
-    public void set(String key, IdempotencyRecord rec, Duration ttl) {
-        redisTemplate.opsForValue().set(key, write(rec), ttl);
+    public boolean finalizeIfOwner(String key, String ownerToken, IdempotencyRecord rec,
+        Duration ttl) {
+        Long updated = redisTemplate.execute(FINALIZE_SCRIPT,
+            List.of(key, IdempotencyKeys.owner(key)),
+            codec.encode(rec), toBytes(ownerToken), toBytes(ttl.toMillis()),
+            toBytes(IdempotencyKeys.EVENTS_CHANNEL));
+
+        return Long.valueOf(1L).equals(updated);
     }
 
-    private String write(IdempotencyRecord r) {
-        try {
-            return om.writeValueAsString(r);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+    public Optional<IdempotencyRecord> get(String key) {
+        byte[] bytes = redisTemplate.opsForValue().get(key);
+
+        if (bytes == null) {
+            return Optional.empty();
         }
+
+        return Optional.of(codec.decode(bytes));
     }
 
-    private IdempotencyRecord read(String s) {
-        try {
-            return om.readValue(s, IdempotencyRecord.class);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+    private static byte[] toBytes(long value) {
+        return toBytes(String.valueOf(value));
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
     }
 }
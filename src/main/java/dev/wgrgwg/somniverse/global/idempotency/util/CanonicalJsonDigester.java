@@ -0,0 +1,196 @@
+package dev.wgrgwg.somniverse.global.idempotency.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class CanonicalJsonDigester {
+
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    private final JsonFactory jsonFactory;
+    private final JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+
+    CanonicalJsonDigester(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    boolean digest(byte[] body, MessageDigest md) {
+        try (JsonParser p = jsonFactory.createParser(body)) {
+            JsonToken token = p.nextToken();
+            if (token == null) {
+                md.update(NULL);
+                return true;
+            }
+
+            writeValue(p, token, new DigestSink(md));
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void writeValue(JsonParser p, JsonToken token, Sink out) throws IOException {
+        switch (token) {
+            case START_OBJECT -> writeObject(p, out);
+            case START_ARRAY -> writeArray(p, out);
+            case VALUE_STRING -> writeQuoted(p.getText(), out);
+            case VALUE_NUMBER_INT -> writeAscii(integerText(p), out);
+            case VALUE_NUMBER_FLOAT -> writeAscii(Double.toString(p.getDoubleValue()), out);
+            case VALUE_TRUE -> out.write(TRUE, 0, TRUE.length);
+            case VALUE_FALSE -> out.write(FALSE, 0, FALSE.length);
+            case VALUE_NULL -> out.write(NULL, 0, NULL.length);
+            default -> throw new JsonParseException(p, "unexpected token " + token);
+        }
+    }
+
+    private void writeArray(JsonParser p, Sink out) throws IOException {
+        out.write('[');
+        boolean first = true;
+        JsonToken token;
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new JsonParseException(p, "unexpected end of array");
+            }
+            if (!first) {
+                out.write(',');
+            }
+            writeValue(p, token, out);
+            first = false;
+        }
+        out.write(']');
+    }
+
+    private void writeObject(JsonParser p, Sink out) throws IOException {
+        BufferSink buffer = null;
+        List<String> names = null;
+        Map<String, int[]> ranges = null;
+
+        JsonToken token;
+        while ((token = p.nextToken()) != JsonToken.END_OBJECT) {
+            if (token != JsonToken.FIELD_NAME) {
+                throw new JsonParseException(p, "unexpected token " + token);
+            }
+            if (buffer == null) {
+                buffer = new BufferSink();
+                names = new ArrayList<>();
+                ranges = new HashMap<>();
+            }
+
+            String name = p.currentName();
+            int start = buffer.size();
+            writeValue(p, p.nextToken(), buffer);
+
+            if (ranges.put(name, new int[]{start, buffer.size()}) == null) {
+                names.add(name);
+            }
+        }
+
+        out.write('{');
+        if (buffer != null) {
+            names.sort(String::compareTo);
+            for (int i = 0; i < names.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                String name = names.get(i);
+                int[] range = ranges.get(name);
+                writeQuoted(name, out);
+                out.write(':');
+                out.write(buffer.bytes(), range[0], range[1] - range[0]);
+            }
+        }
+        out.write('}');
+    }
+
+    private String integerText(JsonParser p) throws IOException {
+        return switch (p.getNumberType()) {
+            case INT -> Integer.toString(p.getIntValue());
+            case LONG -> Long.toString(p.getLongValue());
+            default -> p.getBigIntegerValue().toString();
+        };
+    }
+
+    private void writeQuoted(String text, Sink out) {
+        byte[] escaped = encoder.quoteAsUTF8(text);
+        out.write('"');
+        out.write(escaped, 0, escaped.length);
+        out.write('"');
+    }
+
+    private void writeAscii(String text, Sink out) {
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private interface Sink {
+
+        void write(int b);
+
+        void write(byte[] bytes, int offset, int length);
+    }
+
+    private static final class DigestSink implements Sink {
+
+        private final MessageDigest md;
+
+        private DigestSink(MessageDigest md) {
+            this.md = md;
+        }
+
+        @Override
+        public void write(int b) {
+            md.update((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            md.update(bytes, offset, length);
+        }
+    }
+
+    private static final class BufferSink implements Sink {
+
+        private byte[] bytes = new byte[64];
+        private int size;
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] source, int offset, int length) {
+            ensureCapacity(length);
+            System.arraycopy(source, offset, bytes, size, length);
+            size += length;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private byte[] bytes() {
+            return bytes;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+    }
+}
@@ -9,16 +9,21 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Locale;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 public class IdempotencyHashUtil {
 
     private final ObjectMapper om;
+    private final CanonicalJsonDigester canonicalJsonDigester;
+
+    public IdempotencyHashUtil(ObjectMapper om) {
+        this.om = om;
+        this.canonicalJsonDigester = new CanonicalJsonDigester(om.getFactory());
+    }
 
     public String canonicalizeJson(byte[] body) {
         if (body == null) {
@@ -37,7 +42,10 @@ public class IdempotencyHashUtil {
     }
 
     public String hashBody(byte[] body) {
-        return HashUtil.sha256(canonicalizeJson(body));
+        if (body == null || body.length == 0) {
+            return HashUtil.sha256("");
+        }
+        return hashCanonicalJson(body);
     }
 
     public String hashBody(byte[] body, String contentType) {
@@ -50,13 +58,24 @@ public class IdempotencyHashUtil {
         if (contentType != null) {
             String lc = contentType.toLowerCase(Locale.ROOT);
             if (lc.contains("json")) {
-                String canon = canonicalizeJson(body);
-                return HashUtil.sha256(canon);
+                return hashCanonicalJson(body);
             }
         }
         return sha256Hex(body);
     }
 
+    private String hashCanonicalJson(byte[] body) {
+        MessageDigest md = sha256();
+        if (canonicalJsonDigester.digest(body, md)) {
+            return HexFormat.of().formatHex(md.digest());
+        }
+
+        md.reset();
+        md.update(new String(body, StandardCharsets.UTF_8).trim()
+            .getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(md.digest());
+    }
+
     private JsonNode normalize(JsonNode node) {
         if (node == null) {
             return om.getNodeFactory().nullNode();
@@ -82,6 +101,14 @@ public class IdempotencyHashUtil {
         return node;
     }
 
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     private String sha256Hex(byte[] bytes) {
         try {
             MessageDigest md = MessageDigest.getInstance("SHA-256");
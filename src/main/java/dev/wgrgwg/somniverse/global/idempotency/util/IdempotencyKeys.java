@@ -6,9 +6,16 @@ import lombok.experimental.UtilityClass;
 public final class IdempotencyKeys {
 
     public static final String PREFIX = "IDEM:";
+    public static final String OWNER_SUFFIX = ":owner";
+    public static final String EVENTS_CHANNEL = "IDEM:EVENTS";
 
     public static String build(String userId, String method, String path, String idemKey) {
-        return PREFIX + userId + ":" + method + ":" + normalizePath(path) + ":" + idemKey;
+        return PREFIX + "{" + userId + ":" + method + ":" + normalizePath(path) + ":" + idemKey
+            + "}";
+    }
+
+    public static String owner(String key) {
+        return key + OWNER_SUFFIX;
     }
 
     public static String normalizePath(String rawPath) {
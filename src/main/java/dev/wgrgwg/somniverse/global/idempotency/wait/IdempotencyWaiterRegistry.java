@@ -0,0 +1,120 @@
+package dev.wgrgwg.somniverse.global.idempotency.wait;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.global.idempotency.model.IdempotencyRecord;
+import dev.wgrgwg.somniverse.global.idempotency.model.IdempotencyState;
+import dev.wgrgwg.somniverse.global.idempotency.store.IdempotencyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class IdempotencyWaiterRegistry implements MessageListener {
+
+    private final IdempotencyRepository idempotencyRepository;
+    private final AppProperties appProperties;
+    private final ConcurrentMap<String, Waiters> waiters = new ConcurrentHashMap<>();
+    private final AtomicInteger activeWaiters = new AtomicInteger();
+
+    public IdempotencyWaiterRegistry(IdempotencyRepository idempotencyRepository,
+        AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.idempotencyRepository = idempotencyRepository;
+        this.appProperties = appProperties;
+        meterRegistry.gauge("idempotency.waiters.active", activeWaiters);
+        meterRegistry.gauge("idempotency.waiters.keys", waiters, ConcurrentMap::size);
+    }
+
+    public Optional<CompletableFuture<IdempotencyRecord>> await(String key, Duration timeout) {
+        int maxWaiters = appProperties.getIdempotency().getWait().getMaxWaiters();
+        if (activeWaiters.incrementAndGet() > maxWaiters) {
+            activeWaiters.decrementAndGet();
+            log.warn("[IDEM] waiter limit reached. key={}, max={}", key, maxWaiters);
+            return Optional.empty();
+        }
+
+        Waiters[] created = new Waiters[1];
+        Waiters entry = waiters.compute(key, (k, current) -> {
+            Waiters target = current;
+            if (target == null) {
+                target = new Waiters();
+                created[0] = target;
+            }
+            target.count++;
+            return target;
+        });
+
+        CompletableFuture<IdempotencyRecord> waiter = entry.future.copy()
+            .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        waiter.whenComplete((rec, ex) -> release(key, entry));
+
+        if (created[0] != null) {
+            recheck(key, entry);
+        }
+
+        return Optional.of(waiter);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        Waiters entry = waiters.remove(key);
+        if (entry == null) {
+            return;
+        }
+
+        try {
+            entry.future.complete(idempotencyRepository.get(key).orElse(null));
+        } catch (RuntimeException e) {
+            log.warn("[IDEM] waiter lookup failed. key={}, reason={}", key, e.getMessage());
+            entry.future.completeExceptionally(e);
+        }
+    }
+
+    private void recheck(String key, Waiters entry) {
+        try {
+            Optional<IdempotencyRecord> current = idempotencyRepository.get(key);
+            if (current.isPresent() && IdempotencyState.IN_PROGRESS.equals(
+                current.get().state())) {
+                return;
+            }
+            waiters.remove(key, entry);
+            entry.future.complete(current.orElse(null));
+        } catch (RuntimeException e) {
+            log.warn("[IDEM] waiter recheck failed. key={}, reason={}", key, e.getMessage());
+            waiters.remove(key, entry);
+            entry.future.completeExceptionally(e);
+        }
+    }
+
+    private void release(String key, Waiters entry) {
+        activeWaiters.decrementAndGet();
+        waiters.computeIfPresent(key, (k, current) -> {
+            if (current != entry) {
+                return current;
+            }
+            current.count--;
+            if (current.count == 0) {
+                return null;
+            }
+            return current;
+        });
+    }
+
+    private static final class Waiters {
+
+        private final CompletableFuture<IdempotencyRecord> future = new CompletableFuture<>();
+        private int count;
+    }
+}
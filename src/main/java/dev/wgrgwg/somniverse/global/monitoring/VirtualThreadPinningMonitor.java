@@ -0,0 +1,98 @@
+package dev.wgrgwg.somniverse.global.monitoring;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "dev.wgrgwg.somniverse.";
+    private static final String UNKNOWN_FRAME = "unknown";
+
+    private final AppProperties appProperties;
+    private final MeterRegistry meterRegistry;
+
+    private RecordingStream recordingStream;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        AppProperties.VirtualThreads.PinningMonitor config = appProperties.getVirtualThreads()
+            .getPinningMonitor();
+        if (!config.isEnabled() || recordingStream != null) {
+            return;
+        }
+
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(config.getThreshold()).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        recordingStream = stream;
+
+        log.info("[VT] pinning monitor started threshold={}", config.getThreshold());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream == null) {
+            return;
+        }
+        recordingStream.close();
+        recordingStream = null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = frames(event);
+        String site = resolveSite(frames);
+
+        Timer.builder("virtualthreads.pinned")
+            .tag("site", site)
+            .register(meterRegistry)
+            .record(event.getDuration());
+
+        int stackDepth = appProperties.getVirtualThreads().getPinningMonitor().getStackDepth();
+        log.warn("[VT] carrier pinned duration={}ms site={} stack={}",
+            event.getDuration().toMillis(), site, frames.stream()
+                .limit(stackDepth)
+                .map(VirtualThreadPinningMonitor::describe)
+                .collect(Collectors.joining(" <- ")));
+    }
+
+    private static String resolveSite(List<RecordedFrame> frames) {
+        return frames.stream()
+            .filter(RecordedFrame::isJavaFrame)
+            .filter(frame -> frame.getMethod().getType().getName()
+                .startsWith(APPLICATION_PACKAGE))
+            .findFirst()
+            .or(() -> frames.stream().filter(RecordedFrame::isJavaFrame).findFirst())
+            .map(VirtualThreadPinningMonitor::describe)
+            .orElse(UNKNOWN_FRAME);
+    }
+
+    private static List<RecordedFrame> frames(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return List.of();
+        }
+        return stackTrace.getFrames();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+}
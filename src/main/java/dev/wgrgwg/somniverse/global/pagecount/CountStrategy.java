@@ -0,0 +1,7 @@
+package dev.wgrgwg.somniverse.global.pagecount;
+
+public enum CountStrategy {
+    EXACT,
+    CACHED,
+    NONE
+}
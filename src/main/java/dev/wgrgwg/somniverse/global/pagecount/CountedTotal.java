@@ -0,0 +1,15 @@
+package dev.wgrgwg.somniverse.global.pagecount;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum CountedTotal {
+    PUBLIC_DREAMS("dream:public"),
+    ACTIVE_DREAMS("dream:active"),
+    ALL_DREAMS("dream:all"),
+    ALL_MEMBERS("member:all");
+
+    private final String key;
+}
@@ -0,0 +1,19 @@
+package dev.wgrgwg.somniverse.global.pagecount;
+
+import java.util.Map;
+
+public record PageCountChangedEvent(
+    Map<CountedTotal, Long> deltas
+) {
+
+    public static PageCountChangedEvent of(CountedTotal countedTotal, long delta) {
+        return new PageCountChangedEvent(Map.of(countedTotal, delta));
+    }
+
+    public static PageCountChangedEvent ofDreams(long all, long active, long published) {
+        return new PageCountChangedEvent(Map.of(
+            CountedTotal.ALL_DREAMS, all,
+            CountedTotal.ACTIVE_DREAMS, active,
+            CountedTotal.PUBLIC_DREAMS, published));
+    }
+}
@@ -0,0 +1,26 @@
+package dev.wgrgwg.somniverse.global.pagecount;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PageCountReconcileScheduler {
+
+    private final PageCountService pageCountService;
+
+    @Scheduled(cron = "${app.page-count.reconcile-cron}")
+    public void reconcile() {
+        try {
+            pageCountService.reconcile();
+        } catch (RuntimeException e) {
+            log.warn("[PAGE-COUNT] reconcile aborted err={}", e.toString());
+            return;
+        }
+
+        log.info("[PAGE-COUNT] reconcile finished");
+    }
+}
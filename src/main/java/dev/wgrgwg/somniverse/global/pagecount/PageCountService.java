@@ -0,0 +1,96 @@
+package dev.wgrgwg.somniverse.global.pagecount;
+
+import dev.wgrgwg.somniverse.dream.repository.DreamRepository;
+import dev.wgrgwg.somniverse.member.repository.MemberRepository;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PageCountService {
+
+    private final PageCountStore pageCountStore;
+    private final DreamRepository dreamRepository;
+    private final MemberRepository memberRepository;
+
+    public <T> Slice<T> find(CountStrategy strategy, CountedTotal countedTotal, Pageable pageable,
+        Function<Pageable, Page<T>> pageQuery, Function<Pageable, Slice<T>> sliceQuery) {
+        if (pageable.isUnpaged()) {
+            return pageQuery.apply(pageable);
+        }
+
+        return switch (strategy) {
+            case EXACT -> pageQuery.apply(pageable);
+            case NONE -> sliceQuery.apply(pageable);
+            case CACHED -> withCachedTotal(sliceQuery.apply(pageable), pageable, countedTotal);
+        };
+    }
+
+    public long total(CountedTotal countedTotal) {
+        try {
+            Long cached = pageCountStore.get(countedTotal).orElse(null);
+            if (cached != null) {
+                return Math.max(cached, 0L);
+            }
+
+            long exact = countExact(countedTotal);
+            pageCountStore.seed(countedTotal, exact);
+            return exact;
+        } catch (PageCountStoreUnavailableException e) {
+            log.warn("[PAGE-COUNT] store unavailable, counting from database. total={}, "
+                + "reason={}", countedTotal, e.getCause().getMessage());
+            return countExact(countedTotal);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPageCountChanged(PageCountChangedEvent event) {
+        try {
+            pageCountStore.apply(event.deltas());
+        } catch (PageCountStoreUnavailableException e) {
+            log.warn("[PAGE-COUNT] update failed. deltas={}", event.deltas());
+        }
+    }
+
+    public void reconcile() {
+        for (CountedTotal countedTotal : CountedTotal.values()) {
+            long exact = countExact(countedTotal);
+            pageCountStore.set(countedTotal, exact);
+            log.debug("[PAGE-COUNT] reconciled total={} value={}", countedTotal, exact);
+        }
+    }
+
+    private <T> Page<T> withCachedTotal(Slice<T> slice, Pageable pageable,
+        CountedTotal countedTotal) {
+        long seen = pageable.getOffset() + slice.getNumberOfElements();
+
+        long total;
+        if (slice.hasNext()) {
+            total = Math.max(total(countedTotal), seen + 1);
+        } else if (slice.hasContent()) {
+            total = seen;
+        } else {
+            total = Math.min(total(countedTotal), pageable.getOffset());
+        }
+
+        return new PageImpl<>(slice.getContent(), pageable, total);
+    }
+
+    private long countExact(CountedTotal countedTotal) {
+        return switch (countedTotal) {
+            case PUBLIC_DREAMS -> dreamRepository.countByIsPublicTrueAndIsDeletedFalse();
+            case ACTIVE_DREAMS -> dreamRepository.countByIsDeletedFalse();
+            case ALL_DREAMS -> dreamRepository.count();
+            case ALL_MEMBERS -> memberRepository.count();
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package dev.wgrgwg.somniverse.global.pagecount;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PageCountStore {
+
+    private static final String KEY_PREFIX = "page-count:{totals}:";
+
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>("""
+        local applied = 0
+        for i = 1, #KEYS do
+          if redis.call('EXISTS', KEYS[i]) == 1 then
+            redis.call('INCRBY', KEYS[i], ARGV[i])
+            applied = applied + 1
+          end
+        end
+        return applied
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public Optional<Long> get(CountedTotal countedTotal) {
+        try {
+            String value = redisTemplate.opsForValue().get(key(countedTotal));
+            return Optional.ofNullable(value).map(Long::valueOf);
+        } catch (DataAccessException e) {
+            throw new PageCountStoreUnavailableException("page count read failed", e);
+        }
+    }
+
+    public void seed(CountedTotal countedTotal, long total) {
+        try {
+            redisTemplate.opsForValue().setIfAbsent(key(countedTotal), Long.toString(total));
+        } catch (DataAccessException e) {
+            throw new PageCountStoreUnavailableException("page count seed failed", e);
+        }
+    }
+
+    public void set(CountedTotal countedTotal, long total) {
+        try {
+            redisTemplate.opsForValue().set(key(countedTotal), Long.toString(total));
+        } catch (DataAccessException e) {
+            throw new PageCountStoreUnavailableException("page count write failed", e);
+        }
+    }
+
+    public void apply(Map<CountedTotal, Long> deltas) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        deltas.forEach((countedTotal, delta) -> {
+            if (delta != 0) {
+                keys.add(key(countedTotal));
+                args.add(delta.toString());
+            }
+        });
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute(APPLY_SCRIPT, keys, args.toArray());
+        } catch (DataAccessException e) {
+            throw new PageCountStoreUnavailableException("page count update failed", e);
+        }
+    }
+
+    private static String key(CountedTotal countedTotal) {
+        return KEY_PREFIX + countedTotal.getKey();
+    }
+}
@@ -0,0 +1,8 @@
+package dev.wgrgwg.somniverse.global.pagecount;
+
+public class PageCountStoreUnavailableException extends RuntimeException {
+
+    public PageCountStoreUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
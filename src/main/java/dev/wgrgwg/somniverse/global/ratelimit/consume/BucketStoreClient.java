@@ -0,0 +1,132 @@
+package dev.wgrgwg.somniverse.global.ratelimit.consume;
+
+import dev.wgrgwg.somniverse.global.ratelimit.policy.MatchedPolicy;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.EstimationProbe;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BucketStoreClient {
+
+    private final RateLimitBucketStore store;
+    private final Timer latencyTimer;
+    private final Counter timeoutCounter;
+    private final Counter errorCounter;
+    private final Counter retryCounter;
+
+    public BucketStoreClient(RateLimitBucketStore store, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.latencyTimer = Timer.builder("ratelimit.redis.latency")
+            .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("ratelimit.redis.failures")
+            .tag("reason", "timeout")
+            .register(meterRegistry);
+        this.errorCounter = Counter.builder("ratelimit.redis.failures")
+            .tag("reason", "error")
+            .register(meterRegistry);
+        this.retryCounter = Counter.builder("ratelimit.redis.retries")
+            .register(meterRegistry);
+    }
+
+    public ConsumptionProbe tryConsumeAndReturnRemaining(String bucketKey, MatchedPolicy policy,
+        long tokens) {
+        return await(policy, System.nanoTime() + policy.timeout().toNanos(), false,
+            () -> store.tryConsumeAndReturnRemaining(bucketKey, policy.bucketConfiguration(),
+                tokens));
+    }
+
+    public long tryConsumeAsMuchAsPossible(String bucketKey, MatchedPolicy policy, long limit,
+        long deadline) {
+        return await(policy, deadline, false, () -> store.tryConsumeAsMuchAsPossible(bucketKey,
+            policy.bucketConfiguration(), limit));
+    }
+
+    public EstimationProbe estimateAbilityToConsume(String bucketKey, MatchedPolicy policy,
+        long tokens, long deadline) {
+        return await(policy, deadline, true, () -> store.estimateAbilityToConsume(bucketKey,
+            policy.bucketConfiguration(), tokens));
+    }
+
+    public void addTokens(String bucketKey, MatchedPolicy policy, long tokens, long deadline) {
+        await(policy, deadline, false,
+            () -> store.addTokens(bucketKey, policy.bucketConfiguration(), tokens));
+    }
+
+    public void addTokensAsync(String bucketKey, MatchedPolicy policy, long tokens) {
+        try {
+            store.addTokens(bucketKey, policy.bucketConfiguration(), tokens)
+                .exceptionally(e -> {
+                    errorCounter.increment();
+                    return null;
+                });
+        } catch (RuntimeException e) {
+            errorCounter.increment();
+        }
+    }
+
+    private <T> T await(MatchedPolicy policy, long deadline, boolean idempotent,
+        Supplier<CompletableFuture<T>> call) {
+        long startedAt = System.nanoTime();
+        int attempt = 0;
+
+        while (true) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                timeoutCounter.increment();
+                throw new RateLimitStoreUnavailableException(
+                    "rate limit store timed out policy=" + policy.name(), null);
+            }
+
+            CompletableFuture<T> future;
+            try {
+                future = call.get();
+            } catch (RuntimeException e) {
+                attempt = nextAttempt(policy, attempt, e);
+                continue;
+            }
+
+            try {
+                T result = future.get(remaining, TimeUnit.NANOSECONDS);
+                latencyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                return result;
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                timeoutCounter.increment();
+                throw new RateLimitStoreUnavailableException(
+                    "rate limit store timed out policy=" + policy.name(), e);
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+                errorCounter.increment();
+                throw new RateLimitStoreUnavailableException(
+                    "rate limit store interrupted policy=" + policy.name(), e);
+            } catch (ExecutionException e) {
+                if (!idempotent) {
+                    errorCounter.increment();
+                    throw new RateLimitStoreUnavailableException(
+                        "rate limit store failed policy=" + policy.name(), e);
+                }
+                attempt = nextAttempt(policy, attempt, e);
+            }
+        }
+    }
+
+    private int nextAttempt(MatchedPolicy policy, int attempt, Exception cause) {
+        if (attempt >= policy.maxRetries()) {
+            errorCounter.increment();
+            throw new RateLimitStoreUnavailableException(
+                "rate limit store failed policy=" + policy.name(), cause);
+        }
+
+        retryCounter.increment();
+        return attempt + 1;
+    }
+}
@@ -0,0 +1,23 @@
+package dev.wgrgwg.somniverse.global.ratelimit.consume;
+
+import io.github.bucket4j.ConsumptionProbe;
+
+public record ConsumptionResult(
+    boolean consumed,
+    long remainingTokens,
+    long nanosToWaitForRefill
+) {
+
+    public static ConsumptionResult from(ConsumptionProbe probe) {
+        return new ConsumptionResult(probe.isConsumed(), probe.getRemainingTokens(),
+            probe.getNanosToWaitForRefill());
+    }
+
+    public static ConsumptionResult consumed(long remainingTokens) {
+        return new ConsumptionResult(true, remainingTokens, 0L);
+    }
+
+    public static ConsumptionResult rejected(long nanosToWaitForRefill) {
+        return new ConsumptionResult(false, 0L, nanosToWaitForRefill);
+    }
+}
@@ -0,0 +1,28 @@
+package dev.wgrgwg.somniverse.global.ratelimit.consume;
+
+import dev.wgrgwg.somniverse.global.ratelimit.policy.MatchedPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DistributedBucketConsumer {
+
+    private final BucketStoreClient bucketStoreClient;
+    private final Counter redisOpsCounter;
+
+    public DistributedBucketConsumer(BucketStoreClient bucketStoreClient,
+        MeterRegistry meterRegistry) {
+        this.bucketStoreClient = bucketStoreClient;
+        this.redisOpsCounter = Counter.builder("ratelimit.redis.ops")
+            .tag("mode", "distributed")
+            .register(meterRegistry);
+    }
+
+    public ConsumptionResult consume(String bucketKey, MatchedPolicy policy) {
+        redisOpsCounter.increment();
+
+        return ConsumptionResult.from(
+            bucketStoreClient.tryConsumeAndReturnRemaining(bucketKey, policy, 1));
+    }
+}
@@ -0,0 +1,267 @@
+package dev.wgrgwg.somniverse.global.ratelimit.consume;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.global.ratelimit.policy.MatchedPolicy;
+import io.github.bucket4j.EstimationProbe;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class HybridBucketConsumer {
+
+    private static final long FAILURE_BACKOFF_NANOS = Duration.ofMillis(200).toNanos();
+
+    private final BucketStoreClient bucketStoreClient;
+    private final LongSupplier nanoClock;
+    private final Cache<String, LocalReservoir> reservoirs;
+    private final Counter redisOpsCounter;
+    private final Counter localHitCounter;
+    private final Counter returnedTokensCounter;
+
+    @Autowired
+    public HybridBucketConsumer(BucketStoreClient bucketStoreClient, AppProperties appProperties,
+        MeterRegistry meterRegistry) {
+        this(bucketStoreClient, appProperties.getRateLimit().getLocalBucketMaximumSize(), meterRegistry,
+            System::nanoTime);
+    }
+
+    HybridBucketConsumer(BucketStoreClient bucketStoreClient, long maximumSize,
+        MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.bucketStoreClient = bucketStoreClient;
+        this.nanoClock = nanoClock;
+        this.reservoirs = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new ReservoirExpiry())
+            .removalListener(this::onReservoirRemoved)
+            .build();
+        this.redisOpsCounter = Counter.builder("ratelimit.redis.ops")
+            .tag("mode", "hybrid")
+            .register(meterRegistry);
+        this.localHitCounter = Counter.builder("ratelimit.local.hits")
+            .register(meterRegistry);
+        this.returnedTokensCounter = Counter.builder("ratelimit.local.returned")
+            .register(meterRegistry);
+    }
+
+    public ConsumptionResult consume(String bucketKey, MatchedPolicy policy) {
+        LocalReservoir reservoir = reservoirs.get(bucketKey,
+            k -> new LocalReservoir(policy, nanoClock.getAsLong()));
+        long deadline = System.nanoTime() + policy.timeout().toNanos();
+
+        while (true) {
+            CompletableFuture<Void> pendingRefill;
+            long leftover = 0;
+
+            lock(reservoir, policy, deadline);
+            try {
+                long now = nanoClock.getAsLong();
+
+                if (reservoir.tokens > 0 && now - reservoir.expiresAtNanos < 0) {
+                    reservoir.tokens--;
+                    localHitCounter.increment();
+                    return ConsumptionResult.consumed(reservoir.tokens);
+                }
+                if (now - reservoir.blockedUntilNanos < 0) {
+                    localHitCounter.increment();
+                    return ConsumptionResult.rejected(reservoir.blockedUntilNanos - now);
+                }
+                if (now - reservoir.failedUntilNanos < 0) {
+                    throw new RateLimitStoreUnavailableException(
+                        "rate limit store backing off policy=" + policy.name(), null);
+                }
+
+                pendingRefill = reservoir.refill;
+                if (pendingRefill == null) {
+                    leftover = reservoir.tokens;
+                    reservoir.tokens = 0;
+                    reservoir.refill = new CompletableFuture<>();
+                }
+            } finally {
+                reservoir.lock.unlock();
+            }
+
+            if (pendingRefill == null) {
+                return refill(bucketKey, policy, reservoir, leftover, deadline);
+            }
+
+            awaitRefill(pendingRefill, policy, deadline);
+        }
+    }
+
+    private ConsumptionResult refill(String bucketKey, MatchedPolicy policy,
+        LocalReservoir reservoir, long leftover, long deadline) {
+        try {
+            if (leftover > 0) {
+                redisOpsCounter.increment();
+                returnedTokensCounter.increment(leftover);
+                bucketStoreClient.addTokens(bucketKey, policy, leftover, deadline);
+            }
+
+            redisOpsCounter.increment();
+            long reserved = bucketStoreClient.tryConsumeAsMuchAsPossible(bucketKey, policy,
+                policy.batchSize(), deadline);
+            if (reserved > 0) {
+                return reservoir.fill(reserved, nanoClock.getAsLong());
+            }
+
+            redisOpsCounter.increment();
+            EstimationProbe estimation = bucketStoreClient.estimateAbilityToConsume(bucketKey,
+                policy, 1, deadline);
+            return reservoir.block(estimation.getNanosToWaitForRefill(), nanoClock.getAsLong());
+        } catch (RateLimitStoreUnavailableException e) {
+            reservoir.backOff(nanoClock.getAsLong());
+            throw e;
+        } finally {
+            reservoir.finishRefill();
+        }
+    }
+
+    private void lock(LocalReservoir reservoir, MatchedPolicy policy, long deadline) {
+        try {
+            if (!reservoir.lock.tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                throw new RateLimitStoreUnavailableException(
+                    "rate limit reservoir lock timed out policy=" + policy.name(), null);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RateLimitStoreUnavailableException(
+                "rate limit reservoir lock interrupted policy=" + policy.name(), e);
+        }
+    }
+
+    private void awaitRefill(CompletableFuture<Void> pendingRefill, MatchedPolicy policy,
+        long deadline) {
+        try {
+            pendingRefill.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new RateLimitStoreUnavailableException(
+                "rate limit refill timed out policy=" + policy.name(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RateLimitStoreUnavailableException(
+                "rate limit refill interrupted policy=" + policy.name(), e);
+        } catch (ExecutionException e) {
+            throw new RateLimitStoreUnavailableException(
+                "rate limit refill failed policy=" + policy.name(), e);
+        }
+    }
+
+    private void onReservoirRemoved(String bucketKey, LocalReservoir reservoir,
+        RemovalCause cause) {
+        if (bucketKey == null || reservoir == null || !cause.wasEvicted()) {
+            return;
+        }
+
+        long leftover = reservoir.drain();
+        if (leftover > 0) {
+            returnedTokensCounter.increment(leftover);
+            bucketStoreClient.addTokensAsync(bucketKey, reservoir.policy, leftover);
+        }
+    }
+
+    private static final class LocalReservoir {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final MatchedPolicy policy;
+        private final long syncIntervalNanos;
+        private long tokens;
+        private long expiresAtNanos;
+        private long blockedUntilNanos;
+        private long failedUntilNanos;
+        private CompletableFuture<Void> refill;
+
+        private LocalReservoir(MatchedPolicy policy, long createdAtNanos) {
+            this.policy = policy;
+            this.syncIntervalNanos = policy.syncInterval().toNanos();
+            this.expiresAtNanos = createdAtNanos;
+            this.blockedUntilNanos = createdAtNanos;
+            this.failedUntilNanos = createdAtNanos;
+        }
+
+        private ConsumptionResult fill(long reserved, long now) {
+            lock.lock();
+            try {
+                tokens = reserved - 1;
+                expiresAtNanos = now + syncIntervalNanos;
+                return ConsumptionResult.consumed(tokens);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private ConsumptionResult block(long nanosToWait, long now) {
+            lock.lock();
+            try {
+                blockedUntilNanos = now + Math.min(nanosToWait, syncIntervalNanos);
+                return ConsumptionResult.rejected(nanosToWait);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void backOff(long now) {
+            lock.lock();
+            try {
+                failedUntilNanos = now + Math.min(FAILURE_BACKOFF_NANOS, syncIntervalNanos);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void finishRefill() {
+            CompletableFuture<Void> finished;
+            lock.lock();
+            try {
+                finished = refill;
+                refill = null;
+            } finally {
+                lock.unlock();
+            }
+            finished.complete(null);
+        }
+
+        private long drain() {
+            lock.lock();
+            try {
+                long leftover = tokens;
+                tokens = 0;
+                return leftover;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static final class ReservoirExpiry implements Expiry<String, LocalReservoir> {
+
+        @Override
+        public long expireAfterCreate(String key, LocalReservoir value, long currentTime) {
+            return value.syncIntervalNanos * 2;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, LocalReservoir value, long currentTime,
+            long currentDuration) {
+            return value.syncIntervalNanos * 2;
+        }
+
+        @Override
+        public long expireAfterRead(String key, LocalReservoir value, long currentTime,
+            long currentDuration) {
+            return value.syncIntervalNanos * 2;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package dev.wgrgwg.somniverse.global.ratelimit.consume;
+
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.EstimationProbe;
+import java.util.concurrent.CompletableFuture;
+
+public interface RateLimitBucketStore {
+
+    CompletableFuture<ConsumptionProbe> tryConsumeAndReturnRemaining(String bucketKey,
+        BucketConfiguration configuration, long tokens);
+
+    CompletableFuture<Long> tryConsumeAsMuchAsPossible(String bucketKey,
+        BucketConfiguration configuration, long limit);
+
+    CompletableFuture<EstimationProbe> estimateAbilityToConsume(String bucketKey,
+        BucketConfiguration configuration, long tokens);
+
+    CompletableFuture<Void> addTokens(String bucketKey, BucketConfiguration configuration,
+        long tokens);
+}
@@ -0,0 +1,8 @@
+package dev.wgrgwg.somniverse.global.ratelimit.consume;
+
+public class RateLimitStoreUnavailableException extends RuntimeException {
+
+    public RateLimitStoreUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,49 @@
+package dev.wgrgwg.somniverse.global.ratelimit.consume;
+
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.EstimationProbe;
+import io.github.bucket4j.distributed.AsyncBucketProxy;
+import io.github.bucket4j.distributed.proxy.AsyncProxyManager;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RedisRateLimitBucketStore implements RateLimitBucketStore {
+
+    private final AsyncProxyManager<String> asyncProxyManager;
+
+    public RedisRateLimitBucketStore(ProxyManager<String> proxyManager) {
+        this.asyncProxyManager = proxyManager.asAsync();
+    }
+
+    @Override
+    public CompletableFuture<ConsumptionProbe> tryConsumeAndReturnRemaining(String bucketKey,
+        BucketConfiguration configuration, long tokens) {
+        return proxy(bucketKey, configuration).tryConsumeAndReturnRemaining(tokens);
+    }
+
+    @Override
+    public CompletableFuture<Long> tryConsumeAsMuchAsPossible(String bucketKey,
+        BucketConfiguration configuration, long limit) {
+        return proxy(bucketKey, configuration).tryConsumeAsMuchAsPossible(limit);
+    }
+
+    @Override
+    public CompletableFuture<EstimationProbe> estimateAbilityToConsume(String bucketKey,
+        BucketConfiguration configuration, long tokens) {
+        return proxy(bucketKey, configuration).estimateAbilityToConsume(tokens);
+    }
+
+    @Override
+    public CompletableFuture<Void> addTokens(String bucketKey, BucketConfiguration configuration,
+        long tokens) {
+        return proxy(bucketKey, configuration).addTokens(tokens);
+    }
+
+    private AsyncBucketProxy proxy(String bucketKey, BucketConfiguration configuration) {
+        return asyncProxyManager.getProxy(bucketKey,
+            () -> CompletableFuture.completedFuture(configuration));
+    }
+}
@@ -1,15 +1,18 @@
 package dev.wgrgwg.somniverse.global.ratelimit.filter;
 
 import dev.wgrgwg.somniverse.global.errorcode.RateLimitErrorCode;
+import dev.wgrgwg.somniverse.global.ratelimit.consume.ConsumptionResult;
+import dev.wgrgwg.somniverse.global.ratelimit.consume.DistributedBucketConsumer;
+import dev.wgrgwg.somniverse.global.ratelimit.consume.HybridBucketConsumer;
+import dev.wgrgwg.somniverse.global.ratelimit.consume.RateLimitStoreUnavailableException;
 import dev.wgrgwg.somniverse.global.ratelimit.key.RateLimitKeyResolver;
+import dev.wgrgwg.somniverse.global.ratelimit.policy.ConsumptionMode;
+import dev.wgrgwg.somniverse.global.ratelimit.policy.FailureMode;
 import dev.wgrgwg.somniverse.global.ratelimit.policy.KeyStrategy;
 import dev.wgrgwg.somniverse.global.ratelimit.policy.MatchedPolicy;
 import dev.wgrgwg.somniverse.global.ratelimit.policy.RateLimitPolicyRegistry;
 import dev.wgrgwg.somniverse.global.ratelimit.util.RateLimitKeys;
 import dev.wgrgwg.somniverse.global.ratelimit.util.RateLimitResponseWriter;
-import io.github.bucket4j.ConsumptionProbe;
-import io.github.bucket4j.distributed.BucketProxy;
-import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,14 +21,17 @@ import java.io.IOException;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class RateLimitFilter extends OncePerRequestFilter {
 
-    private final LettuceBasedProxyManager<String> proxyManager;
+    private final DistributedBucketConsumer distributedBucketConsumer;
+    private final HybridBucketConsumer hybridBucketConsumer;
     private final RateLimitPolicyRegistry registry;
     private final RateLimitKeyResolver keyResolver;
     private final RateLimitResponseWriter rateLimitResponseWriter;
@@ -55,20 +61,44 @@ public class RateLimitFilter extends OncePerRequestFilter {
 
         String bucketKey = computeBucketKey(request, policy.keyStrategy(), policy.name());
 
-        BucketProxy bucket = proxyManager.getProxy(bucketKey, policy::bucketConfiguration);
-        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
-        if (probe.isConsumed()) {
-            rateLimitResponseWriter.writeSuccessHeaders(response, probe.getRemainingTokens(),
+        ConsumptionResult result;
+        try {
+            result = consume(bucketKey, policy);
+        } catch (RateLimitStoreUnavailableException e) {
+            if (policy.failureMode() == FailureMode.CLOSED) {
+                log.warn("[RATE-LIMIT] fail-closed policy={} reason={}", policy.name(),
+                    e.getMessage());
+                rateLimitResponseWriter.writeRetryAfter(response,
+                    RateLimitErrorCode.RATE_LIMIT_UNAVAILABLE, 1L, 0L, policy.name(),
+                    registry.isAddHeaders());
+                return;
+            }
+
+            log.warn("[RATE-LIMIT] fail-open policy={} reason={}", policy.name(), e.getMessage());
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (result.consumed()) {
+            rateLimitResponseWriter.writeSuccessHeaders(response, result.remainingTokens(),
                 registry.isAddHeaders());
             filterChain.doFilter(request, response);
             return;
         }
 
-        long seconds = TimeUnit.NANOSECONDS.toSeconds(probe.getNanosToWaitForRefill());
+        long seconds = TimeUnit.NANOSECONDS.toSeconds(result.nanosToWaitForRefill());
         rateLimitResponseWriter.writeRetryAfter(response, RateLimitErrorCode.TOO_MANY_REQUESTS,
             seconds, 0L, policy.name(), registry.isAddHeaders());
     }
 
+    private ConsumptionResult consume(String bucketKey, MatchedPolicy policy) {
+        if (policy.mode() == ConsumptionMode.HYBRID) {
+            return hybridBucketConsumer.consume(bucketKey, policy);
+        }
+
+        return distributedBucketConsumer.consume(bucketKey, policy);
+    }
+
     private String computeBucketKey(HttpServletRequest request, KeyStrategy keyStrategy,
         String policyName) {
 
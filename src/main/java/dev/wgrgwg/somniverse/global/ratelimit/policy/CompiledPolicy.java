@@ -1,6 +1,7 @@
 package dev.wgrgwg.somniverse.global.ratelimit.policy;
 
 import io.github.bucket4j.BucketConfiguration;
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 
@@ -9,7 +10,13 @@ public record CompiledPolicy(
     List<String> paths,
     Set<String> methods,
     KeyStrategy strategy,
-    BucketConfiguration configuration
+    BucketConfiguration configuration,
+    ConsumptionMode mode,
+    int batchSize,
+    Duration syncInterval,
+    FailureMode failureMode,
+    Duration timeout,
+    int maxRetries
 ) {
 
 }
@@ -0,0 +1,18 @@
+package dev.wgrgwg.somniverse.global.ratelimit.policy;
+
+public enum ConsumptionMode {
+    DISTRIBUTED, HYBRID;
+
+    public static ConsumptionMode from(String v) {
+        if (v == null) {
+            return DISTRIBUTED;
+        }
+
+        String s = v.trim().toLowerCase();
+        if (s.equals("hybrid")) {
+            return HYBRID;
+        }
+
+        return DISTRIBUTED;
+    }
+}
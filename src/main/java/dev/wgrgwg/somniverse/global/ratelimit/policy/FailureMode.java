@@ -0,0 +1,18 @@
+package dev.wgrgwg.somniverse.global.ratelimit.policy;
+
+public enum FailureMode {
+    OPEN, CLOSED;
+
+    public static FailureMode from(String v) {
+        if (v == null) {
+            return OPEN;
+        }
+
+        String s = v.trim().toLowerCase();
+        if (s.equals("closed")) {
+            return CLOSED;
+        }
+
+        return OPEN;
+    }
+}
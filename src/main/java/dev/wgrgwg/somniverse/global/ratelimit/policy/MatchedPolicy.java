@@ -1,11 +1,18 @@
 package dev.wgrgwg.somniverse.global.ratelimit.policy;
 
 import io.github.bucket4j.BucketConfiguration;
+import java.time.Duration;
 
 public record MatchedPolicy(
     KeyStrategy keyStrategy,
     BucketConfiguration bucketConfiguration,
-    String name
+    String name,
+    ConsumptionMode mode,
+    int batchSize,
+    Duration syncInterval,
+    FailureMode failureMode,
+    Duration timeout,
+    int maxRetries
 ) {
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,169 @@
+package dev.wgrgwg.somniverse.global.ratelimit.policy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.util.AntPathMatcher;
+
+final class PathPatternIndex {
+
+    static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private static final String SEPARATOR = "/";
+    private static final String DOUBLE_WILDCARD = "**";
+    private static final String SINGLE_WILDCARD = "*";
+
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+    private final Node root = new Node();
+    private final List<FallbackPattern> fallbackPatterns = new ArrayList<>();
+
+    void add(String pattern, int order) {
+        String[] segments = tokenize(pattern);
+        if (!isIndexable(pattern, segments)) {
+            fallbackPatterns.add(new FallbackPattern(pattern, order));
+            return;
+        }
+
+        Node node = root;
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            boolean last = i == segments.length - 1;
+
+            if (last && segment.equals(DOUBLE_WILDCARD)) {
+                node.doubleWildcardOrder = Math.min(node.doubleWildcardOrder, order);
+                return;
+            }
+
+            if (last && segment.equals(SINGLE_WILDCARD)) {
+                node.trailingSeparatorOrder = Math.min(node.trailingSeparatorOrder, order);
+            }
+
+            if (isSingleSegmentWildcard(segment)) {
+                if (node.wildcardChild == null) {
+                    node.wildcardChild = new Node();
+                }
+                node = node.wildcardChild;
+            } else {
+                node = node.literalChildren.computeIfAbsent(segment, k -> new Node());
+            }
+        }
+        node.terminalOrder = Math.min(node.terminalOrder, order);
+        if (segments.length == 0) {
+            node.trailingSeparatorOrder = Math.min(node.trailingSeparatorOrder, order);
+        }
+    }
+
+    int firstMatch(String path) {
+        if (path == null || !path.startsWith(SEPARATOR)) {
+            return matchFallback(path, NO_MATCH);
+        }
+
+        boolean trailingSeparator = path.endsWith(SEPARATOR);
+        int best = match(root, path, skipSeparators(path, 0), trailingSeparator);
+        return matchFallback(path, best);
+    }
+
+    private int match(Node node, String path, int start, boolean trailingSeparator) {
+        int best = node.doubleWildcardOrder;
+
+        if (start >= path.length()) {
+            if (trailingSeparator) {
+                return Math.min(best, node.trailingSeparatorOrder);
+            }
+            return Math.min(best, node.terminalOrder);
+        }
+
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+        int next = skipSeparators(path, end);
+
+        if (!node.literalChildren.isEmpty()) {
+            Node literal = node.literalChildren.get(path.substring(start, end));
+            if (literal != null) {
+                best = Math.min(best, match(literal, path, next, trailingSeparator));
+            }
+        }
+        if (node.wildcardChild != null) {
+            best = Math.min(best, match(node.wildcardChild, path, next, trailingSeparator));
+        }
+        return best;
+    }
+
+    private int matchFallback(String path, int best) {
+        if (path == null) {
+            return best;
+        }
+        for (FallbackPattern fallback : fallbackPatterns) {
+            if (fallback.order() < best && antPathMatcher.match(fallback.pattern(), path)) {
+                best = fallback.order();
+            }
+        }
+        return best;
+    }
+
+    private static int skipSeparators(String path, int index) {
+        while (index < path.length() && path.charAt(index) == '/') {
+            index++;
+        }
+        return index;
+    }
+
+    private static String[] tokenize(String pattern) {
+        return Arrays.stream(pattern.split(SEPARATOR))
+            .filter(segment -> !segment.isEmpty())
+            .toArray(String[]::new);
+    }
+
+    private static boolean isIndexable(String pattern, String[] segments) {
+        if (!pattern.startsWith(SEPARATOR) || (pattern.length() > 1 && pattern.endsWith(
+            SEPARATOR))) {
+            return false;
+        }
+
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            boolean last = i == segments.length - 1;
+
+            if (segment.equals(DOUBLE_WILDCARD)) {
+                if (!last) {
+                    return false;
+                }
+                continue;
+            }
+            if (isSingleSegmentWildcard(segment)) {
+                continue;
+            }
+            if (segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0
+                || segment.indexOf('{') >= 0 || segment.indexOf('}') >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSingleSegmentWildcard(String segment) {
+        if (segment.equals(SINGLE_WILDCARD)) {
+            return true;
+        }
+        return segment.length() > 2 && segment.charAt(0) == '{'
+            && segment.charAt(segment.length() - 1) == '}'
+            && segment.indexOf(':') < 0 && segment.indexOf('{', 1) < 0;
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> literalChildren = new HashMap<>();
+        private Node wildcardChild;
+        private int terminalOrder = NO_MATCH;
+        private int trailingSeparatorOrder = NO_MATCH;
+        private int doubleWildcardOrder = NO_MATCH;
+    }
+
+    private record FallbackPattern(String pattern, int order) {
+
+    }
+}
@@ -2,57 +2,113 @@ package dev.wgrgwg.somniverse.global.ratelimit.policy;
 
 import static java.util.stream.Collectors.toCollection;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import dev.wgrgwg.somniverse.config.AppProperties;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.BucketConfiguration;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 
+@Slf4j
 @Component
 public class RateLimitPolicyRegistry {
 
-    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
-    private final List<String> whitelistPaths;
     @Getter
     private final boolean enabled;
     @Getter
     private final boolean addHeaders;
     private final List<CompiledPolicy> compiledPolicies;
+    private final List<Optional<MatchedPolicy>> matchedPolicies;
+    private final PathPatternIndex whitelistIndex;
+    private final Map<String, MethodIndex> methodIndexes;
+    private final MethodIndex anyMethodIndex;
 
     public RateLimitPolicyRegistry(AppProperties appProperties) {
         AppProperties.RateLimit rateLimit = appProperties.getRateLimit();
         this.enabled = rateLimit.isEnabled();
         this.addHeaders = rateLimit.isAddHeaders();
-        this.whitelistPaths = rateLimit.getWhitelistPaths();
-        this.compiledPolicies = rateLimit.getPolicies().stream().map(this::compile).toList();
+        this.compiledPolicies = rateLimit.getPolicies().stream()
+            .map(policy -> compile(policy, rateLimit))
+            .toList();
+        this.matchedPolicies = compiledPolicies.stream()
+            .map(cp -> Optional.of(new MatchedPolicy(cp.strategy(), cp.configuration(), cp.name(),
+                cp.mode(), cp.batchSize(), cp.syncInterval(), cp.failureMode(), cp.timeout(),
+                cp.maxRetries())))
+            .toList();
+        this.whitelistIndex = buildWhitelistIndex(rateLimit.getWhitelistPaths());
+
+        long matchCacheSize = rateLimit.getMatchCacheSize();
+        this.anyMethodIndex = buildMethodIndex(null, matchCacheSize);
+        this.methodIndexes = new HashMap<>();
+        for (CompiledPolicy cp : compiledPolicies) {
+            for (String method : cp.methods()) {
+                methodIndexes.computeIfAbsent(method, m -> buildMethodIndex(m, matchCacheSize));
+            }
+        }
     }
 
     public boolean isWhitelisted(String uri) {
-        return whitelistPaths.stream().anyMatch(p -> antPathMatcher.match(p, uri));
+        return whitelistIndex.firstMatch(uri) != PathPatternIndex.NO_MATCH;
     }
 
     public Optional<MatchedPolicy> match(String uri, String httpMethod) {
-        String methodUpper;
-        if (httpMethod != null) {
-            methodUpper = httpMethod.toUpperCase(Locale.ROOT);
-        } else {
-            methodUpper = "";
+        return resolveMethodIndex(httpMethod).match(uri);
+    }
+
+    private MethodIndex resolveMethodIndex(String httpMethod) {
+        if (httpMethod == null) {
+            return anyMethodIndex;
         }
 
-        return compiledPolicies.stream()
-            .filter(cp -> cp.methods().isEmpty() || cp.methods().contains(methodUpper))
-            .filter(cp -> cp.paths().stream().anyMatch(pat -> antPathMatcher.match(pat, uri)))
-            .findFirst().map(cp -> new MatchedPolicy(cp.strategy(), cp.configuration(), cp.name()));
+        MethodIndex methodIndex = methodIndexes.get(httpMethod);
+        if (methodIndex == null) {
+            methodIndex = methodIndexes.get(httpMethod.toUpperCase(Locale.ROOT));
+        }
+        if (methodIndex == null) {
+            return anyMethodIndex;
+        }
+        return methodIndex;
+    }
 
+    private PathPatternIndex buildWhitelistIndex(List<String> whitelistPaths) {
+        PathPatternIndex index = new PathPatternIndex();
+        for (int i = 0; i < whitelistPaths.size(); i++) {
+            index.add(whitelistPaths.get(i), i);
+        }
+        return index;
     }
 
-    private CompiledPolicy compile(AppProperties.RateLimit.Policy policy) {
+    private MethodIndex buildMethodIndex(String method, long matchCacheSize) {
+        PathPatternIndex index = new PathPatternIndex();
+        for (int order = 0; order < compiledPolicies.size(); order++) {
+            CompiledPolicy cp = compiledPolicies.get(order);
+            if (!cp.methods().isEmpty() && !cp.methods().contains(method)) {
+                continue;
+            }
+            for (String path : cp.paths()) {
+                index.add(path, order);
+            }
+        }
+
+        Cache<String, Optional<MatchedPolicy>> cache = null;
+        if (matchCacheSize > 0) {
+            cache = Caffeine.newBuilder().maximumSize(matchCacheSize).build();
+        }
+        return new MethodIndex(index, cache);
+    }
+
+    private CompiledPolicy compile(AppProperties.RateLimit.Policy policy,
+        AppProperties.RateLimit rateLimit) {
         String name = policy.getName();
 
         List<String> paths = policy.getPaths();
@@ -62,8 +118,43 @@ public class RateLimitPolicyRegistry {
 
         KeyStrategy strategy = KeyStrategy.from(policy.getKeyStrategy());
         BucketConfiguration configuration = buildBucketConfiguration(policy);
+        ConsumptionMode mode = resolveMode(policy);
+        FailureMode failureMode = FailureMode.from(policy.getFailureMode());
+
+        Duration timeout = policy.getTimeout();
+        if (timeout == null) {
+            timeout = rateLimit.getRedisTimeout();
+        }
+
+        int maxRetries = rateLimit.getMaxRetries();
+        if (policy.getMaxRetries() != null) {
+            maxRetries = policy.getMaxRetries();
+        }
+
+        return new CompiledPolicy(name, paths, methods, strategy, configuration, mode,
+            policy.getBatchSize(), policy.getSyncInterval(), failureMode, timeout, maxRetries);
+    }
+
+    private ConsumptionMode resolveMode(AppProperties.RateLimit.Policy policy) {
+        ConsumptionMode mode = ConsumptionMode.from(policy.getMode());
+        if (mode != ConsumptionMode.HYBRID) {
+            return mode;
+        }
+
+        int minCapacity = policy.getLimits().stream()
+            .mapToInt(AppProperties.RateLimit.Limit::getCapacity)
+            .min()
+            .orElse(0);
+        Duration syncInterval = policy.getSyncInterval();
+
+        if (policy.getBatchSize() < 2 || policy.getBatchSize() > minCapacity / 2
+            || syncInterval == null || syncInterval.isZero() || syncInterval.isNegative()) {
+            log.warn("[RATE-LIMIT] policy={} falls back to distributed batchSize={} minCapacity={}",
+                policy.getName(), policy.getBatchSize(), minCapacity);
+            return ConsumptionMode.DISTRIBUTED;
+        }
 
-        return new CompiledPolicy(name, paths, methods, strategy, configuration);
+        return ConsumptionMode.HYBRID;
     }
 
     private BucketConfiguration buildBucketConfiguration(AppProperties.RateLimit.Policy policy) {
@@ -74,4 +165,40 @@ public class RateLimitPolicyRegistry {
         return new BucketConfiguration(limits);
     }
 
+    private final class MethodIndex {
+
+        private final PathPatternIndex index;
+        private final Cache<String, Optional<MatchedPolicy>> cache;
+
+        private MethodIndex(PathPatternIndex index, Cache<String, Optional<MatchedPolicy>> cache) {
+            this.index = index;
+            this.cache = cache;
+        }
+
+        private Optional<MatchedPolicy> match(String uri) {
+            if (uri == null) {
+                return Optional.empty();
+            }
+            if (cache == null) {
+                return lookup(uri);
+            }
+
+            Optional<MatchedPolicy> cached = cache.getIfPresent(uri);
+            if (cached != null) {
+                return cached;
+            }
+
+            Optional<MatchedPolicy> matched = lookup(uri);
+            cache.put(uri, matched);
+            return matched;
+        }
+
+        private Optional<MatchedPolicy> lookup(String uri) {
+            int order = index.firstMatch(uri);
+            if (order == PathPatternIndex.NO_MATCH) {
+                return Optional.empty();
+            }
+            return matchedPolicies.get(order);
+        }
+    }
 }
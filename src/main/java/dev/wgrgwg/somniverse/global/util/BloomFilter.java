@@ -0,0 +1,65 @@
+package dev.wgrgwg.somniverse.global.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int numHashFunctions;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long numBits = optimalNumOfBits(expectedInsertions, falsePositiveRate);
+        int numWords = (int) Math.ceil(numBits / 64.0);
+
+        this.bits = new AtomicLongArray(numWords);
+        this.bitSize = (long) numWords * 64;
+        this.numHashFunctions = optimalNumOfHashFunctions(expectedInsertions, bitSize);
+    }
+
+    public void put(long hash1, long hash2) {
+        long combined = hash1;
+        for (int i = 0; i < numHashFunctions; i++) {
+            setBit((combined & Long.MAX_VALUE) % bitSize);
+            combined += hash2;
+        }
+    }
+
+    public boolean mightContain(long hash1, long hash2) {
+        long combined = hash1;
+        for (int i = 0; i < numHashFunctions; i++) {
+            if (!getBit((combined & Long.MAX_VALUE) % bitSize)) {
+                return false;
+            }
+            combined += hash2;
+        }
+        return true;
+    }
+
+    private void setBit(long bitIndex) {
+        int wordIndex = (int) (bitIndex >>> 6);
+        long mask = 1L << bitIndex;
+
+        long oldValue;
+        do {
+            oldValue = bits.get(wordIndex);
+            if ((oldValue & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(wordIndex, oldValue, oldValue | mask));
+    }
+
+    private boolean getBit(long bitIndex) {
+        return (bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) != 0;
+    }
+
+    private static long optimalNumOfBits(long expectedInsertions, double falsePositiveRate) {
+        return Math.max(64,
+            (long) (-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2)
+                * Math.log(2))));
+    }
+
+    private static int optimalNumOfHashFunctions(long expectedInsertions, long numBits) {
+        return Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+    }
+}
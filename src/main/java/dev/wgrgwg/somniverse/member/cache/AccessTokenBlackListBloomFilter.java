@@ -0,0 +1,118 @@
+package dev.wgrgwg.somniverse.member.cache;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.global.util.BloomFilter;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AccessTokenBlackListBloomFilter {
+
+    private final boolean enabled;
+    private final long windowMillis;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final LongSupplier clock;
+    private final ReentrantLock rotationLock = new ReentrantLock();
+
+    private volatile Generations generations;
+    private volatile boolean ready;
+
+    @Autowired
+    public AccessTokenBlackListBloomFilter(AppProperties appProperties) {
+        this(appProperties.getJwt().getBlacklistBloom().isEnabled(),
+            appProperties.getJwt().getAccessTokenExpirationMs(),
+            appProperties.getJwt().getBlacklistBloom().getExpectedInsertions(),
+            appProperties.getJwt().getBlacklistBloom().getFalsePositiveRate(),
+            System::currentTimeMillis);
+    }
+
+    AccessTokenBlackListBloomFilter(boolean enabled, long windowMillis, long expectedInsertions,
+        double falsePositiveRate, LongSupplier clock) {
+        this.enabled = enabled;
+        this.windowMillis = windowMillis;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.clock = clock;
+        this.generations = new Generations(currentWindow(), newFilter(), newFilter());
+    }
+
+    public void put(String tokenHash) {
+        if (!enabled) {
+            return;
+        }
+
+        currentGenerations().current().put(hash1(tokenHash), hash2(tokenHash));
+    }
+
+    public boolean isDefinitelyAbsent(String tokenHash) {
+        if (!enabled || !ready) {
+            return false;
+        }
+
+        long hash1 = hash1(tokenHash);
+        long hash2 = hash2(tokenHash);
+        Generations snapshot = currentGenerations();
+
+        return !snapshot.current().mightContain(hash1, hash2)
+            && !snapshot.previous().mightContain(hash1, hash2);
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public void markStale() {
+        this.ready = false;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private Generations currentGenerations() {
+        Generations snapshot = generations;
+        long window = currentWindow();
+        if (snapshot.window() == window) {
+            return snapshot;
+        }
+
+        rotationLock.lock();
+        try {
+            snapshot = generations;
+            if (snapshot.window() == window) {
+                return snapshot;
+            }
+
+            BloomFilter previous = snapshot.window() == window - 1
+                ? snapshot.current() : newFilter();
+            snapshot = new Generations(window, newFilter(), previous);
+            generations = snapshot;
+            return snapshot;
+        } finally {
+            rotationLock.unlock();
+        }
+    }
+
+    private long currentWindow() {
+        return clock.getAsLong() / windowMillis;
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    private static long hash1(String tokenHash) {
+        return Long.parseUnsignedLong(tokenHash, 0, 16, 16);
+    }
+
+    private static long hash2(String tokenHash) {
+        return Long.parseUnsignedLong(tokenHash, 16, 32, 16) | 1L;
+    }
+
+    private record Generations(long window, BloomFilter current, BloomFilter previous) {
+
+    }
+}
@@ -0,0 +1,193 @@
+package dev.wgrgwg.somniverse.member.cache;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.member.repository.AccessTokenBlackListRepository;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class AccessTokenBlackListBloomSynchronizer {
+
+    private final AccessTokenBlackListRepository accessTokenBlackListRepository;
+    private final AccessTokenBlackListBloomFilter bloomFilter;
+    private final long gapGraceNanos;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock versionLock = new ReentrantLock();
+    private final AtomicBoolean synchronizing = new AtomicBoolean();
+    private final TreeSet<Long> pendingVersions = new TreeSet<>();
+    private long appliedVersion = -1;
+    private long latestKnownVersion = -1;
+    private boolean gapOpen;
+    private long gapOpenedAt;
+    private boolean resyncRequired;
+
+    @Autowired
+    public AccessTokenBlackListBloomSynchronizer(
+        AccessTokenBlackListRepository accessTokenBlackListRepository,
+        AccessTokenBlackListBloomFilter bloomFilter, AppProperties appProperties) {
+        this(accessTokenBlackListRepository, bloomFilter,
+            appProperties.getJwt().getBlacklistBloom().getGapGracePeriod().toNanos(),
+            System::nanoTime);
+    }
+
+    AccessTokenBlackListBloomSynchronizer(
+        AccessTokenBlackListRepository accessTokenBlackListRepository,
+        AccessTokenBlackListBloomFilter bloomFilter, long gapGraceNanos, LongSupplier nanoClock) {
+        this.accessTokenBlackListRepository = accessTokenBlackListRepository;
+        this.bloomFilter = bloomFilter;
+        this.gapGraceNanos = gapGraceNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        synchronize();
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.blacklist-bloom.resync-interval}",
+        initialDelayString = "${app.jwt.blacklist-bloom.resync-interval}")
+    public void synchronize() {
+        if (!bloomFilter.isEnabled() || !synchronizing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            versionLock.lock();
+            try {
+                resyncRequired = false;
+            } finally {
+                versionLock.unlock();
+            }
+
+            long version = accessTokenBlackListRepository.currentVersion();
+            long count = accessTokenBlackListRepository.forEachBlacklistedHash(bloomFilter::put);
+
+            versionLock.lock();
+            try {
+                appliedVersion = version;
+                pendingVersions.headSet(version, true).clear();
+                latestKnownVersion = pendingVersions.isEmpty() ? version : pendingVersions.last();
+                gapOpen = false;
+                drainPendingVersions();
+                if (!resyncRequired && !gapOpen) {
+                    bloomFilter.markReady();
+                }
+            } finally {
+                versionLock.unlock();
+            }
+
+            log.info("[BL] bloom filter synchronized entries={} version={}", count, version);
+        } catch (RuntimeException e) {
+            log.warn("[BL] bloom filter synchronization failed err={}", e.toString());
+        } finally {
+            synchronizing.set(false);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.blacklist-bloom.version-check-interval}",
+        initialDelayString = "${app.jwt.blacklist-bloom.version-check-interval}")
+    public void checkVersion() {
+        if (!bloomFilter.isEnabled()) {
+            return;
+        }
+
+        long version;
+        try {
+            version = accessTokenBlackListRepository.currentVersion();
+        } catch (RuntimeException e) {
+            requestResync();
+            log.warn("[BL] blacklist version check failed err={}", e.toString());
+            return;
+        }
+
+        boolean stale;
+        versionLock.lock();
+        try {
+            latestKnownVersion = Math.max(latestKnownVersion, version);
+            if (synchronizing.get()) {
+                return;
+            }
+
+            drainPendingVersions();
+            stale = resyncRequired || version < appliedVersion || gapExpired();
+            if (stale) {
+                bloomFilter.markStale();
+            }
+        } finally {
+            versionLock.unlock();
+        }
+
+        if (stale) {
+            log.info("[BL] bloom filter stale, resynchronizing version={}", version);
+            synchronize();
+        }
+    }
+
+    public void onEventApplied(long version) {
+        versionLock.lock();
+        try {
+            if (version <= appliedVersion || !pendingVersions.add(version)) {
+                return;
+            }
+
+            latestKnownVersion = Math.max(latestKnownVersion, version);
+            if (!synchronizing.get()) {
+                drainPendingVersions();
+            }
+        } finally {
+            versionLock.unlock();
+        }
+    }
+
+    public void requestResync() {
+        versionLock.lock();
+        try {
+            resyncRequired = true;
+            bloomFilter.markStale();
+        } finally {
+            versionLock.unlock();
+        }
+    }
+
+    private void drainPendingVersions() {
+        while (pendingVersions.remove(appliedVersion + 1)) {
+            appliedVersion++;
+        }
+        updateGap();
+    }
+
+    private void updateGap() {
+        if (appliedVersion >= latestKnownVersion) {
+            pendingVersions.clear();
+            if (gapOpen) {
+                gapOpen = false;
+                if (!resyncRequired && !synchronizing.get()) {
+                    bloomFilter.markReady();
+                }
+            }
+            return;
+        }
+
+        if (!gapOpen) {
+            gapOpen = true;
+            gapOpenedAt = nanoClock.getAsLong();
+            bloomFilter.markStale();
+            log.info("[BL] blacklist event gap opened applied={} latest={}", appliedVersion,
+                latestKnownVersion);
+        }
+    }
+
+    private boolean gapExpired() {
+        return gapOpen && nanoClock.getAsLong() - gapOpenedAt >= gapGraceNanos;
+    }
+}
@@ -0,0 +1,56 @@
+package dev.wgrgwg.somniverse.member.cache;
+
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccessTokenBlackListEventListener implements MessageListener, SubscriptionListener {
+
+    public static final String CHANNEL = "BL:EVENTS";
+    private static final String DELIMITER = ":";
+    private static final int PAYLOAD_PARTS = 3;
+
+    private final AccessTokenBlackListNearCache nearCache;
+    private final AccessTokenBlackListBloomFilter bloomFilter;
+    private final AccessTokenBlackListBloomSynchronizer bloomSynchronizer;
+
+    public static String toPayload(String tokenHash, long remainingExpirationMillis,
+        long version) {
+        return tokenHash + DELIMITER + remainingExpirationMillis + DELIMITER + version;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = payload.split(DELIMITER);
+
+        try {
+            if (parts.length != PAYLOAD_PARTS) {
+                throw new IllegalArgumentException("unexpected parts=" + parts.length);
+            }
+
+            String tokenHash = parts[0];
+            long remainingExpirationMillis = Long.parseLong(parts[1]);
+            long version = Long.parseLong(parts[2]);
+
+            bloomFilter.put(tokenHash);
+            nearCache.putBlacklisted(tokenHash, remainingExpirationMillis);
+            bloomSynchronizer.onEventApplied(version);
+        } catch (RuntimeException e) {
+            log.warn("[BL] invalid blacklist event payload={} err={}", payload, e.toString());
+        }
+    }
+
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        log.info("[BL] blacklist channel subscribed, bloom filter resync requested");
+        bloomSynchronizer.requestResync();
+    }
+}
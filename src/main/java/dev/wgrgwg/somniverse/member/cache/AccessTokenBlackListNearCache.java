@@ -0,0 +1,96 @@
+package dev.wgrgwg.somniverse.member.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import dev.wgrgwg.somniverse.config.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AccessTokenBlackListNearCache {
+
+    private final boolean enabled;
+    private final long negativeTtlMillis;
+    private final Cache<String, CachedVerdict> cache;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public AccessTokenBlackListNearCache(AppProperties appProperties, MeterRegistry meterRegistry) {
+        AppProperties.Jwt.BlacklistCache properties = appProperties.getJwt().getBlacklistCache();
+
+        this.enabled = properties.isEnabled();
+        this.negativeTtlMillis = properties.getNegativeTtl().toMillis();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfter(new VerdictExpiry())
+            .build();
+        this.hitCounter = Counter.builder("jwt.blacklist.near-cache")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder("jwt.blacklist.near-cache")
+            .tag("result", "miss")
+            .register(meterRegistry);
+    }
+
+    public Boolean getIfPresent(String tokenHash) {
+        if (!enabled) {
+            return null;
+        }
+
+        CachedVerdict verdict = cache.getIfPresent(tokenHash);
+        if (verdict == null) {
+            missCounter.increment();
+            return null;
+        }
+
+        hitCounter.increment();
+        return verdict.blacklisted();
+    }
+
+    public void putBlacklisted(String tokenHash, long remainingExpirationMillis) {
+        if (!enabled || remainingExpirationMillis <= 0) {
+            return;
+        }
+
+        cache.put(tokenHash, new CachedVerdict(true, remainingExpirationMillis));
+    }
+
+    public void putAllowed(String tokenHash, long remainingExpirationMillis) {
+        long ttlMillis = Math.min(negativeTtlMillis, remainingExpirationMillis);
+        if (!enabled || ttlMillis <= 0) {
+            return;
+        }
+
+        CachedVerdict allowed = new CachedVerdict(false, ttlMillis);
+        cache.asMap().compute(tokenHash,
+            (key, current) -> current != null && current.blacklisted() ? current : allowed);
+    }
+
+    private record CachedVerdict(boolean blacklisted, long ttlMillis) {
+
+    }
+
+    private static class VerdictExpiry implements Expiry<String, CachedVerdict> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedVerdict value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(value.ttlMillis());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedVerdict value, long currentTime,
+            long currentDuration) {
+            return TimeUnit.MILLISECONDS.toNanos(value.ttlMillis());
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedVerdict value, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
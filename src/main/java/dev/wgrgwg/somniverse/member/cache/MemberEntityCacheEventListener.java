@@ -0,0 +1,65 @@
+package dev.wgrgwg.somniverse.member.cache;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.config.HibernateCacheConfig;
+import dev.wgrgwg.somniverse.member.domain.Member;
+import jakarta.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberEntityCacheEventListener implements MessageListener {
+
+    public static final String CHANNEL = "MEMBER_CACHE:EVENTS";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final TaskScheduler taskScheduler;
+    private final AppProperties appProperties;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            Long memberId = Long.valueOf(payload);
+            evict(memberId);
+            scheduleReplicaLagEviction(memberId);
+        } catch (RuntimeException e) {
+            log.warn("[MEMBER_CACHE] invalid cache event payload={} err={}", payload,
+                e.toString());
+        }
+    }
+
+    private void scheduleReplicaLagEviction(Long memberId) {
+        AppProperties.ReadReplica readReplica = appProperties.getReadReplica();
+        if (!readReplica.isEnabled()) {
+            return;
+        }
+
+        Duration delay = readReplica.getMaxLag().plus(readReplica.getCheckInterval());
+        taskScheduler.schedule(() -> {
+            try {
+                evict(memberId);
+            } catch (RuntimeException e) {
+                log.warn("[MEMBER_CACHE] delayed eviction failed. memberId={}, err={}", memberId,
+                    e.toString());
+            }
+        }, Instant.now().plus(delay));
+    }
+
+    private void evict(Long memberId) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        cache.evictEntityData(Member.class, memberId);
+        cache.evictQueryRegion(HibernateCacheConfig.MEMBER_LOOKUP_REGION);
+    }
+}
@@ -0,0 +1,29 @@
+package dev.wgrgwg.somniverse.member.cache;
+
+import dev.wgrgwg.somniverse.member.event.MemberChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberEntityCacheInvalidator {
+
+    private final StringRedisTemplate redisTemplate;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMemberChanged(MemberChangedEvent event) {
+        try {
+            redisTemplate.convertAndSend(MemberEntityCacheEventListener.CHANNEL,
+                event.memberId().toString());
+        } catch (DataAccessException e) {
+            log.warn("[MEMBER_CACHE] eviction broadcast failed. memberId={}, reason={}",
+                event.memberId(), e.getMessage());
+        }
+    }
+}
@@ -1,14 +1,16 @@
 package dev.wgrgwg.somniverse.member.controller;
 
+import dev.wgrgwg.somniverse.config.AppProperties;
 import dev.wgrgwg.somniverse.global.dto.ApiResponseDto;
+import dev.wgrgwg.somniverse.global.pagecount.CountStrategy;
 import dev.wgrgwg.somniverse.member.dto.request.MemberRoleUpdateRequest;
 import dev.wgrgwg.somniverse.member.dto.response.MemberAdminResponse;
 import dev.wgrgwg.somniverse.member.service.MemberService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -28,11 +30,16 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdminMemberController {
 
     private final MemberService memberService;
+    private final AppProperties appProperties;
 
     @GetMapping
-    public ResponseEntity<ApiResponseDto<Page<MemberAdminResponse>>> getAllMember(Pageable pageable,
-        @RequestParam(required = false) String keyword) {
-        Page<MemberAdminResponse> response = memberService.getAllMembersForAdmin(pageable, keyword);
+    public ResponseEntity<ApiResponseDto<Slice<MemberAdminResponse>>> getAllMember(
+        Pageable pageable, @RequestParam(required = false) String keyword,
+        @RequestParam(defaultValue = "false") boolean exactCount) {
+        CountStrategy countStrategy = exactCount ? CountStrategy.EXACT
+            : appProperties.getPageCount().getAdminMembers();
+        Slice<MemberAdminResponse> response = memberService.getAllMembersForAdmin(pageable,
+            keyword, countStrategy);
 
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDto.success(response));
     }
@@ -0,0 +1,7 @@
+package dev.wgrgwg.somniverse.member.event;
+
+public record MemberChangedEvent(
+    Long memberId
+) {
+
+}
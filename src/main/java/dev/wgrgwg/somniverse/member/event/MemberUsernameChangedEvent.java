@@ -0,0 +1,8 @@
+package dev.wgrgwg.somniverse.member.event;
+
+public record MemberUsernameChangedEvent(
+    Long memberId,
+    String username
+) {
+
+}
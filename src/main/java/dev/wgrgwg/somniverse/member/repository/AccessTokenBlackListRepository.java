@@ -1,9 +1,15 @@
 package dev.wgrgwg.somniverse.member.repository;
 
 import dev.wgrgwg.somniverse.global.util.HashUtil;
+import dev.wgrgwg.somniverse.member.cache.AccessTokenBlackListBloomFilter;
+import dev.wgrgwg.somniverse.member.cache.AccessTokenBlackListEventListener;
+import dev.wgrgwg.somniverse.member.cache.AccessTokenBlackListNearCache;
 import java.time.Duration;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -11,8 +17,12 @@ import org.springframework.stereotype.Repository;
 public class AccessTokenBlackListRepository {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final AccessTokenBlackListNearCache nearCache;
+    private final AccessTokenBlackListBloomFilter bloomFilter;
     public static final String BLACKLIST_PREFIX = "BL:";
     public static final String BL_VALUE = "logout";
+    public static final String VERSION_KEY = "BL-VERSION";
+    private static final long SCAN_COUNT = 1000;
 
     public void save(String accessToken, long remainingExpirationMillis) {
         String hashedToken = HashUtil.sha256(accessToken);
@@ -20,12 +30,60 @@ public class AccessTokenBlackListRepository {
 
         redisTemplate.opsForValue()
             .set(key, BL_VALUE, Duration.ofMillis(remainingExpirationMillis));
+
+        Long version = redisTemplate.opsForValue().increment(VERSION_KEY);
+
+        bloomFilter.put(hashedToken);
+        nearCache.putBlacklisted(hashedToken, remainingExpirationMillis);
+        redisTemplate.convertAndSend(AccessTokenBlackListEventListener.CHANNEL,
+            AccessTokenBlackListEventListener.toPayload(hashedToken, remainingExpirationMillis,
+                version == null ? 0 : version));
     }
 
-    public boolean exists(String accessToken) {
-        String hashedToken = HashUtil.sha256(accessToken);
-        String key = BLACKLIST_PREFIX + hashedToken;
+    public long currentVersion() {
+        Object version = redisTemplate.opsForValue().get(VERSION_KEY);
+        return version == null ? 0 : Long.parseLong(version.toString());
+    }
+
+    public boolean exists(String accessToken, long remainingExpirationMillis) {
+        return existsByHash(HashUtil.sha256(accessToken), remainingExpirationMillis);
+    }
+
+    public boolean existsByHash(String hashedToken, long remainingExpirationMillis) {
+        Boolean cached = nearCache.getIfPresent(hashedToken);
+        if (cached != null) {
+            return cached;
+        }
+
+        if (bloomFilter.isDefinitelyAbsent(hashedToken)) {
+            return false;
+        }
+
+        boolean blacklisted = Boolean.TRUE.equals(
+            redisTemplate.hasKey(BLACKLIST_PREFIX + hashedToken));
+
+        if (blacklisted) {
+            nearCache.putBlacklisted(hashedToken, remainingExpirationMillis);
+        } else {
+            nearCache.putAllowed(hashedToken, remainingExpirationMillis);
+        }
+
+        return blacklisted;
+    }
+
+    public long forEachBlacklistedHash(Consumer<String> consumer) {
+        ScanOptions options = ScanOptions.scanOptions()
+            .match(BLACKLIST_PREFIX + "*")
+            .count(SCAN_COUNT)
+            .build();
 
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        long count = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                consumer.accept(cursor.next().substring(BLACKLIST_PREFIX.length()));
+                count++;
+            }
+        }
+        return count;
     }
 }
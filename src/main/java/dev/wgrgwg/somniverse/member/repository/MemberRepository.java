@@ -1,16 +1,28 @@
 package dev.wgrgwg.somniverse.member.repository;
 
+import dev.wgrgwg.somniverse.config.HibernateCacheConfig;
 import dev.wgrgwg.somniverse.member.domain.Member;
 import dev.wgrgwg.somniverse.member.domain.Provider;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHE_REGION,
+            value = HibernateCacheConfig.MEMBER_LOOKUP_REGION)})
     Optional<Member> findByEmail(String email);
 
     Boolean existsByEmail(String email);
@@ -19,8 +31,28 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Boolean existsByEmailAndProvider(String email, Provider provider);
 
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHE_REGION,
+            value = HibernateCacheConfig.MEMBER_LOOKUP_REGION)})
     Optional<Member> findByProviderAndProviderId(Provider provider, String providerId);
 
     Page<Member> findByEmailContainingOrUsernameContaining(String email, String username,
         Pageable pageable);
+
+    Slice<Member> findSliceByEmailContainingOrUsernameContaining(String email, String username,
+        Pageable pageable);
+
+    @Query("""
+        SELECT m
+        FROM Member m
+        """)
+    Slice<Member> findAllAsSlice(Pageable pageable);
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("""
+        SELECT m.username
+        FROM Member m
+        WHERE m.id = :memberId
+        """)
+    Optional<String> findUsernameById(@Param("memberId") Long memberId);
 }
@@ -1,6 +1,10 @@
 package dev.wgrgwg.somniverse.member.service;
 
 import dev.wgrgwg.somniverse.global.exception.CustomException;
+import dev.wgrgwg.somniverse.global.pagecount.CountStrategy;
+import dev.wgrgwg.somniverse.global.pagecount.CountedTotal;
+import dev.wgrgwg.somniverse.global.pagecount.PageCountChangedEvent;
+import dev.wgrgwg.somniverse.global.pagecount.PageCountService;
 import dev.wgrgwg.somniverse.member.domain.Member;
 import dev.wgrgwg.somniverse.member.domain.Provider;
 import dev.wgrgwg.somniverse.member.domain.Role;
@@ -9,12 +13,16 @@ import dev.wgrgwg.somniverse.member.dto.request.MemberUsernameUpdateRequest;
 import dev.wgrgwg.somniverse.member.dto.request.SignupRequest;
 import dev.wgrgwg.somniverse.member.dto.response.MemberAdminResponse;
 import dev.wgrgwg.somniverse.member.dto.response.MemberResponse;
+import dev.wgrgwg.somniverse.member.event.MemberChangedEvent;
+import dev.wgrgwg.somniverse.member.event.MemberUsernameChangedEvent;
 import dev.wgrgwg.somniverse.member.exception.MemberErrorCode;
 import dev.wgrgwg.somniverse.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,6 +34,8 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PageCountService pageCountService;
 
     @Transactional
     public MemberResponse signup(SignupRequest signupRequest) {
@@ -44,6 +54,8 @@ public class MemberService {
             .provider(Provider.LOCAL).build();
 
         Member savedMember = memberRepository.save(newMember);
+        eventPublisher.publishEvent(new MemberChangedEvent(savedMember.getId()));
+        eventPublisher.publishEvent(PageCountChangedEvent.of(CountedTotal.ALL_MEMBERS, 1));
 
         return MemberResponse.fromEntity(savedMember);
     }
@@ -58,12 +70,30 @@ public class MemberService {
             pageable).map(MemberAdminResponse::fromEntity);
     }
 
+    @Transactional(readOnly = true)
+    public Slice<MemberAdminResponse> getAllMembersForAdmin(Pageable pageable, String keyword,
+        CountStrategy countStrategy) {
+        if (keyword == null) {
+            return pageCountService.find(countStrategy, CountedTotal.ALL_MEMBERS, pageable,
+                p -> getAllMembersForAdmin(p, null),
+                p -> memberRepository.findAllAsSlice(p).map(MemberAdminResponse::fromEntity));
+        }
+
+        if (countStrategy == CountStrategy.EXACT) {
+            return getAllMembersForAdmin(pageable, keyword);
+        }
+
+        return memberRepository.findSliceByEmailContainingOrUsernameContaining(keyword, keyword,
+            pageable).map(MemberAdminResponse::fromEntity);
+    }
+
     @Transactional
     public MemberAdminResponse updateMemberRoleByAdmin(Long memberId,
         MemberRoleUpdateRequest request) {
         Member member = getMemberOrThrow(memberId);
 
         member.updateRole(request.role());
+        eventPublisher.publishEvent(new MemberChangedEvent(memberId));
 
         return MemberAdminResponse.fromEntity(member);
     }
@@ -77,6 +107,8 @@ public class MemberService {
         }
 
         member.updateUsername(request.username());
+        eventPublisher.publishEvent(new MemberUsernameChangedEvent(memberId, request.username()));
+        eventPublisher.publishEvent(new MemberChangedEvent(memberId));
 
         return MemberResponse.fromEntity(member);
     }
@@ -97,4 +129,9 @@ public class MemberService {
         return memberRepository.findById(id)
             .orElseThrow(() -> new CustomException(MemberErrorCode.MEMBER_NOT_FOUND));
     }
+
+    public String getUsernameOrThrow(Long id) {
+        return memberRepository.findUsernameById(id)
+            .orElseThrow(() -> new CustomException(MemberErrorCode.MEMBER_NOT_FOUND));
+    }
 }
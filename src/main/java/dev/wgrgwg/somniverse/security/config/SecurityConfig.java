@@ -7,6 +7,7 @@ import dev.wgrgwg.somniverse.security.jwt.filter.JwtAuthenticationFilter;
 import dev.wgrgwg.somniverse.security.oauth.handler.OAuth2AuthenticationFailureHandler;
 import dev.wgrgwg.somniverse.security.oauth.handler.OAuth2AuthenticationSuccessHandler;
 import dev.wgrgwg.somniverse.security.oauth.service.CustomOAuth2UserService;
+import jakarta.servlet.DispatcherType;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -17,8 +18,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -41,11 +40,6 @@ public class SecurityConfig {
     private final RateLimitFilter rateLimitFilter;
     private final AppProperties appProperties;
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
     @Bean
     public AuthenticationManager authenticationManager(
         AuthenticationConfiguration authenticationConfiguration) throws Exception {
@@ -78,7 +72,10 @@ public class SecurityConfig {
             .httpBasic(AbstractHttpConfigurer::disable).sessionManagement(
                 session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(
-                auth -> auth.requestMatchers("/api/admin/members/**").hasAnyAuthority("ADMIN")
+                auth -> auth.dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR)
+                    .permitAll()
+                    .requestMatchers("/api/admin/members/**").hasAnyAuthority("ADMIN")
+                    .requestMatchers("/actuator/metrics/**").hasAnyAuthority("ADMIN")
                     .requestMatchers("/api/admin/**").hasAnyAuthority("ADMIN", "MANAGER")
                     .requestMatchers(AUTH_WHITELIST).permitAll().anyRequest().authenticated())
             .oauth2Login(oauth2 -> oauth2.userInfoEndpoint(
@@ -3,11 +3,13 @@ package dev.wgrgwg.somniverse.security.jwt.filter;
 import dev.wgrgwg.somniverse.member.exception.MemberErrorCode;
 import dev.wgrgwg.somniverse.member.repository.AccessTokenBlackListRepository;
 import dev.wgrgwg.somniverse.security.jwt.provider.JwtProvider;
+import dev.wgrgwg.somniverse.security.jwt.provider.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -31,15 +33,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = resolveToken(request);
 
         if (token != null) {
-            if (accessTokenBlackListRepository.exists(token)) {
-                response.sendError(HttpServletResponse.SC_UNAUTHORIZED,
-                    MemberErrorCode.TOKEN_NOT_FOUND.getMessage());
+            Optional<VerifiedToken> verified = jwtProvider.verify(token);
 
-                return;
-            }
+            if (verified.isPresent()) {
+                VerifiedToken verifiedToken = verified.get();
+
+                if (accessTokenBlackListRepository.existsByHash(verifiedToken.tokenHash(),
+                    verifiedToken.remainingExpirationMillis())) {
+                    response.sendError(HttpServletResponse.SC_UNAUTHORIZED,
+                        MemberErrorCode.TOKEN_NOT_FOUND.getMessage());
+
+                    return;
+                }
 
-            if (jwtProvider.validateToken(token)) {
-                Authentication authentication = jwtProvider.getAuthentication(token);
+                Authentication authentication = jwtProvider.getAuthentication(verifiedToken);
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
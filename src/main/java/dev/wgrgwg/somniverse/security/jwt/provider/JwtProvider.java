@@ -1,41 +1,47 @@
 package dev.wgrgwg.somniverse.security.jwt.provider;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.global.util.HashUtil;
 import dev.wgrgwg.somniverse.member.domain.Member;
-import dev.wgrgwg.somniverse.member.domain.Role;
 import dev.wgrgwg.somniverse.member.dto.response.TokenResponse;
 import dev.wgrgwg.somniverse.security.userdetails.CustomUserDetails;
-import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import jakarta.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtProvider {
 
     private final AppProperties appProperties;
-    private SecretKey secretKey;
+    private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final Cache<String, VerifiedToken> verifiedTokenCache;
 
-    @PostConstruct
-    private void init() {
+    public JwtProvider(AppProperties appProperties) {
+        this.appProperties = appProperties;
         this.secretKey = new SecretKeySpec(
             appProperties.getJwt().getSecret().getBytes(StandardCharsets.UTF_8),
             Jwts.SIG.HS256.key().build().getAlgorithm()
         );
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
+        this.verifiedTokenCache = createVerifiedTokenCache(
+            appProperties.getJwt().getVerifiedCache());
     }
 
     public TokenResponse generateToken(Member member) {
@@ -43,10 +49,10 @@ public class JwtProvider {
 
         String role = member.getRole().name();
 
-        String accessToken = createJwt(subject, "access", role,
+        String accessToken = createJwt(subject, VerifiedToken.ACCESS_CATEGORY, role,
             appProperties.getJwt().getAccessTokenExpirationMs());
 
-        String refreshToken = createJwt(subject, "refresh", role,
+        String refreshToken = createJwt(subject, VerifiedToken.REFRESH_CATEGORY, role,
             appProperties.getJwt().getRefreshTokenExpirationMs());
 
         return new TokenResponse(accessToken, refreshToken);
@@ -64,29 +70,49 @@ public class JwtProvider {
             .compact();
     }
 
-    public boolean validateToken(String token) {
+    public Optional<VerifiedToken> verify(String token) {
+        String tokenHash = HashUtil.sha256(token);
+
+        if (verifiedTokenCache != null) {
+            VerifiedToken cached = verifiedTokenCache.getIfPresent(tokenHash);
+            if (cached != null) {
+                return cached.isExpired() ? Optional.empty() : Optional.of(cached);
+            }
+        }
+
         try {
-            return !getClaims(token).getExpiration().before(new Date());
-        } catch (Exception e) {
-            return false;
+            VerifiedToken verified = VerifiedToken.of(tokenHash,
+                jwtParser.parseSignedClaims(token).getPayload());
+
+            if (verifiedTokenCache != null && verified.isAccessToken()) {
+                verifiedTokenCache.put(tokenHash, verified);
+            }
+            return Optional.of(verified);
+        } catch (RuntimeException e) {
+            return Optional.empty();
         }
     }
 
-    public Authentication getAuthentication(String token) {
-        Claims claims = getClaims(token);
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
 
-        Collection<? extends GrantedAuthority> authorities =
-            Arrays.stream(claims.get("role").toString().split(","))
-                .map(SimpleGrantedAuthority::new)
-                .toList();
+    public Authentication getAuthentication(VerifiedToken verifiedToken) {
+        Member member = Member.builder()
+            .id(verifiedToken.memberId())
+            .role(verifiedToken.role())
+            .build();
+        CustomUserDetails userDetails = new CustomUserDetails(member);
 
-        Long memberId = Long.parseLong(claims.getSubject());
-        Role role = Role.valueOf(claims.get("role").toString());
+        return new UsernamePasswordAuthenticationToken(userDetails, null,
+            List.of(new SimpleGrantedAuthority(verifiedToken.role().name())));
+    }
 
-        Member member = Member.builder().id(memberId).role(role).build();
-        CustomUserDetails userDetails = new CustomUserDetails(member);
+    public Authentication getAuthentication(String token) {
+        VerifiedToken verifiedToken = verify(token)
+            .orElseThrow(() -> new JwtException("유효하지 않은 토큰입니다"));
 
-        return new UsernamePasswordAuthenticationToken(userDetails, null, authorities);
+        return getAuthentication(verifiedToken);
     }
 
     public Long getRemainingExpirationMillis(String accessToken) {
@@ -96,22 +122,35 @@ public class JwtProvider {
             token = accessToken.substring(7);
         }
 
-        try {
-            Date expirationDate = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getExpiration();
-
-            return Math.max(expirationDate.getTime() - System.currentTimeMillis(), 0);
-        } catch (Exception e) {
-            return 0L;
-        }
+        return verify(token).map(VerifiedToken::remainingExpirationMillis).orElse(0L);
     }
 
-    private Claims getClaims(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
-            .parseSignedClaims(token).getPayload();
+    private static Cache<String, VerifiedToken> createVerifiedTokenCache(
+        AppProperties.Jwt.VerifiedCache properties) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+
+        return Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                    return TimeUnit.MILLISECONDS.toNanos(value.remainingExpirationMillis());
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+                    long currentDuration) {
+                    return TimeUnit.MILLISECONDS.toNanos(value.remainingExpirationMillis());
+                }
+
+                @Override
+                public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+                    long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
     }
 }
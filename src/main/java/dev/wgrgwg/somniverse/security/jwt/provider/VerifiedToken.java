@@ -0,0 +1,38 @@
+package dev.wgrgwg.somniverse.security.jwt.provider;
+
+import dev.wgrgwg.somniverse.member.domain.Role;
+import io.jsonwebtoken.Claims;
+
+public record VerifiedToken(
+    String tokenHash,
+    Long memberId,
+    Role role,
+    String category,
+    long expiresAtMillis
+) {
+
+    public static final String ACCESS_CATEGORY = "access";
+    public static final String REFRESH_CATEGORY = "refresh";
+
+    public static VerifiedToken of(String tokenHash, Claims claims) {
+        return new VerifiedToken(
+            tokenHash,
+            Long.parseLong(claims.getSubject()),
+            Role.valueOf(claims.get("role", String.class)),
+            claims.get("category", String.class),
+            claims.getExpiration().getTime()
+        );
+    }
+
+    public long remainingExpirationMillis() {
+        return Math.max(expiresAtMillis - System.currentTimeMillis(), 0);
+    }
+
+    public boolean isAccessToken() {
+        return ACCESS_CATEGORY.equals(category);
+    }
+
+    public boolean isExpired() {
+        return remainingExpirationMillis() == 0;
+    }
+}
@@ -1,8 +1,11 @@
 package dev.wgrgwg.somniverse.security.oauth.service;
 
+import dev.wgrgwg.somniverse.global.pagecount.CountedTotal;
+import dev.wgrgwg.somniverse.global.pagecount.PageCountChangedEvent;
 import dev.wgrgwg.somniverse.member.domain.Member;
 import dev.wgrgwg.somniverse.member.domain.Provider;
 import dev.wgrgwg.somniverse.member.domain.Role;
+import dev.wgrgwg.somniverse.member.event.MemberChangedEvent;
 import dev.wgrgwg.somniverse.member.repository.MemberRepository;
 import dev.wgrgwg.somniverse.security.oauth.exception.OAuthErrorCode;
 import dev.wgrgwg.somniverse.security.oauth.exception.OAuthException;
@@ -13,6 +16,7 @@ import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
@@ -31,6 +35,7 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
     private static final int MAX_RETRIES = 5;
 
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -69,6 +74,8 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
             .build();
 
         Member savedMember = memberRepository.save(newMember);
+        eventPublisher.publishEvent(new MemberChangedEvent(savedMember.getId()));
+        eventPublisher.publishEvent(PageCountChangedEvent.of(CountedTotal.ALL_MEMBERS, 1));
 
         log.info("새로운 OAuth 사용자 생성: memberId={}, email={}, provider={}",
             savedMember.getId(), savedMember.getEmail(), provider.name());
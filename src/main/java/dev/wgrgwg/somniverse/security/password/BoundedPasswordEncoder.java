@@ -0,0 +1,184 @@
+package dev.wgrgwg.somniverse.security.password;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.global.errorcode.CommonErrorCode;
+import dev.wgrgwg.somniverse.global.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[abxy]?\\$(\\d\\d)\\$");
+
+    private final PasswordEncoder delegate;
+    private final int strength;
+    private final Duration timeout;
+    private final int retryAfterSeconds;
+    private final ThreadPoolExecutor executor;
+    private final Map<Operation, OperationMetrics> metrics = new EnumMap<>(Operation.class);
+
+    @Autowired
+    public BoundedPasswordEncoder(AppProperties appProperties, MeterRegistry meterRegistry) {
+        this(appProperties.getPasswordHashing(), meterRegistry,
+            new BCryptPasswordEncoder(appProperties.getPasswordHashing().getStrength()));
+    }
+
+    BoundedPasswordEncoder(AppProperties.PasswordHashing config, MeterRegistry meterRegistry,
+        PasswordEncoder delegate) {
+        this.strength = config.getStrength();
+        this.delegate = delegate;
+        this.timeout = config.getTimeout();
+        this.retryAfterSeconds = config.getRetryAfterSeconds();
+        this.executor = new ThreadPoolExecutor(config.getPoolSize(), config.getPoolSize(), 0L,
+            TimeUnit.MILLISECONDS, newQueue(config.getQueueCapacity()), newThreadFactory(),
+            new ThreadPoolExecutor.AbortPolicy());
+
+        for (Operation operation : Operation.values()) {
+            metrics.put(operation, OperationMetrics.register(meterRegistry, operation));
+        }
+        meterRegistry.gauge("password.hash.queue.depth", executor, e -> e.getQueue().size());
+        meterRegistry.gauge("password.hash.active", executor, ThreadPoolExecutor::getActiveCount);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(Operation.ENCODE, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(Operation.MATCHES, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return false;
+        }
+
+        return Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Operation operation, Callable<T> task) {
+        OperationMetrics operationMetrics = metrics.get(operation);
+        long enqueuedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                operationMetrics.queueWait().record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.call();
+                } finally {
+                    operationMetrics.hash().record(System.nanoTime() - startedAt,
+                        TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            operationMetrics.rejected().increment();
+            log.warn("[AUTH] password hashing rejected: queue full. operation={}", operation);
+            throw overloaded();
+        }
+
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            executor.remove((Runnable) future);
+            operationMetrics.timedOut().increment();
+            log.warn("[AUTH] password hashing timed out. operation={}, timeout={}", operation,
+                timeout);
+            throw overloaded();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw overloaded();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private ServiceOverloadedException overloaded() {
+        return new ServiceOverloadedException(CommonErrorCode.SERVICE_OVERLOADED,
+            retryAfterSeconds);
+    }
+
+    private static BlockingQueue<Runnable> newQueue(int capacity) {
+        if (capacity == 0) {
+            return new SynchronousQueue<>();
+        }
+        return new ArrayBlockingQueue<>(capacity);
+    }
+
+    private static ThreadFactory newThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private enum Operation {
+        ENCODE, MATCHES
+    }
+
+    private record OperationMetrics(Timer queueWait, Timer hash, Counter rejected,
+                                    Counter timedOut) {
+
+        private static OperationMetrics register(MeterRegistry meterRegistry,
+            Operation operation) {
+            String tag = operation.name().toLowerCase(Locale.ROOT);
+            return new OperationMetrics(
+                Timer.builder("password.hash.queue.wait").tag("operation", tag)
+                    .register(meterRegistry),
+                Timer.builder("password.hash.duration").tag("operation", tag)
+                    .register(meterRegistry),
+                Counter.builder("password.hash.rejected").tag("operation", tag)
+                    .tag("reason", "queue_full").register(meterRegistry),
+                Counter.builder("password.hash.rejected").tag("operation", tag)
+                    .tag("reason", "timeout").register(meterRegistry));
+        }
+    }
+}
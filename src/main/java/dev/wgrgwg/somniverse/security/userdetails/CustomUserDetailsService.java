@@ -1,19 +1,27 @@
 package dev.wgrgwg.somniverse.security.userdetails;
 
 import dev.wgrgwg.somniverse.member.domain.Member;
+import dev.wgrgwg.somniverse.member.event.MemberChangedEvent;
 import dev.wgrgwg.somniverse.member.exception.MemberErrorCode;
 import dev.wgrgwg.somniverse.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService,
+    UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -22,4 +30,18 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         return new CustomUserDetails(member);
     }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Long memberId = ((CustomUserDetails) user).getMember().getId();
+        Member member = memberRepository.findById(memberId).orElseThrow(
+            () -> new UsernameNotFoundException(MemberErrorCode.MEMBER_NOT_FOUND.getMessage()));
+
+        member.updatePassword(newPassword);
+        eventPublisher.publishEvent(new MemberChangedEvent(memberId));
+        log.info("[AUTH] password rehashed memberId={}", memberId);
+
+        return new CustomUserDetails(member);
+    }
 }
@@ -5,6 +5,7 @@ import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
 import io.lettuce.core.api.StatefulRedisConnection;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -25,6 +26,9 @@ class SomniverseApplicationTests {
     @MockitoBean
     private RateLimitConfig rateLimitConfig;
 
+    @MockitoBean
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
     @Test
     void contextLoads() {
     }
@@ -0,0 +1,126 @@
+package dev.wgrgwg.somniverse.comment.performance;
+
+import dev.wgrgwg.somniverse.comment.domain.Comment;
+import dev.wgrgwg.somniverse.dream.domain.Dream;
+import dev.wgrgwg.somniverse.dream.repository.DreamRepository;
+import dev.wgrgwg.somniverse.member.domain.Member;
+import dev.wgrgwg.somniverse.member.domain.Role;
+import dev.wgrgwg.somniverse.member.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import org.assertj.core.api.Assertions;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@Tag("performance")
+@ActiveProfiles("test")
+@DataJpaTest
+class CommentBulkInsertBenchmarkTest {
+
+    private static final int TOTAL_COMMENTS = 100_000;
+    private static final int FLUSH_INTERVAL = 1_000;
+    private static final int UNBATCHED = 1;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private DreamRepository dreamRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    private Statistics stats;
+    private Long memberId;
+    private Long dreamId;
+
+    @BeforeEach
+    void setUp() {
+        stats = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        stats.setStatisticsEnabled(true);
+
+        Member member = memberRepository.save(
+            Member.builder()
+                .email("bulk@test.com")
+                .password("pw")
+                .username("bulk")
+                .role(Role.USER)
+                .build()
+        );
+        Dream dream = dreamRepository.save(
+            Dream.builder()
+                .title("꿈 제목")
+                .content("꿈 내용")
+                .member(member)
+                .build()
+        );
+        memberId = member.getId();
+        dreamId = dream.getId();
+
+        em.flush();
+        em.clear();
+        stats.clear();
+    }
+
+    @Test
+    @DisplayName("댓글 10만 건 저장 시 행 단위 INSERT와 JDBC 배치 INSERT의 소요 시간 및 구문 수 비교")
+    void compareRowByRowAndBatchedInserts() {
+        // when
+        InsertResult rowByRow = insertComments(UNBATCHED);
+        InsertResult batched = insertComments(batchSize);
+
+        // then
+        System.out.println("[댓글 10만 건] 행 단위 INSERT 소요 시간(ms) = " + rowByRow.millis()
+            + ", 실행 구문 수 = " + rowByRow.statements());
+        System.out.println("[댓글 10만 건] 배치 INSERT(batch_size=" + batchSize + ") 소요 시간(ms) = "
+            + batched.millis() + ", 실행 구문 수 = " + batched.statements());
+
+        Long count = em.createQuery("select count(c) from Comment c", Long.class)
+            .getSingleResult();
+        Assertions.assertThat(count).isEqualTo(TOTAL_COMMENTS * 2L);
+        Assertions.assertThat(rowByRow.statements()).isGreaterThanOrEqualTo(TOTAL_COMMENTS);
+        Assertions.assertThat(batched.statements())
+            .isLessThanOrEqualTo(TOTAL_COMMENTS / batchSize * 2L + FLUSH_INTERVAL);
+    }
+
+    private InsertResult insertComments(int jdbcBatchSize) {
+        Session session = em.unwrap(Session.class);
+        session.setJdbcBatchSize(jdbcBatchSize);
+        stats.clear();
+
+        long start = System.nanoTime();
+        for (int i = 1; i <= TOTAL_COMMENTS; i++) {
+            em.persist(Comment.builder()
+                .content("댓글 " + i)
+                .dream(em.getReference(Dream.class, dreamId))
+                .member(em.getReference(Member.class, memberId))
+                .build());
+
+            if (i % FLUSH_INTERVAL == 0) {
+                em.flush();
+                em.clear();
+            }
+        }
+        em.flush();
+        em.clear();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        session.setJdbcBatchSize(null);
+        return new InsertResult(millis, stats.getPrepareStatementCount());
+    }
+
+    private record InsertResult(long millis, long statements) {
+
+    }
+}
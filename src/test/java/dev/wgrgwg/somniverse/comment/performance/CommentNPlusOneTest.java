@@ -1,6 +1,10 @@
 package dev.wgrgwg.somniverse.comment.performance;
 
+import static org.mockito.Mockito.when;
+
 import dev.wgrgwg.somniverse.comment.domain.Comment;
+import dev.wgrgwg.somniverse.comment.dto.request.CommentCreateRequest;
+import dev.wgrgwg.somniverse.comment.dto.response.CommentResponse;
 import dev.wgrgwg.somniverse.comment.repository.CommentRepository;
 import dev.wgrgwg.somniverse.comment.service.CommentService;
 import dev.wgrgwg.somniverse.dream.domain.Dream;
@@ -20,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -52,6 +57,8 @@ class CommentNPlusOneTest {
 
     private Long dreamId;
 
+    private Long firstCommentId;
+
     private Statistics stats;
 
     @BeforeEach
@@ -88,11 +95,15 @@ class CommentNPlusOneTest {
                     .build()
             );
 
-            commentRepository.save(Comment.builder()
+            Comment comment = commentRepository.save(Comment.builder()
                 .content("댓글 " + i)
                 .dream(dream)
                 .member(commenter)
                 .build());
+
+            if (firstCommentId == null) {
+                firstCommentId = comment.getId();
+            }
         }
 
         em.flush();
@@ -110,6 +121,39 @@ class CommentNPlusOneTest {
         // then
         long queryCount = stats.getPrepareStatementCount();
         System.out.println("총 실행된 쿼리 수 = " + queryCount);
-        Assertions.assertThat(queryCount).isLessThanOrEqualTo(3L);
+        Assertions.assertThat(queryCount).isLessThanOrEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("댓글 조회 시 대댓글 수는 추가 쿼리 없이 단일 쿼리로 조회")
+    void replyCountIsServedWithoutExtraQuery() {
+        // given
+        Dream dream = dreamRepository.findById(dreamId).orElseThrow();
+        Member replier = dream.getMember();
+        when(dreamService.getDreamOrThrow(dreamId)).thenReturn(dream);
+        when(memberService.getMemberOrThrow(replier.getId())).thenReturn(replier);
+
+        for (int i = 1; i <= 3; i++) {
+            commentService.createComment(dreamId, new CommentCreateRequest("대댓글 " + i,
+                firstCommentId), replier.getId());
+        }
+
+        em.flush();
+        em.clear();
+        stats.clear();
+
+        // when
+        Page<CommentResponse> comments = commentService.getPagedParentCommentsByDream(dreamId,
+            false, PageRequest.of(0, 200));
+
+        // then
+        long queryCount = stats.getPrepareStatementCount();
+        System.out.println("총 실행된 쿼리 수 = " + queryCount);
+        Assertions.assertThat(queryCount).isEqualTo(1L);
+        Assertions.assertThat(comments.getContent())
+            .filteredOn(comment -> comment.id().equals(firstCommentId))
+            .singleElement()
+            .extracting(CommentResponse::totalChildrenCount)
+            .isEqualTo(3L);
     }
 }
@@ -3,14 +3,15 @@ package dev.wgrgwg.somniverse.comment.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import dev.wgrgwg.somniverse.comment.domain.Comment;
 import dev.wgrgwg.somniverse.comment.dto.request.CommentCreateRequest;
 import dev.wgrgwg.somniverse.comment.dto.request.CommentUpdateRequest;
+import dev.wgrgwg.somniverse.comment.dto.response.CommentListEntry;
 import dev.wgrgwg.somniverse.comment.dto.response.CommentResponse;
 import dev.wgrgwg.somniverse.comment.exception.CommentErrorCode;
 import dev.wgrgwg.somniverse.comment.repository.CommentRepository;
@@ -21,7 +22,6 @@ import dev.wgrgwg.somniverse.member.domain.Member;
 import dev.wgrgwg.somniverse.member.domain.Role;
 import dev.wgrgwg.somniverse.member.service.MemberService;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -100,6 +100,7 @@ class CommentServiceTest {
             assertThat(response.author().username()).isEqualTo(testMember.getUsername());
             assertThat(response.parentId()).isNull();
             verify(commentRepository).save(any(Comment.class));
+            verify(commentRepository, never()).incrementReplyCount(anyLong());
         }
 
         @Test
@@ -123,6 +124,7 @@ class CommentServiceTest {
             assertThat(response.content()).isEqualTo("대댓글");
             assertThat(response.parentId()).isEqualTo(parentComment.getId());
             verify(commentRepository).findByIdAndIsDeletedFalse(parentComment.getId());
+            verify(commentRepository).incrementReplyCount(parentComment.getId());
         }
 
         @Test
@@ -196,6 +198,7 @@ class CommentServiceTest {
             // then
             assertThat(childComment.isDeleted()).isTrue();
             verify(commentRepository).findByIdAndIsDeletedFalse(childComment.getId());
+            verify(commentRepository).decrementReplyCount(parentComment.getId());
         }
 
         @Test
@@ -211,6 +214,7 @@ class CommentServiceTest {
             // then
             assertThat(parentComment.isDeleted()).isTrue();
             verify(commentRepository).findByIdAndIsDeletedFalse(parentComment.getId());
+            verify(commentRepository, never()).decrementReplyCount(anyLong());
         }
 
         @Test
@@ -243,12 +247,11 @@ class CommentServiceTest {
         void getPagedParentComments_whenNotAdmin_shouldShowDeletedMessage() {
             // given
             ReflectionTestUtils.setField(parentComment, "isDeleted", true);
-            Page<Comment> commentsPage = new PageImpl<>(List.of(parentComment), pageable, 1);
+            Page<CommentListEntry> commentsPage = new PageImpl<>(
+                List.of(toListEntry(parentComment)), pageable, 1);
             when(dreamService.getDreamOrThrow(anyLong())).thenReturn(testDream);
             when(commentRepository.findAllByDreamIdAndParentIsNull(anyLong(),
                 any(Pageable.class))).thenReturn(commentsPage);
-            when(commentRepository.countChildrenGroupedByParentId(anyList())).thenReturn(
-                Collections.emptyList());
 
             // when
             Page<CommentResponse> responsePage = commentService.getPagedParentCommentsByDream(
@@ -258,17 +261,35 @@ class CommentServiceTest {
             assertThat(responsePage.getContent().get(0).content()).isEqualTo("삭제된 댓글입니다.");
         }
 
+        @Test
+        @DisplayName("부모 댓글 목록 조회 시 저장된 대댓글 수를 추가 쿼리 없이 반환")
+        void getPagedParentComments_whenCalled_shouldUseStoredReplyCount() {
+            // given
+            ReflectionTestUtils.setField(parentComment, "replyCount", 3L);
+            Page<CommentListEntry> commentsPage = new PageImpl<>(
+                List.of(toListEntry(parentComment)), pageable, 1);
+            when(dreamService.getDreamOrThrow(anyLong())).thenReturn(testDream);
+            when(commentRepository.findAllByDreamIdAndParentIsNull(anyLong(),
+                any(Pageable.class))).thenReturn(commentsPage);
+
+            // when
+            Page<CommentResponse> responsePage = commentService.getPagedParentCommentsByDream(
+                testDream.getId(), false, pageable);
+
+            // then
+            assertThat(responsePage.getContent().get(0).totalChildrenCount()).isEqualTo(3L);
+        }
+
         @Test
         @DisplayName("관리자로 조회 시 삭제된 댓글도 내용이 그대로 보임")
         void getPagedParentComments_whenAdmin_shouldShowOriginalContent() {
             // given
             ReflectionTestUtils.setField(parentComment, "isDeleted", true);
-            Page<Comment> commentsPage = new PageImpl<>(List.of(parentComment), pageable, 1);
+            Page<CommentListEntry> commentsPage = new PageImpl<>(
+                List.of(toListEntry(parentComment)), pageable, 1);
             when(dreamService.getDreamOrThrow(anyLong())).thenReturn(testDream);
             when(commentRepository.findAllByDreamIdAndParentIsNull(anyLong(),
                 any(Pageable.class))).thenReturn(commentsPage);
-            when(commentRepository.countChildrenGroupedByParentId(anyList())).thenReturn(
-                Collections.emptyList());
 
             // when
             Page<CommentResponse> responsePage = commentService.getPagedParentCommentsByDream(
@@ -282,7 +303,8 @@ class CommentServiceTest {
         @DisplayName("대댓글 목록 조회 성공 시 Page<CommentResponse> 반환")
         void getPagedChildrenComments_whenWithValidParent_shouldReturnPagedResponse() {
             // given
-            Page<Comment> childrenPage = new PageImpl<>(List.of(childComment), pageable, 1);
+            Page<CommentListEntry> childrenPage = new PageImpl<>(
+                List.of(toListEntry(childComment)), pageable, 1);
             when(commentRepository.findAllByParentId(parentComment.getId(), pageable)).thenReturn(
                 childrenPage);
 
@@ -295,4 +317,75 @@ class CommentServiceTest {
             assertThat(responsePage.getContent().get(0).content()).isEqualTo("대댓글");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("대댓글 수 보정 테스트")
+    class ReconcileReplyCountTests {
+
+        @Test
+        @DisplayName("저장된 대댓글 수와 실제 수가 다른 댓글만 보정 대상으로 반환")
+        void scanReplyCounts_whenDrifted_shouldReturnOnlyDriftedIds() {
+            // given
+            List<Object[]> rows = List.of(
+                new Object[]{201L, 2L, 2L},
+                new Object[]{203L, 5L, 3L}
+            );
+            when(commentRepository.findReplyCountsAfter(0L, PageRequest.ofSize(2))).thenReturn(
+                rows);
+
+            // when
+            ReplyCountScanResult result = commentService.scanReplyCounts(0L, 2);
+
+            // then
+            assertThat(result.lastId()).isEqualTo(203L);
+            assertThat(result.driftedIds()).containsExactly(203L);
+            assertThat(result.hasMore(2)).isTrue();
+            verify(commentRepository, never()).updateReplyCount(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("부모 댓글 행을 잠근 뒤 다시 센 대댓글 수로 보정")
+        void recountReplyCount_whenDrifted_shouldLockParentAndUpdate() {
+            // given
+            ReflectionTestUtils.setField(parentComment, "replyCount", 5L);
+            when(commentRepository.findByIdForUpdate(parentComment.getId())).thenReturn(
+                Optional.of(parentComment));
+            when(commentRepository.countByParentIdAndIsDeletedFalse(parentComment.getId()))
+                .thenReturn(3L);
+
+            // when
+            boolean corrected = commentService.recountReplyCount(parentComment.getId());
+
+            // then
+            assertThat(corrected).isTrue();
+            verify(commentRepository).updateReplyCount(parentComment.getId(), 3L);
+        }
+
+        @Test
+        @DisplayName("잠금 후 다시 센 수가 저장된 수와 같으면 보정하지 않음")
+        void recountReplyCount_whenAlreadyConsistent_shouldNotUpdate() {
+            // given
+            ReflectionTestUtils.setField(parentComment, "replyCount", 3L);
+            when(commentRepository.findByIdForUpdate(parentComment.getId())).thenReturn(
+                Optional.of(parentComment));
+            when(commentRepository.countByParentIdAndIsDeletedFalse(parentComment.getId()))
+                .thenReturn(3L);
+
+            // when
+            boolean corrected = commentService.recountReplyCount(parentComment.getId());
+
+            // then
+            assertThat(corrected).isFalse();
+            verify(commentRepository, never()).updateReplyCount(anyLong(), anyLong());
+        }
+    }
+
+    private CommentListEntry toListEntry(Comment comment) {
+        Member author = comment.getMember();
+        Long parentId = comment.getParent() == null ? null : comment.getParent().getId();
+        return new CommentListEntry(comment.getId(), comment.getContent(), author.getId(),
+            author.getEmail(), author.getUsername(), author.getRole(), author.getCreatedAt(),
+            comment.getCreatedAt(), comment.getUpdatedAt(), comment.isDeleted(), parentId,
+            comment.getReplyCount());
+    }
+}
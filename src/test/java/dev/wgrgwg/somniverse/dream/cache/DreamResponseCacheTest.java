@@ -0,0 +1,180 @@
+package dev.wgrgwg.somniverse.dream.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.dream.dto.response.DreamResponse;
+import dev.wgrgwg.somniverse.member.dto.response.MemberResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class DreamResponseCacheTest {
+
+    private static final Long DREAM_ID = 101L;
+    private static final int CONCURRENT_READERS = 16;
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private DreamResponseCache dreamResponseCache;
+    private AtomicInteger loaderCalls;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(),
+            anyString())).thenReturn(1L);
+
+        AppProperties appProperties = new AppProperties();
+        AppProperties.DreamCache properties = appProperties.getDreamCache();
+        properties.setEnabled(true);
+        properties.setLocalMaximumSize(100);
+        properties.setLocalTtl(Duration.ofMinutes(1));
+        properties.setTtl(Duration.ofMinutes(10));
+        properties.setTombstoneTtl(Duration.ofSeconds(5));
+
+        ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+        dreamResponseCache = new DreamResponseCache(redisTemplate, objectMapper, appProperties,
+            new SimpleMeterRegistry());
+        loaderCalls = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 꿈일기 동시 조회 시 DB 로더는 한 번만 호출되고 이후 조회는 로컬 캐시에서 반환")
+    void get_concurrentMisses_shouldLoadOnce() throws Exception {
+        // given
+        CountDownLatch loaderEntered = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_READERS);
+
+        // when
+        List<Future<DreamResponse>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < CONCURRENT_READERS; i++) {
+                results.add(executor.submit(() -> dreamResponseCache.get(DREAM_ID, () -> {
+                    loaderCalls.incrementAndGet();
+                    loaderEntered.countDown();
+                    await(releaseLoader);
+                    return response(1L);
+                })));
+            }
+            assertThat(loaderEntered.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(100);
+            releaseLoader.countDown();
+
+            for (Future<DreamResponse> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).id()).isEqualTo(DREAM_ID);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        DreamResponse cached = dreamResponseCache.get(DREAM_ID, this::countingLoader);
+
+        // then
+        assertThat(loaderCalls).hasValue(1);
+        assertThat(cached.id()).isEqualTo(DREAM_ID);
+    }
+
+    @Test
+    @DisplayName("로딩 중 무효화되면 조회 결과는 반환하되 로컬 캐시에 저장하지 않음")
+    void get_invalidatedDuringLoad_shouldNotPopulateLocalCache() {
+        // given
+        dreamResponseCache.get(DREAM_ID, () -> {
+            DreamResponse response = countingLoader();
+            dreamResponseCache.invalidate(DREAM_ID);
+            return response;
+        });
+
+        // when
+        dreamResponseCache.get(DREAM_ID, this::countingLoader);
+
+        // then
+        assertThat(loaderCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB 조회 결과를 그대로 반환하고 로컬 캐시에 저장하지 않음")
+    @SuppressWarnings("unchecked")
+    void get_whenRedisUnavailable_shouldFallBackToLoader() {
+        // given
+        when(valueOperations.get(anyString())).thenThrow(
+            new RedisConnectionFailureException("down"));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(),
+            anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        DreamResponse first = dreamResponseCache.get(DREAM_ID, this::countingLoader);
+        DreamResponse second = dreamResponseCache.get(DREAM_ID, this::countingLoader);
+
+        // then
+        assertThat(first.id()).isEqualTo(DREAM_ID);
+        assertThat(second.id()).isEqualTo(DREAM_ID);
+        assertThat(loaderCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("작성자 단위 로컬 무효화는 해당 작성자의 꿈일기만 제거")
+    void evictLocalByAuthor_shouldEvictOnlyThatAuthorsDreams() {
+        // given
+        dreamResponseCache.get(DREAM_ID, this::countingLoader);
+        dreamResponseCache.get(202L, () -> {
+            loaderCalls.incrementAndGet();
+            return new DreamResponse(202L, "다른 꿈", "내용", LocalDate.of(2025, 1, 1), true,
+                LocalDateTime.of(2025, 1, 1, 0, 0), null,
+                new MemberResponse(2L, "other@test.com", "other", "USER", null), false);
+        });
+
+        // when
+        dreamResponseCache.evictLocalByAuthor(1L);
+        dreamResponseCache.get(DREAM_ID, this::countingLoader);
+        dreamResponseCache.get(202L, this::countingLoader);
+
+        // then
+        assertThat(loaderCalls).hasValue(3);
+    }
+
+    private DreamResponse countingLoader() {
+        loaderCalls.incrementAndGet();
+        return response(1L);
+    }
+
+    private static DreamResponse response(Long authorId) {
+        return new DreamResponse(DREAM_ID, "꿈", "내용", LocalDate.of(2025, 1, 1), true,
+            LocalDateTime.of(2025, 1, 1, 0, 0), null,
+            new MemberResponse(authorId, "dreamer@test.com", "dreamer", "USER", null), false);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
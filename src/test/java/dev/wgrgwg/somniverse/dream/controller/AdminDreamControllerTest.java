@@ -9,6 +9,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -16,9 +17,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.wgrgwg.somniverse.config.AppProperties;
 import dev.wgrgwg.somniverse.dream.dto.response.DreamResponse;
 import dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse;
+import dev.wgrgwg.somniverse.dream.service.DreamSearchService;
 import dev.wgrgwg.somniverse.dream.service.DreamService;
 import dev.wgrgwg.somniverse.global.idempotency.filter.IdempotencyFilter;
 import dev.wgrgwg.somniverse.global.idempotency.store.IdempotencyRepository;
+import dev.wgrgwg.somniverse.global.pagecount.CountStrategy;
 import dev.wgrgwg.somniverse.global.ratelimit.filter.RateLimitFilter;
 import dev.wgrgwg.somniverse.global.util.RefreshTokenCookieUtil;
 import dev.wgrgwg.somniverse.member.dto.response.MemberResponse;
@@ -67,6 +70,9 @@ class AdminDreamControllerTest {
     @MockitoBean
     private DreamService dreamService;
 
+    @MockitoBean
+    private DreamSearchService dreamSearchService;
+
     @MockitoBean
     private AuthService authService;
 
@@ -117,8 +123,8 @@ class AdminDreamControllerTest {
             );
 
             Page<DreamSimpleResponse> responsePage = new PageImpl<>(content, pageable, 3);
-            when(dreamService.getAllDreamsForAdmin(any(Pageable.class), anyBoolean())).thenReturn(
-                responsePage);
+            when(dreamService.getAllDreamsForAdmin(any(Pageable.class), anyBoolean(),
+                any(CountStrategy.class))).thenReturn(responsePage);
 
             // when
             ResultActions resultActions = mockMvc.perform(get("/api/admin/dreams")
@@ -128,6 +134,28 @@ class AdminDreamControllerTest {
             resultActions.andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.totalElements").value(3));
+            verify(dreamService).getAllDreamsForAdmin(any(Pageable.class), eq(true),
+                eq(CountStrategy.CACHED));
+        }
+
+        @Test
+        @WithMockCustomUser(role = "ADMIN")
+        @DisplayName("정확한 개수 요청 시 설정과 관계없이 EXACT 전략으로 조회")
+        void getAllDreams_forAdmin_withExactCount_usesExactStrategy() throws Exception {
+            // given
+            Pageable pageable = PageRequest.of(0, 10);
+            Page<DreamSimpleResponse> responsePage = new PageImpl<>(List.of(), pageable, 0);
+            when(dreamService.getAllDreamsForAdmin(any(Pageable.class), anyBoolean(),
+                any(CountStrategy.class))).thenReturn(responsePage);
+
+            // when
+            ResultActions resultActions = mockMvc.perform(get("/api/admin/dreams")
+                .param("page", "0").param("size", "10").param("exactCount", "true"));
+
+            // then
+            resultActions.andExpect(status().isOk());
+            verify(dreamService).getAllDreamsForAdmin(any(Pageable.class), eq(false),
+                eq(CountStrategy.EXACT));
         }
 
         @Test
@@ -177,4 +205,25 @@ class AdminDreamControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("검색 색인 재구축 api 테스트")
+    class RebuildSearchIndexApiTests {
+
+        @Test
+        @WithMockCustomUser(role = "ADMIN")
+        @DisplayName("관리자 권한으로 검색 색인 재구축 요청 시 202 ACCEPTED")
+        void rebuildSearchIndex_success_test() throws Exception {
+            // given
+            doNothing().when(dreamSearchService).rebuildIndex();
+
+            // when
+            ResultActions resultActions = mockMvc.perform(
+                post("/api/admin/dreams/search/rebuild"));
+
+            // then
+            resultActions.andExpect(status().isAccepted());
+            verify(dreamSearchService, times(1)).rebuildIndex();
+        }
+    }
+
 }
\ No newline at end of file
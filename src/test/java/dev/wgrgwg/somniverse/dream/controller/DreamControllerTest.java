@@ -3,28 +3,41 @@ package dev.wgrgwg.somniverse.dream.controller;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.wgrgwg.somniverse.config.AppProperties;
 import dev.wgrgwg.somniverse.dream.dto.request.DreamCreateRequest;
 import dev.wgrgwg.somniverse.dream.dto.request.DreamUpdateRequest;
+import dev.wgrgwg.somniverse.dream.dto.response.DreamImportJobResponse;
 import dev.wgrgwg.somniverse.dream.dto.response.DreamResponse;
 import dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse;
 import dev.wgrgwg.somniverse.dream.exception.DreamErrorCode;
+import dev.wgrgwg.somniverse.dream.importer.DreamImportFormat;
+import dev.wgrgwg.somniverse.dream.importer.DreamImportStatus;
+import dev.wgrgwg.somniverse.dream.service.DreamExportService;
+import dev.wgrgwg.somniverse.dream.service.DreamImportService;
+import dev.wgrgwg.somniverse.dream.service.DreamSearchService;
 import dev.wgrgwg.somniverse.dream.service.DreamService;
 import dev.wgrgwg.somniverse.global.exception.CustomException;
 import dev.wgrgwg.somniverse.global.idempotency.filter.IdempotencyFilter;
 import dev.wgrgwg.somniverse.global.idempotency.store.IdempotencyRepository;
+import dev.wgrgwg.somniverse.global.pagecount.CountStrategy;
 import dev.wgrgwg.somniverse.global.ratelimit.filter.RateLimitFilter;
 import dev.wgrgwg.somniverse.global.util.RefreshTokenCookieUtil;
 import dev.wgrgwg.somniverse.member.domain.Role;
@@ -37,6 +50,9 @@ import dev.wgrgwg.somniverse.security.oauth.handler.OAuth2AuthenticationFailureH
 import dev.wgrgwg.somniverse.security.oauth.handler.OAuth2AuthenticationSuccessHandler;
 import dev.wgrgwg.somniverse.security.oauth.service.CustomOAuth2UserService;
 import dev.wgrgwg.somniverse.support.security.WithMockCustomUser;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -52,11 +68,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 @WebMvcTest(controllers = DreamController.class)
@@ -75,6 +93,15 @@ class DreamControllerTest {
     @MockitoBean
     private DreamService dreamService;
 
+    @MockitoBean
+    private DreamExportService dreamExportService;
+
+    @MockitoBean
+    private DreamImportService dreamImportService;
+
+    @MockitoBean
+    private DreamSearchService dreamSearchService;
+
     @MockitoBean
     private AuthService authService;
 
@@ -150,6 +177,50 @@ class DreamControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("꿈일기 가져오기 api 테스트")
+    @WithMockCustomUser
+    class ImportDreamApiTests {
+
+        @Test
+        @DisplayName("CSV 가져오기 요청 성공 시 202 ACCEPTED, 작업 조회 경로와 DreamImportJobResponse 반환")
+        void importDreams_success_test() throws Exception {
+            // given
+            DreamImportJobResponse response = new DreamImportJobResponse("job-1",
+                DreamImportFormat.CSV.name(), DreamImportStatus.QUEUED.name(), 0, 0, 0,
+                List.of(), false, null, LocalDateTime.now(), null, null);
+            when(dreamImportService.startImport(anyLong(), eq(DreamImportFormat.CSV),
+                any(InputStream.class))).thenReturn(response);
+
+            // when
+            ResultActions resultActions = mockMvc.perform(post("/api/dreams/import")
+                .contentType(DreamImportFormat.TEXT_CSV_VALUE)
+                .content("title,content,dreamDate,isPublic\n꿈,내용,2025-01-01,true\n"));
+
+            // then
+            resultActions.andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/dreams/import/job-1"))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.jobId").value("job-1"))
+                .andExpect(jsonPath("$.data.status").value("QUEUED"));
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 형식으로 가져오기 요청 시 415 UNSUPPORTED MEDIA TYPE")
+        void importDreams_unsupportedFormat_test() throws Exception {
+            // when
+            ResultActions resultActions = mockMvc.perform(post("/api/dreams/import")
+                .contentType(MediaType.APPLICATION_XML)
+                .content("<dreams/>"));
+
+            // then
+            resultActions.andExpect(status().isUnsupportedMediaType())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.errorCode").value(
+                    DreamErrorCode.IMPORT_UNSUPPORTED_FORMAT.getCode()));
+        }
+    }
+
     @Nested
     @DisplayName("꿈일기 수정 api 테스트")
     @WithMockCustomUser
@@ -220,7 +291,8 @@ class DreamControllerTest {
                     "user1"));
             Page<DreamSimpleResponse> responsePage = new PageImpl<>(content, pageable, 1);
 
-            when(dreamService.getPublicDreams(any(Pageable.class))).thenReturn(responsePage);
+            when(dreamService.getPublicDreams(any(Pageable.class), any(CountStrategy.class)))
+                .thenReturn(responsePage);
 
             // when
             ResultActions resultActions = mockMvc.perform(get("/api/dreams")
@@ -298,6 +370,46 @@ class DreamControllerTest {
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.content[0].authorUsername").value("otheruser"));
         }
+
+        @Test
+        @DisplayName("공개 꿈일기 검색 성공 시 200 OK, Slice 정보 반환")
+        void searchDreams_success_test() throws Exception {
+            // given
+            Pageable pageable = PageRequest.of(0, 10);
+            List<DreamSimpleResponse> content = List.of(
+                new DreamSimpleResponse(104L, "하늘을 나는 꿈", LocalDate.now(), LocalDateTime.now(),
+                    "user1"));
+            when(dreamSearchService.searchPublicDreams(eq("하늘"), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(content, pageable, true));
+
+            // when
+            ResultActions resultActions = mockMvc.perform(get("/api/dreams/search")
+                .param("q", "하늘").param("page", "0").param("size", "10"));
+
+            // then
+            resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.content[0].id").value(104L))
+                .andExpect(jsonPath("$.data.last").value(false));
+        }
+
+        @Test
+        @DisplayName("유효하지 않은 검색어로 검색 시 400 BAD REQUEST, 에러 응답 반환")
+        void searchDreams_invalidQuery_fail_test() throws Exception {
+            // given
+            when(dreamSearchService.searchPublicDreams(any(), any(Pageable.class)))
+                .thenThrow(new CustomException(DreamErrorCode.INVALID_SEARCH_QUERY));
+
+            // when
+            ResultActions resultActions = mockMvc.perform(get("/api/dreams/search")
+                .param("q", " "));
+
+            // then
+            resultActions.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(
+                    jsonPath("$.errorCode").value(DreamErrorCode.INVALID_SEARCH_QUERY.getCode()));
+        }
     }
 
     @Nested
@@ -329,5 +441,36 @@ class DreamControllerTest {
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.totalElements").value(2));
         }
+
+        @Test
+        @DisplayName("내 꿈일기 내보내기 성공 시 200 OK, NDJSON 스트림 반환")
+        void exportMyDreams_success_test() throws Exception {
+            // given
+            String ndjson = """
+                {"type":"dream","id":101,"title":"나의 꿈"}
+                {"type":"comment","id":201,"dreamId":101,"content":"댓글"}
+                """;
+            doAnswer(invocation -> {
+                OutputStream out = invocation.getArgument(1);
+                out.write(ndjson.getBytes(StandardCharsets.UTF_8));
+                return null;
+            }).when(dreamExportService).exportJournal(anyLong(), any(OutputStream.class));
+
+            // when
+            MvcResult mvcResult = mockMvc.perform(get("/api/dreams/me/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+            ResultActions resultActions = mockMvc.perform(asyncDispatch(mvcResult));
+
+            // then
+            resultActions.andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Content-Disposition",
+                    "attachment; filename=\"dream-journal.ndjson\""))
+                .andExpect(content().bytes(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+            verify(dreamExportService, times(1)).exportJournal(anyLong(),
+                any(OutputStream.class));
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,173 @@
+package dev.wgrgwg.somniverse.dream.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.dream.service.DreamExportService;
+import dev.wgrgwg.somniverse.dream.service.DreamImportService;
+import dev.wgrgwg.somniverse.dream.service.DreamSearchService;
+import dev.wgrgwg.somniverse.dream.service.DreamService;
+import dev.wgrgwg.somniverse.global.idempotency.filter.IdempotencyFilter;
+import dev.wgrgwg.somniverse.global.idempotency.store.IdempotencyRepository;
+import dev.wgrgwg.somniverse.global.ratelimit.filter.RateLimitFilter;
+import dev.wgrgwg.somniverse.global.util.RefreshTokenCookieUtil;
+import dev.wgrgwg.somniverse.member.domain.Member;
+import dev.wgrgwg.somniverse.member.domain.Role;
+import dev.wgrgwg.somniverse.member.repository.AccessTokenBlackListRepository;
+import dev.wgrgwg.somniverse.member.service.AuthService;
+import dev.wgrgwg.somniverse.security.config.SecurityConfig;
+import dev.wgrgwg.somniverse.security.jwt.provider.JwtProvider;
+import dev.wgrgwg.somniverse.security.jwt.provider.VerifiedToken;
+import dev.wgrgwg.somniverse.security.oauth.handler.OAuth2AuthenticationFailureHandler;
+import dev.wgrgwg.somniverse.security.oauth.handler.OAuth2AuthenticationSuccessHandler;
+import dev.wgrgwg.somniverse.security.oauth.service.CustomOAuth2UserService;
+import dev.wgrgwg.somniverse.security.userdetails.CustomUserDetails;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@WebMvcTest(controllers = DreamController.class)
+@Import(SecurityConfig.class)
+@ActiveProfiles("test")
+@EnableConfigurationProperties(AppProperties.class)
+@AutoConfigureMockMvc
+class DreamExportSecurityTest {
+
+    private static final String ACCESS_TOKEN = "access-token";
+    private static final String NDJSON = "{\"type\":\"dream\",\"id\":101}\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private DreamService dreamService;
+
+    @MockitoBean
+    private DreamExportService dreamExportService;
+
+    @MockitoBean
+    private DreamImportService dreamImportService;
+
+    @MockitoBean
+    private DreamSearchService dreamSearchService;
+
+    @MockitoBean
+    private AuthService authService;
+
+    @MockitoBean
+    private RefreshTokenCookieUtil refreshTokenCookieUtil;
+
+    @MockitoBean
+    private AccessTokenBlackListRepository blackListRepository;
+
+    @MockitoBean
+    private JwtProvider jwtProvider;
+
+    @MockitoBean
+    private CustomOAuth2UserService customOAuth2UserService;
+
+    @MockitoBean
+    private OAuth2AuthenticationSuccessHandler oauth2AuthenticationSuccessHandler;
+
+    @MockitoBean
+    private OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
+
+    @MockitoBean
+    private ClientRegistrationRepository clientRegistrationRepository;
+
+    @MockitoBean
+    private IdempotencyRepository idempotencyRepository;
+
+    @MockitoBean
+    private IdempotencyFilter idempotencyFilter;
+
+    @MockitoBean
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        passThrough(idempotencyFilter);
+        passThrough(rateLimitFilter);
+
+        VerifiedToken verifiedToken = new VerifiedToken("hash", 1L, Role.USER,
+            VerifiedToken.ACCESS_CATEGORY, System.currentTimeMillis() + 60_000L);
+        CustomUserDetails userDetails = new CustomUserDetails(
+            Member.builder().id(1L).role(Role.USER).build());
+        when(jwtProvider.verify(ACCESS_TOKEN)).thenReturn(Optional.of(verifiedToken));
+        when(jwtProvider.getAuthentication(verifiedToken)).thenReturn(
+            new UsernamePasswordAuthenticationToken(userDetails, null,
+                List.of(new SimpleGrantedAuthority(Role.USER.name()))));
+
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write(NDJSON.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(dreamExportService).exportJournal(anyLong(), any(OutputStream.class));
+    }
+
+    @Test
+    @DisplayName("보안 필터를 거친 내보내기 요청은 비동기 디스패치에서도 인가되어 스트림 반환")
+    void exportMyDreams_withSecurityFilters_streamsAfterAsyncDispatch() throws Exception {
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/dreams/me/export")
+                .header("Authorization", "Bearer " + ACCESS_TOKEN))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().bytes(NDJSON.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("토큰 없는 내보내기 요청은 비동기 처리 전에 거부")
+    void exportMyDreams_withoutToken_isRejected() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/dreams/me/export"))
+            .andExpect(request().asyncNotStarted());
+
+        verify(dreamExportService, never()).exportJournal(anyLong(), any(OutputStream.class));
+    }
+
+    private void passThrough(Filter filter) throws Exception {
+        doAnswer(invocation -> {
+            ServletRequest servletRequest = invocation.getArgument(0);
+            ServletResponse servletResponse = invocation.getArgument(1);
+            FilterChain chain = invocation.getArgument(2);
+            chain.doFilter(servletRequest, servletResponse);
+            return null;
+        }).when(filter).doFilter(any(ServletRequest.class), any(ServletResponse.class),
+            any(FilterChain.class));
+    }
+}
@@ -0,0 +1,113 @@
+package dev.wgrgwg.somniverse.dream.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CsvDreamImportReaderTest {
+
+    @Test
+    @DisplayName("따옴표로 감싼 필드 안의 쉼표, 이스케이프된 따옴표, 줄바꿈을 하나의 값으로 파싱")
+    void next_parsesQuotedFields() throws IOException {
+        // given
+        String csv = """
+            title,content,dream_date,is_public
+            "하늘, 그리고 바다","그가 ""안녕""이라고 말했다",2025-01-01,true
+            "여러 줄","첫째 줄
+            둘째 줄",2025-01-02,false
+            """;
+
+        // when
+        List<DreamImportRow> rows = readAll(csv);
+
+        // then
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).line()).isEqualTo(2);
+        assertThat(rows.get(0).request().title()).isEqualTo("하늘, 그리고 바다");
+        assertThat(rows.get(0).request().content()).isEqualTo("그가 \"안녕\"이라고 말했다");
+        assertThat(rows.get(0).request().dreamDate()).isEqualTo(LocalDate.of(2025, 1, 1));
+        assertThat(rows.get(0).request().isPublic()).isTrue();
+        assertThat(rows.get(1).line()).isEqualTo(3);
+        assertThat(rows.get(1).request().content()).isEqualTo("첫째 줄\n둘째 줄");
+        assertThat(rows.get(1).request().isPublic()).isFalse();
+    }
+
+    @Test
+    @DisplayName("BOM과 CRLF 줄바꿈이 포함된 CSV를 파싱하고 빈 줄은 건너뜀")
+    void next_handlesBomCrlfAndBlankLines() throws IOException {
+        // given
+        String csv = "\uFEFFtitle,content,dreamDate,isPublic\r\n"
+            + "꿈1,내용1,2025-01-01,TRUE\r\n"
+            + "\r\n"
+            + "꿈2,내용2,2025-01-02,false\r\n";
+
+        // when
+        List<DreamImportRow> rows = readAll(csv);
+
+        // then
+        assertThat(rows).extracting(row -> row.request().title()).containsExactly("꿈1", "꿈2");
+        assertThat(rows).extracting(DreamImportRow::line).containsExactly(2L, 4L);
+    }
+
+    @Test
+    @DisplayName("컬럼 수 불일치, 잘못된 날짜, 잘못된 공개 여부는 해당 행만 거부")
+    void next_rejectsMalformedRowsWithoutStopping() throws IOException {
+        // given
+        String csv = """
+            title,content,dreamDate,isPublic
+            꿈1,내용1
+            꿈2,내용2,2025-13-01,true
+            꿈3,내용3,2025-01-03,yes
+            꿈4,내용4,2025-01-04,true
+            """;
+
+        // when
+        List<DreamImportRow> rows = readAll(csv);
+
+        // then
+        assertThat(rows).hasSize(4);
+        assertThat(rows.get(0).error())
+            .isEqualTo(DreamImportMessage.COLUMN_COUNT_MISMATCH.getMessage());
+        assertThat(rows.get(1).error())
+            .isEqualTo(DreamImportMessage.INVALID_DREAM_DATE.getMessage());
+        assertThat(rows.get(2).error())
+            .isEqualTo(DreamImportMessage.INVALID_IS_PUBLIC.getMessage());
+        assertThat(rows.get(3).isRejected()).isFalse();
+        assertThat(rows.get(3).line()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("title 컬럼이 없는 헤더는 예외 발생")
+    void constructor_throwsWhenTitleColumnMissing() {
+        // given
+        String csv = "content,dreamDate\n내용,2025-01-01\n";
+
+        // when & then
+        assertThatThrownBy(() -> new CsvDreamImportReader(reader(csv)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(DreamImportMessage.MISSING_TITLE_COLUMN.getMessage());
+    }
+
+    private List<DreamImportRow> readAll(String csv) throws IOException {
+        List<DreamImportRow> rows = new ArrayList<>();
+        try (CsvDreamImportReader reader = new CsvDreamImportReader(reader(csv))) {
+            DreamImportRow row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private BufferedReader reader(String csv) {
+        return new BufferedReader(new StringReader(csv));
+    }
+}
@@ -0,0 +1,167 @@
+package dev.wgrgwg.somniverse.dream.performance;
+
+import dev.wgrgwg.somniverse.comment.service.CommentService;
+import dev.wgrgwg.somniverse.dream.cache.DreamResponseCache;
+import dev.wgrgwg.somniverse.dream.dto.request.DreamFeedCursor;
+import dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse;
+import dev.wgrgwg.somniverse.dream.service.DreamService;
+import dev.wgrgwg.somniverse.dream.service.DreamTimelineService;
+import dev.wgrgwg.somniverse.global.dto.CursorSliceResponse;
+import dev.wgrgwg.somniverse.global.pagecount.PageCountService;
+import dev.wgrgwg.somniverse.member.domain.Member;
+import dev.wgrgwg.somniverse.member.domain.Role;
+import dev.wgrgwg.somniverse.member.repository.MemberRepository;
+import dev.wgrgwg.somniverse.member.service.MemberService;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@Tag("performance")
+@ActiveProfiles("test")
+@DataJpaTest
+@Import(DreamService.class)
+class DreamFeedPagingBenchmarkTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int PAGE_NUMBER = 999;
+    private static final int TOTAL_DREAMS = PAGE_SIZE * (PAGE_NUMBER + 1) + PAGE_SIZE;
+    private static final int ITERATIONS = 20;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 6, 1, 0, 0);
+
+    @Autowired
+    private DreamService dreamService;
+
+    @MockitoBean
+    private CommentService commentService;
+
+    @MockitoBean
+    private MemberService memberService;
+
+    @MockitoBean
+    private DreamTimelineService dreamTimelineService;
+
+    @MockitoBean
+    private DreamResponseCache dreamResponseCache;
+
+    @MockitoBean
+    private PageCountService pageCountService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Statistics stats;
+
+    @BeforeEach
+    void setUp() {
+        stats = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        stats.setStatisticsEnabled(true);
+
+        Member member = memberRepository.save(
+            Member.builder()
+                .email("feed@test.com")
+                .password("pw")
+                .username("feed")
+                .role(Role.USER)
+                .build()
+        );
+
+        em.createNativeQuery("""
+                INSERT INTO dream (id, member_id, title, content, dream_date, is_public,
+                    is_deleted, created_at, updated_at)
+                SELECT X, :memberId, CONCAT('꿈', X), '내용', DATE '2025-01-01', TRUE, FALSE,
+                    DATEADD(SECOND, -X, TIMESTAMP '2025-06-01 00:00:00'),
+                    DATEADD(SECOND, -X, TIMESTAMP '2025-06-01 00:00:00')
+                FROM SYSTEM_RANGE(1, :total)
+                """)
+            .setParameter("memberId", member.getId())
+            .setParameter("total", TOTAL_DREAMS)
+            .executeUpdate();
+
+        em.flush();
+        em.clear();
+        stats.clear();
+    }
+
+    @Test
+    @DisplayName("1000번째 페이지 조회 시 OFFSET 방식과 커서 방식의 결과 및 쿼리 수 비교")
+    void compareOffsetAndCursorPagingAtDeepPage() {
+        // given
+        Pageable offsetPageable = PageRequest.of(PAGE_NUMBER, PAGE_SIZE,
+            Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+        long lastSeenId = (long) PAGE_NUMBER * PAGE_SIZE;
+        String cursor = new DreamFeedCursor(BASE_TIME.minusSeconds(lastSeenId), lastSeenId)
+            .encode();
+
+        // when
+        long offsetQueryCount = countQueries(
+            () -> dreamService.getPublicDreams(offsetPageable));
+        long cursorQueryCount = countQueries(
+            () -> dreamService.getPublicDreamFeed(cursor, PAGE_SIZE));
+
+        long offsetNanos = measure(() -> dreamService.getPublicDreams(offsetPageable));
+        long cursorNanos = measure(() -> dreamService.getPublicDreamFeed(cursor, PAGE_SIZE));
+
+        Page<DreamSimpleResponse> offsetPage = dreamService.getPublicDreams(offsetPageable);
+        CursorSliceResponse<DreamSimpleResponse> cursorSlice = dreamService.getPublicDreamFeed(
+            cursor, PAGE_SIZE);
+
+        // then
+        System.out.println("[1000번째 페이지] OFFSET 평균 소요 시간(ms) = " + offsetNanos / 1_000_000.0
+            + ", 쿼리 수 = " + offsetQueryCount);
+        System.out.println("[1000번째 페이지] 커서 평균 소요 시간(ms) = " + cursorNanos / 1_000_000.0
+            + ", 쿼리 수 = " + cursorQueryCount);
+
+        List<Long> offsetIds = offsetPage.getContent().stream().map(DreamSimpleResponse::id)
+            .toList();
+        List<Long> cursorIds = cursorSlice.content().stream().map(DreamSimpleResponse::id)
+            .toList();
+
+        Assertions.assertThat(cursorIds).hasSize(PAGE_SIZE).isEqualTo(offsetIds);
+        Assertions.assertThat(cursorSlice.hasNext()).isTrue();
+        Assertions.assertThat(cursorQueryCount).isEqualTo(1L);
+        Assertions.assertThat(offsetQueryCount).isEqualTo(2L);
+    }
+
+    private long countQueries(Supplier<?> action) {
+        em.clear();
+        stats.clear();
+        action.get();
+        return stats.getPrepareStatementCount();
+    }
+
+    private long measure(Supplier<?> action) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            em.clear();
+            action.get();
+        }
+
+        long total = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            em.clear();
+            long start = System.nanoTime();
+            action.get();
+            total += System.nanoTime() - start;
+        }
+        return total / ITERATIONS;
+    }
+}
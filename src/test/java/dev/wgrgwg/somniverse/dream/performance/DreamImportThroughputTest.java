@@ -0,0 +1,130 @@
+package dev.wgrgwg.somniverse.dream.performance;
+
+import static org.awaitility.Awaitility.await;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.dream.dto.response.DreamImportJobResponse;
+import dev.wgrgwg.somniverse.dream.importer.DreamImportFormat;
+import dev.wgrgwg.somniverse.dream.importer.DreamImportJobRegistry;
+import dev.wgrgwg.somniverse.dream.importer.DreamImportStatus;
+import dev.wgrgwg.somniverse.dream.importer.DreamImportWriter;
+import dev.wgrgwg.somniverse.dream.repository.DreamRepository;
+import dev.wgrgwg.somniverse.dream.service.DreamImportService;
+import dev.wgrgwg.somniverse.member.domain.Member;
+import dev.wgrgwg.somniverse.member.domain.Role;
+import dev.wgrgwg.somniverse.member.repository.MemberRepository;
+import dev.wgrgwg.somniverse.member.service.MemberService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Tag("performance")
+@ActiveProfiles("test")
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.show_sql=false")
+@Import({DreamImportService.class, DreamImportWriter.class, DreamImportJobRegistry.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@EnableConfigurationProperties(AppProperties.class)
+class DreamImportThroughputTest {
+
+    private static final int TOTAL_ROWS = 50_000;
+    private static final LocalDate DREAM_DATE = LocalDate.of(2025, 1, 1);
+
+    @Autowired
+    private DreamImportService dreamImportService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private DreamRepository dreamRepository;
+
+    @MockitoBean
+    private MemberService memberService;
+
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        memberId = memberRepository.save(
+            Member.builder()
+                .email("import@test.com")
+                .password("pw")
+                .username("import")
+                .role(Role.USER)
+                .build()
+        ).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dreamRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("NDJSON 5만 건 가져오기 시 청크 단위 배치 저장 처리량 측정")
+    void measureImportThroughput() throws Exception {
+        // given
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 1; i <= TOTAL_ROWS; i++) {
+            ndjson.append("{\"title\":\"꿈").append(i)
+                .append("\",\"content\":\"내용\",\"dreamDate\":\"").append(DREAM_DATE)
+                .append("\",\"isPublic\":").append(i % 2 == 0).append("}\n");
+        }
+        byte[] body = ndjson.toString().getBytes(StandardCharsets.UTF_8);
+
+        // when
+        long start = System.nanoTime();
+        DreamImportJobResponse started = dreamImportService.startImport(memberId,
+            DreamImportFormat.NDJSON, new ByteArrayInputStream(body));
+        await().atMost(Duration.ofMinutes(2)).pollInterval(Duration.ofMillis(50))
+            .until(() -> DreamImportStatus.valueOf(
+                dreamImportService.getImportJob(started.jobId(), memberId).status()).isFinished());
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        DreamImportJobResponse finished = dreamImportService.getImportJob(started.jobId(),
+            memberId);
+
+        // then
+        System.out.println("[꿈일기 5만 건 가져오기] 소요 시간(ms) = " + millis + ", 초당 처리 행 수 = "
+            + TOTAL_ROWS * 1000L / Math.max(millis, 1));
+
+        Assertions.assertThat(finished.status()).isEqualTo(DreamImportStatus.COMPLETED.name());
+        Assertions.assertThat(finished.imported()).isEqualTo(TOTAL_ROWS);
+        Assertions.assertThat(finished.rejected()).isZero();
+        Assertions.assertThat(dreamRepository.count()).isEqualTo(TOTAL_ROWS);
+    }
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
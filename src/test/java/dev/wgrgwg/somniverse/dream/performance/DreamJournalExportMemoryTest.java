@@ -0,0 +1,145 @@
+package dev.wgrgwg.somniverse.dream.performance;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.dream.service.DreamExportService;
+import dev.wgrgwg.somniverse.member.domain.Member;
+import dev.wgrgwg.somniverse.member.domain.Role;
+import dev.wgrgwg.somniverse.member.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import java.io.OutputStream;
+import org.assertj.core.api.Assertions;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+@Tag("low-heap")
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:file:./build/h2/dream-export;DB_CLOSE_ON_EXIT=FALSE",
+    "spring.jpa.properties.hibernate.show_sql=false"
+})
+@Import(DreamExportService.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@EnableConfigurationProperties(AppProperties.class)
+class DreamJournalExportMemoryTest {
+
+    private static final int TOTAL_DREAMS = 250_000;
+    private static final int TOTAL_COMMENTS = 250_000;
+
+    @Autowired
+    private DreamExportService dreamExportService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private AppProperties appProperties;
+
+    @Autowired
+    private EntityManager em;
+
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(
+            Member.builder()
+                .email("export@test.com")
+                .password("pw")
+                .username("export")
+                .role(Role.USER)
+                .build()
+        );
+        memberId = member.getId();
+
+        em.createNativeQuery("""
+                INSERT INTO dream (id, member_id, title, content, dream_date, is_public,
+                    is_deleted, created_at, updated_at)
+                SELECT X, :memberId, CONCAT('꿈', X), '내용', DATE '2025-01-01', FALSE, FALSE,
+                    TIMESTAMP '2025-06-01 00:00:00', TIMESTAMP '2025-06-01 00:00:00'
+                FROM SYSTEM_RANGE(1, :total)
+                """)
+            .setParameter("memberId", memberId)
+            .setParameter("total", TOTAL_DREAMS)
+            .executeUpdate();
+
+        em.createNativeQuery("""
+                INSERT INTO comment (id, content, dream_id, member_id, reply_count, is_deleted,
+                    created_at, updated_at)
+                SELECT X, CONCAT('댓글', X), X, :memberId, 0, FALSE,
+                    TIMESTAMP '2025-06-01 00:00:00', TIMESTAMP '2025-06-01 00:00:00'
+                FROM SYSTEM_RANGE(1, :total)
+                """)
+            .setParameter("memberId", memberId)
+            .setParameter("total", TOTAL_COMMENTS)
+            .executeUpdate();
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("꿈일기와 댓글 50만 건 내보내기 시 영속성 컨텍스트 크기가 clear 주기 이내로 유지")
+    void exportJournal_keepsPersistenceContextBounded() throws Exception {
+        // given
+        Session session = em.unwrap(Session.class);
+        LineCountingOutputStream out = new LineCountingOutputStream(session);
+        Runtime runtime = Runtime.getRuntime();
+
+        // when
+        long start = System.nanoTime();
+        dreamExportService.exportJournal(memberId, out);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        System.out.println("[50만 건 내보내기] 소요 시간(ms) = " + millis + ", 출력 바이트 = " + out.bytes
+            + ", 최대 관리 엔티티 수 = " + out.maxManagedEntities + ", 최대 힙(MB) = "
+            + runtime.maxMemory() / (1024 * 1024));
+
+        int clearInterval = appProperties.getExport().getClearInterval();
+        Assertions.assertThat(out.lines).isEqualTo(TOTAL_DREAMS + TOTAL_COMMENTS);
+        Assertions.assertThat(out.maxManagedEntities).isLessThanOrEqualTo(clearInterval + 1);
+    }
+
+    private static final class LineCountingOutputStream extends OutputStream {
+
+        private final Session session;
+        private long lines;
+        private long bytes;
+        private int maxManagedEntities;
+
+        private LineCountingOutputStream(Session session) {
+            this.session = session;
+        }
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                lines++;
+                maxManagedEntities = Math.max(maxManagedEntities,
+                    session.getStatistics().getEntityCount());
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                write(b[i]);
+            }
+        }
+    }
+}
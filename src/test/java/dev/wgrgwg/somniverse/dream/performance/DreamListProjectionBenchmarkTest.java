@@ -0,0 +1,158 @@
+package dev.wgrgwg.somniverse.dream.performance;
+
+import com.sun.management.ThreadMXBean;
+import dev.wgrgwg.somniverse.dream.domain.Dream;
+import dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse;
+import dev.wgrgwg.somniverse.dream.repository.DreamRepository;
+import dev.wgrgwg.somniverse.member.domain.Member;
+import dev.wgrgwg.somniverse.member.domain.Role;
+import dev.wgrgwg.somniverse.member.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Tag("performance")
+@ActiveProfiles("test")
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.show_sql=false")
+class DreamListProjectionBenchmarkTest {
+
+    private static final int PAGE_SIZE = 50;
+    private static final int TOTAL_DREAMS = PAGE_SIZE * 4;
+    private static final int CONTENT_LENGTH = 10 * 1024;
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    private DreamRepository dreamRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+    private Pageable pageable;
+
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        pageable = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+
+        Member member = memberRepository.save(
+            Member.builder()
+                .email("projection@test.com")
+                .password("pw")
+                .username("projection")
+                .role(Role.USER)
+                .build()
+        );
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            em.createNativeQuery("""
+                    ALTER TABLE dream ALTER COLUMN content SET DATA TYPE VARCHAR(16384)
+                    """)
+                .executeUpdate();
+
+            em.createNativeQuery("""
+                    INSERT INTO dream (id, member_id, title, content, dream_date, is_public,
+                        is_deleted, created_at, updated_at)
+                    SELECT X, :memberId, CONCAT('꿈', X), REPEAT('a', :contentLength),
+                        DATE '2025-01-01', TRUE, FALSE,
+                        DATEADD(SECOND, -X, TIMESTAMP '2025-06-01 00:00:00'),
+                        DATEADD(SECOND, -X, TIMESTAMP '2025-06-01 00:00:00')
+                    FROM SYSTEM_RANGE(1, :total)
+                    """)
+                .setParameter("memberId", member.getId())
+                .setParameter("contentLength", CONTENT_LENGTH)
+                .setParameter("total", TOTAL_DREAMS)
+                .executeUpdate();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        dreamRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("본문 10KB 꿈일기 50건 목록 조회 시 엔티티 로딩과 DTO 프로젝션의 힙 할당량 및 소요 시간 비교")
+    void compareEntityLoadAndProjection() {
+        // given
+        Supplier<List<DreamSimpleResponse>> entityLoad = () -> readOnly.execute(
+            status -> em.createQuery("""
+                    SELECT d
+                    FROM Dream d
+                    JOIN FETCH d.member
+                    WHERE d.isPublic=true
+                    AND d.isDeleted=false
+                    ORDER BY d.createdAt DESC, d.id DESC
+                    """, Dream.class)
+                .setMaxResults(PAGE_SIZE + 1)
+                .getResultStream()
+                .limit(PAGE_SIZE)
+                .map(DreamSimpleResponse::fromEntity)
+                .toList());
+        Supplier<List<DreamSimpleResponse>> projection = () -> readOnly.execute(
+            status -> dreamRepository.findPublicSlice(pageable).getContent());
+
+        // when
+        Measurement entity = measure(entityLoad);
+        Measurement projected = measure(projection);
+
+        // then
+        System.out.println("[본문 10KB 50건 목록] 엔티티 평균 소요 시간(ms) = "
+            + entity.nanos() / 1_000_000.0 + ", 평균 할당량(KB) = " + entity.bytes() / 1024);
+        System.out.println("[본문 10KB 50건 목록] 프로젝션 평균 소요 시간(ms) = "
+            + projected.nanos() / 1_000_000.0 + ", 평균 할당량(KB) = " + projected.bytes() / 1024);
+
+        Assertions.assertThat(projection.get()).hasSize(PAGE_SIZE)
+            .isEqualTo(entityLoad.get());
+        Assertions.assertThat(projected.bytes()).isLessThan(entity.bytes());
+    }
+
+    private Measurement measure(Supplier<List<DreamSimpleResponse>> action) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            action.get();
+        }
+
+        ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long bytesBefore = threadBean.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            action.get();
+        }
+        long nanos = System.nanoTime() - start;
+        long bytes = threadBean.getCurrentThreadAllocatedBytes() - bytesBefore;
+
+        return new Measurement(nanos / ITERATIONS, bytes / ITERATIONS);
+    }
+
+    private record Measurement(long nanos, long bytes) {
+
+    }
+}
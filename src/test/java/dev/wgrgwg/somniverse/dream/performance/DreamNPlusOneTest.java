@@ -3,9 +3,12 @@ package dev.wgrgwg.somniverse.dream.performance;
 import dev.wgrgwg.somniverse.comment.domain.Comment;
 import dev.wgrgwg.somniverse.comment.repository.CommentRepository;
 import dev.wgrgwg.somniverse.comment.service.CommentService;
+import dev.wgrgwg.somniverse.dream.cache.DreamResponseCache;
 import dev.wgrgwg.somniverse.dream.domain.Dream;
 import dev.wgrgwg.somniverse.dream.repository.DreamRepository;
 import dev.wgrgwg.somniverse.dream.service.DreamService;
+import dev.wgrgwg.somniverse.dream.service.DreamTimelineService;
+import dev.wgrgwg.somniverse.global.pagecount.PageCountService;
 import dev.wgrgwg.somniverse.member.domain.Member;
 import dev.wgrgwg.somniverse.member.domain.Role;
 import dev.wgrgwg.somniverse.member.repository.MemberRepository;
@@ -39,6 +42,15 @@ class DreamNPlusOneTest {
     @MockitoBean
     private MemberService memberService;
 
+    @MockitoBean
+    private DreamTimelineService dreamTimelineService;
+
+    @MockitoBean
+    private DreamResponseCache dreamResponseCache;
+
+    @MockitoBean
+    private PageCountService pageCountService;
+
     @Autowired
     private DreamRepository dreamRepository;
 
@@ -145,6 +157,18 @@ class DreamNPlusOneTest {
         Assertions.assertThat(queryCount).isLessThanOrEqualTo(2L);
     }
 
+    @Test
+    @DisplayName("회원별 공개 꿈 목록 DB 조회 시 N+1 성능(쿼리 수) 테스트")
+    void checkPublicDreamsByMemberQueryCount() {
+        // when
+        dreamService.getPublicDreamsByMember(memberId, pageable);
+
+        // then
+        long queryCount = stats.getPrepareStatementCount();
+        System.out.println("[회원별 공개 꿈 목록] 실행된 쿼리 수 = " + queryCount);
+        Assertions.assertThat(queryCount).isLessThanOrEqualTo(1L);
+    }
+
     @Test
     @DisplayName("전체 꿈 목록(관리자용, 삭제된 꿈 포함) 조회 시 N+1 성능(쿼리 수) 테스트")
     void checkAllDreamsIncludingDeletedDreamsForAdminQueryCount() {
@@ -0,0 +1,73 @@
+package dev.wgrgwg.somniverse.dream.search;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+
+@ExtendWith(MockitoExtension.class)
+class DreamSearchEventListenerTest {
+
+    @Mock
+    private DreamSearchIndexer dreamSearchIndexer;
+
+    @InjectMocks
+    private DreamSearchEventListener listener;
+
+    @Test
+    @DisplayName("다른 인스턴스의 꿈일기 변경 이벤트 수신 시 해당 꿈일기 재색인")
+    void onMessage_fromOtherInstance_reindexesDreams() {
+        // given
+        when(dreamSearchIndexer.instanceId()).thenReturn("self");
+
+        // when
+        listener.onMessage(message(DreamSearchEventListener.payload("other", List.of(1L, 2L))),
+            null);
+
+        // then
+        verify(dreamSearchIndexer).reindex(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("자기 인스턴스가 발행한 이벤트는 이미 반영했으므로 무시")
+    void onMessage_fromSelf_ignored() {
+        // given
+        when(dreamSearchIndexer.instanceId()).thenReturn("self");
+
+        // when
+        listener.onMessage(message(DreamSearchEventListener.payload("self", List.of(1L))), null);
+
+        // then
+        verify(dreamSearchIndexer, never()).reindex(any());
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 이벤트는 재색인하지 않음")
+    void onMessage_malformedPayload_ignored() {
+        // given
+        when(dreamSearchIndexer.instanceId()).thenReturn("self");
+
+        // when
+        listener.onMessage(message("other|not-a-number"), null);
+
+        // then
+        verify(dreamSearchIndexer, never()).reindex(any());
+    }
+
+    private static Message message(String payload) {
+        return new DefaultMessage(
+            DreamSearchEventListener.CHANNEL.getBytes(StandardCharsets.UTF_8),
+            payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
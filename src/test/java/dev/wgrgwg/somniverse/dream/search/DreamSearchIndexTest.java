@@ -0,0 +1,158 @@
+package dev.wgrgwg.somniverse.dream.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DreamSearchIndexTest {
+
+    private DreamSearchIndex dreamSearchIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        AppProperties appProperties = new AppProperties();
+        appProperties.getSearch().setIndexPath("");
+
+        dreamSearchIndex = new DreamSearchIndex(appProperties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        dreamSearchIndex.close();
+    }
+
+    @Test
+    @DisplayName("한글 어절의 일부나 한 글자로 검색해도 꿈일기 검색 성공")
+    void search_korean_matchesPartialWordAndSingleCharacter() {
+        // given
+        dreamSearchIndex.upsert(1L, "하늘을 나는 꿈", "구름 위를 걸었다");
+        dreamSearchIndex.upsert(2L, "바다 여행", "깊은 물속을 헤엄쳤다");
+        dreamSearchIndex.refresh();
+
+        // when
+        DreamSearchHits partial = dreamSearchIndex.search("하늘", 0, 10);
+        DreamSearchHits singleCharacter = dreamSearchIndex.search("꿈", 0, 10);
+        DreamSearchHits content = dreamSearchIndex.search("물속 헤엄", 0, 10);
+
+        // then
+        assertThat(partial.dreamIds()).containsExactly(1L);
+        assertThat(singleCharacter.dreamIds()).containsExactly(1L);
+        assertThat(content.dreamIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("영문은 대소문자와 불용어에 관계없이 검색 성공")
+    void search_english_ignoresCaseAndStopWords() {
+        // given
+        dreamSearchIndex.upsert(1L, "Flying over the OCEAN", "");
+        dreamSearchIndex.refresh();
+
+        // when
+        DreamSearchHits hits = dreamSearchIndex.search("the ocean", 0, 10);
+
+        // then
+        assertThat(hits.dreamIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("제목에 검색어가 있는 꿈일기가 본문에만 있는 꿈일기보다 먼저 반환")
+    void search_titleMatch_rankedFirst() {
+        // given
+        dreamSearchIndex.upsert(1L, "평범한 하루", "악몽을 꾸었다");
+        dreamSearchIndex.upsert(2L, "악몽", "기억나지 않는다");
+        dreamSearchIndex.refresh();
+
+        // when
+        DreamSearchHits hits = dreamSearchIndex.search("악몽", 0, 10);
+
+        // then
+        assertThat(hits.dreamIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("삭제된 꿈일기는 검색되지 않음")
+    void delete_removesDreamFromResults() {
+        // given
+        dreamSearchIndex.upsert(1L, "하늘을 나는 꿈", "");
+        dreamSearchIndex.refresh();
+
+        // when
+        dreamSearchIndex.delete(1L);
+        dreamSearchIndex.refresh();
+
+        // then
+        assertThat(dreamSearchIndex.search("하늘", 0, 10).dreamIds()).isEmpty();
+        assertThat(dreamSearchIndex.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("재구축 시 이번 세대에 색인되지 않은 꿈일기는 제거")
+    void finishRebuild_purgesDreamsNotReindexed() {
+        // given
+        dreamSearchIndex.upsert(1L, "하늘을 나는 꿈", "");
+        dreamSearchIndex.upsert(2L, "하늘 정원", "");
+        dreamSearchIndex.refresh();
+
+        // when
+        long generation = dreamSearchIndex.beginRebuild();
+        dreamSearchIndex.upsert(1L, "하늘을 나는 꿈", "");
+        dreamSearchIndex.finishRebuild(generation);
+
+        // then
+        assertThat(dreamSearchIndex.search("하늘", 0, 10).dreamIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("검색 결과가 limit 보다 많으면 hasNext 반환")
+    void search_withOffsetAndLimit_returnsHasNext() {
+        // given
+        for (long id = 1; id <= 3; id++) {
+            dreamSearchIndex.upsert(id, "꿈 " + id, "");
+        }
+        dreamSearchIndex.refresh();
+
+        // when
+        DreamSearchHits first = dreamSearchIndex.search("꿈", 0, 2);
+        DreamSearchHits second = dreamSearchIndex.search("꿈", 2, 2);
+
+        // then
+        assertThat(first.dreamIds()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.dreamIds()).hasSize(1);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("동기화 시점은 커밋과 함께 저장되어 인덱스를 다시 열어도 유지")
+    void markSynced_persistsWithCommit(@TempDir Path indexPath) throws IOException {
+        // given
+        AppProperties appProperties = new AppProperties();
+        appProperties.getSearch().setIndexPath(indexPath.toString());
+        DreamSearchIndex persistent = new DreamSearchIndex(appProperties,
+            new SimpleMeterRegistry());
+        persistent.upsert(1L, "하늘을 나는 꿈", "");
+        persistent.markSynced(1_700_000_000_000L);
+        persistent.commit();
+        persistent.close();
+
+        // when
+        DreamSearchIndex reopened = new DreamSearchIndex(appProperties,
+            new SimpleMeterRegistry());
+
+        // then
+        try {
+            assertThat(reopened.syncedAt()).isEqualTo(1_700_000_000_000L);
+            assertThat(reopened.isEmpty()).isFalse();
+        } finally {
+            reopened.close();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package dev.wgrgwg.somniverse.dream.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.member.domain.Member;
+import dev.wgrgwg.somniverse.member.domain.Role;
+import dev.wgrgwg.somniverse.member.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@Import(DreamExportService.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@EnableConfigurationProperties(AppProperties.class)
+class DreamExportServiceTest {
+
+    @Autowired
+    private DreamExportService dreamExportService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("내보내기에는 본인이 작성한 댓글만 포함하고 다른 사용자의 댓글은 제외")
+    void exportJournal_includesOnlyOwnComments() throws Exception {
+        // given
+        Long ownerId = saveMember("owner@test.com", "owner");
+        Long otherId = saveMember("other@test.com", "other");
+
+        em.createNativeQuery("""
+                INSERT INTO dream (id, member_id, title, content, dream_date, is_public,
+                    is_deleted, created_at, updated_at)
+                VALUES (1, :ownerId, '꿈', '내용', DATE '2025-01-01', TRUE, FALSE,
+                    TIMESTAMP '2025-06-01 00:00:00', TIMESTAMP '2025-06-01 00:00:00')
+                """)
+            .setParameter("ownerId", ownerId)
+            .executeUpdate();
+        em.createNativeQuery("""
+                INSERT INTO comment (id, content, dream_id, member_id, reply_count, is_deleted,
+                    created_at, updated_at)
+                VALUES (1, '내 댓글', 1, :ownerId, 0, FALSE,
+                    TIMESTAMP '2025-06-01 00:00:00', TIMESTAMP '2025-06-01 00:00:00'),
+                    (2, '남의 댓글', 1, :otherId, 0, FALSE,
+                    TIMESTAMP '2025-06-01 00:00:00', TIMESTAMP '2025-06-01 00:00:00')
+                """)
+            .setParameter("ownerId", ownerId)
+            .setParameter("otherId", otherId)
+            .executeUpdate();
+        em.flush();
+        em.clear();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        dreamExportService.exportJournal(ownerId, out);
+
+        // then
+        String exported = out.toString(StandardCharsets.UTF_8);
+        assertThat(exported.lines()).hasSize(2);
+        assertThat(exported).contains("내 댓글")
+            .doesNotContain("남의 댓글", "other");
+    }
+
+    private Long saveMember(String email, String username) {
+        return memberRepository.save(
+            Member.builder()
+                .email(email)
+                .password("pw")
+                .username(username)
+                .role(Role.USER)
+                .build()
+        ).getId();
+    }
+}
@@ -0,0 +1,210 @@
+package dev.wgrgwg.somniverse.dream.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.dream.dto.response.DreamImportJobResponse;
+import dev.wgrgwg.somniverse.dream.exception.DreamErrorCode;
+import dev.wgrgwg.somniverse.dream.importer.DreamImportFormat;
+import dev.wgrgwg.somniverse.dream.importer.DreamImportJobRegistry;
+import dev.wgrgwg.somniverse.dream.importer.DreamImportMessage;
+import dev.wgrgwg.somniverse.dream.importer.DreamImportRejection;
+import dev.wgrgwg.somniverse.dream.importer.DreamImportRow;
+import dev.wgrgwg.somniverse.dream.importer.DreamImportStatus;
+import dev.wgrgwg.somniverse.dream.importer.DreamImportWriter;
+import dev.wgrgwg.somniverse.global.exception.CustomException;
+import dev.wgrgwg.somniverse.member.service.MemberService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DreamImportServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private DreamImportWriter dreamImportWriter;
+
+    @Mock
+    private MemberService memberService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    private final List<Integer> writtenChunkSizes = new CopyOnWriteArrayList<>();
+
+    private DreamImportService dreamImportService;
+
+    @BeforeEach
+    void setUp() {
+        AppProperties appProperties = new AppProperties();
+        AppProperties.DreamImport config = appProperties.getDreamImport();
+        config.setChunkSize(CHUNK_SIZE);
+        config.setBatchSize(CHUNK_SIZE);
+        config.setMaxBytes(1024);
+        config.setMaxReportedRejections(10);
+        config.setPoolSize(1);
+        config.setQueueCapacity(1);
+        config.setRetention(Duration.ofMinutes(1));
+        config.setRetryAfterSeconds(5);
+
+        dreamImportService = new DreamImportService(dreamImportWriter,
+            new DreamImportJobRegistry(appProperties, meterRegistry), memberService, validator,
+            objectMapper, appProperties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dreamImportService.shutdown();
+    }
+
+    @Test
+    @DisplayName("NDJSON 가져오기 시 형식 오류와 검증 실패 행만 거부하고 나머지는 청크 단위로 저장")
+    void startImport_ndjson_rejectsInvalidRowsAndWritesChunks() throws IOException {
+        // given
+        recordChunkSizes();
+        String ndjson = """
+            {"title":"꿈1","content":"내용1","dreamDate":"2025-01-01","isPublic":true}
+            {"title":"꿈2","content":
+            {"title":"","content":"내용3","dreamDate":"2025-01-03","isPublic":false}
+            {"title":"꿈4","content":"내용4","dreamDate":"2025-01-04","isPublic":false}
+            {"title":"꿈5","content":"내용5","dreamDate":"2025-01-05","isPublic":true}
+            """;
+
+        // when
+        DreamImportJobResponse started = dreamImportService.startImport(MEMBER_ID,
+            DreamImportFormat.NDJSON, body(ndjson));
+        DreamImportJobResponse finished = awaitFinished(started.jobId());
+
+        // then
+        assertThat(finished.status()).isEqualTo(DreamImportStatus.COMPLETED.name());
+        assertThat(finished.processed()).isEqualTo(5);
+        assertThat(finished.imported()).isEqualTo(3);
+        assertThat(finished.rejected()).isEqualTo(2);
+        assertThat(finished.rejections()).extracting(DreamImportRejection::line)
+            .containsExactly(2L, 3L);
+        assertThat(finished.rejections().getFirst().reason())
+            .isEqualTo(DreamImportMessage.MALFORMED_JSON.getMessage());
+        assertThat(writtenChunkSizes).containsExactly(2, 1);
+        assertThat(meterRegistry.get("dream.import.rows").tag("result", "imported").counter()
+            .count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("청크 저장 실패 시 행 단위로 재시도하여 실패한 행만 거부")
+    void startImport_chunkFailure_fallsBackToRowByRow() throws IOException {
+        // given
+        doAnswer(invocation -> {
+            List<DreamImportRow> rows = invocation.getArgument(1);
+            boolean hasBrokenRow = rows.stream()
+                .anyMatch(row -> row.request().title().equals("저장 실패"));
+            if (hasBrokenRow) {
+                throw new IllegalStateException("constraint violation");
+            }
+            return null;
+        }).when(dreamImportWriter).write(anyLong(), anyList());
+        String csv = """
+            title,content,dreamDate,isPublic
+            꿈1,내용1,2025-01-01,true
+            저장 실패,내용2,2025-01-02,true
+            """;
+
+        // when
+        DreamImportJobResponse started = dreamImportService.startImport(MEMBER_ID,
+            DreamImportFormat.CSV, body(csv));
+        DreamImportJobResponse finished = awaitFinished(started.jobId());
+
+        // then
+        assertThat(finished.status()).isEqualTo(DreamImportStatus.COMPLETED.name());
+        assertThat(finished.imported()).isEqualTo(1);
+        assertThat(finished.rejected()).isEqualTo(1);
+        assertThat(finished.rejections()).containsExactly(
+            new DreamImportRejection(3, DreamImportMessage.SAVE_FAILED.getMessage()));
+    }
+
+    @Test
+    @DisplayName("CSV 헤더에 title 컬럼이 없으면 작업이 FAILED 상태로 종료")
+    void startImport_csvWithoutTitle_failsJob() throws IOException {
+        // given
+        String csv = "content,dreamDate\n내용,2025-01-01\n";
+
+        // when
+        DreamImportJobResponse started = dreamImportService.startImport(MEMBER_ID,
+            DreamImportFormat.CSV, body(csv));
+        DreamImportJobResponse finished = awaitFinished(started.jobId());
+
+        // then
+        assertThat(finished.status()).isEqualTo(DreamImportStatus.FAILED.name());
+        assertThat(finished.failureReason())
+            .isEqualTo(DreamImportMessage.MISSING_TITLE_COLUMN.getMessage());
+        verifyNoInteractions(dreamImportWriter);
+    }
+
+    @Test
+    @DisplayName("허용 크기를 초과한 본문은 작업을 생성하지 않고 예외 발생")
+    void startImport_payloadTooLarge_throwsException() {
+        // given
+        String ndjson = "{\"title\":\"꿈\"}\n".repeat(200);
+
+        // when & then
+        assertThatThrownBy(() -> dreamImportService.startImport(MEMBER_ID,
+            DreamImportFormat.NDJSON, body(ndjson)))
+            .isInstanceOf(CustomException.class)
+            .hasMessage(DreamErrorCode.IMPORT_PAYLOAD_TOO_LARGE.getMessage());
+        verifyNoInteractions(dreamImportWriter);
+    }
+
+    @Test
+    @DisplayName("다른 회원의 가져오기 작업 조회 시 예외 발생")
+    void getImportJob_otherMember_throwsException() throws IOException {
+        // given
+        DreamImportJobResponse started = dreamImportService.startImport(MEMBER_ID,
+            DreamImportFormat.NDJSON, body(""));
+
+        // when & then
+        assertThatThrownBy(() -> dreamImportService.getImportJob(started.jobId(), 2L))
+            .isInstanceOf(CustomException.class)
+            .hasMessage(DreamErrorCode.IMPORT_JOB_NOT_FOUND.getMessage());
+    }
+
+    private void recordChunkSizes() {
+        doAnswer(invocation -> {
+            List<DreamImportRow> rows = invocation.getArgument(1);
+            writtenChunkSizes.add(rows.size());
+            return null;
+        }).when(dreamImportWriter).write(anyLong(), anyList());
+    }
+
+    private DreamImportJobResponse awaitFinished(String jobId) {
+        await().atMost(Duration.ofSeconds(5)).until(() -> DreamImportStatus.valueOf(
+            dreamImportService.getImportJob(jobId, MEMBER_ID).status()).isFinished());
+        return dreamImportService.getImportJob(jobId, MEMBER_ID);
+    }
+
+    private InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
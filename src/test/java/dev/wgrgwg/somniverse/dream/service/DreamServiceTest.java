@@ -3,25 +3,37 @@ package dev.wgrgwg.somniverse.dream.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import dev.wgrgwg.somniverse.comment.repository.CommentRepository;
+import dev.wgrgwg.somniverse.dream.cache.DreamResponseCache;
 import dev.wgrgwg.somniverse.dream.domain.Dream;
 import dev.wgrgwg.somniverse.dream.dto.request.DreamCreateRequest;
+import dev.wgrgwg.somniverse.dream.dto.request.DreamFeedCursor;
 import dev.wgrgwg.somniverse.dream.dto.request.DreamUpdateRequest;
 import dev.wgrgwg.somniverse.dream.dto.response.DreamResponse;
 import dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse;
+import dev.wgrgwg.somniverse.dream.event.DreamChangedEvent;
 import dev.wgrgwg.somniverse.dream.exception.DreamErrorCode;
 import dev.wgrgwg.somniverse.dream.repository.DreamRepository;
+import dev.wgrgwg.somniverse.dream.timeline.DreamTimelineScope;
+import dev.wgrgwg.somniverse.global.dto.CursorSliceResponse;
 import dev.wgrgwg.somniverse.global.exception.CustomException;
+import dev.wgrgwg.somniverse.global.pagecount.PageCountChangedEvent;
+import dev.wgrgwg.somniverse.global.pagecount.PageCountService;
 import dev.wgrgwg.somniverse.member.domain.Member;
 import dev.wgrgwg.somniverse.member.domain.Role;
 import dev.wgrgwg.somniverse.member.service.MemberService;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -30,6 +42,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -48,6 +61,18 @@ class DreamServiceTest {
     @Mock
     private MemberService memberService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private DreamTimelineService dreamTimelineService;
+
+    @Mock
+    private DreamResponseCache dreamResponseCache;
+
+    @Mock
+    private PageCountService pageCountService;
+
     @InjectMocks
     private DreamService dreamService;
 
@@ -145,6 +170,7 @@ class DreamServiceTest {
         @DisplayName("다른 사용자 공개 꿈일기 조회 성공하면 DreamResponse 반환")
         void getDreamWithAccessControl_whenForPublicDream_shouldReturnResponse() {
             // given
+            passThroughResponseCache();
             when(dreamRepository.findByIdAndIsDeletedFalse(testDream.getId())).thenReturn(
                 Optional.of(testDream));
 
@@ -160,6 +186,7 @@ class DreamServiceTest {
         @DisplayName("다른 사용자 비공개 꿈일기 조회하면 예외 발생")
         void getDreamWithAccessControl_whenForPrivateDreamByNotAdmin_shouldThrowException() {
             // given
+            passThroughResponseCache();
             when(dreamRepository.findByIdAndIsDeletedFalse(privateTestDream.getId())).thenReturn(
                 Optional.of(privateTestDream));
 
@@ -175,6 +202,7 @@ class DreamServiceTest {
         @DisplayName("관리자는 비공개 꿈일기 조회 성공하면 DreamResponse 반환")
         void getDreamWithAccessControl_whenForPrivateDreamByAdmin_shouldReturnResponse() {
             // given
+            passThroughResponseCache();
             when(dreamRepository.findByIdAndIsDeletedFalse(privateTestDream.getId())).thenReturn(
                 Optional.of(privateTestDream));
 
@@ -185,6 +213,33 @@ class DreamServiceTest {
             // then
             assertThat(response.id()).isEqualTo(privateTestDream.getId());
         }
+
+        @Test
+        @DisplayName("캐시된 비공개 꿈일기도 요청마다 접근 권한을 검사하고 DB 조회하지 않음")
+        void getDreamWithAccessControl_whenCached_shouldCheckAccessWithoutRepository() {
+            // given
+            when(dreamResponseCache.get(eq(privateTestDream.getId()), any())).thenReturn(
+                DreamResponse.fromEntity(privateTestDream));
+
+            // when
+            DreamResponse ownerResponse = dreamService.getDreamWithAccessControl(
+                privateTestDream.getId(), testMember.getId(), false);
+
+            // then
+            assertThat(ownerResponse.id()).isEqualTo(privateTestDream.getId());
+            assertThatThrownBy(
+                () -> dreamService.getDreamWithAccessControl(privateTestDream.getId(),
+                    otherMember.getId(), false))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(DreamErrorCode.DREAM_FORBIDDEN.getMessage());
+            verify(dreamRepository, never()).findByIdAndIsDeletedFalse(any());
+        }
+
+        @SuppressWarnings("unchecked")
+        private void passThroughResponseCache() {
+            when(dreamResponseCache.get(anyLong(), any())).thenAnswer(
+                invocation -> ((Supplier<DreamResponse>) invocation.getArgument(1)).get());
+        }
     }
 
     @Nested
@@ -192,7 +247,7 @@ class DreamServiceTest {
     class GetDreamListTests {
 
         private Pageable pageable;
-        private Page<Dream> dreamPage;
+        private Page<DreamSimpleResponse> dreamPage;
 
         @BeforeEach
         void setUp() {
@@ -204,7 +259,8 @@ class DreamServiceTest {
             ReflectionTestUtils.setField(dream2, "id", 202L);
             List<Dream> dreamList = List.of(dream1, dream2);
 
-            dreamPage = new PageImpl<>(dreamList, pageable, dreamList.size());
+            dreamPage = new PageImpl<>(dreamList, pageable, dreamList.size())
+                .map(DreamSimpleResponse::fromEntity);
         }
 
         @Test
@@ -267,11 +323,30 @@ class DreamServiceTest {
                 otherMember.getId(), pageable);
         }
 
+        @Test
+        @DisplayName("회원 타임라인에서 조회되면 DB 목록 쿼리를 실행하지 않음")
+        void getPublicDreamsByMember_whenTimelineAvailable_shouldSkipRepository() {
+            // given
+            Page<DreamSimpleResponse> timelinePage = new PageImpl<>(dreamPage.getContent(),
+                pageable, dreamPage.getTotalElements());
+            when(dreamTimelineService.findPage(otherMember.getId(), DreamTimelineScope.PUBLIC,
+                pageable)).thenReturn(Optional.of(timelinePage));
+
+            // when
+            Page<DreamSimpleResponse> resultPage = dreamService.getPublicDreamsByMember(
+                otherMember.getId(), pageable);
+
+            // then
+            assertThat(resultPage).isSameAs(timelinePage);
+            verify(dreamRepository, never()).findAllByMemberIdAndIsDeletedFalseAndIsPublicTrue(
+                any(), any());
+        }
+
         @Test
         @DisplayName("내 꿈일기 목록이 비어있으면 빈 페이지 반환")
         void getMyDreams_whenNoDreams_shouldReturnEmptyPage() {
             // given
-            Page<Dream> emptyPage = Page.empty(pageable);
+            Page<DreamSimpleResponse> emptyPage = Page.empty(pageable);
             when(dreamRepository.findAllByMemberIdAndIsDeletedFalse(testMember.getId(), pageable))
                 .thenReturn(emptyPage);
 
@@ -291,6 +366,73 @@ class DreamServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("공개 꿈일기 피드(커서) 조회 테스트")
+    class GetPublicDreamFeedTests {
+
+        private List<DreamSimpleResponse> dreams;
+
+        @BeforeEach
+        void setUp() {
+            LocalDateTime baseTime = LocalDateTime.of(2025, 1, 1, 0, 0);
+            dreams = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                Dream dream = Dream.builder().member(testMember).title("피드 꿈" + i).isPublic(true)
+                    .build();
+                ReflectionTestUtils.setField(dream, "id", 400L - i);
+                ReflectionTestUtils.setField(dream, "createdAt", baseTime.minusMinutes(i));
+                dreams.add(DreamSimpleResponse.fromEntity(dream));
+            }
+        }
+
+        @Test
+        @DisplayName("다음 데이터가 있으면 size 만큼만 반환하고 다음 커서 반환")
+        void getPublicDreamFeed_whenMoreDreamsExist_shouldReturnNextCursor() {
+            // given
+            when(dreamRepository.findPublicFeed(PageRequest.ofSize(3))).thenReturn(dreams);
+
+            // when
+            CursorSliceResponse<DreamSimpleResponse> result = dreamService.getPublicDreamFeed(null,
+                2);
+
+            // then
+            assertThat(result.content()).hasSize(2);
+            assertThat(result.hasNext()).isTrue();
+
+            DreamFeedCursor nextCursor = DreamFeedCursor.decode(result.nextCursor());
+            assertThat(nextCursor.id()).isEqualTo(dreams.get(1).id());
+            assertThat(nextCursor.createdAt()).isEqualTo(dreams.get(1).createdAt());
+        }
+
+        @Test
+        @DisplayName("커서가 주어지면 커서 이후 데이터를 조회하고 마지막 페이지면 커서 미반환")
+        void getPublicDreamFeed_whenCursorGiven_shouldQueryAfterCursor() {
+            // given
+            DreamSimpleResponse last = dreams.get(0);
+            String cursor = DreamFeedCursor.from(last).encode();
+            when(dreamRepository.findPublicFeedAfter(last.createdAt(), last.id(),
+                PageRequest.ofSize(3))).thenReturn(dreams.subList(1, 3));
+
+            // when
+            CursorSliceResponse<DreamSimpleResponse> result = dreamService.getPublicDreamFeed(
+                cursor, 2);
+
+            // then
+            assertThat(result.content()).hasSize(2);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("유효하지 않은 커서면 예외 발생")
+        void getPublicDreamFeed_whenCursorInvalid_shouldThrowException() {
+            // when & then
+            assertThatThrownBy(() -> dreamService.getPublicDreamFeed("invalid-cursor", 20))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(DreamErrorCode.INVALID_FEED_CURSOR.getMessage());
+        }
+    }
+
     @Nested
     @DisplayName("공개/비공개 꿈일기 목록 조회 테스트")
     class DreamsListVisibilityTest {
@@ -319,7 +461,8 @@ class DreamServiceTest {
         void getMyDreams_whenCalled_shouldReturnPublicAndPrivateDreams() {
             // given
             List<Dream> allMyDreams = List.of(publicDream, privateDream);
-            Page<Dream> myDreamsPage = new PageImpl<>(allMyDreams, pageable, allMyDreams.size());
+            Page<DreamSimpleResponse> myDreamsPage = new PageImpl<>(allMyDreams, pageable,
+                allMyDreams.size()).map(DreamSimpleResponse::fromEntity);
 
             when(dreamRepository.findAllByMemberIdAndIsDeletedFalse(testMember.getId(), pageable))
                 .thenReturn(myDreamsPage);
@@ -344,8 +487,8 @@ class DreamServiceTest {
         void getPublicDreams_whenCalled_shouldReturnOnlyPublicDreams() {
             // given
             List<Dream> publicDreamsOnly = List.of(publicDream);
-            Page<Dream> publicDreamsPage = new PageImpl<>(publicDreamsOnly, pageable,
-                publicDreamsOnly.size());
+            Page<DreamSimpleResponse> publicDreamsPage = new PageImpl<>(publicDreamsOnly, pageable,
+                publicDreamsOnly.size()).map(DreamSimpleResponse::fromEntity);
 
             when(dreamRepository.findAllByIsPublicTrueAndIsDeletedFalse(pageable))
                 .thenReturn(publicDreamsPage);
@@ -367,8 +510,8 @@ class DreamServiceTest {
         void getPublicDreamsByMember_whenCalled_shouldReturnOnlyPublicDreamsOfMember() {
             // given
             List<Dream> publicDreamsOnly = List.of(publicDream);
-            Page<Dream> publicDreamsPage = new PageImpl<>(publicDreamsOnly, pageable,
-                publicDreamsOnly.size());
+            Page<DreamSimpleResponse> publicDreamsPage = new PageImpl<>(publicDreamsOnly, pageable,
+                publicDreamsOnly.size()).map(DreamSimpleResponse::fromEntity);
 
             when(dreamRepository.findAllByMemberIdAndIsDeletedFalseAndIsPublicTrue(
                 testMember.getId(), pageable))
@@ -428,7 +571,8 @@ class DreamServiceTest {
         void getAllDreams_whenIncludingDeleted_shouldReturnAllDreams() {
             // given
             List<Dream> allDreams = List.of(activeDream, deletedDream);
-            Page<Dream> dreamsPage = new PageImpl<>(allDreams, pageable, allDreams.size());
+            Page<DreamSimpleResponse> dreamsPage = new PageImpl<>(allDreams, pageable,
+                allDreams.size()).map(DreamSimpleResponse::fromEntity);
 
             when(dreamRepository.findAllForAdmin(pageable)).thenReturn(dreamsPage);
 
@@ -451,8 +595,8 @@ class DreamServiceTest {
         void getAllDreams_whenExcludingDeleted_shouldReturnOnlyNotDeletedDreams() {
             // given
             List<Dream> notDeletedDreams = List.of(activeDream);
-            Page<Dream> dreamsPage = new PageImpl<>(notDeletedDreams, pageable,
-                notDeletedDreams.size());
+            Page<DreamSimpleResponse> dreamsPage = new PageImpl<>(notDeletedDreams, pageable,
+                notDeletedDreams.size()).map(DreamSimpleResponse::fromEntity);
 
             when(dreamRepository.findAllByIsDeletedFalse(pageable)).thenReturn(dreamsPage);
 
@@ -489,6 +633,10 @@ class DreamServiceTest {
             // then
             assertThat(response.title()).isEqualTo("수정된 제목");
             assertThat(response.isPublic()).isFalse();
+            verify(eventPublisher).publishEvent(
+                new DreamChangedEvent(testDream.getId(), testMember.getId(), "수정된 제목",
+                    "수정된 내용", null, false, false));
+            verify(eventPublisher).publishEvent(PageCountChangedEvent.ofDreams(0, 0, -1));
         }
 
         @Test
@@ -525,6 +673,10 @@ class DreamServiceTest {
             // then
             verify(dreamRepository).findByIdAndIsDeletedFalse(testDream.getId());
             assertThat(testDream.isDeleted()).isTrue();
+            verify(eventPublisher).publishEvent(
+                new DreamChangedEvent(testDream.getId(), testMember.getId(), "테스트 꿈",
+                    "테스트 내용", null, true, true));
+            verify(eventPublisher).publishEvent(PageCountChangedEvent.ofDreams(0, -1, -1));
         }
 
         @Test
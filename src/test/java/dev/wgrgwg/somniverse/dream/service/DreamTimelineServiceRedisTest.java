@@ -0,0 +1,157 @@
+package dev.wgrgwg.somniverse.dream.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse;
+import dev.wgrgwg.somniverse.dream.event.DreamChangedEvent;
+import dev.wgrgwg.somniverse.dream.repository.DreamRepository;
+import dev.wgrgwg.somniverse.dream.timeline.DreamTimelineEntry;
+import dev.wgrgwg.somniverse.dream.timeline.DreamTimelineScope;
+import dev.wgrgwg.somniverse.dream.timeline.DreamTimelineSlice;
+import dev.wgrgwg.somniverse.dream.timeline.DreamTimelineStore;
+import dev.wgrgwg.somniverse.member.service.MemberService;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+@Testcontainers(disabledWithoutDocker = true)
+class DreamTimelineServiceRedisTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long DREAM_ID = 101L;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 6, 1, 0, 0);
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(
+        DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private DreamTimelineStore dreamTimelineStore;
+    private DreamRepository dreamRepository;
+    private MemberService memberService;
+    private DreamTimelineService dreamTimelineService;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(),
+            REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+
+        AppProperties appProperties = new AppProperties();
+        appProperties.getDreamTimeline().setTtl(Duration.ofHours(24));
+        appProperties.getDreamTimeline().setSummaryTtl(Duration.ofHours(1));
+        ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+        dreamTimelineStore = new DreamTimelineStore(redisTemplate, objectMapper, appProperties);
+        dreamRepository = mock(DreamRepository.class);
+        memberService = mock(MemberService.class);
+        dreamTimelineService = new DreamTimelineService(dreamTimelineStore, dreamRepository,
+            memberService);
+    }
+
+    @Test
+    @DisplayName("빈 타임라인 조회 후 첫 꿈일기를 작성하면 실제 작성자 이름으로 조회")
+    void findPage_afterFirstDreamOnEmptyTimeline_usesRealUsername() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        DreamTimelineEntry entry = new DreamTimelineEntry(DREAM_ID, "첫 꿈",
+            LocalDate.of(2025, 1, 1), CREATED_AT, true);
+        when(dreamRepository.findTimelineEntriesByMemberId(MEMBER_ID)).thenReturn(List.of());
+        dreamTimelineService.findPage(MEMBER_ID, DreamTimelineScope.ALL, pageable);
+
+        when(dreamRepository.findTimelineEntriesByMemberId(MEMBER_ID)).thenReturn(
+            List.of(entry));
+        when(memberService.getUsernameOrThrow(MEMBER_ID)).thenReturn("dreamer");
+
+        // when
+        dreamTimelineService.onDreamChanged(new DreamChangedEvent(DREAM_ID, MEMBER_ID, "첫 꿈",
+            "내용", CREATED_AT, true, false));
+        Page<DreamSimpleResponse> page = dreamTimelineService.findPage(MEMBER_ID,
+            DreamTimelineScope.ALL, pageable).orElseThrow();
+
+        // then
+        assertThat(page.getContent()).extracting(DreamSimpleResponse::id)
+            .containsExactly(DREAM_ID);
+        assertThat(page.getContent()).extracting(DreamSimpleResponse::authorUsername)
+            .containsExactly("dreamer");
+    }
+
+    @Test
+    @DisplayName("요약을 읽은 뒤 꿈일기가 수정되면 이전에 읽은 요약은 캐시에 다시 쓰지 않음")
+    void cacheSummaries_afterConcurrentUpdate_skipsStaleSummary() {
+        // given
+        DreamTimelineEntry stale = new DreamTimelineEntry(DREAM_ID, "예전 제목",
+            LocalDate.of(2025, 1, 1), CREATED_AT, true);
+        dreamTimelineStore.replace(MEMBER_ID, dreamTimelineStore.currentVersion(MEMBER_ID),
+            "dreamer", List.of(stale));
+        DreamTimelineSlice slice = dreamTimelineStore.read(MEMBER_ID, DreamTimelineScope.ALL, 0,
+            9).orElseThrow();
+
+        // when
+        dreamTimelineStore.apply(MEMBER_ID, DREAM_ID, CREATED_AT, true, true);
+        boolean cached = dreamTimelineStore.cacheSummaries(MEMBER_ID, slice.version(),
+            List.of(stale));
+
+        // then
+        assertThat(cached).isFalse();
+        assertThat(dreamTimelineStore.read(MEMBER_ID, DreamTimelineScope.ALL, 0, 9)
+            .orElseThrow().cachedEntries()).containsOnlyNulls();
+    }
+
+    @Test
+    @DisplayName("읽은 뒤 변경이 없으면 요약을 캐시에 저장")
+    void cacheSummaries_withoutConcurrentChange_cachesSummary() {
+        // given
+        DreamTimelineEntry entry = new DreamTimelineEntry(DREAM_ID, "첫 꿈",
+            LocalDate.of(2025, 1, 1), CREATED_AT, true);
+        dreamTimelineStore.replace(MEMBER_ID, dreamTimelineStore.currentVersion(MEMBER_ID),
+            "dreamer", List.of(entry));
+        DreamTimelineSlice slice = dreamTimelineStore.read(MEMBER_ID, DreamTimelineScope.ALL, 0,
+            9).orElseThrow();
+
+        // when
+        boolean cached = dreamTimelineStore.cacheSummaries(MEMBER_ID, slice.version(),
+            List.of(entry));
+
+        // then
+        assertThat(cached).isTrue();
+        assertThat(dreamTimelineStore.read(MEMBER_ID, DreamTimelineScope.ALL, 0, 9)
+            .orElseThrow().cachedEntries()).containsExactly(entry);
+    }
+}
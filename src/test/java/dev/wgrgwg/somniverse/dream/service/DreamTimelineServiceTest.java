@@ -0,0 +1,194 @@
+package dev.wgrgwg.somniverse.dream.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import dev.wgrgwg.somniverse.dream.dto.response.DreamSimpleResponse;
+import dev.wgrgwg.somniverse.dream.event.DreamChangedEvent;
+import dev.wgrgwg.somniverse.dream.repository.DreamRepository;
+import dev.wgrgwg.somniverse.dream.timeline.DreamTimelineEntry;
+import dev.wgrgwg.somniverse.dream.timeline.DreamTimelineScope;
+import dev.wgrgwg.somniverse.dream.timeline.DreamTimelineSlice;
+import dev.wgrgwg.somniverse.dream.timeline.DreamTimelineStore;
+import dev.wgrgwg.somniverse.dream.timeline.DreamTimelineUnavailableException;
+import dev.wgrgwg.somniverse.member.service.MemberService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class DreamTimelineServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 6, 1, 0, 0);
+
+    @Mock
+    private DreamTimelineStore dreamTimelineStore;
+
+    @Mock
+    private DreamRepository dreamRepository;
+
+    @Mock
+    private MemberService memberService;
+
+    @InjectMocks
+    private DreamTimelineService dreamTimelineService;
+
+    @Test
+    @DisplayName("타임라인 조회 시 캐시에 없는 요약만 한 번의 DB 쿼리로 채우고 타임라인 순서 유지")
+    void findPage_withCacheMiss_loadsMissingSummariesInOneQuery() {
+        // given
+        Pageable pageable = PageRequest.of(0, 3);
+        DreamTimelineEntry cached = entry(103L, true);
+        DreamTimelineEntry missing = entry(102L, false);
+        when(dreamTimelineStore.read(MEMBER_ID, DreamTimelineScope.ALL, 0, 2)).thenReturn(
+            Optional.of(new DreamTimelineSlice("dreamer", 5, List.of(103L, 102L, 101L),
+                Arrays.asList(cached, null, entry(101L, true)), "4")));
+        when(dreamRepository.findTimelineEntriesByMemberIdAndIdIn(MEMBER_ID, List.of(102L)))
+            .thenReturn(List.of(missing));
+
+        // when
+        Page<DreamSimpleResponse> page = dreamTimelineService.findPage(MEMBER_ID,
+            DreamTimelineScope.ALL, pageable).orElseThrow();
+
+        // then
+        assertThat(page.getContent()).extracting(DreamSimpleResponse::id)
+            .containsExactly(103L, 102L, 101L);
+        assertThat(page.getContent()).extracting(DreamSimpleResponse::authorUsername)
+            .containsOnly("dreamer");
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        verify(dreamTimelineStore).cacheSummaries(MEMBER_ID, "4", List.of(missing));
+    }
+
+    @Test
+    @DisplayName("공개 타임라인 조회 시 캐시된 요약이 비공개면 결과에서 제외")
+    void findPage_publicScope_filtersPrivateEntries() {
+        // given
+        Pageable pageable = PageRequest.of(0, 2);
+        when(dreamTimelineStore.read(MEMBER_ID, DreamTimelineScope.PUBLIC, 0, 1)).thenReturn(
+            Optional.of(new DreamTimelineSlice("dreamer", 2, List.of(102L, 101L),
+                List.of(entry(102L, false), entry(101L, true)), "4")));
+
+        // when
+        Page<DreamSimpleResponse> page = dreamTimelineService.findPage(MEMBER_ID,
+            DreamTimelineScope.PUBLIC, pageable).orElseThrow();
+
+        // then
+        assertThat(page.getContent()).extracting(DreamSimpleResponse::id).containsExactly(101L);
+        verifyNoInteractions(dreamRepository);
+    }
+
+    @Test
+    @DisplayName("타임라인이 없으면 DB에서 재구성하고 요청한 페이지를 바로 반환")
+    void findPage_whenNotMaterialized_rebuildsFromDatabase() {
+        // given
+        Pageable pageable = PageRequest.of(0, 1);
+        List<DreamTimelineEntry> entries = List.of(entry(102L, false), entry(101L, true));
+        when(dreamTimelineStore.read(MEMBER_ID, DreamTimelineScope.PUBLIC, 0, 0)).thenReturn(
+            Optional.empty());
+        when(dreamTimelineStore.currentVersion(MEMBER_ID)).thenReturn("3");
+        when(dreamRepository.findTimelineEntriesByMemberId(MEMBER_ID)).thenReturn(entries);
+        when(memberService.getUsernameOrThrow(MEMBER_ID)).thenReturn("dreamer");
+        when(dreamTimelineStore.replace(MEMBER_ID, "3", "dreamer", entries)).thenReturn(true);
+
+        // when
+        Page<DreamSimpleResponse> page = dreamTimelineService.findPage(MEMBER_ID,
+            DreamTimelineScope.PUBLIC, pageable).orElseThrow();
+
+        // then
+        assertThat(page.getContent()).extracting(DreamSimpleResponse::id).containsExactly(101L);
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        verify(dreamTimelineStore).replace(MEMBER_ID, "3", "dreamer", entries);
+    }
+
+    @Test
+    @DisplayName("꿈일기가 없는 회원의 타임라인은 저장하지 않고 빈 페이지 반환")
+    void findPage_withoutDreams_doesNotMaterializeTimeline() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(dreamTimelineStore.read(MEMBER_ID, DreamTimelineScope.ALL, 0, 9)).thenReturn(
+            Optional.empty());
+        when(dreamTimelineStore.currentVersion(MEMBER_ID)).thenReturn("0");
+        when(dreamRepository.findTimelineEntriesByMemberId(MEMBER_ID)).thenReturn(List.of());
+
+        // when
+        Page<DreamSimpleResponse> page = dreamTimelineService.findPage(MEMBER_ID,
+            DreamTimelineScope.ALL, pageable).orElseThrow();
+
+        // then
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isZero();
+        verify(dreamTimelineStore, never()).replace(anyLong(), any(), any(), any());
+        verifyNoInteractions(memberService);
+    }
+
+    @Test
+    @DisplayName("타임라인 저장소 장애 시 빈 Optional 반환하여 DB 조회로 대체")
+    void findPage_whenStoreUnavailable_returnsEmpty() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(dreamTimelineStore.read(MEMBER_ID, DreamTimelineScope.ALL, 0, 9)).thenThrow(
+            new DreamTimelineUnavailableException("unavailable",
+                new RedisConnectionFailureException("down")));
+
+        // when
+        Optional<Page<DreamSimpleResponse>> page = dreamTimelineService.findPage(MEMBER_ID,
+            DreamTimelineScope.ALL, pageable);
+
+        // then
+        assertThat(page).isEmpty();
+        verifyNoInteractions(dreamRepository);
+    }
+
+    @Test
+    @DisplayName("작성일 내림차순이 아닌 정렬 요청은 타임라인을 사용하지 않음")
+    void findPage_withUnsupportedSort_returnsEmpty() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("title"));
+
+        // when
+        Optional<Page<DreamSimpleResponse>> page = dreamTimelineService.findPage(MEMBER_ID,
+            DreamTimelineScope.ALL, pageable);
+
+        // then
+        assertThat(page).isEmpty();
+        verify(dreamTimelineStore, never()).read(anyLong(), any(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("삭제된 꿈일기 변경 이벤트는 두 타임라인 모두에서 제거하도록 반영")
+    void onDreamChanged_deletedDream_removesFromTimelines() {
+        // given
+        DreamChangedEvent event = new DreamChangedEvent(101L, MEMBER_ID, "꿈", "내용", CREATED_AT,
+            true, true);
+
+        // when
+        dreamTimelineService.onDreamChanged(event);
+
+        // then
+        verify(dreamTimelineStore).apply(MEMBER_ID, 101L, CREATED_AT, false, true);
+    }
+
+    private DreamTimelineEntry entry(Long dreamId, boolean isPublic) {
+        return new DreamTimelineEntry(dreamId, "꿈" + dreamId, LocalDate.of(2025, 1, 1),
+            CREATED_AT, isPublic);
+    }
+}
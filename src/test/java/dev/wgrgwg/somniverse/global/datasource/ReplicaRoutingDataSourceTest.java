@@ -0,0 +1,174 @@
+package dev.wgrgwg.somniverse.global.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final String REPLICA = "replica-1";
+    private static final Duration MAX_LAG = Duration.ofSeconds(2);
+
+    private final AtomicLong clock = new AtomicLong(1_000L);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+    private ReplicaHealthMonitor healthMonitor;
+    private JdbcTemplate routedJdbc;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("primary");
+        DataSource replica = h2(REPLICA);
+        primaryJdbc = new JdbcTemplate(primary);
+        replicaJdbc = new JdbcTemplate(replica);
+
+        healthMonitor = new ReplicaHealthMonitor(primaryJdbc, Map.of(REPLICA, replicaJdbc),
+            MAX_LAG, meterRegistry, clock::get);
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primary,
+            Map.of(REPLICA, replica), healthMonitor, Duration.ofSeconds(5), meterRegistry);
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        routedJdbc = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본으로, 쓰기 트랜잭션은 주 DB로 라우팅")
+    void route_shouldSendReadOnlyTransactionsToReplica() {
+        // given
+        replicateHeartbeatAndCheck();
+
+        // when
+        String readOnlyNode = readNode(true);
+        String readWriteNode = readNode(false);
+
+        // then
+        assertThat(readOnlyNode).isEqualTo(REPLICA);
+        assertThat(readWriteNode).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(meterRegistry.get("datasource.routing").tag("target", REPLICA)
+            .tag("reason", "read").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 임계값을 넘으면 읽기 전용 트랜잭션도 주 DB로 폴백")
+    void route_shouldFallBackToPrimaryWhenReplicaLags() {
+        // given
+        replicateHeartbeatAndCheck();
+        clock.addAndGet(MAX_LAG.toMillis() * 3);
+        healthMonitor.check();
+
+        // when
+        String readOnlyNode = readNode(true);
+
+        // then
+        assertThat(healthMonitor.healthyReplicas()).isEmpty();
+        assertThat(readOnlyNode).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(meterRegistry.get("datasource.replica.lag").tag("replica", REPLICA)
+            .gauge().value()).isGreaterThan(MAX_LAG.toMillis());
+    }
+
+    @Test
+    @DisplayName("같은 요청에서 쓰기 이후의 읽기 전용 트랜잭션은 주 DB에서 읽음")
+    void route_shouldReadYourWritesWithinRequest() {
+        // given
+        replicateHeartbeatAndCheck();
+        RequestContextHolder.setRequestAttributes(
+            new ServletRequestAttributes(new MockHttpServletRequest()));
+        String beforeWrite = readNode(true);
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+            status -> routedJdbc.update("UPDATE node SET touched = TRUE"));
+        String afterWrite = readNode(true);
+
+        // then
+        assertThat(beforeWrite).isEqualTo(REPLICA);
+        assertThat(afterWrite).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션 안에서도 별도 쓰기 트랜잭션으로 읽으면 주 DB에서 읽음")
+    void route_shouldReadFromPrimaryInRequiresNewTransaction() {
+        // given
+        replicateHeartbeatAndCheck();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // when
+        String[] nodes = readOnly.execute(status -> new String[]{
+            routedJdbc.queryForObject("SELECT name FROM node", String.class),
+            requiresNew.execute(inner -> routedJdbc.queryForObject("SELECT name FROM node",
+                String.class))});
+
+        // then
+        assertThat(nodes).containsExactly(REPLICA, ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("복제본 상태를 확인하기 전에는 주 DB에서 읽음")
+    void route_shouldUsePrimaryUntilReplicaIsVerified() {
+        // when
+        String readOnlyNode = readNode(true);
+
+        // then
+        assertThat(healthMonitor.healthyReplicas()).isEmpty();
+        assertThat(readOnlyNode).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    private void replicateHeartbeatAndCheck() {
+        healthMonitor.check();
+        Long beat = primaryJdbc.queryForObject(
+            "SELECT beat_at_ms FROM replication_heartbeat WHERE id = 1", Long.class);
+        replicaJdbc.update("UPDATE replication_heartbeat SET beat_at_ms = ? WHERE id = 1", beat);
+        clock.addAndGet(1_000L);
+        healthMonitor.check();
+    }
+
+    private String readNode(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(
+            status -> routedJdbc.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(32), touched BOOLEAN)");
+        jdbcTemplate.update("INSERT INTO node (name, touched) VALUES (?, FALSE)", name);
+        jdbcTemplate.execute(
+            "CREATE TABLE replication_heartbeat (id TINYINT PRIMARY KEY, beat_at_ms BIGINT)");
+        jdbcTemplate.update("INSERT INTO replication_heartbeat (id, beat_at_ms) VALUES (1, 0)");
+        return dataSource;
+    }
+}
@@ -0,0 +1,143 @@
+package dev.wgrgwg.somniverse.global.idempotency.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.global.idempotency.model.IdempotencyRecord;
+import dev.wgrgwg.somniverse.global.idempotency.model.IdempotencyState;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IdempotencyRecordCodecTest {
+
+    private static final String REQUEST_HASH = "a".repeat(64);
+
+    private final ObjectMapper om = new ObjectMapper();
+
+    @Test
+    @DisplayName("바이너리 포맷은 응답 본문 바이트와 헤더를 그대로 복원")
+    void binary_shouldRoundTripCompletedRecord() {
+        // given
+        IdempotencyRecordCodec codec = codec("binary", 1024);
+        IdempotencyRecord completed = completed("{\"title\":\"하늘을 나는 꿈\"}");
+
+        // when
+        IdempotencyRecord decoded = codec.decode(codec.encode(completed));
+
+        // then
+        assertThat(decoded).isEqualTo(completed).hasSameHashCodeAs(completed);
+    }
+
+    @Test
+    @DisplayName("임계값을 넘는 바이너리 스냅샷은 압축되어 JSON보다 작게 저장")
+    void binary_shouldCompressLargeBody() {
+        // given
+        IdempotencyRecordCodec binary = codec("binary", 1024);
+        IdempotencyRecordCodec json = codec("json", 1024);
+        IdempotencyRecord completed = completed(
+            "{\"content\":\"" + "어젯밤 꿈에서 하늘을 날았다. ".repeat(500) + "\"}");
+
+        // when
+        byte[] binaryBytes = binary.encode(completed);
+        byte[] jsonBytes = json.encode(completed);
+
+        // then
+        assertThat(binaryBytes.length).isLessThan(jsonBytes.length / 4);
+        assertThat(binary.decode(binaryBytes)).isEqualTo(completed);
+    }
+
+    @Test
+    @DisplayName("기존 JSON 문자열 스냅샷도 바이너리 모드에서 읽을 수 있음")
+    void decode_shouldReadLegacyJsonSnapshot() {
+        // given
+        IdempotencyRecordCodec codec = codec("binary", 1024);
+        String legacy = """
+            {"state":"COMPLETED","requestHash":"%s","responseStatus":201,\
+            "responseBody":"{\\"title\\":\\"꿈\\"}","responseContentType":"application/json",\
+            "responseHeaders":{"Location":["/api/dreams/1"]},"createdAt":1700000000000}
+            """.formatted(REQUEST_HASH).trim();
+
+        // when
+        IdempotencyRecord decoded = codec.decode(legacy.getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(decoded.state()).isEqualTo(IdempotencyState.COMPLETED);
+        assertThat(decoded.responseStatus()).isEqualTo(201);
+        assertThat(new String(decoded.responseBody(), StandardCharsets.UTF_8))
+            .isEqualTo("{\"title\":\"꿈\"}");
+        assertThat(decoded.responseHeaders()).containsEntry("Location", List.of("/api/dreams/1"));
+        assertThat(decoded.createdAt()).isEqualTo(1700000000000L);
+    }
+
+    @Test
+    @DisplayName("진행 중 스냅샷처럼 비어 있는 필드도 복원")
+    void binary_shouldRoundTripInProgressRecord() {
+        // given
+        IdempotencyRecordCodec codec = codec("binary", 1024);
+        IdempotencyRecord inProgress = IdempotencyRecord.inProgress(REQUEST_HASH);
+
+        // when
+        IdempotencyRecord decoded = codec.decode(codec.encode(inProgress));
+
+        // then
+        assertThat(decoded).isEqualTo(inProgress);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 포맷은 예외 발생")
+    void decode_shouldRejectUnknownFormat() {
+        // given
+        IdempotencyRecordCodec codec = codec("binary", 1024);
+
+        // when & then
+        assertThatThrownBy(() -> codec.decode(new byte[]{1, 2, 3, 4, 5}))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 상태 코드가 담긴 바이너리 스냅샷은 예외 발생")
+    void binary_shouldRejectUnknownStateCode() {
+        // given
+        IdempotencyRecordCodec codec = codec("binary", 1024);
+        byte[] bytes = codec.encode(IdempotencyRecord.inProgress(REQUEST_HASH));
+        bytes[4] = 9;
+
+        // when & then
+        assertThatThrownBy(() -> codec.decode(bytes))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("상태는 선언 순서가 아닌 고정 코드로 저장")
+    void binary_shouldEncodeStateByCode() {
+        // given
+        IdempotencyRecordCodec codec = codec("binary", 1024);
+
+        // when
+        byte[] failed = codec.encode(IdempotencyRecord.inProgress(REQUEST_HASH).toFailed());
+
+        // then
+        assertThat(failed[4]).isEqualTo((byte) IdempotencyState.FAILED.code());
+    }
+
+    private IdempotencyRecordCodec codec(String storageFormat, int compressionThresholdBytes) {
+        AppProperties appProperties = new AppProperties();
+        appProperties.getIdempotency().setStorageFormat(storageFormat);
+        appProperties.getIdempotency().setCompressionThresholdBytes(compressionThresholdBytes);
+        return new IdempotencyRecordCodec(om, appProperties);
+    }
+
+    private IdempotencyRecord completed(String body) {
+        return IdempotencyRecord.inProgress(REQUEST_HASH).toCompleted(
+            201,
+            body.getBytes(StandardCharsets.UTF_8),
+            "application/json;charset=UTF-8",
+            Map.of("Location", List.of("/api/dreams/1"))
+        );
+    }
+}
@@ -0,0 +1,280 @@
+package dev.wgrgwg.somniverse.global.idempotency.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.global.idempotency.codec.IdempotencyRecordCodec;
+import dev.wgrgwg.somniverse.global.idempotency.model.IdempotencyRecord;
+import dev.wgrgwg.somniverse.global.idempotency.model.IdempotencyState;
+import dev.wgrgwg.somniverse.global.idempotency.store.AcquireResult;
+import dev.wgrgwg.somniverse.global.idempotency.store.IdempotencyRepository;
+import dev.wgrgwg.somniverse.global.idempotency.util.IdempotencyHashUtil;
+import dev.wgrgwg.somniverse.global.idempotency.util.IdempotencyKeys;
+import dev.wgrgwg.somniverse.global.idempotency.wait.IdempotencyWaiterRegistry;
+import dev.wgrgwg.somniverse.member.domain.Member;
+import dev.wgrgwg.somniverse.member.domain.Role;
+import dev.wgrgwg.somniverse.security.userdetails.CustomUserDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.ModelAndView;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+@Testcontainers(disabledWithoutDocker = true)
+class IdempotencyFilterConcurrencyTest {
+
+    private static final int THREAD_COUNT = 32;
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(
+        DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private AppProperties appProperties;
+    private IdempotencyRepository idempotencyRepository;
+    private IdempotencyFilter idempotencyFilter;
+    private RedisMessageListenerContainer listenerContainer;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(),
+            REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.afterPropertiesSet();
+
+        ObjectMapper om = new ObjectMapper();
+        appProperties = new AppProperties();
+        AppProperties.Idempotency idempotency = appProperties.getIdempotency();
+        idempotency.setTtlSeconds(120);
+        idempotency.setInProgressTtl(120);
+        idempotency.setRetryAfterSeconds(2);
+        idempotency.setIncludePaths(List.of("/api/dreams"));
+        idempotency.setStorageFormat("binary");
+        idempotency.setCompressionThresholdBytes(1024);
+        idempotency.setMaxBodyBytes(1024 * 1024);
+        idempotency.getWait().setTimeout(Duration.ofSeconds(5));
+        idempotency.getWait().setMaxWaiters(100);
+
+        idempotencyRepository = new IdempotencyRepository(redisTemplate,
+            new IdempotencyRecordCodec(om, appProperties));
+        IdempotencyWaiterRegistry waiterRegistry = new IdempotencyWaiterRegistry(
+            idempotencyRepository, appProperties, new SimpleMeterRegistry());
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.addMessageListener(waiterRegistry,
+            new ChannelTopic(IdempotencyKeys.EVENTS_CHANNEL));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        idempotencyFilter = new IdempotencyFilter(idempotencyRepository,
+            new IdempotencyHashUtil(om), appProperties, (request, response, handler, ex) -> {
+            response.setStatus(409);
+            return new ModelAndView();
+        }, waiterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키로 동시에 들어온 요청 중 하나만 핸들러를 실행")
+    void doFilter_shouldExecuteHandlerOnceUnderContention() throws Exception {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+        Map<Integer, AtomicInteger> statuses = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            futures.add(executor.submit(() -> {
+                authenticate(1L);
+                MockHttpServletRequest request = new MockHttpServletRequest("POST",
+                    "/api/dreams");
+                request.addHeader("Idempotency-Key", idempotencyKey);
+                request.setContentType("application/json");
+                request.setContent("{\"title\":\"꿈\"}".getBytes(StandardCharsets.UTF_8));
+                MockHttpServletResponse response = new MockHttpServletResponse();
+
+                start.await();
+                idempotencyFilter.doFilter(request, response, (req, res) -> {
+                    executions.incrementAndGet();
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    ((HttpServletResponse) res).setStatus(201);
+                    res.getOutputStream().write("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+                });
+
+                statuses.computeIfAbsent(response.getStatus(), s -> new AtomicInteger())
+                    .incrementAndGet();
+                SecurityContextHolder.clearContext();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(statuses.keySet()).isSubsetOf(201, 409);
+        assertThat(statuses.get(201).get()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 모드에서 진행 중인 중복 요청은 완료 후 같은 응답을 재생")
+    void doFilter_shouldReplayCompletedSnapshotToWaitingDuplicate() throws Exception {
+        // given
+        appProperties.getIdempotency().getWait().setEnabled(true);
+        String idempotencyKey = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch handlerStarted = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        Future<MockHttpServletResponse> first = executor.submit(() -> {
+            authenticate(1L);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            idempotencyFilter.doFilter(createRequest(idempotencyKey), response, (req, res) -> {
+                executions.incrementAndGet();
+                handlerStarted.countDown();
+                try {
+                    Thread.sleep(500);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                ((HttpServletResponse) res).setStatus(201);
+                res.getOutputStream().write("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+            });
+            SecurityContextHolder.clearContext();
+            return response;
+        });
+        handlerStarted.await();
+
+        // when
+        authenticate(1L);
+        MockHttpServletRequest request = createRequest(idempotencyKey);
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        idempotencyFilter.doFilter(request, response, (req, res) -> executions.incrementAndGet());
+        SecurityContextHolder.clearContext();
+        boolean startedAsync = request.isAsyncStarted();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (request.isAsyncStarted() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        MockHttpServletResponse original = first.get();
+        executor.shutdown();
+
+        // then
+        assertThat(startedAsync).isTrue();
+        assertThat(request.isAsyncStarted()).isFalse();
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(original.getStatus()).isEqualTo(201);
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}");
+    }
+
+    @Test
+    @DisplayName("소유 토큰이 다른 요청은 진행 중 스냅샷을 덮어쓰지 못함")
+    void finalizeIfOwner_shouldRejectForeignOwner() {
+        // given
+        String key = IdempotencyKeys.build("test", "POST", "/api/dreams",
+            UUID.randomUUID().toString());
+        IdempotencyRecord inProgress = IdempotencyRecord.inProgress("hash");
+        AcquireResult first = idempotencyRepository.acquire(key, inProgress, "owner-a", TTL);
+        AcquireResult second = idempotencyRepository.acquire(key, inProgress, "owner-b", TTL);
+
+        // when
+        boolean foreign = idempotencyRepository.finalizeIfOwner(key, "owner-b",
+            inProgress.toFailed(), TTL);
+        boolean own = idempotencyRepository.finalizeIfOwner(key, "owner-a",
+            inProgress.toCompleted(201, null, null, null), TTL);
+        boolean again = idempotencyRepository.finalizeIfOwner(key, "owner-a",
+            inProgress.toFailed(), TTL);
+
+        // then
+        assertThat(first.acquired()).isTrue();
+        assertThat(second.acquired()).isFalse();
+        assertThat(second.existing().state()).isEqualTo(IdempotencyState.IN_PROGRESS);
+        assertThat(foreign).isFalse();
+        assertThat(own).isTrue();
+        assertThat(again).isFalse();
+        assertThat(idempotencyRepository.get(key)).get()
+            .extracting(IdempotencyRecord::state)
+            .isEqualTo(IdempotencyState.COMPLETED);
+    }
+
+    private MockHttpServletRequest createRequest(String idempotencyKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/dreams");
+        request.addHeader("Idempotency-Key", idempotencyKey);
+        request.setContentType("application/json");
+        request.setContent("{\"title\":\"꿈\"}".getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private void authenticate(Long memberId) {
+        Member member = Member.builder().id(memberId).role(Role.USER).build();
+        CustomUserDetails userDetails = new CustomUserDetails(member);
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(userDetails, null,
+                userDetails.getAuthorities()));
+    }
+}
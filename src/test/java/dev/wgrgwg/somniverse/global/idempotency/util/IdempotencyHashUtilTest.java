@@ -0,0 +1,58 @@
+package dev.wgrgwg.somniverse.global.idempotency.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.wgrgwg.somniverse.global.util.HashUtil;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class IdempotencyHashUtilTest {
+
+    private final IdempotencyHashUtil hashUtil = new IdempotencyHashUtil(new ObjectMapper());
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "{\"title\":\"하늘을 나는 꿈\",\"isPublic\":true,\"dreamDate\":\"2025-05-01\"}",
+        "{\"b\":{\"z\":1,\"a\":[3,{\"y\":null,\"x\":false}]},\"a\":\"\"}",
+        "[{\"b\":1,\"a\":2},[],{},\"s\"]",
+        "{\"escape\":\"줄\\n바꿈 \\\"따옴표\\\" \\\\ \\u0001 \\/\",\"emoji\":\"\\ud83d\\ude00\"}",
+        "{\"int\":-0,\"long\":12345678901,\"big\":123456789012345678901234567890}",
+        "{\"double\":1.50,\"exp\":1e2,\"neg\":-2.5E-3,\"zero\":0.0}",
+        "{\"dup\":1,\"other\":2,\"dup\":3}",
+        "  {\"a\" : [ 1 , 2 ] }  ",
+        "\"just a string\"",
+        "42",
+        "{\"a\":1} trailing",
+        "{\"broken\": ",
+        "not json at all"
+    })
+    @DisplayName("스트리밍 해시는 트리 기반 정규화 JSON의 해시와 동일")
+    void hashBody_shouldMatchTreeCanonicalization(String json) {
+        // given
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+
+        // when
+        String streaming = hashUtil.hashBody(body, "application/json");
+        String tree = HashUtil.sha256(hashUtil.canonicalizeJson(body));
+
+        // then
+        assertThat(streaming).isEqualTo(tree);
+        assertThat(hashUtil.hashBody(body)).isEqualTo(tree);
+    }
+
+    @Test
+    @DisplayName("키 순서만 다른 JSON은 같은 해시")
+    void hashBody_shouldIgnoreKeyOrder() {
+        // given
+        byte[] first = "{\"a\":1,\"b\":{\"c\":2,\"d\":3}}".getBytes(StandardCharsets.UTF_8);
+        byte[] second = "{\"b\":{\"d\":3,\"c\":2},\"a\":1}".getBytes(StandardCharsets.UTF_8);
+
+        // when & then
+        assertThat(hashUtil.hashBody(first, "application/json"))
+            .isEqualTo(hashUtil.hashBody(second, "application/json"));
+    }
+}
@@ -0,0 +1,25 @@
+package dev.wgrgwg.somniverse.global.idempotency.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.lettuce.core.cluster.SlotHash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class IdempotencyKeysTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/dreams", "/api/dreams/{id}/comments", "/api/a}b", "/"})
+    @DisplayName("스냅샷 키와 소유 키는 같은 해시 태그를 공유해 클러스터에서 같은 슬롯에 배치")
+    void ownerKey_sharesSlotWithRecordKey(String path) {
+        // given
+        String key = IdempotencyKeys.build("USR:1", "POST", path, "idem-123");
+
+        // when
+        String owner = IdempotencyKeys.owner(key);
+
+        // then
+        assertThat(SlotHash.getSlot(owner)).isEqualTo(SlotHash.getSlot(key));
+    }
+}
@@ -0,0 +1,73 @@
+package dev.wgrgwg.somniverse.global.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final Object monitor = new Object();
+
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadPinningMonitor pinningMonitor;
+
+    @BeforeEach
+    void setUp() {
+        AppProperties appProperties = new AppProperties();
+        AppProperties.VirtualThreads.PinningMonitor config = appProperties.getVirtualThreads()
+            .getPinningMonitor();
+        config.setEnabled(true);
+        config.setThreshold(Duration.ofMillis(10));
+        config.setStackDepth(8);
+
+        meterRegistry = new SimpleMeterRegistry();
+        pinningMonitor = new VirtualThreadPinningMonitor(appProperties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pinningMonitor.stop();
+    }
+
+    @Test
+    @DisplayName("synchronized 블록 안에서 가상 스레드가 대기하면 고정 위치 태그로 타이머 기록")
+    void onPinned_recordsTimerTaggedWithApplicationFrame() {
+        // given
+        Assumptions.assumeTrue(Runtime.version().feature() < 24,
+            "monitors no longer pin carriers since JDK 24");
+        pinningMonitor.start();
+
+        // when & then
+        await().atMost(Duration.ofSeconds(15)).untilAsserted(() -> {
+            Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+
+            Collection<Timer> timers = meterRegistry.find("virtualthreads.pinned").timers();
+            assertThat(timers).isNotEmpty();
+            assertThat(timers).anySatisfy(timer -> {
+                assertThat(timer.count()).isPositive();
+                assertThat(timer.getId().getTag("site"))
+                    .startsWith(VirtualThreadPinningMonitorTest.class.getName());
+            });
+        });
+    }
+
+    private void sleepWhileHoldingMonitor() {
+        synchronized (monitor) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
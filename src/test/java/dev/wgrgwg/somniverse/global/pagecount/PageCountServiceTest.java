@@ -0,0 +1,143 @@
+package dev.wgrgwg.somniverse.global.pagecount;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import dev.wgrgwg.somniverse.dream.repository.DreamRepository;
+import dev.wgrgwg.somniverse.member.repository.MemberRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class PageCountServiceTest {
+
+    @Mock
+    private PageCountStore pageCountStore;
+
+    @Mock
+    private DreamRepository dreamRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @InjectMocks
+    private PageCountService pageCountService;
+
+    @Test
+    @DisplayName("CACHED 전략에서 다음 페이지가 있으면 캐시된 전체 개수를 사용하고 COUNT 쿼리 미실행")
+    void find_cachedWithNext_usesCachedTotal() {
+        // given
+        Pageable pageable = PageRequest.of(0, 2);
+        when(pageCountStore.get(CountedTotal.PUBLIC_DREAMS)).thenReturn(Optional.of(40L));
+
+        // when
+        Slice<String> result = pageCountService.find(CountStrategy.CACHED,
+            CountedTotal.PUBLIC_DREAMS, pageable, this::failingPageQuery,
+            p -> new SliceImpl<>(List.of("a", "b"), p, true));
+
+        // then
+        assertThat(result).isInstanceOf(Page.class);
+        assertThat(((Page<String>) result).getTotalElements()).isEqualTo(40);
+        verifyNoInteractions(dreamRepository);
+    }
+
+    @Test
+    @DisplayName("캐시된 개수가 없으면 정확한 개수로 초기화")
+    void total_whenMissing_seedsExactCount() {
+        // given
+        when(pageCountStore.get(CountedTotal.ACTIVE_DREAMS)).thenReturn(Optional.empty());
+        when(dreamRepository.countByIsDeletedFalse()).thenReturn(17L);
+
+        // when
+        long total = pageCountService.total(CountedTotal.ACTIVE_DREAMS);
+
+        // then
+        assertThat(total).isEqualTo(17);
+        verify(pageCountStore).seed(CountedTotal.ACTIVE_DREAMS, 17L);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지면 조회 결과만으로 전체 개수를 계산하고 저장소 미조회")
+    void find_cachedLastPage_computesTotalFromContent() {
+        // given
+        Pageable pageable = PageRequest.of(2, 10);
+
+        // when
+        Slice<String> result = pageCountService.find(CountStrategy.CACHED,
+            CountedTotal.ALL_MEMBERS, pageable, this::failingPageQuery,
+            p -> new SliceImpl<>(List.of("a", "b", "c"), p, false));
+
+        // then
+        assertThat(((Page<String>) result).getTotalElements()).isEqualTo(23);
+        verifyNoInteractions(pageCountStore);
+    }
+
+    @Test
+    @DisplayName("저장소 장애 시 DB COUNT 결과로 대체")
+    void total_whenStoreUnavailable_fallsBackToExactCount() {
+        // given
+        when(pageCountStore.get(CountedTotal.ALL_MEMBERS)).thenThrow(
+            new PageCountStoreUnavailableException("unavailable",
+                new RedisConnectionFailureException("down")));
+        when(memberRepository.count()).thenReturn(5L);
+
+        // when
+        long total = pageCountService.total(CountedTotal.ALL_MEMBERS);
+
+        // then
+        assertThat(total).isEqualTo(5);
+        verify(pageCountStore, never()).seed(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("NONE 전략은 전체 개수 없이 Slice 반환")
+    void find_none_returnsSliceWithoutTotal() {
+        // given
+        Pageable pageable = PageRequest.of(0, 2);
+
+        // when
+        Slice<String> result = pageCountService.find(CountStrategy.NONE,
+            CountedTotal.PUBLIC_DREAMS, pageable, this::failingPageQuery,
+            p -> new SliceImpl<>(List.of("a", "b"), p, true));
+
+        // then
+        assertThat(result).isNotInstanceOf(Page.class);
+        assertThat(result.hasNext()).isTrue();
+        verifyNoInteractions(pageCountStore, dreamRepository);
+    }
+
+    @Test
+    @DisplayName("커밋 후 변경량 이벤트를 저장소에 반영")
+    void onPageCountChanged_appliesDeltas() {
+        // given
+        PageCountChangedEvent event = PageCountChangedEvent.of(CountedTotal.ALL_MEMBERS, 1);
+
+        // when
+        pageCountService.onPageCountChanged(event);
+
+        // then
+        verify(pageCountStore).apply(Map.of(CountedTotal.ALL_MEMBERS, 1L));
+    }
+
+    private Page<String> failingPageQuery(Pageable pageable) {
+        throw new AssertionError("page query should not run");
+    }
+}
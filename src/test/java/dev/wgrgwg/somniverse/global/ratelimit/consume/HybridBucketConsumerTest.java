@@ -0,0 +1,221 @@
+package dev.wgrgwg.somniverse.global.ratelimit.consume;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import dev.wgrgwg.somniverse.global.ratelimit.policy.ConsumptionMode;
+import dev.wgrgwg.somniverse.global.ratelimit.policy.FailureMode;
+import dev.wgrgwg.somniverse.global.ratelimit.policy.KeyStrategy;
+import dev.wgrgwg.somniverse.global.ratelimit.policy.MatchedPolicy;
+import dev.wgrgwg.somniverse.support.ratelimit.InMemoryRateLimitBucketStore;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HybridBucketConsumerTest {
+
+    private static final String BUCKET_KEY = "RL:USR:1:read";
+    private static final Duration SYNC_INTERVAL = Duration.ofSeconds(1);
+
+    private InMemoryRateLimitBucketStore store;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong now;
+    private HybridBucketConsumer consumer;
+    private MatchedPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryRateLimitBucketStore();
+        meterRegistry = new SimpleMeterRegistry();
+        now = new AtomicLong(1_000_000_000L);
+        BucketStoreClient bucketStoreClient = new BucketStoreClient(store, meterRegistry);
+        consumer = new HybridBucketConsumer(bucketStoreClient, 1_000, meterRegistry, now::get);
+
+        BucketConfiguration configuration = BucketConfiguration.builder()
+            .addLimit(Bandwidth.builder().capacity(10).refillGreedy(10, Duration.ofHours(1))
+                .build())
+            .build();
+        policy = new MatchedPolicy(KeyStrategy.USER, configuration, "read",
+            ConsumptionMode.HYBRID, 5, SYNC_INTERVAL, FailureMode.OPEN, Duration.ofSeconds(1), 0);
+    }
+
+    @Test
+    @DisplayName("배치 단위로 Redis 토큰을 예약하고 나머지 요청은 로컬에서 소비")
+    void consume_shouldReserveTokensInBatches() {
+        // when
+        int consumed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (consumer.consume(BUCKET_KEY, policy).consumed()) {
+                consumed++;
+            }
+        }
+
+        // then
+        assertThat(consumed).isEqualTo(10);
+        assertThat(store.getCalls()).isEqualTo(2);
+        assertThat(meterRegistry.counter("ratelimit.redis.ops", "mode", "hybrid").count())
+            .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Redis 버킷이 비면 거절하고 대기 시간 동안은 Redis 호출 없이 로컬에서 거절")
+    void consume_shouldRejectLocallyWhileBlocked() {
+        // given
+        for (int i = 0; i < 10; i++) {
+            consumer.consume(BUCKET_KEY, policy);
+        }
+
+        // when
+        ConsumptionResult first = consumer.consume(BUCKET_KEY, policy);
+        ConsumptionResult second = consumer.consume(BUCKET_KEY, policy);
+
+        // then
+        assertThat(first.consumed()).isFalse();
+        assertThat(first.nanosToWaitForRefill()).isPositive();
+        assertThat(second.consumed()).isFalse();
+        assertThat(store.getCalls()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("동기화 주기가 지나면 남은 로컬 토큰을 공유 버킷에 반환하고 다시 예약")
+    void consume_shouldReturnExpiredLocalTokens() {
+        // given
+        consumer.consume(BUCKET_KEY, policy);
+
+        // when
+        now.addAndGet(SYNC_INTERVAL.toNanos() + 1);
+        ConsumptionResult result = consumer.consume(BUCKET_KEY, policy);
+
+        // then
+        assertThat(result.consumed()).isTrue();
+        assertThat(result.remainingTokens()).isEqualTo(4L);
+        assertThat(store.getCalls()).isEqualTo(3);
+        assertThat(meterRegistry.counter("ratelimit.local.returned").count()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("만료된 로컬 토큰을 반환하므로 전체 허용량이 버킷 용량만큼 유지")
+    void consume_afterExpiry_shouldKeepFullCapacity() {
+        // given
+        consumer.consume(BUCKET_KEY, policy);
+        now.addAndGet(SYNC_INTERVAL.toNanos() + 1);
+
+        // when
+        int consumed = 1;
+        for (int i = 0; i < 20; i++) {
+            if (consumer.consume(BUCKET_KEY, policy).consumed()) {
+                consumed++;
+            }
+        }
+
+        // then
+        assertThat(consumed).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("저장소 장애 후 짧은 대기 시간 동안은 Redis 호출 없이 장애로 처리")
+    void consume_afterStoreFailure_backsOffWithoutCallingStore() {
+        // given
+        store.failNextCalls(1);
+        assertThatThrownBy(() -> consumer.consume(BUCKET_KEY, policy))
+            .isInstanceOf(RateLimitStoreUnavailableException.class);
+
+        // when & then
+        assertThatThrownBy(() -> consumer.consume(BUCKET_KEY, policy))
+            .isInstanceOf(RateLimitStoreUnavailableException.class);
+        assertThat(store.getCalls()).isEqualTo(1);
+
+        now.addAndGet(SYNC_INTERVAL.toNanos());
+        assertThat(consumer.consume(BUCKET_KEY, policy).consumed()).isTrue();
+        assertThat(store.getCalls()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시에 로컬 토큰이 떨어지면 한 요청만 Redis에서 예약하고 나머지는 그 결과를 기다림")
+    void consume_concurrentRefill_isSingleFlight() throws Exception {
+        // given
+        store.setLatency(Duration.ofMillis(100));
+        int requests = policy.batchSize();
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<ConsumptionResult>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return consumer.consume(BUCKET_KEY, policy);
+            }));
+        }
+        start.countDown();
+
+        List<ConsumptionResult> results = new ArrayList<>();
+        for (Future<ConsumptionResult> future : futures) {
+            results.add(future.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(results).allMatch(ConsumptionResult::consumed);
+        assertThat(store.getCalls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예약을 기다리는 요청은 정책 제한 시간을 넘기지 않고 장애로 처리")
+    void consume_waitingForSlowRefill_respectsPolicyTimeout() throws Exception {
+        // given
+        store.setLatency(Duration.ofMillis(500));
+        MatchedPolicy shortTimeout = new MatchedPolicy(KeyStrategy.USER,
+            policy.bucketConfiguration(), "read", ConsumptionMode.HYBRID, 5, SYNC_INTERVAL,
+            FailureMode.OPEN, Duration.ofMillis(50), 0);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> leader = executor.submit(() -> catchThrowable(
+            () -> consumer.consume(BUCKET_KEY, shortTimeout)));
+
+        // when
+        long startedAt = System.nanoTime();
+        Throwable thrown = catchThrowable(() -> consumer.consume(BUCKET_KEY, shortTimeout));
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+        leader.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(thrown).isInstanceOf(RateLimitStoreUnavailableException.class);
+        assertThat(elapsedMillis).isLessThan(400);
+    }
+
+    @Test
+    @DisplayName("토큰 반환과 재예약을 합쳐도 하나의 정책 제한 시간 안에서 끝남")
+    void consume_refillWithReturn_sharesOnePolicyDeadline() {
+        // given
+        MatchedPolicy shortTimeout = new MatchedPolicy(KeyStrategy.USER,
+            policy.bucketConfiguration(), "read", ConsumptionMode.HYBRID, 5, SYNC_INTERVAL,
+            FailureMode.OPEN, Duration.ofMillis(100), 0);
+        consumer.consume(BUCKET_KEY, shortTimeout);
+        now.addAndGet(SYNC_INTERVAL.toNanos() + 1);
+        store.setLatency(Duration.ofMillis(60));
+
+        // when
+        long startedAt = System.nanoTime();
+        Throwable thrown = catchThrowable(() -> consumer.consume(BUCKET_KEY, shortTimeout));
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+        // then
+        assertThat(thrown).isInstanceOf(RateLimitStoreUnavailableException.class);
+        assertThat(elapsedMillis).isLessThan(250);
+        assertThat(store.getCalls()).isEqualTo(3);
+    }
+}
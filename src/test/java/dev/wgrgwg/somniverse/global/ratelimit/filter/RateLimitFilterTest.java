@@ -0,0 +1,201 @@
+package dev.wgrgwg.somniverse.global.ratelimit.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.global.ratelimit.consume.BucketStoreClient;
+import dev.wgrgwg.somniverse.global.ratelimit.consume.DistributedBucketConsumer;
+import dev.wgrgwg.somniverse.global.ratelimit.consume.HybridBucketConsumer;
+import dev.wgrgwg.somniverse.global.ratelimit.key.RateLimitKeyResolver;
+import dev.wgrgwg.somniverse.global.ratelimit.policy.RateLimitPolicyRegistry;
+import dev.wgrgwg.somniverse.global.ratelimit.util.RateLimitResponseWriter;
+import dev.wgrgwg.somniverse.support.ratelimit.InMemoryRateLimitBucketStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RateLimitFilterTest {
+
+    private static final Duration TIMEOUT = Duration.ofMillis(50);
+
+    private InMemoryRateLimitBucketStore store;
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryRateLimitBucketStore();
+        meterRegistry = new SimpleMeterRegistry();
+
+        AppProperties appProperties = appProperties();
+        BucketStoreClient bucketStoreClient = new BucketStoreClient(store, meterRegistry);
+        rateLimitFilter = new RateLimitFilter(
+            new DistributedBucketConsumer(bucketStoreClient, meterRegistry),
+            new HybridBucketConsumer(bucketStoreClient, appProperties, meterRegistry),
+            new RateLimitPolicyRegistry(appProperties),
+            new RateLimitKeyResolver(),
+            new RateLimitResponseWriter(new ObjectMapper())
+        );
+    }
+
+    @Test
+    @DisplayName("저장소가 정상이면 토큰을 소비하고 요청을 통과")
+    void doFilter_shouldPassWhenTokenConsumed() throws ServletException, IOException {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        rateLimitFilter.doFilter(request, response, chain);
+
+        // then
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getHeader("RateLimit")).isEqualTo("remaining=4, reset=0");
+    }
+
+    @Test
+    @DisplayName("저장소 지연이 제한 시간을 넘으면 fail-closed 정책은 503 응답")
+    void doFilter_shouldRejectWhenStoreTimesOutOnClosedPolicy()
+        throws ServletException, IOException {
+        // given
+        store.setLatency(Duration.ofMillis(500));
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        long startedAt = System.nanoTime();
+        rateLimitFilter.doFilter(request, response, chain);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+        // then
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(response.getContentAsString()).contains("RATE_LIMIT_002");
+        assertThat(elapsedMillis).isLessThan(400);
+        assertThat(meterRegistry.counter("ratelimit.redis.failures", "reason", "timeout").count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("저장소 지연이 제한 시간을 넘으면 fail-open 정책은 요청을 통과")
+    void doFilter_shouldPassWhenStoreTimesOutOnOpenPolicy() throws ServletException, IOException {
+        // given
+        store.setLatency(Duration.ofMillis(500));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/dreams/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        rateLimitFilter.doFilter(request, response, chain);
+
+        // then
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    @DisplayName("명령 전송 전 저장소 오류는 재시도 한도 내에서 재시도")
+    void doFilter_shouldRetryTransientStoreFailure() throws ServletException, IOException {
+        // given
+        store.failNextSubmissions(1);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        rateLimitFilter.doFilter(request, response, chain);
+
+        // then
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(store.getCalls()).isEqualTo(2);
+        assertThat(meterRegistry.counter("ratelimit.redis.retries").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("토큰 소비 명령이 실행 중 실패하면 중복 차감을 막기 위해 재시도하지 않음")
+    void doFilter_shouldNotRetryFailedConsumption() throws ServletException, IOException {
+        // given
+        store.failNextCalls(1);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        rateLimitFilter.doFilter(request, response, chain);
+
+        // then
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(store.getCalls()).isEqualTo(1);
+        assertThat(meterRegistry.counter("ratelimit.redis.retries").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘긴 저장소 호출은 취소되어 토큰을 차감하지 않음")
+    void doFilter_shouldCancelTimedOutCall() throws ServletException, IOException {
+        // given
+        store.setLatency(Duration.ofMillis(200));
+        rateLimitFilter.doFilter(new MockHttpServletRequest("POST", "/api/auth/login"),
+            new MockHttpServletResponse(), new MockFilterChain());
+        await().pollDelay(Duration.ofMillis(300)).until(() -> true);
+        store.setLatency(Duration.ZERO);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        rateLimitFilter.doFilter(new MockHttpServletRequest("POST", "/api/auth/login"),
+            response, new MockFilterChain());
+
+        // then
+        assertThat(response.getHeader("RateLimit")).isEqualTo("remaining=4, reset=0");
+    }
+
+    private AppProperties appProperties() {
+        AppProperties appProperties = new AppProperties();
+        AppProperties.RateLimit rateLimit = appProperties.getRateLimit();
+        rateLimit.setEnabled(true);
+        rateLimit.setAddHeaders(true);
+        rateLimit.setLocalBucketMaximumSize(1_000);
+        rateLimit.setRedisTimeout(TIMEOUT);
+        rateLimit.setMaxRetries(1);
+        rateLimit.setWhitelistPaths(List.of("/actuator/**"));
+
+        AppProperties.RateLimit.Policy auth = policy("auth", "POST", 5);
+        auth.setFailureMode("closed");
+
+        AppProperties.RateLimit.Policy read = policy("read", "GET", 10);
+        read.setPaths(List.of("/api/**"));
+        read.setMode("hybrid");
+        read.setBatchSize(5);
+        read.setSyncInterval(Duration.ofSeconds(1));
+
+        rateLimit.setPolicies(List.of(auth, read));
+        return appProperties;
+    }
+
+    private AppProperties.RateLimit.Policy policy(String name, String method, int capacity) {
+        AppProperties.RateLimit.Limit limit = new AppProperties.RateLimit.Limit();
+        limit.setCapacity(capacity);
+        limit.setRefill(Duration.ofMinutes(1));
+
+        AppProperties.RateLimit.Policy policy = new AppProperties.RateLimit.Policy();
+        policy.setName(name);
+        policy.setPaths(List.of("/api/auth/**"));
+        policy.setMethods(List.of(method));
+        policy.setKeyStrategy("ipUa");
+        policy.setLimits(List.of(limit));
+        return policy;
+    }
+}
@@ -0,0 +1,200 @@
+package dev.wgrgwg.somniverse.global.ratelimit.policy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+class RateLimitPolicyRegistryTest {
+
+    private static final List<String> PATTERNS = List.of(
+        "/",
+        "/**",
+        "/api/**",
+        "/api/auth/**",
+        "/api/dreams",
+        "/api/dreams/*",
+        "/api/dreams/{dreamId}",
+        "/api/dreams/{dreamId}/comments",
+        "/api/*/comments/*",
+        "/api/admin/**/members",
+        "/api/files/*.png",
+        "/api/members/{id:\\d+}",
+        "/api/trailing/",
+        "actuator/**"
+    );
+
+    private static final List<String> PATHS = List.of(
+        "",
+        "/",
+        "//",
+        "/api",
+        "/api/",
+        "/apix",
+        "/api/auth",
+        "/api/auth/login",
+        "/api/auth/login/",
+        "/api/dreams",
+        "/api/dreams/",
+        "/api/dreams/42",
+        "/api/dreams/42/",
+        "/api/dreams//42",
+        "/api/dreams/42/comments",
+        "/api/dreams/42/comments/7",
+        "/api/comments/comments/7",
+        "/api/admin/x/y/members",
+        "/api/admin/members",
+        "/api/files/a.png",
+        "/api/files/a.jpg",
+        "/api/members/12",
+        "/api/members/abc",
+        "/api/trailing",
+        "/api/trailing/",
+        "actuator/health",
+        "/actuator/health"
+    );
+
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    @Test
+    @DisplayName("인덱스 매칭 결과는 AntPathMatcher를 순서대로 적용한 결과와 동일")
+    void firstMatch_shouldBeEquivalentToAntPathMatcher() {
+        // given
+        for (int skip = 0; skip < PATTERNS.size(); skip++) {
+            PathPatternIndex partial = new PathPatternIndex();
+            for (int order = skip; order < PATTERNS.size(); order++) {
+                partial.add(PATTERNS.get(order), order);
+            }
+
+            for (String path : PATHS) {
+                // when
+                int actual = partial.firstMatch(path);
+
+                // then
+                assertThat(actual)
+                    .as("path=%s, from=%s", path, PATTERNS.get(skip))
+                    .isEqualTo(expectedFirstMatch(skip, path));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("메서드와 경로가 모두 일치하는 정책 중 먼저 선언된 정책을 반환")
+    void match_shouldReturnFirstDeclaredPolicyForMethod() {
+        // given
+        RateLimitPolicyRegistry registry = new RateLimitPolicyRegistry(appProperties(10));
+
+        // when
+        Optional<MatchedPolicy> login = registry.match("/api/auth/login", "POST");
+        Optional<MatchedPolicy> write = registry.match("/api/dreams/42", "post");
+        Optional<MatchedPolicy> read = registry.match("/api/dreams/42", "GET");
+        Optional<MatchedPolicy> patch = registry.match("/api/dreams/42", "PATCH");
+        Optional<MatchedPolicy> outside = registry.match("/health", "GET");
+
+        // then
+        assertThat(login).map(MatchedPolicy::name).contains("auth");
+        assertThat(write).map(MatchedPolicy::name).contains("write");
+        assertThat(read).map(MatchedPolicy::name).contains("read");
+        assertThat(patch).map(MatchedPolicy::name).contains("any");
+        assertThat(outside).isEmpty();
+    }
+
+    @Test
+    @DisplayName("결과 캐시 사용 여부와 관계없이 반복 조회 결과가 동일")
+    void match_shouldReturnSameResultWithAndWithoutCache() {
+        // given
+        RateLimitPolicyRegistry cached = new RateLimitPolicyRegistry(appProperties(10));
+        RateLimitPolicyRegistry uncached = new RateLimitPolicyRegistry(appProperties(0));
+
+        for (int i = 0; i < 100; i++) {
+            String uri = "/api/dreams/" + (i % 30);
+
+            // when & then
+            assertThat(cached.match(uri, "GET")).isEqualTo(uncached.match(uri, "GET"));
+            assertThat(cached.match(uri, "DELETE")).isEqualTo(uncached.match(uri, "DELETE"));
+        }
+    }
+
+    @Test
+    @DisplayName("화이트리스트 경로 판별")
+    void isWhitelisted_shouldMatchWhitelistPatterns() {
+        // given
+        RateLimitPolicyRegistry registry = new RateLimitPolicyRegistry(appProperties(10));
+
+        // when & then
+        assertThat(registry.isWhitelisted("/actuator/health")).isTrue();
+        assertThat(registry.isWhitelisted("/swagger-ui/index.html")).isTrue();
+        assertThat(registry.isWhitelisted("/api/dreams")).isFalse();
+    }
+
+    @Test
+    @DisplayName("배치 크기가 최소 용량의 절반을 넘는 하이브리드 정책은 분산 모드로 동작")
+    void match_shouldFallBackToDistributedForLowCapacityHybridPolicy() {
+        // given
+        AppProperties appProperties = appProperties(10);
+        List<AppProperties.RateLimit.Policy> policies = appProperties.getRateLimit().getPolicies();
+        AppProperties.RateLimit.Policy auth = policies.get(0);
+        auth.setMode("hybrid");
+        auth.setBatchSize(5);
+        auth.setSyncInterval(Duration.ofSeconds(1));
+        auth.getLimits().get(0).setCapacity(5);
+        AppProperties.RateLimit.Policy read = policies.get(2);
+        read.setMode("hybrid");
+        read.setBatchSize(5);
+        read.setSyncInterval(Duration.ofSeconds(1));
+
+        RateLimitPolicyRegistry registry = new RateLimitPolicyRegistry(appProperties);
+
+        // when
+        Optional<MatchedPolicy> login = registry.match("/api/auth/login", "POST");
+        Optional<MatchedPolicy> dream = registry.match("/api/dreams/42", "GET");
+
+        // then
+        assertThat(login).map(MatchedPolicy::mode).contains(ConsumptionMode.DISTRIBUTED);
+        assertThat(dream).map(MatchedPolicy::mode).contains(ConsumptionMode.HYBRID);
+    }
+
+    private int expectedFirstMatch(int from, String path) {
+        for (int order = from; order < PATTERNS.size(); order++) {
+            if (antPathMatcher.match(PATTERNS.get(order), path)) {
+                return order;
+            }
+        }
+        return PathPatternIndex.NO_MATCH;
+    }
+
+    private AppProperties appProperties(long matchCacheSize) {
+        AppProperties appProperties = new AppProperties();
+        AppProperties.RateLimit rateLimit = appProperties.getRateLimit();
+        rateLimit.setEnabled(true);
+        rateLimit.setMatchCacheSize(matchCacheSize);
+        rateLimit.setWhitelistPaths(List.of("/actuator/**", "/swagger-ui/**"));
+        rateLimit.setPolicies(List.of(
+            policy("auth", List.of("/api/auth/**"), List.of("POST")),
+            policy("write", List.of("/api/**"), List.of("POST", "PUT", "DELETE")),
+            policy("read", List.of("/api/**"), List.of("GET")),
+            policy("any", List.of("/api/**"), List.of())
+        ));
+        return appProperties;
+    }
+
+    private AppProperties.RateLimit.Policy policy(String name, List<String> paths,
+        List<String> methods) {
+        AppProperties.RateLimit.Limit limit = new AppProperties.RateLimit.Limit();
+        limit.setCapacity(10);
+        limit.setRefill(Duration.ofMinutes(1));
+
+        AppProperties.RateLimit.Policy policy = new AppProperties.RateLimit.Policy();
+        policy.setName(name);
+        policy.setPaths(paths);
+        policy.setMethods(methods);
+        policy.setKeyStrategy("user");
+        policy.setLimits(List.of(limit));
+        return policy;
+    }
+}
@@ -0,0 +1,85 @@
+package dev.wgrgwg.somniverse.member.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.wgrgwg.somniverse.global.util.HashUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+class AccessTokenBlackListBloomFilterTest {
+
+    private static final long WINDOW_MILLIS = 900_000L;
+    private static final int BLACKLISTED_COUNT = 10_000;
+    private static final int SWEEP_COUNT = 1_000_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private AtomicLong now;
+    private AccessTokenBlackListBloomFilter bloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(WINDOW_MILLIS * 100);
+        bloomFilter = new AccessTokenBlackListBloomFilter(true, WINDOW_MILLIS, BLACKLISTED_COUNT,
+            FALSE_POSITIVE_RATE, now::get);
+        bloomFilter.markReady();
+    }
+
+    @Test
+    @Tag("performance")
+    @DisplayName("블랙리스트 토큰은 항상 통과시키지 않고, 무작위 100만 토큰의 오탐률은 설정값 근처로 유지")
+    void sweepRandomTokens_shouldHaveNoFalseNegativeAndBoundedFalsePositiveRate() {
+        // given
+        List<String> blacklisted = new ArrayList<>();
+        for (int i = 0; i < BLACKLISTED_COUNT; i++) {
+            String tokenHash = HashUtil.sha256("blacklisted-" + UUID.randomUUID());
+            blacklisted.add(tokenHash);
+            bloomFilter.put(tokenHash);
+        }
+
+        // when
+        long falsePositives = 0;
+        for (int i = 0; i < SWEEP_COUNT; i++) {
+            String tokenHash = HashUtil.sha256("random-" + UUID.randomUUID());
+            if (!bloomFilter.isDefinitelyAbsent(tokenHash)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        double observedRate = (double) falsePositives / SWEEP_COUNT;
+        assertThat(blacklisted).noneMatch(bloomFilter::isDefinitelyAbsent);
+        assertThat(observedRate).isLessThan(FALSE_POSITIVE_RATE * 2);
+    }
+
+    @Test
+    @DisplayName("등록된 토큰은 다음 윈도우까지 유지되고 그 이후에는 회전되어 제거")
+    void rotate_shouldKeepEntriesForOneExtraWindowOnly() {
+        // given
+        String tokenHash = HashUtil.sha256("token");
+        bloomFilter.put(tokenHash);
+
+        // when & then
+        now.addAndGet(WINDOW_MILLIS);
+        assertThat(bloomFilter.isDefinitelyAbsent(tokenHash)).isFalse();
+
+        now.addAndGet(WINDOW_MILLIS);
+        assertThat(bloomFilter.isDefinitelyAbsent(tokenHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("동기화 전에는 Redis 조회를 생략하지 않음")
+    void isDefinitelyAbsent_whenNotReady_shouldDeferToRedis() {
+        // given
+        AccessTokenBlackListBloomFilter notReady = new AccessTokenBlackListBloomFilter(true,
+            WINDOW_MILLIS, BLACKLISTED_COUNT, FALSE_POSITIVE_RATE, now::get);
+
+        // when & then
+        assertThat(notReady.isDefinitelyAbsent(HashUtil.sha256("token"))).isFalse();
+    }
+}
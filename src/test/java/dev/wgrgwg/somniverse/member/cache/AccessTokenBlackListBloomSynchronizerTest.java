@@ -0,0 +1,152 @@
+package dev.wgrgwg.somniverse.member.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.wgrgwg.somniverse.global.util.HashUtil;
+import dev.wgrgwg.somniverse.member.repository.AccessTokenBlackListRepository;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class AccessTokenBlackListBloomSynchronizerTest {
+
+    private static final Duration GAP_GRACE = Duration.ofSeconds(3);
+
+    @Mock
+    private AccessTokenBlackListRepository accessTokenBlackListRepository;
+
+    private AccessTokenBlackListBloomFilter bloomFilter;
+    private AccessTokenBlackListBloomSynchronizer synchronizer;
+    private AtomicLong nanoTime;
+
+    @BeforeEach
+    void setUp() {
+        bloomFilter = new AccessTokenBlackListBloomFilter(true, 900_000L, 1_000, 0.01,
+            System::currentTimeMillis);
+        nanoTime = new AtomicLong();
+        synchronizer = new AccessTokenBlackListBloomSynchronizer(accessTokenBlackListRepository,
+            bloomFilter, GAP_GRACE.toNanos(), nanoTime::get);
+    }
+
+    @Test
+    @DisplayName("이벤트가 순서대로 도착하면 블룸 필터를 계속 신뢰")
+    void onEventApplied_contiguous_keepsBloomFilterReady() {
+        // given
+        String tokenHash = HashUtil.sha256("unrelated");
+        when(accessTokenBlackListRepository.currentVersion()).thenReturn(3L);
+        synchronizer.synchronize();
+
+        // when
+        synchronizer.onEventApplied(4);
+        synchronizer.onEventApplied(5);
+
+        // then
+        assertThat(bloomFilter.isDefinitelyAbsent(tokenHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("이벤트 버전이 건너뛰면 재동기화 전까지 블룸 필터를 신뢰하지 않음")
+    void onEventApplied_withGap_marksBloomFilterStale() {
+        // given
+        String tokenHash = HashUtil.sha256("unrelated");
+        when(accessTokenBlackListRepository.currentVersion()).thenReturn(3L);
+        synchronizer.synchronize();
+
+        // when
+        synchronizer.onEventApplied(5);
+
+        // then
+        assertThat(bloomFilter.isDefinitelyAbsent(tokenHash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("순서가 뒤바뀐 이벤트가 유예 시간 안에 채워지면 전체 재동기화 없이 블룸 필터를 다시 신뢰")
+    void onEventApplied_outOfOrderWithinGrace_skipsResync() {
+        // given
+        String tokenHash = HashUtil.sha256("unrelated");
+        when(accessTokenBlackListRepository.currentVersion()).thenReturn(3L, 5L);
+        synchronizer.synchronize();
+
+        // when
+        synchronizer.onEventApplied(5);
+        synchronizer.onEventApplied(4);
+        nanoTime.addAndGet(GAP_GRACE.toNanos());
+        synchronizer.checkVersion();
+
+        // then
+        verify(accessTokenBlackListRepository, times(1)).forEachBlacklistedHash(any());
+        assertThat(bloomFilter.isDefinitelyAbsent(tokenHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지나도 빠진 이벤트가 도착하지 않으면 재동기화")
+    void checkVersion_gapOpenPastGrace_resynchronizes() {
+        // given
+        String tokenHash = HashUtil.sha256("unrelated");
+        when(accessTokenBlackListRepository.currentVersion()).thenReturn(3L, 5L, 5L, 5L);
+        synchronizer.synchronize();
+        synchronizer.onEventApplied(5);
+
+        // when
+        synchronizer.checkVersion();
+        verify(accessTokenBlackListRepository, times(1)).forEachBlacklistedHash(any());
+        nanoTime.addAndGet(GAP_GRACE.toNanos());
+        synchronizer.checkVersion();
+
+        // then
+        verify(accessTokenBlackListRepository, times(2)).forEachBlacklistedHash(any());
+        assertThat(bloomFilter.isDefinitelyAbsent(tokenHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Redis 버전이 앞서 있으면 유실된 이벤트로 보고 재동기화")
+    void checkVersion_whenRemoteAhead_resynchronizes() {
+        // given
+        String missed = HashUtil.sha256("missed");
+        when(accessTokenBlackListRepository.currentVersion()).thenReturn(0L, 1L, 1L, 1L);
+        synchronizer.synchronize();
+        when(accessTokenBlackListRepository.forEachBlacklistedHash(any())).thenAnswer(
+            invocation -> {
+                invocation.<Consumer<String>>getArgument(0).accept(missed);
+                return 1L;
+            });
+        synchronizer.checkVersion();
+
+        // when
+        nanoTime.addAndGet(GAP_GRACE.toNanos());
+        synchronizer.checkVersion();
+
+        // then
+        verify(accessTokenBlackListRepository, times(2)).forEachBlacklistedHash(any());
+        assertThat(bloomFilter.isDefinitelyAbsent(missed)).isFalse();
+        assertThat(bloomFilter.isDefinitelyAbsent(HashUtil.sha256("unrelated"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("버전 확인에 실패하면 블룸 필터를 신뢰하지 않고 Redis 조회로 대체")
+    void checkVersion_whenRedisFails_marksBloomFilterStale() {
+        // given
+        String tokenHash = HashUtil.sha256("unrelated");
+        when(accessTokenBlackListRepository.currentVersion()).thenReturn(0L)
+            .thenThrow(new RedisConnectionFailureException("down"));
+        synchronizer.synchronize();
+
+        // when
+        synchronizer.checkVersion();
+
+        // then
+        assertThat(bloomFilter.isDefinitelyAbsent(tokenHash)).isFalse();
+    }
+}
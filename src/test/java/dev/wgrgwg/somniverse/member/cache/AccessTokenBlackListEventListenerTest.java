@@ -0,0 +1,97 @@
+package dev.wgrgwg.somniverse.member.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.global.util.HashUtil;
+import dev.wgrgwg.somniverse.member.repository.AccessTokenBlackListRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+
+class AccessTokenBlackListEventListenerTest {
+
+    private static final long REMAINING_MILLIS = 60_000L;
+
+    private AccessTokenBlackListNearCache nearCache;
+    private AccessTokenBlackListBloomFilter bloomFilter;
+    private AccessTokenBlackListEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        AppProperties appProperties = new AppProperties();
+        AppProperties.Jwt.BlacklistCache properties = appProperties.getJwt().getBlacklistCache();
+        properties.setEnabled(true);
+        properties.setMaximumSize(1_000);
+        properties.setNegativeTtl(Duration.ofSeconds(5));
+
+        nearCache = new AccessTokenBlackListNearCache(appProperties, new SimpleMeterRegistry());
+        bloomFilter = new AccessTokenBlackListBloomFilter(true, 900_000L, 1_000, 0.01,
+            System::currentTimeMillis);
+        AccessTokenBlackListBloomSynchronizer synchronizer =
+            new AccessTokenBlackListBloomSynchronizer(
+                mock(AccessTokenBlackListRepository.class), bloomFilter, 0L, System::nanoTime);
+        synchronizer.synchronize();
+        listener = new AccessTokenBlackListEventListener(nearCache, bloomFilter, synchronizer);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 블랙리스트 이벤트 수신 시 허용으로 캐시된 결과를 차단으로 교체")
+    void onMessage_replacesAllowedVerdictAndMarksBloomFilter() {
+        // given
+        String tokenHash = HashUtil.sha256("revoked-elsewhere");
+        nearCache.putAllowed(tokenHash, REMAINING_MILLIS);
+        assertThat(bloomFilter.isDefinitelyAbsent(tokenHash)).isTrue();
+
+        // when
+        listener.onMessage(message(
+            AccessTokenBlackListEventListener.toPayload(tokenHash, REMAINING_MILLIS, 1)), null);
+
+        // then
+        assertThat(nearCache.getIfPresent(tokenHash)).isTrue();
+        assertThat(bloomFilter.isDefinitelyAbsent(tokenHash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 이벤트는 예외 없이 무시")
+    void onMessage_withMalformedPayload_isIgnored() {
+        // given
+        String tokenHash = HashUtil.sha256("malformed");
+
+        // when & then
+        assertThatCode(() -> {
+            listener.onMessage(message("no-delimiter"), null);
+            listener.onMessage(message(tokenHash + ":not-a-number:1"), null);
+        }).doesNotThrowAnyException();
+        assertThat(nearCache.getIfPresent(tokenHash)).isNull();
+        assertThat(bloomFilter.isDefinitelyAbsent(tokenHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("구독이 다시 연결되면 재동기화 전까지 블룸 필터를 신뢰하지 않음")
+    void onChannelSubscribed_marksBloomFilterStale() {
+        // given
+        String tokenHash = HashUtil.sha256("missed-while-disconnected");
+        assertThat(bloomFilter.isDefinitelyAbsent(tokenHash)).isTrue();
+
+        // when
+        listener.onChannelSubscribed(
+            AccessTokenBlackListEventListener.CHANNEL.getBytes(StandardCharsets.UTF_8), 1);
+
+        // then
+        assertThat(bloomFilter.isDefinitelyAbsent(tokenHash)).isFalse();
+    }
+
+    private Message message(String payload) {
+        return new DefaultMessage(
+            AccessTokenBlackListEventListener.CHANNEL.getBytes(StandardCharsets.UTF_8),
+            payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
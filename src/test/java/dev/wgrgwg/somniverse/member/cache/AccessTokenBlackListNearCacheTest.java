@@ -0,0 +1,103 @@
+package dev.wgrgwg.somniverse.member.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.global.util.HashUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AccessTokenBlackListNearCacheTest {
+
+    private static final long REMAINING_MILLIS = 60_000L;
+    private static final Duration NEGATIVE_TTL = Duration.ofMillis(100);
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccessTokenBlackListNearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        AppProperties appProperties = new AppProperties();
+        AppProperties.Jwt.BlacklistCache properties = appProperties.getJwt().getBlacklistCache();
+        properties.setEnabled(true);
+        properties.setMaximumSize(1_000);
+        properties.setNegativeTtl(NEGATIVE_TTL);
+
+        meterRegistry = new SimpleMeterRegistry();
+        nearCache = new AccessTokenBlackListNearCache(appProperties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("블랙리스트로 저장된 토큰은 Redis 조회 없이 차단 결과 반환")
+    void getIfPresent_whenBlacklisted_returnsHit() {
+        // given
+        String tokenHash = HashUtil.sha256("revoked");
+        nearCache.putBlacklisted(tokenHash, REMAINING_MILLIS);
+
+        // when
+        Boolean verdict = nearCache.getIfPresent(tokenHash);
+
+        // then
+        assertThat(verdict).isTrue();
+        assertThat(meterRegistry.get("jwt.blacklist.near-cache").tag("result", "hit").counter()
+            .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("허용 결과는 토큰 만료가 남아 있어도 negative TTL 이후 만료")
+    void putAllowed_expiresAfterNegativeTtl() {
+        // given
+        String tokenHash = HashUtil.sha256("allowed");
+        nearCache.putAllowed(tokenHash, REMAINING_MILLIS);
+        assertThat(nearCache.getIfPresent(tokenHash)).isFalse();
+
+        // when & then
+        await().atMost(Duration.ofSeconds(2)).pollInterval(Duration.ofMillis(20))
+            .until(() -> nearCache.getIfPresent(tokenHash) == null);
+    }
+
+    @Test
+    @DisplayName("허용으로 캐시된 토큰도 블랙리스트 등록 시 즉시 차단 결과로 교체")
+    void putBlacklisted_overridesAllowedVerdict() {
+        // given
+        String tokenHash = HashUtil.sha256("token");
+        nearCache.putAllowed(tokenHash, REMAINING_MILLIS);
+
+        // when
+        nearCache.putBlacklisted(tokenHash, REMAINING_MILLIS);
+
+        // then
+        assertThat(nearCache.getIfPresent(tokenHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료 시간이 지난 토큰은 캐시하지 않음")
+    void putBlacklisted_whenAlreadyExpired_doesNotCache() {
+        // given
+        String tokenHash = HashUtil.sha256("expired");
+
+        // when
+        nearCache.putBlacklisted(tokenHash, 0);
+
+        // then
+        assertThat(nearCache.getIfPresent(tokenHash)).isNull();
+    }
+
+    @Test
+    @DisplayName("블랙리스트 결과가 먼저 반영된 뒤 늦게 도착한 허용 결과는 차단 결과를 덮어쓰지 않음")
+    void putAllowed_afterBlacklisted_keepsBlacklistedVerdict() {
+        // given
+        String tokenHash = HashUtil.sha256("revoked-during-lookup");
+        nearCache.putBlacklisted(tokenHash, REMAINING_MILLIS);
+
+        // when
+        nearCache.putAllowed(tokenHash, REMAINING_MILLIS);
+
+        // then
+        assertThat(nearCache.getIfPresent(tokenHash)).isTrue();
+    }
+}
@@ -0,0 +1,108 @@
+package dev.wgrgwg.somniverse.member.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.config.HibernateCacheConfig;
+import dev.wgrgwg.somniverse.member.domain.Member;
+import jakarta.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.scheduling.TaskScheduler;
+
+class MemberEntityCacheEventListenerTest {
+
+    private static final Long MEMBER_ID = 7L;
+    private static final Duration MAX_LAG = Duration.ofSeconds(2);
+    private static final Duration CHECK_INTERVAL = Duration.ofSeconds(1);
+
+    private Cache cache;
+    private TaskScheduler taskScheduler;
+    private AppProperties appProperties;
+    private MemberEntityCacheEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        cache = mock(Cache.class);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class,
+            RETURNS_DEEP_STUBS);
+        when(entityManagerFactory.getCache().unwrap(Cache.class)).thenReturn(cache);
+
+        appProperties = new AppProperties();
+        AppProperties.ReadReplica readReplica = appProperties.getReadReplica();
+        readReplica.setEnabled(true);
+        readReplica.setMaxLag(MAX_LAG);
+        readReplica.setCheckInterval(CHECK_INTERVAL);
+
+        taskScheduler = mock(TaskScheduler.class);
+        listener = new MemberEntityCacheEventListener(entityManagerFactory, taskScheduler,
+            appProperties);
+    }
+
+    @Test
+    @DisplayName("회원 변경 이벤트 수신 시 즉시 제거하고 복제 지연 이후 한 번 더 제거")
+    void onMessage_evictsNowAndAgainAfterReplicaLag() {
+        // given
+        Instant before = Instant.now();
+
+        // when
+        listener.onMessage(message(MEMBER_ID.toString()), null);
+
+        // then
+        verify(cache).evictEntityData(Member.class, MEMBER_ID);
+        verify(cache).evictQueryRegion(HibernateCacheConfig.MEMBER_LOOKUP_REGION);
+
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        ArgumentCaptor<Instant> startTime = ArgumentCaptor.forClass(Instant.class);
+        verify(taskScheduler).schedule(task.capture(), startTime.capture());
+        assertThat(startTime.getValue()).isAfter(before.plus(MAX_LAG));
+
+        task.getValue().run();
+        verify(cache, times(2)).evictEntityData(Member.class, MEMBER_ID);
+        verify(cache, times(2)).evictQueryRegion(HibernateCacheConfig.MEMBER_LOOKUP_REGION);
+    }
+
+    @Test
+    @DisplayName("복제본을 사용하지 않으면 지연 제거를 예약하지 않음")
+    void onMessage_withoutReplicas_doesNotScheduleEviction() {
+        // given
+        appProperties.getReadReplica().setEnabled(false);
+
+        // when
+        listener.onMessage(message(MEMBER_ID.toString()), null);
+
+        // then
+        verify(cache).evictEntityData(Member.class, MEMBER_ID);
+        verifyNoInteractions(taskScheduler);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 이벤트는 캐시를 건드리지 않음")
+    void onMessage_malformedPayload_ignored() {
+        // when
+        listener.onMessage(message("not-a-number"), null);
+
+        // then
+        verifyNoInteractions(cache, taskScheduler);
+    }
+
+    private static Message message(String payload) {
+        return new DefaultMessage(
+            MemberEntityCacheEventListener.CHANNEL.getBytes(StandardCharsets.UTF_8),
+            payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
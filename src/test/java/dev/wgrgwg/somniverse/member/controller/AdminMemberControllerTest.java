@@ -17,6 +17,7 @@ import dev.wgrgwg.somniverse.config.AppProperties;
 import dev.wgrgwg.somniverse.dream.service.DreamService;
 import dev.wgrgwg.somniverse.global.idempotency.filter.IdempotencyFilter;
 import dev.wgrgwg.somniverse.global.idempotency.store.IdempotencyRepository;
+import dev.wgrgwg.somniverse.global.pagecount.CountStrategy;
 import dev.wgrgwg.somniverse.global.ratelimit.filter.RateLimitFilter;
 import dev.wgrgwg.somniverse.global.util.RefreshTokenCookieUtil;
 import dev.wgrgwg.somniverse.member.domain.Role;
@@ -146,8 +147,8 @@ public class AdminMemberControllerTest {
                 );
                 Page<MemberAdminResponse> responsePage = new PageImpl<>(content, pageable, 1);
 
-                when(memberService.getAllMembersForAdmin(any(Pageable.class), any())).thenReturn(
-                    responsePage);
+                when(memberService.getAllMembersForAdmin(any(Pageable.class), any(),
+                    any(CountStrategy.class))).thenReturn(responsePage);
 
                 // when
                 ResultActions resultActions = mockMvc.perform(get("/api/admin/members")
@@ -160,7 +161,8 @@ public class AdminMemberControllerTest {
                     .andExpect(jsonPath("$.success").value(true))
                     .andExpect(jsonPath("$.data.content").isArray())
                     .andExpect(jsonPath("$.data.totalElements").value(1));
-                verify(memberService, times(1)).getAllMembersForAdmin(any(Pageable.class), any());
+                verify(memberService, times(1)).getAllMembersForAdmin(any(Pageable.class), any(),
+                    any(CountStrategy.class));
             }
 
             @Test
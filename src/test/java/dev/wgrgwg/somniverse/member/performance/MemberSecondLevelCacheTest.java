@@ -0,0 +1,135 @@
+package dev.wgrgwg.somniverse.member.performance;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.config.HibernateCacheConfig;
+import dev.wgrgwg.somniverse.global.pagecount.PageCountService;
+import dev.wgrgwg.somniverse.member.domain.Member;
+import dev.wgrgwg.somniverse.member.domain.Provider;
+import dev.wgrgwg.somniverse.member.domain.Role;
+import dev.wgrgwg.somniverse.member.dto.request.MemberRoleUpdateRequest;
+import dev.wgrgwg.somniverse.member.repository.MemberRepository;
+import dev.wgrgwg.somniverse.member.service.MemberService;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.show_sql=false")
+@Import({MemberService.class, HibernateCacheConfig.class})
+@EnableConfigurationProperties(AppProperties.class)
+class MemberSecondLevelCacheTest {
+
+    private static final int REPEAT = 10;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockitoBean
+    private PageCountService pageCountService;
+
+    private Statistics stats;
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.setStatisticsEnabled(true);
+
+        memberId = memberRepository.save(
+            Member.builder()
+                .email("cache@test.com")
+                .password("pw")
+                .username("cache")
+                .role(Role.USER)
+                .provider(Provider.LOCAL)
+                .build()
+        ).getId();
+
+        entityManagerFactory.getCache().evictAll();
+        stats.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAllInBatch();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("회원 단건 조회 반복 시 첫 조회 이후에는 SQL 없이 2차 캐시에서 반환")
+    void getMemberOrThrow_repeated_shouldNotIssueSql() {
+        // given
+        memberService.getMemberOrThrow(memberId);
+        stats.clear();
+
+        // when
+        for (int i = 0; i < REPEAT; i++) {
+            memberService.getMemberOrThrow(memberId);
+        }
+
+        // then
+        Assertions.assertThat(stats.getPrepareStatementCount()).isZero();
+        Assertions.assertThat(
+            stats.getDomainDataRegionStatistics(HibernateCacheConfig.MEMBER_REGION).getHitCount())
+            .isEqualTo(REPEAT);
+    }
+
+    @Test
+    @DisplayName("이메일로 회원 조회 반복 시 첫 조회 이후에는 SQL 없이 쿼리 캐시와 2차 캐시에서 반환")
+    void findByEmail_repeated_shouldNotIssueSql() {
+        // given
+        memberRepository.findByEmail("cache@test.com");
+        stats.clear();
+
+        // when
+        for (int i = 0; i < REPEAT; i++) {
+            Assertions.assertThat(memberRepository.findByEmail("cache@test.com")).isPresent();
+        }
+
+        // then
+        Assertions.assertThat(stats.getPrepareStatementCount()).isZero();
+        Assertions.assertThat(stats.getQueryCacheHitCount()).isEqualTo(REPEAT);
+    }
+
+    @Test
+    @DisplayName("회원 정보 변경 시 2차 캐시가 갱신되어 이후 조회에 변경 내용 반영")
+    void updateMemberRole_shouldRefreshCachedMember() {
+        // given
+        memberService.getMemberOrThrow(memberId);
+
+        // when
+        memberService.updateMemberRoleByAdmin(memberId, new MemberRoleUpdateRequest(Role.MANAGER));
+        stats.clear();
+        Member member = memberService.getMemberOrThrow(memberId);
+
+        // then
+        Assertions.assertThat(member.getRole()).isEqualTo(Role.MANAGER);
+        Assertions.assertThat(stats.getPrepareStatementCount()).isZero();
+    }
+}
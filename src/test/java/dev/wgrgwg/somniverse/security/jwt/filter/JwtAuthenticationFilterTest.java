@@ -0,0 +1,145 @@
+package dev.wgrgwg.somniverse.security.jwt.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.global.util.HashUtil;
+import dev.wgrgwg.somniverse.member.domain.Member;
+import dev.wgrgwg.somniverse.member.domain.Role;
+import dev.wgrgwg.somniverse.member.repository.AccessTokenBlackListRepository;
+import dev.wgrgwg.somniverse.security.jwt.provider.JwtProvider;
+import dev.wgrgwg.somniverse.security.userdetails.CustomUserDetails;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private AccessTokenBlackListRepository accessTokenBlackListRepository;
+
+    private JwtProvider jwtProvider;
+    private JwtAuthenticationFilter filter;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        AppProperties appProperties = new AppProperties();
+        AppProperties.Jwt jwt = appProperties.getJwt();
+        jwt.setSecret("test-jwt-secret-key-that-is-very-long-and-secure-enough-for-testing");
+        jwt.setAccessTokenExpirationMs(900_000L);
+        jwt.setRefreshTokenExpirationMs(604_800_000L);
+        jwt.getVerifiedCache().setEnabled(true);
+        jwt.getVerifiedCache().setMaximumSize(1_000);
+
+        jwtProvider = new JwtProvider(appProperties);
+        filter = new JwtAuthenticationFilter(jwtProvider, accessTokenBlackListRepository);
+        accessToken = jwtProvider.generateToken(
+            Member.builder().id(7L).role(Role.USER).build()).accessToken();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("유효한 액세스 토큰이면 인증 정보를 설정하고 다음 필터 진행")
+    void doFilter_validToken_setsAuthentication() throws Exception {
+        // given
+        MockHttpServletRequest request = bearerRequest(accessToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        when(accessTokenBlackListRepository.existsByHash(eq(HashUtil.sha256(accessToken)),
+            anyLong())).thenReturn(false);
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(((CustomUserDetails) authentication.getPrincipal()).getMember().getId())
+            .isEqualTo(7L);
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    @Test
+    @DisplayName("블랙리스트 토큰이면 401 응답 후 필터 체인 중단")
+    void doFilter_blacklistedToken_rejects() throws Exception {
+        // given
+        MockHttpServletRequest request = bearerRequest(accessToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        when(accessTokenBlackListRepository.existsByHash(eq(HashUtil.sha256(accessToken)),
+            anyLong())).thenReturn(true);
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
+        assertThat(chain.getRequest()).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰도 매 요청마다 블랙리스트 확인")
+    void doFilter_cachedToken_stillChecksBlacklist() throws Exception {
+        // given
+        when(accessTokenBlackListRepository.existsByHash(anyString(), anyLong()))
+            .thenReturn(false, true);
+        filter.doFilter(bearerRequest(accessToken), new MockHttpServletResponse(),
+            new MockFilterChain());
+        SecurityContextHolder.clearContext();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(bearerRequest(accessToken), response, new MockFilterChain());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
+        verify(accessTokenBlackListRepository, times(2))
+            .existsByHash(eq(HashUtil.sha256(accessToken)), anyLong());
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 인증 없이 진행하고 블랙리스트 미조회")
+    void doFilter_invalidToken_continuesUnauthenticated() throws Exception {
+        // given
+        MockHttpServletRequest request = bearerRequest("not-a-jwt");
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(chain.getRequest()).isSameAs(request);
+        verifyNoInteractions(accessTokenBlackListRepository);
+    }
+
+    private MockHttpServletRequest bearerRequest(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/dreams");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
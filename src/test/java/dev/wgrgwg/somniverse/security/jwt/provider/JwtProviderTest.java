@@ -0,0 +1,117 @@
+package dev.wgrgwg.somniverse.security.jwt.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.member.domain.Member;
+import dev.wgrgwg.somniverse.member.domain.Role;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JwtProviderTest {
+
+    private static final String SECRET =
+        "test-jwt-secret-key-that-is-very-long-and-secure-enough-for-testing";
+
+    private AppProperties appProperties;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        appProperties = new AppProperties();
+        AppProperties.Jwt jwt = appProperties.getJwt();
+        jwt.setSecret(SECRET);
+        jwt.setAccessTokenExpirationMs(900_000L);
+        jwt.setRefreshTokenExpirationMs(604_800_000L);
+        jwt.getVerifiedCache().setEnabled(true);
+        jwt.getVerifiedCache().setMaximumSize(1_000);
+
+        member = Member.builder()
+            .id(1L)
+            .role(Role.USER)
+            .build();
+    }
+
+    @Test
+    @DisplayName("액세스 토큰 검증 결과를 캐시하고 재검증 시 캐시된 결과 반환")
+    void verify_accessToken_isCached() {
+        // given
+        JwtProvider jwtProvider = new JwtProvider(appProperties);
+        String accessToken = jwtProvider.generateToken(member).accessToken();
+
+        // when
+        Optional<VerifiedToken> first = jwtProvider.verify(accessToken);
+        Optional<VerifiedToken> second = jwtProvider.verify(accessToken);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(first.get().memberId()).isEqualTo(1L);
+        assertThat(first.get().role()).isEqualTo(Role.USER);
+        assertThat(first.get().isAccessToken()).isTrue();
+        assertThat(second.get()).isSameAs(first.get());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰은 검증되지만 액세스 토큰 검증 캐시에 저장하지 않음")
+    void verify_refreshToken_isNotCached() {
+        // given
+        JwtProvider jwtProvider = new JwtProvider(appProperties);
+        String refreshToken = jwtProvider.generateToken(member).refreshToken();
+
+        // when
+        Optional<VerifiedToken> first = jwtProvider.verify(refreshToken);
+        Optional<VerifiedToken> second = jwtProvider.verify(refreshToken);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(first.get().isAccessToken()).isFalse();
+        assertThat(second.get()).isEqualTo(first.get()).isNotSameAs(first.get());
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 매번 서명을 검증")
+    void verify_withCacheDisabled_parsesEveryTime() {
+        // given
+        appProperties.getJwt().getVerifiedCache().setEnabled(false);
+        JwtProvider jwtProvider = new JwtProvider(appProperties);
+        String accessToken = jwtProvider.generateToken(member).accessToken();
+
+        // when
+        Optional<VerifiedToken> first = jwtProvider.verify(accessToken);
+        Optional<VerifiedToken> second = jwtProvider.verify(accessToken);
+
+        // then
+        assertThat(second.get()).isEqualTo(first.get()).isNotSameAs(first.get());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 검증 실패")
+    void verify_expiredToken_returnsEmpty() {
+        // given
+        appProperties.getJwt().setAccessTokenExpirationMs(-60_000L);
+        JwtProvider jwtProvider = new JwtProvider(appProperties);
+        String accessToken = jwtProvider.generateToken(member).accessToken();
+
+        // when
+        Optional<VerifiedToken> verified = jwtProvider.verify(accessToken);
+
+        // then
+        assertThat(verified).isEmpty();
+        assertThat(jwtProvider.getRemainingExpirationMillis(accessToken)).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 검증 실패")
+    void verify_foreignSignature_returnsEmpty() {
+        // given
+        JwtProvider jwtProvider = new JwtProvider(appProperties);
+        appProperties.getJwt().setSecret(SECRET + "-of-another-issuer");
+        String foreignToken = new JwtProvider(appProperties).generateToken(member).accessToken();
+
+        // when & then
+        assertThat(jwtProvider.verify(foreignToken)).isEmpty();
+        assertThat(jwtProvider.verify("not-a-jwt")).isEmpty();
+    }
+}
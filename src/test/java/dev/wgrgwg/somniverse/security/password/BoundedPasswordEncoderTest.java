@@ -0,0 +1,147 @@
+package dev.wgrgwg.somniverse.security.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.wgrgwg.somniverse.config.AppProperties;
+import dev.wgrgwg.somniverse.global.errorcode.CommonErrorCode;
+import dev.wgrgwg.somniverse.global.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+
+    private static final int STRENGTH = 4;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("전용 풀에서 해싱한 비밀번호를 검증하고 대기/해싱 시간을 기록")
+    void encodeAndMatches_shouldRunOnPoolAndRecordTimers() {
+        // given
+        encoder = new BoundedPasswordEncoder(config(2, 4, Duration.ofSeconds(5)), meterRegistry,
+            new BCryptPasswordEncoder(STRENGTH));
+
+        // when
+        String encoded = encoder.encode("password");
+        boolean matched = encoder.matches("password", encoded);
+        boolean mismatched = encoder.matches("wrong", encoded);
+
+        // then
+        assertThat(matched).isTrue();
+        assertThat(mismatched).isFalse();
+        assertThat(meterRegistry.get("password.hash.duration").tag("operation", "matches")
+            .timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("password.hash.queue.wait").tag("operation", "encode")
+            .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("작업자와 대기열이 모두 차면 즉시 과부하 예외로 거절")
+    void matches_shouldShedWhenQueueIsFull() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(config(1, 0, Duration.ofSeconds(5)), meterRegistry,
+            blockingEncoder(started, release));
+        CompletableFuture<Boolean> inFlight = CompletableFuture.supplyAsync(
+            () -> encoder.matches("password", "encoded"));
+        started.await();
+
+        // when & then
+        assertThatThrownBy(() -> encoder.matches("password", "encoded"))
+            .isInstanceOf(ServiceOverloadedException.class)
+            .satisfies(e -> {
+                ServiceOverloadedException overloaded = (ServiceOverloadedException) e;
+                assertThat(overloaded.getErrorCode()).isEqualTo(
+                    CommonErrorCode.SERVICE_OVERLOADED);
+                assertThat(overloaded.getRetryAfterSeconds()).isEqualTo(1);
+            });
+        assertThat(meterRegistry.get("password.hash.rejected").tag("reason", "queue_full")
+            .tag("operation", "matches").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(inFlight.get()).isTrue();
+    }
+
+    @Test
+    @DisplayName("대기 시간이 제한을 넘으면 과부하 예외로 거절")
+    void matches_shouldShedWhenTimeoutExceeded() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(config(1, 1, Duration.ofMillis(100)), meterRegistry,
+            blockingEncoder(started, release));
+
+        // when & then
+        assertThatThrownBy(() -> encoder.matches("password", "encoded"))
+            .isInstanceOf(ServiceOverloadedException.class);
+        assertThat(meterRegistry.get("password.hash.rejected").tag("reason", "timeout")
+            .tag("operation", "matches").counter().count()).isEqualTo(1);
+
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("설정된 비용과 다른 해시만 재해싱 대상으로 판단")
+    void upgradeEncoding_shouldCompareCostWithConfiguredStrength() {
+        // given
+        encoder = new BoundedPasswordEncoder(config(1, 1, Duration.ofSeconds(5)), meterRegistry,
+            new BCryptPasswordEncoder(STRENGTH));
+        String sameCost = new BCryptPasswordEncoder(STRENGTH).encode("password");
+        String higherCost = new BCryptPasswordEncoder(STRENGTH + 1).encode("password");
+
+        // when & then
+        assertThat(encoder.upgradeEncoding(sameCost)).isFalse();
+        assertThat(encoder.upgradeEncoding(higherCost)).isTrue();
+        assertThat(encoder.upgradeEncoding(null)).isFalse();
+        assertThat(encoder.upgradeEncoding("plain-text")).isFalse();
+    }
+
+    private static AppProperties.PasswordHashing config(int poolSize, int queueCapacity,
+        Duration timeout) {
+        AppProperties.PasswordHashing config = new AppProperties.PasswordHashing();
+        config.setStrength(STRENGTH);
+        config.setPoolSize(poolSize);
+        config.setQueueCapacity(queueCapacity);
+        config.setTimeout(timeout);
+        config.setRetryAfterSeconds(1);
+        return config;
+    }
+
+    private static PasswordEncoder blockingEncoder(CountDownLatch started,
+        CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+    }
+}
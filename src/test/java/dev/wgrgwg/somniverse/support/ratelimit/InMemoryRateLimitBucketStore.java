@@ -0,0 +1,98 @@
+package dev.wgrgwg.somniverse.support.ratelimit;
+
+import dev.wgrgwg.somniverse.global.ratelimit.consume.RateLimitBucketStore;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.EstimationProbe;
+import io.github.bucket4j.local.LocalBucketBuilder;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class InMemoryRateLimitBucketStore implements RateLimitBucketStore {
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger failuresToInject = new AtomicInteger();
+    private final AtomicInteger submissionFailuresToInject = new AtomicInteger();
+    private volatile Duration latency = Duration.ZERO;
+
+    public void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    public void failNextCalls(int count) {
+        failuresToInject.set(count);
+    }
+
+    public void failNextSubmissions(int count) {
+        submissionFailuresToInject.set(count);
+    }
+
+    public int getCalls() {
+        return calls.get();
+    }
+
+    @Override
+    public CompletableFuture<ConsumptionProbe> tryConsumeAndReturnRemaining(String bucketKey,
+        BucketConfiguration configuration, long tokens) {
+        return execute(bucketKey, configuration,
+            bucket -> bucket.tryConsumeAndReturnRemaining(tokens));
+    }
+
+    @Override
+    public CompletableFuture<Long> tryConsumeAsMuchAsPossible(String bucketKey,
+        BucketConfiguration configuration, long limit) {
+        return execute(bucketKey, configuration,
+            bucket -> bucket.tryConsumeAsMuchAsPossible(limit));
+    }
+
+    @Override
+    public CompletableFuture<EstimationProbe> estimateAbilityToConsume(String bucketKey,
+        BucketConfiguration configuration, long tokens) {
+        return execute(bucketKey, configuration,
+            bucket -> bucket.estimateAbilityToConsume(tokens));
+    }
+
+    @Override
+    public CompletableFuture<Void> addTokens(String bucketKey, BucketConfiguration configuration,
+        long tokens) {
+        return execute(bucketKey, configuration, bucket -> {
+            bucket.addTokens(tokens);
+            return null;
+        });
+    }
+
+    private <T> CompletableFuture<T> execute(String bucketKey, BucketConfiguration configuration,
+        Function<Bucket, T> operation) {
+        calls.incrementAndGet();
+        if (submissionFailuresToInject.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+            throw new IllegalStateException("injected connection failure");
+        }
+
+        Executor executor = CompletableFuture.delayedExecutor(latency.toNanos(),
+            TimeUnit.NANOSECONDS);
+        return CompletableFuture.supplyAsync(() -> {
+            if (failuresToInject.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                throw new IllegalStateException("injected redis failure");
+            }
+            Bucket bucket = buckets.computeIfAbsent(bucketKey, k -> newBucket(configuration));
+            return operation.apply(bucket);
+        }, executor);
+    }
+
+    private Bucket newBucket(BucketConfiguration configuration) {
+        LocalBucketBuilder builder = Bucket.builder();
+        for (Bandwidth bandwidth : configuration.getBandwidths()) {
+            builder.addLimit(bandwidth);
+        }
+        return builder.build();
+    }
+}